@@ -0,0 +1,72 @@
+package com.devops.projeto_ac2.application.concorrencia;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Lock em faixas (striped lock) indexado pelo ID do aluno
+ * 
+ * Requisições simultâneas para o mesmo aluno são serializadas em memória,
+ * antes de chegar ao banco; alunos diferentes caem, em geral, em faixas
+ * diferentes e seguem em paralelo. O número de faixas é fixo, então a memória
+ * não cresce com a quantidade de alunos.
+ */
+@Component
+public class BloqueioPorAluno {
+    
+    private final ReentrantLock[] faixas;
+    private final int mascara;
+    
+    public BloqueioPorAluno(@Value("${alunos.bloqueio.faixas:64}") int quantidadeFaixas) {
+        if (quantidadeFaixas <= 0) {
+            throw new IllegalArgumentException("Quantidade de faixas deve ser maior que zero");
+        }
+        // Arredonda para potência de 2 para indexar com máscara
+        int tamanho = Integer.highestOneBit(quantidadeFaixas - 1) << 1;
+        if (quantidadeFaixas == 1) {
+            tamanho = 1;
+        }
+        this.faixas = new ReentrantLock[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            // Lock justo: quem chegou primeiro grava primeiro
+            this.faixas[i] = new ReentrantLock(true);
+        }
+        this.mascara = tamanho - 1;
+    }
+    
+    /**
+     * Executa a operação segurando o lock da faixa do aluno
+     */
+    public <T> T executar(Long alunoId, Supplier<T> operacao) {
+        ReentrantLock lock = faixas[indice(alunoId)];
+        lock.lock();
+        try {
+            return operacao.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public int getQuantidadeFaixas() {
+        return faixas.length;
+    }
+    
+    /**
+     * Quantidade de threads aguardando em cada faixa (estimativa, para monitoramento)
+     */
+    public int[] profundidadeFilas() {
+        int[] profundidades = new int[faixas.length];
+        for (int i = 0; i < faixas.length; i++) {
+            profundidades[i] = faixas[i].getQueueLength();
+        }
+        return profundidades;
+    }
+    
+    int indice(Long alunoId) {
+        int hash = Long.hashCode(alunoId);
+        return (hash ^ (hash >>> 16)) & mascara;
+    }
+}
@@ -0,0 +1,99 @@
+package com.devops.projeto_ac2.application.concorrencia;
+
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Executa mutações de um aluno com retry em caso de conflito otimista
+ * 
+ * Cada tentativa de uma mutação é serializada com as demais do mesmo aluno pelo
+ * BloqueioPorAluno, o que reduz os conflitos a escritas vindas de fora desta instância.
+ * O lock é solto antes do backoff: quem espera para tentar de novo não segura a faixa.
+ * 
+ * A mutação deve abrir sua própria transação (ex.: método @Transactional de um use case),
+ * assim cada nova tentativa relê o aluno e reaplica a regra de negócio sobre o estado atual.
+ * Entre as tentativas há um backoff exponencial limitado, com jitter.
+ */
+@Component
+public class ExecutorMutacaoAluno {
+    
+    private final BloqueioPorAluno bloqueio;
+    private final int tentativasMaximas;
+    private final long esperaInicialMs;
+    private final long esperaMaximaMs;
+    
+    private final AtomicLong conflitos = new AtomicLong();
+    private final AtomicLong abandonos = new AtomicLong();
+    
+    public ExecutorMutacaoAluno(
+            BloqueioPorAluno bloqueio,
+            @Value("${alunos.retry-otimista.tentativas-maximas:5}") int tentativasMaximas,
+            @Value("${alunos.retry-otimista.espera-inicial-ms:5}") long esperaInicialMs,
+            @Value("${alunos.retry-otimista.espera-maxima-ms:100}") long esperaMaximaMs) {
+        if (tentativasMaximas <= 0) {
+            throw new IllegalArgumentException("Tentativas máximas deve ser maior que zero");
+        }
+        this.bloqueio = bloqueio;
+        this.tentativasMaximas = tentativasMaximas;
+        this.esperaInicialMs = esperaInicialMs;
+        this.esperaMaximaMs = esperaMaximaMs;
+    }
+    
+    /**
+     * Executa a mutação, repetindo-a em caso de conflito de versão
+     * 
+     * @param alunoId ID do aluno alterado
+     * @param mutacao Operação transacional completa (leitura + regra + gravação)
+     * @return O resultado da mutação
+     * @throws ConflitoConcorrenciaException se o conflito persistir após todas as tentativas
+     */
+    public <T> T executar(Long alunoId, Supplier<T> mutacao) {
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return bloqueio.executar(alunoId, mutacao);
+            } catch (OptimisticLockingFailureException ex) {
+                conflitos.incrementAndGet();
+                if (tentativa >= tentativasMaximas) {
+                    abandonos.incrementAndGet();
+                    throw new ConflitoConcorrenciaException(alunoId, tentativa, ex);
+                }
+                aguardar(tentativa);
+            }
+        }
+    }
+    
+    /**
+     * Quantidade de conflitos otimistas detectados (cada um gera uma nova tentativa ou um abandono)
+     */
+    public long getConflitos() {
+        return conflitos.get();
+    }
+    
+    /**
+     * Quantidade de mutações abandonadas após esgotar as tentativas
+     */
+    public long getAbandonos() {
+        return abandonos.get();
+    }
+    
+    private void aguardar(int tentativa) {
+        long teto = Math.min(esperaMaximaMs, esperaInicialMs << Math.min(tentativa - 1, 20));
+        if (teto <= 0) {
+            return;
+        }
+        // Jitter: espalha as novas tentativas para que não colidam de novo
+        long espera = ThreadLocalRandom.current().nextLong(teto / 2, teto + 1);
+        try {
+            Thread.sleep(espera);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando nova tentativa", ex);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.devops.projeto_ac2.application.concorrencia;
+
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Junta leituras idênticas simultâneas em uma só execução (single-flight)
+ * 
+ * A primeira chamada para uma chave executa a leitura; as que chegam enquanto ela está em
+ * andamento esperam e recebem o mesmo resultado (ou a mesma exceção). Nada fica guardado depois:
+ * a chave sai do mapa quando a leitura termina, e a próxima chamada lê de novo.
+ * 
+ * O resultado é o mesmo objeto para todos os que esperaram, então deve ser tratado como
+ * somente leitura. A cada AlunosAlterados as leituras em andamento deixam de receber novos
+ * participantes (na publicação e no fim da transação), para que quem chega depois de uma
+ * gravação não receba um resultado começado antes dela.
+ */
+@Component
+public class LeiturasCompartilhadas {
+    
+    private final boolean habilitado;
+    private final ConcurrentMap<String, CompletableFuture<Object>> emAndamento = new ConcurrentHashMap<>();
+    
+    private final LongAdder execucoes = new LongAdder();
+    private final LongAdder compartilhadas = new LongAdder();
+    
+    public LeiturasCompartilhadas(
+            @Value("${alunos.leituras-compartilhadas.habilitado:true}") boolean habilitado) {
+        this.habilitado = habilitado;
+    }
+    
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+    
+    /**
+     * Executa a leitura ou espera a que já está em andamento para a mesma chave
+     * 
+     * @param chave Requisição normalizada (ex.: "ranking:top=10", "aluno:42")
+     * @param leitura Leitura sem efeitos colaterais
+     * @return Resultado da leitura, possivelmente compartilhado com outras chamadas
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T executar(String chave, Supplier<T> leitura) {
+        if (!habilitado) {
+            return leitura.get();
+        }
+        CompletableFuture<Object> nova = new CompletableFuture<>();
+        CompletableFuture<Object> existente = emAndamento.putIfAbsent(chave, nova);
+        if (existente != null) {
+            compartilhadas.increment();
+            return (T) aguardar(existente);
+        }
+        
+        execucoes.increment();
+        try {
+            T resultado = leitura.get();
+            nova.complete(resultado);
+            return resultado;
+        } catch (RuntimeException | Error e) {
+            nova.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Só remove a própria leitura: após um descarte a chave pode já ser de outra
+            emAndamento.remove(chave, nova);
+        }
+    }
+    
+    @EventListener
+    public void aoAlterarAlunos(AlunosAlterados evento) {
+        if (!habilitado) {
+            return;
+        }
+        // Ranking depende de todos os alunos: descarta tudo, o mapa só tem as leituras em andamento
+        emAndamento.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    emAndamento.clear();
+                }
+            });
+        }
+    }
+    
+    /**
+     * Leituras efetivamente executadas
+     */
+    public long getExecucoes() {
+        return execucoes.sum();
+    }
+    
+    /**
+     * Chamadas atendidas pelo resultado de uma leitura já em andamento
+     */
+    public long getCompartilhadas() {
+        return compartilhadas.sum();
+    }
+    
+    public int getEmAndamento() {
+        return emAndamento.size();
+    }
+    
+    private static Object aguardar(CompletableFuture<Object> leitura) {
+        try {
+            return leitura.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.devops.projeto_ac2.application.concorrencia;
+
+import com.devops.projeto_ac2.application.lote.AtualizacaoPerfil;
+import com.devops.projeto_ac2.application.lote.PipelineTentativas;
+import com.devops.projeto_ac2.application.usecases.AtualizarAlunoUseCase;
+import com.devops.projeto_ac2.application.usecases.ConcluirCursoUseCase;
+import com.devops.projeto_ac2.application.usecases.RegistrarTentativaUseCase;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mutações unitárias de aluno com a política de concorrência aplicada
+ * 
+ * Cada mutação roda no ExecutorMutacaoAluno (lock por aluno + retry em conflito otimista);
+ * o controller só traduz HTTP e não decide como a gravação concorre com as demais.
+ */
+@Component
+public class MutacoesAluno {
+    
+    private final ExecutorMutacaoAluno executorMutacao;
+    private final AtualizarAlunoUseCase atualizarAlunoUseCase;
+    private final ConcluirCursoUseCase concluirCursoUseCase;
+    private final RegistrarTentativaUseCase registrarTentativaUseCase;
+    private final PipelineTentativas pipelineTentativas;
+    private final boolean tentativaAtomica;
+    
+    public MutacoesAluno(
+            ExecutorMutacaoAluno executorMutacao,
+            AtualizarAlunoUseCase atualizarAlunoUseCase,
+            ConcluirCursoUseCase concluirCursoUseCase,
+            RegistrarTentativaUseCase registrarTentativaUseCase,
+            PipelineTentativas pipelineTentativas,
+            @Value("${alunos.tentativas.atualizacao-atomica:true}") boolean tentativaAtomica) {
+        this.executorMutacao = executorMutacao;
+        this.atualizarAlunoUseCase = atualizarAlunoUseCase;
+        this.concluirCursoUseCase = concluirCursoUseCase;
+        this.registrarTentativaUseCase = registrarTentativaUseCase;
+        this.pipelineTentativas = pipelineTentativas;
+        this.tentativaAtomica = tentativaAtomica;
+    }
+    
+    public Aluno atualizar(Long alunoId, AtualizacaoPerfil atualizacao) {
+        return executorMutacao.executar(alunoId, () -> atualizarAlunoUseCase.executar(alunoId, atualizacao));
+    }
+    
+    public Aluno concluirCurso(Long alunoId, double mediaFinal) {
+        return executorMutacao.executar(alunoId, () -> concluirCursoUseCase.executar(alunoId, mediaFinal));
+    }
+    
+    /**
+     * O pipeline já serializa as gravações na sua escritora: o chamador espera o commit do
+     * grupo sem segurar o lock da faixa do aluno (que atrasaria os demais alunos da faixa)
+     */
+    public Aluno registrarTentativa(Long alunoId, double nota) {
+        if (pipelineTentativas.isHabilitado()) {
+            return pipelineTentativas.registrar(alunoId, nota);
+        }
+        return executorMutacao.executar(alunoId, () -> tentativaAtomica
+                ? registrarTentativaUseCase.executarAtomico(alunoId, nota)
+                : registrarTentativaUseCase.executar(alunoId, nota));
+    }
+}
@@ -0,0 +1,29 @@
+package com.devops.projeto_ac2.application.eventos;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evento publicado pelos casos de uso que gravam alunos
+ * 
+ * Quem guarda cópias de leitura (ex.: cache de DTOs por ID) descarta o que mudou.
+ * Com todos = true a alteração não tem lista de IDs (comandos em massa por faixa, restauração).
+ * Publicado dentro da transação da gravação, quando houver uma.
+ * 
+ * @param ids IDs dos alunos alterados (vazio quando todos = true)
+ * @param todos Se qualquer aluno pode ter mudado
+ */
+public record AlunosAlterados(Collection<Long> ids, boolean todos) {
+    
+    public static AlunosAlterados de(Long id) {
+        return new AlunosAlterados(List.of(id), false);
+    }
+    
+    public static AlunosAlterados de(Collection<Long> ids) {
+        return new AlunosAlterados(List.copyOf(ids), false);
+    }
+    
+    public static AlunosAlterados geral() {
+        return new AlunosAlterados(List.of(), true);
+    }
+}
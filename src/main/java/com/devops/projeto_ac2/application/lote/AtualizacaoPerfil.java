@@ -0,0 +1,75 @@
+package com.devops.projeto_ac2.application.lote;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Atualização de dados cadastrais do aluno (nome e/ou média)
+ * Campos nulos não são alterados
+ */
+@Getter
+@ToString
+public class AtualizacaoPerfil {
+    
+    private final String nome;
+    private final Double mediaFinal;
+    
+    private AtualizacaoPerfil(String nome, Double mediaFinal) {
+        this.nome = nome;
+        this.mediaFinal = mediaFinal;
+    }
+    
+    /**
+     * Cria a atualização validando os valores informados
+     * @throws DomainException se nenhum campo for informado ou se algum valor for inválido
+     */
+    public static AtualizacaoPerfil criar(String nome, Double mediaFinal) {
+        if (nome == null && mediaFinal == null) {
+            throw new DomainException("Informe o nome ou a média para atualizar");
+        }
+        return new AtualizacaoPerfil(
+                nome == null ? null : NomeAluno.criar(nome).getValor(),
+                mediaFinal == null ? null : MediaFinal.criar(mediaFinal).getValor());
+    }
+    
+    /**
+     * Junta esta atualização com uma posterior: os campos da posterior prevalecem
+     */
+    public AtualizacaoPerfil mesclar(AtualizacaoPerfil posterior) {
+        return new AtualizacaoPerfil(
+                posterior.nome != null ? posterior.nome : this.nome,
+                posterior.mediaFinal != null ? posterior.mediaFinal : this.mediaFinal);
+    }
+    
+    /**
+     * Confere, sem alterar o aluno, se a atualização ainda pode ser aplicada a ele
+     * (usado por quem aceita a atualização antes de gravá-la)
+     * 
+     * @throws DomainException se o aluno estiver arquivado ou se a média não puder mais mudar
+     */
+    public void validarPara(Aluno aluno) {
+        if (aluno.isArquivado()) {
+            throw new DomainException("Aluno arquivado não pode ser alterado");
+        }
+        if (mediaFinal != null && aluno.isConcluiu()) {
+            throw new DomainException("Não é possível alterar média de aluno que já concluiu");
+        }
+    }
+    
+    /**
+     * Aplica a atualização no aluno usando os comportamentos de negócio da entidade
+     * A média é aplicada primeiro: se for rejeitada, o aluno fica inalterado
+     */
+    public void aplicar(Aluno aluno) {
+        if (mediaFinal != null) {
+            aluno.atualizarMedia(MediaFinal.criar(mediaFinal));
+        }
+        if (nome != null) {
+            aluno.atualizarNome(NomeAluno.criar(nome));
+        }
+    }
+}
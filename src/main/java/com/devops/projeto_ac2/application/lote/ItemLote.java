@@ -0,0 +1,18 @@
+package com.devops.projeto_ac2.application.lote;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Item de uma operação em lote: o aluno alvo e o valor a ser aplicado
+ * (nota da tentativa, média final, etc.)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ItemLote<T> {
+    
+    private final Long alunoId;
+    private final T valor;
+}
@@ -0,0 +1,325 @@
+package com.devops.projeto_ac2.application.lote;
+
+import com.devops.projeto_ac2.application.concorrencia.ExecutorMutacaoAluno;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.entities.TentativaAvaliacao;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.TentativaAvaliacaoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Pipeline de group commit para registro de tentativas (opcional)
+ * 
+ * As requisições entram numa fila limitada. Uma única thread escritora junta os pedidos
+ * que chegaram dentro de uma janela curta (ou até completar o grupo), aplica
+ * Aluno.registrarTentativa a todos e faz um único commit para o grupo
+ * (incluindo o histórico das tentativas).
+ * Cada chamador é liberado quando o commit do seu grupo termina.
+ * Se o commit do grupo falhar (nada foi gravado), os pedidos são refeitos um a um,
+ * para que a falha de um não derrube os outros e cada chamador receba o próprio resultado.
+ * Um pedido que perde a corrida de versão com uma gravação de fora do pipeline é refeito
+ * com a política do ExecutorMutacaoAluno; se o conflito persistir, o chamador recebe
+ * ConflitoConcorrenciaException (409).
+ * 
+ * A entrada na fila e a parada são exclusivas: depois de parar() nenhum pedido entra,
+ * e os que a escritora não gravou a tempo são completados com erro.
+ */
+@Component
+public class PipelineTentativas {
+    
+    /**
+     * Espera máxima por espaço na fila antes de reavaliar se o pipeline foi parado
+     */
+    private static final long ESPERA_FILA_MS = 50;
+    
+    private final ProcessadorLoteAlunos processadorLote;
+    private final TentativaAvaliacaoRepository tentativaRepository;
+    private final ExecutorMutacaoAluno executorMutacao;
+    private final boolean habilitado;
+    private final int tamanhoGrupo;
+    private final long janelaNanos;
+    private final long timeoutMs;
+    private final BlockingQueue<Pedido> fila;
+    
+    /**
+     * Leitura: quem enfileira; escrita: a parada. Assim nenhum pedido entra depois de parar()
+     */
+    private final ReadWriteLock entrada = new ReentrantReadWriteLock();
+    
+    /**
+     * Pedidos enfileirados ou em gravação, ainda sem resposta
+     */
+    private final Set<CompletableFuture<Aluno>> pendentes = ConcurrentHashMap.newKeySet();
+    
+    private volatile boolean ativo;
+    private Thread escritor;
+    
+    public PipelineTentativas(
+            ProcessadorLoteAlunos processadorLote,
+            TentativaAvaliacaoRepository tentativaRepository,
+            ExecutorMutacaoAluno executorMutacao,
+            @Value("${alunos.pipeline-tentativas.habilitado:false}") boolean habilitado,
+            @Value("${alunos.pipeline-tentativas.tamanho-grupo:256}") int tamanhoGrupo,
+            @Value("${alunos.pipeline-tentativas.janela-ms:2}") long janelaMs,
+            @Value("${alunos.pipeline-tentativas.capacidade:8192}") int capacidade,
+            @Value("${alunos.pipeline-tentativas.timeout-ms:30000}") long timeoutMs) {
+        this.processadorLote = processadorLote;
+        this.tentativaRepository = tentativaRepository;
+        this.executorMutacao = executorMutacao;
+        this.habilitado = habilitado;
+        this.tamanhoGrupo = tamanhoGrupo;
+        this.janelaNanos = TimeUnit.MILLISECONDS.toNanos(janelaMs);
+        this.timeoutMs = timeoutMs;
+        this.fila = new ArrayBlockingQueue<>(capacidade);
+    }
+    
+    @PostConstruct
+    void iniciar() {
+        if (!habilitado) {
+            return;
+        }
+        ativo = true;
+        escritor = new Thread(this::executarEscritor, "pipeline-tentativas");
+        escritor.setDaemon(true);
+        escritor.start();
+    }
+    
+    @PreDestroy
+    void parar() throws InterruptedException {
+        if (escritor == null) {
+            return;
+        }
+        entrada.writeLock().lock();
+        try {
+            ativo = false;
+        } finally {
+            entrada.writeLock().unlock();
+        }
+        // A escritora termina de gravar o que já está na fila antes de sair
+        escritor.join(TimeUnit.SECONDS.toMillis(10));
+        if (escritor.isAlive()) {
+            escritor.interrupt();
+        }
+        IllegalStateException parado = new IllegalStateException("Pipeline de tentativas parado antes do commit");
+        fila.clear();
+        pendentes.forEach(futuro -> futuro.completeExceptionally(parado));
+    }
+    
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+    
+    /**
+     * Registra a tentativa pelo pipeline e aguarda o commit do grupo
+     * Quando a fila está cheia, o chamador espera (backpressure)
+     * 
+     * @return O aluno atualizado
+     * @throws IllegalStateException se o commit não terminar em alunos.pipeline-tentativas.timeout-ms
+     *         (a tentativa ainda pode ser gravada depois)
+     */
+    public Aluno registrar(Long alunoId, double nota) {
+        // Validar a nota antes de entrar na fila
+        MediaFinal.criar(nota);
+        
+        try {
+            return submeter(alunoId, nota).get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new IllegalStateException("Tempo esgotado aguardando o commit do pipeline de tentativas", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando o commit do pipeline de tentativas", ex);
+        }
+    }
+    
+    /**
+     * Coloca a tentativa na fila; o futuro completa após o commit do grupo
+     * 
+     * @throws IllegalStateException se o pipeline não estiver ativo (ou parar enquanto a fila está cheia)
+     */
+    public CompletableFuture<Aluno> submeter(Long alunoId, double nota) {
+        Pedido pedido = new Pedido(new ItemLote<>(alunoId, nota), new CompletableFuture<>());
+        try {
+            // A checagem de ativo e a entrada na fila são atômicas em relação a parar();
+            // com a fila cheia o lock é solto entre as esperas, para a parada não ficar presa
+            boolean enfileirado = false;
+            while (!enfileirado) {
+                enfileirado = enfileirar(pedido);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando espaço no pipeline", ex);
+        }
+        return pedido.futuro;
+    }
+    
+    /**
+     * Pedidos aguardando a escritora
+     */
+    public int pendentes() {
+        return fila.size();
+    }
+    
+    private boolean enfileirar(Pedido pedido) throws InterruptedException {
+        entrada.readLock().lock();
+        try {
+            if (!ativo) {
+                throw new IllegalStateException("Pipeline de tentativas não está ativo");
+            }
+            pendentes.add(pedido.futuro);
+            if (fila.offer(pedido, ESPERA_FILA_MS, TimeUnit.MILLISECONDS)) {
+                pedido.futuro.whenComplete((aluno, erro) -> pendentes.remove(pedido.futuro));
+                return true;
+            }
+            pendentes.remove(pedido.futuro);
+            return false;
+        } finally {
+            entrada.readLock().unlock();
+        }
+    }
+    
+    private void executarEscritor() {
+        List<Pedido> grupo = new ArrayList<>(tamanhoGrupo);
+        while (ativo || !fila.isEmpty()) {
+            try {
+                Pedido primeiro = fila.poll(100, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                grupo.add(primeiro);
+                completarGrupo(grupo);
+                gravarGrupo(grupo);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                falharGrupo(grupo, new IllegalStateException("Pipeline de tentativas interrompido", ex));
+                return;
+            } finally {
+                grupo.clear();
+            }
+        }
+    }
+    
+    private void completarGrupo(List<Pedido> grupo) throws InterruptedException {
+        long limite = System.nanoTime() + janelaNanos;
+        while (grupo.size() < tamanhoGrupo) {
+            fila.drainTo(grupo, tamanhoGrupo - grupo.size());
+            long restante = limite - System.nanoTime();
+            if (grupo.size() >= tamanhoGrupo || restante <= 0) {
+                return;
+            }
+            Pedido proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+            if (proximo == null) {
+                return;
+            }
+            grupo.add(proximo);
+        }
+    }
+    
+    private void gravarGrupo(List<Pedido> grupo) {
+        List<ItemLote<Double>> itens = grupo.stream()
+                .map(pedido -> pedido.item)
+                .collect(Collectors.toList());
+        
+        try {
+            ResultadoLote resultado = gravar(itens);
+            if (commitFalhou(resultado) && (grupo.size() > 1 || conflito(resultado.getItens().get(0)))) {
+                for (int i = 0; i < grupo.size(); i++) {
+                    responder(grupo.get(i), gravarItem(itens.get(i)));
+                }
+                return;
+            }
+            for (int i = 0; i < grupo.size(); i++) {
+                responder(grupo.get(i), resultado.getItens().get(i));
+            }
+        } catch (RuntimeException ex) {
+            falharGrupo(grupo, ex);
+        }
+    }
+    
+    private ResultadoLote gravar(List<ItemLote<Double>> itens) {
+        return processadorLote.processarEmTransacaoUnica(itens,
+                (aluno, nota) -> {
+                    aluno.registrarTentativa(MediaFinal.criar(nota));
+                    return TentativaAvaliacao.registrar(aluno);
+                },
+                tentativaRepository::registrarTodas);
+    }
+    
+    /**
+     * Grava um pedido sozinho; conflito de versão é refeito com a política do executor
+     * (lock do aluno + backoff) e, se persistir, vira ConflitoConcorrenciaException
+     */
+    private ResultadoLote.Item gravarItem(ItemLote<Double> item) {
+        try {
+            return executorMutacao.executar(item.getAlunoId(), () -> {
+                ResultadoLote.Item resultado = gravar(List.of(item)).getItens().get(0);
+                if (conflito(resultado)) {
+                    throw (OptimisticLockingFailureException) resultado.getExcecao();
+                }
+                return resultado;
+            });
+        } catch (ConflitoConcorrenciaException ex) {
+            return ResultadoLote.Item.falha(item.getAlunoId(), ex);
+        }
+    }
+    
+    private static boolean conflito(ResultadoLote.Item item) {
+        return item.getExcecao() instanceof OptimisticLockingFailureException;
+    }
+    
+    /**
+     * Erros de domínio ficam no item e não impedem o commit; qualquer outro erro
+     * vem da transação do grupo, que foi desfeita
+     */
+    private static boolean commitFalhou(ResultadoLote resultado) {
+        return resultado.getItens().stream()
+                .anyMatch(item -> !item.isSucesso() && !(item.getExcecao() instanceof DomainException));
+    }
+    
+    private static void responder(Pedido pedido, ResultadoLote.Item item) {
+        if (item.isSucesso()) {
+            pedido.futuro.complete(item.getAluno());
+        } else {
+            pedido.futuro.completeExceptionally(item.getExcecao());
+        }
+    }
+    
+    private void falharGrupo(List<Pedido> grupo, RuntimeException ex) {
+        grupo.forEach(pedido -> pedido.futuro.completeExceptionally(ex));
+    }
+    
+    private static final class Pedido {
+        
+        private final ItemLote<Double> item;
+        private final CompletableFuture<Aluno> futuro;
+        
+        private Pedido(ItemLote<Double> item, CompletableFuture<Aluno> futuro) {
+            this.item = item;
+            this.futuro = futuro;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.devops.projeto_ac2.application.lote;
+
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Processa operações de domínio sobre muitos alunos de uma vez
+ * 
+ * Os itens são divididos em chunks. Para cada chunk:
+ * - os alunos são carregados com uma única consulta IN
+ * - a regra de negócio é aplicada aluno a aluno (erros de domínio ficam no item)
+ * - as alterações são gravadas em batch JDBC, numa transação própria do chunk
+ * - registros gerados pela operação (ex.: histórico) são gravados na mesma transação
+ * - os alunos alterados são avisados com AlunosAlterados, também dentro da transação
+ */
+@Component
+public class ProcessadorLoteAlunos {
+    
+    private final AlunoRepository alunoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventos;
+    private final int tamanhoChunk;
+    
+    public ProcessadorLoteAlunos(
+            AlunoRepository alunoRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventos,
+            @Value("${alunos.lote.tamanho-chunk:500}") int tamanhoChunk) {
+        if (tamanhoChunk <= 0) {
+            throw new IllegalArgumentException("Tamanho do chunk deve ser maior que zero");
+        }
+        this.alunoRepository = alunoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventos = eventos;
+        this.tamanhoChunk = tamanhoChunk;
+    }
+    
+    /**
+     * Aplica a operação a cada item do lote
+     * 
+     * @param itens Itens na ordem em que devem ser aplicados
+     * @param operacao Comportamento de negócio a executar em cada aluno
+     * @return Resultado por item, na mesma ordem da entrada
+     */
+    public <T> ResultadoLote processar(List<ItemLote<T>> itens, BiConsumer<Aluno, T> operacao) {
+        return processar(itens, semRegistro(operacao), registros -> { });
+    }
+    
+    /**
+     * Aplica a operação a cada item do lote, gravando em batch os registros que ela produzir
+     * 
+     * @param itens Itens na ordem em que devem ser aplicados
+     * @param operacao Comportamento de negócio; retorna um registro a gravar (ou null)
+     * @param gravarRegistros Grava os registros de um chunk, dentro da transação do chunk
+     * @return Resultado por item, na mesma ordem da entrada
+     */
+    public <T, R> ResultadoLote processar(List<ItemLote<T>> itens, BiFunction<Aluno, T, R> operacao,
+                                          Consumer<List<R>> gravarRegistros) {
+        long inicio = System.nanoTime();
+        List<ResultadoLote.Item> resultados = new ArrayList<>(itens.size());
+        
+        for (int i = 0; i < itens.size(); i += tamanhoChunk) {
+            List<ItemLote<T>> chunk = itens.subList(i, Math.min(i + tamanhoChunk, itens.size()));
+            resultados.addAll(processarChunk(chunk, operacao, gravarRegistros));
+        }
+        
+        return new ResultadoLote(resultados, System.nanoTime() - inicio);
+    }
+    
+    /**
+     * Aplica a operação a todos os itens numa única transação (um único commit),
+     * independente do tamanho de chunk configurado
+     */
+    public <T> ResultadoLote processarEmTransacaoUnica(List<ItemLote<T>> itens, BiConsumer<Aluno, T> operacao) {
+        return processarEmTransacaoUnica(itens, semRegistro(operacao), registros -> { });
+    }
+    
+    /**
+     * Como {@link #processarEmTransacaoUnica(List, BiConsumer)}, gravando os registros
+     * produzidos pela operação no mesmo commit
+     */
+    public <T, R> ResultadoLote processarEmTransacaoUnica(List<ItemLote<T>> itens, BiFunction<Aluno, T, R> operacao,
+                                                          Consumer<List<R>> gravarRegistros) {
+        long inicio = System.nanoTime();
+        List<ResultadoLote.Item> resultados = processarChunk(itens, operacao, gravarRegistros);
+        return new ResultadoLote(resultados, System.nanoTime() - inicio);
+    }
+    
+    private static <T> BiFunction<Aluno, T, Object> semRegistro(BiConsumer<Aluno, T> operacao) {
+        return (aluno, valor) -> {
+            operacao.accept(aluno, valor);
+            return null;
+        };
+    }
+    
+    private <T, R> List<ResultadoLote.Item> processarChunk(List<ItemLote<T>> chunk, BiFunction<Aluno, T, R> operacao,
+                                                           Consumer<List<R>> gravarRegistros) {
+        try {
+            return transactionTemplate.execute(status -> aplicarChunk(chunk, operacao, gravarRegistros));
+        } catch (RuntimeException ex) {
+            // A transação do chunk foi desfeita: nenhum item dele foi gravado
+            String erro = "Falha ao gravar o lote: " + ex.getMessage();
+            return chunk.stream()
+                    .map(item -> ResultadoLote.Item.falha(item.getAlunoId(), erro, ex))
+                    .collect(Collectors.toList());
+        }
+    }
+    
+    private <T, R> List<ResultadoLote.Item> aplicarChunk(List<ItemLote<T>> chunk, BiFunction<Aluno, T, R> operacao,
+                                                         Consumer<List<R>> gravarRegistros) {
+        Set<Long> ids = chunk.stream()
+                .map(ItemLote::getAlunoId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        
+        Map<Long, Aluno> alunos = alunoRepository.buscarPorIds(ids).stream()
+                .collect(Collectors.toMap(Aluno::getId, Function.identity()));
+        
+        List<ResultadoLote.Item> resultados = new ArrayList<>(chunk.size());
+        Map<Long, Aluno> alterados = new LinkedHashMap<>();
+        List<R> registros = new ArrayList<>();
+        
+        for (ItemLote<T> item : chunk) {
+            Aluno aluno = alunos.get(item.getAlunoId());
+            if (aluno == null) {
+                resultados.add(ResultadoLote.Item.falha(item.getAlunoId(),
+                        new AlunoNotFoundException(item.getAlunoId())));
+                continue;
+            }
+            
+            try {
+                R registro = operacao.apply(aluno, item.getValor());
+                if (registro != null) {
+                    registros.add(registro);
+                }
+                alterados.put(aluno.getId(), aluno);
+                resultados.add(ResultadoLote.Item.sucesso(aluno));
+            } catch (DomainException ex) {
+                resultados.add(ResultadoLote.Item.falha(item.getAlunoId(), ex));
+            }
+        }
+        
+        if (!alterados.isEmpty()) {
+            alunoRepository.salvarTodos(new ArrayList<>(alterados.values()));
+            eventos.publishEvent(AlunosAlterados.de(alterados.keySet()));
+        }
+        if (!registros.isEmpty()) {
+            gravarRegistros.accept(registros);
+        }
+        
+        return resultados;
+    }
+}
@@ -0,0 +1,80 @@
+package com.devops.projeto_ac2.application.lote;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Resultado de uma operação em lote
+ * Mantém o resultado de cada item na mesma ordem da requisição
+ */
+@Getter
+public class ResultadoLote {
+    
+    private final List<Item> itens;
+    private final int sucessos;
+    private final long duracaoNanos;
+    
+    public ResultadoLote(List<Item> itens, long duracaoNanos) {
+        this.itens = List.copyOf(itens);
+        this.sucessos = (int) itens.stream().filter(Item::isSucesso).count();
+        this.duracaoNanos = duracaoNanos;
+    }
+    
+    public int getTotal() {
+        return itens.size();
+    }
+    
+    public int getFalhas() {
+        return itens.size() - sucessos;
+    }
+    
+    /**
+     * Vazão do lote: itens processados por segundo
+     */
+    public double getLinhasPorSegundo() {
+        if (duracaoNanos <= 0) {
+            return 0.0;
+        }
+        return itens.size() * 1_000_000_000.0 / duracaoNanos;
+    }
+    
+    /**
+     * Resultado de um item do lote
+     * Em caso de sucesso guarda o estado do aluno logo após a aplicação do item;
+     * em caso de falha guarda a exceção original
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Item {
+        
+        private final Long alunoId;
+        private final boolean sucesso;
+        private final String erro;
+        private final RuntimeException excecao;
+        private final Aluno aluno;
+        private final Integer tentativasAvaliacao;
+        private final Double mediaFinal;
+        private final Integer cursosAdicionais;
+        private final Boolean concluiu;
+        
+        public static Item sucesso(Aluno aluno) {
+            return new Item(aluno.getId(), true, null, null, aluno,
+                    aluno.getTentativasAvaliacao(),
+                    aluno.getMediaFinal(),
+                    aluno.getCursosAdicionais(),
+                    aluno.isConcluiu());
+        }
+        
+        public static Item falha(Long alunoId, RuntimeException excecao) {
+            return falha(alunoId, excecao.getMessage(), excecao);
+        }
+        
+        public static Item falha(Long alunoId, String erro, RuntimeException excecao) {
+            return new Item(alunoId, false, erro, excecao, null, null, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.devops.projeto_ac2.application.lote;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resultado de uma operação administrativa em massa executada por faixas de IDs
+ */
+@Getter
+@ToString
+public class ResultadoOperacaoMassa {
+    
+    private final String operacao;
+    private final int faixas;
+    private final long linhasAfetadas;
+    private final long duracaoNanos;
+    
+    public ResultadoOperacaoMassa(String operacao, int faixas, long linhasAfetadas, long duracaoNanos) {
+        this.operacao = operacao;
+        this.faixas = faixas;
+        this.linhasAfetadas = linhasAfetadas;
+        this.duracaoNanos = duracaoNanos;
+    }
+    
+    /**
+     * Vazão da operação: linhas afetadas por segundo
+     */
+    public double getLinhasPorSegundo() {
+        if (duracaoNanos <= 0) {
+            return 0.0;
+        }
+        return linhasAfetadas * 1_000_000_000.0 / duracaoNanos;
+    }
+}
@@ -0,0 +1,269 @@
+package com.devops.projeto_ac2.application.lote;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind para atualizações cadastrais (nome e média) do aluno
+ * 
+ * As atualizações ficam numa visão em memória e são gravadas em tb_alunos
+ * de forma assíncrona, em lotes, a cada intervalo configurado. Várias
+ * atualizações do mesmo aluno entre dois flushes viram uma só gravação.
+ * Se a quantidade de alunos pendentes passar do limite, quem registra
+ * faz o flush na hora. No desligamento da aplicação tudo é gravado.
+ * 
+ * Cada atualização guarda a versão do aluno vista ao ser registrada: se outra
+ * escrita avançar a versão antes do flush, a atualização é descartada em vez
+ * de sobrescrever a alteração mais nova. O que dá para saber antes do 202 é recusado
+ * no registro (aluno concluído ou arquivado, versão mais antiga que a da pendência);
+ * os descartes no flush são contados e os últimos ficam disponíveis para consulta.
+ * Desligado por padrão.
+ */
+@Slf4j
+@Component
+public class WriteBehindPerfilAlunos {
+    
+    private final ProcessadorLoteAlunos processadorLote;
+    private final boolean habilitado;
+    private final long intervaloMs;
+    private final int limitePendentes;
+    /**
+     * Quantidade de descartes recentes guardados para consulta
+     */
+    private static final int DESCARTES_GUARDADOS = 100;
+    
+    private final Map<Long, Pendente> pendentes = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private final AtomicLong gravadas = new AtomicLong();
+    private final AtomicLong descartadas = new AtomicLong();
+    private final Deque<Descarte> ultimosDescartes = new ArrayDeque<>();
+    
+    private ScheduledExecutorService agendador;
+    
+    public WriteBehindPerfilAlunos(
+            ProcessadorLoteAlunos processadorLote,
+            @Value("${alunos.write-behind.habilitado:false}") boolean habilitado,
+            @Value("${alunos.write-behind.intervalo-ms:500}") long intervaloMs,
+            @Value("${alunos.write-behind.limite-pendentes:10000}") int limitePendentes) {
+        this.processadorLote = processadorLote;
+        this.habilitado = habilitado;
+        this.intervaloMs = intervaloMs;
+        this.limitePendentes = limitePendentes;
+    }
+    
+    @PostConstruct
+    void iniciar() {
+        if (!habilitado) {
+            return;
+        }
+        agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "write-behind-perfil");
+            thread.setDaemon(true);
+            return thread;
+        });
+        agendador.scheduleWithFixedDelay(this::flushAgendado, intervaloMs, intervaloMs, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    void parar() throws InterruptedException {
+        if (agendador != null) {
+            agendador.shutdown();
+            agendador.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        // Flush final: nada do que foi aceito pode se perder no desligamento
+        flush();
+    }
+    
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+    
+    /**
+     * Registra a atualização sobre o estado atual do aluno, recusando de imediato
+     * o que o flush certamente rejeitaria
+     * 
+     * @param atual Aluno lido por quem registra a atualização
+     * @throws DomainException se o aluno não aceitar mais a atualização
+     * @throws ConflitoConcorrenciaException se já houver pendência sobre uma versão mais nova
+     */
+    public void registrar(Aluno atual, AtualizacaoPerfil atualizacao) {
+        atualizacao.validarPara(atual);
+        registrar(atual.getId(), atual.getVersao(), atualizacao);
+    }
+    
+    /**
+     * Registra a atualização na visão em memória; a gravação acontece no próximo flush
+     * 
+     * Uma pendência registrada sobre versão mais antiga que a nova já não seria gravada:
+     * é substituída e contada como descartada.
+     * 
+     * @param versaoVista Versão do aluno lida por quem registra a atualização
+     * @throws ConflitoConcorrenciaException se já houver pendência sobre uma versão mais nova
+     */
+    public void registrar(Long alunoId, long versaoVista, AtualizacaoPerfil atualizacao) {
+        pendentes.merge(alunoId, new Pendente(versaoVista, atualizacao), (anterior, posterior) -> {
+            if (posterior.versao() < anterior.versao()) {
+                throw new ConflitoConcorrenciaException("Aluno com ID " + alunoId + " já tem atualização pendente "
+                        + "sobre a versão " + anterior.versao() + " (vista: " + posterior.versao() + ")");
+            }
+            if (posterior.versao() > anterior.versao()) {
+                descartar(alunoId, "Substituída por atualização sobre a versão " + posterior.versao());
+            }
+            return anterior.mesclar(posterior);
+        });
+        if (pendentes.size() > limitePendentes) {
+            flush();
+        }
+    }
+    
+    /**
+     * Atualização ainda não gravada do aluno, se houver
+     */
+    public AtualizacaoPerfil pendente(Long alunoId) {
+        Pendente pendente = pendentes.get(alunoId);
+        return pendente == null ? null : pendente.atualizacao();
+    }
+    
+    public int quantidadePendentes() {
+        return pendentes.size();
+    }
+    
+    /**
+     * Atualizações gravadas pelos flushes
+     */
+    public long getGravadas() {
+        return gravadas.get();
+    }
+    
+    /**
+     * Atualizações aceitas (202) que não foram nem serão gravadas
+     */
+    public long getDescartadas() {
+        return descartadas.get();
+    }
+    
+    /**
+     * Descartes mais recentes, do mais antigo para o mais novo
+     */
+    public List<Descarte> ultimosDescartes() {
+        synchronized (ultimosDescartes) {
+            return List.copyOf(ultimosDescartes);
+        }
+    }
+    
+    /**
+     * Grava no banco todas as atualizações pendentes
+     * 
+     * @return Resultado do lote gravado
+     */
+    public ResultadoLote flush() {
+        synchronized (flushLock) {
+            List<ItemLote<Pendente>> itens = new ArrayList<>(pendentes.size());
+            for (Long alunoId : new ArrayList<>(pendentes.keySet())) {
+                Pendente pendente = pendentes.remove(alunoId);
+                if (pendente != null) {
+                    itens.add(new ItemLote<>(alunoId, pendente));
+                }
+            }
+            
+            ResultadoLote resultado = processadorLote.processar(itens, WriteBehindPerfilAlunos::aplicar);
+            
+            for (int i = 0; i < itens.size(); i++) {
+                ResultadoLote.Item item = resultado.getItens().get(i);
+                if (item.isSucesso()) {
+                    gravadas.incrementAndGet();
+                    // A própria gravação avança a versão em uma unidade: quem registrou
+                    // durante o flush viu a versão anterior e não deve ser descartado por isso
+                    long versaoGravada = itens.get(i).getValor().versao();
+                    pendentes.computeIfPresent(item.getAlunoId(), (alunoId, pendente) ->
+                            pendente.versao() == versaoGravada ? pendente.comVersao(versaoGravada + 1) : pendente);
+                    continue;
+                }
+                if (item.getExcecao() instanceof DomainException) {
+                    descartar(item.getAlunoId(), item.getErro());
+                } else {
+                    // Falha de gravação: devolve para a fila sem sobrescrever atualizações mais novas
+                    pendentes.merge(item.getAlunoId(), itens.get(i).getValor(),
+                            (maisNova, devolvida) -> devolvida.mesclar(maisNova));
+                    log.warn("Falha ao gravar atualização do aluno {}, nova tentativa no próximo flush: {}",
+                            item.getAlunoId(), item.getErro());
+                }
+            }
+            return resultado;
+        }
+    }
+    
+    private void descartar(Long alunoId, String motivo) {
+        descartadas.incrementAndGet();
+        synchronized (ultimosDescartes) {
+            if (ultimosDescartes.size() == DESCARTES_GUARDADOS) {
+                ultimosDescartes.removeFirst();
+            }
+            ultimosDescartes.addLast(new Descarte(alunoId, motivo, Instant.now()));
+        }
+        log.warn("Atualização descartada para o aluno {}: {}", alunoId, motivo);
+    }
+    
+    private static void aplicar(Aluno aluno, Pendente pendente) {
+        if (aluno.getVersao() == null || aluno.getVersao() != pendente.versao()) {
+            throw new DomainException("Aluno alterado depois da atualização (versão vista " + pendente.versao()
+                    + ", atual " + aluno.getVersao() + ")");
+        }
+        pendente.atualizacao().aplicar(aluno);
+    }
+    
+    private void flushAgendado() {
+        try {
+            if (!pendentes.isEmpty()) {
+                flush();
+            }
+        } catch (RuntimeException ex) {
+            log.error("Erro no flush do write-behind de perfil", ex);
+        }
+    }
+    
+    /**
+     * Atualização aceita que foi descartada, com o motivo
+     */
+    public record Descarte(Long alunoId, String motivo, Instant instante) {
+    }
+    
+    /**
+     * Atualização pendente e a versão do aluno sobre a qual ela foi registrada
+     */
+    private record Pendente(long versao, AtualizacaoPerfil atualizacao) {
+        
+        Pendente comVersao(long novaVersao) {
+            return new Pendente(novaVersao, atualizacao);
+        }
+        
+        /**
+         * Junta com uma posterior; se a posterior foi registrada sobre outra versão,
+         * esta já está desatualizada e só a posterior vale
+         */
+        Pendente mesclar(Pendente posterior) {
+            if (posterior.versao != versao) {
+                return posterior;
+            }
+            return new Pendente(versao, atualizacao.mesclar(posterior.atualizacao));
+        }
+    }
+}
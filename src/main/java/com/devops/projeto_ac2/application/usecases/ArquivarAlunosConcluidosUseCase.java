@@ -0,0 +1,83 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
+import com.devops.projeto_ac2.application.lote.ResultadoOperacaoMassa;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoManutencaoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Use Case: Arquivar alunos concluídos há mais de N dias
+ * 
+ * Move os alunos de tb_alunos para tb_alunos_arquivados por faixa de IDs,
+ * cada faixa na sua própria transação. Mantém tb_alunos (e seus índices)
+ * só com os alunos ativos e os concluídos recentes.
+ */
+@Service
+public class ArquivarAlunosConcluidosUseCase {
+    
+    private final AlunoManutencaoRepository manutencaoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventos;
+    private final int tamanhoFaixa;
+    
+    public ArquivarAlunosConcluidosUseCase(
+            AlunoManutencaoRepository manutencaoRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventos,
+            @Value("${alunos.manutencao.tamanho-faixa:5000}") int tamanhoFaixa) {
+        if (tamanhoFaixa <= 0) {
+            throw new IllegalArgumentException("Tamanho da faixa deve ser maior que zero");
+        }
+        this.manutencaoRepository = manutencaoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventos = eventos;
+        this.tamanhoFaixa = tamanhoFaixa;
+    }
+    
+    /**
+     * Executa o arquivamento
+     * 
+     * @param diasAposConclusao Arquiva quem concluiu há mais dias que isso
+     * @return Faixas processadas, alunos arquivados e vazão
+     */
+    public ResultadoOperacaoMassa executar(int diasAposConclusao) {
+        if (diasAposConclusao < 0) {
+            throw new DomainException("Quantidade de dias não pode ser negativa");
+        }
+        LocalDateTime limite = LocalDateTime.now().minusDays(diasAposConclusao);
+        long inicio = System.nanoTime();
+        
+        Optional<Long> menorId = manutencaoRepository.menorIdConcluidoAntesDe(limite);
+        Optional<Long> maiorId = manutencaoRepository.maiorIdConcluidoAntesDe(limite);
+        if (menorId.isEmpty() || maiorId.isEmpty()) {
+            return new ResultadoOperacaoMassa("arquivamento", 0, 0, System.nanoTime() - inicio);
+        }
+        
+        int faixas = 0;
+        long arquivados = 0;
+        long largura = manutencaoRepository.larguraFaixa(tamanhoFaixa);
+        for (long idInicial = menorId.get(); idInicial <= maiorId.get(); idInicial += largura) {
+            long idFinal = Math.min(idInicial + largura - 1, maiorId.get());
+            long faixaInicial = idInicial;
+            Integer linhas = transactionTemplate.execute(status -> {
+                int alteradas = manutencaoRepository.arquivarConcluidosAntesDe(limite, faixaInicial, idFinal);
+                if (alteradas > 0) {
+                    eventos.publishEvent(AlunosAlterados.geral());
+                }
+                return alteradas;
+            });
+            arquivados += linhas == null ? 0 : linhas;
+            faixas++;
+        }
+        
+        return new ResultadoOperacaoMassa("arquivamento", faixas, arquivados, System.nanoTime() - inicio);
+    }
+}
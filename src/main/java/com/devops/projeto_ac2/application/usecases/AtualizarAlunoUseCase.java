@@ -0,0 +1,46 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
+import com.devops.projeto_ac2.application.lote.AtualizacaoPerfil;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use Case: Atualizar dados cadastrais do aluno (nome e/ou média)
+ * Caminho síncrono, usado quando o write-behind está desabilitado
+ */
+@Service
+public class AtualizarAlunoUseCase {
+    
+    private final AlunoRepository alunoRepository;
+    private final ApplicationEventPublisher eventos;
+    
+    public AtualizarAlunoUseCase(AlunoRepository alunoRepository, ApplicationEventPublisher eventos) {
+        this.alunoRepository = alunoRepository;
+        this.eventos = eventos;
+    }
+    
+    /**
+     * Executa a atualização
+     * 
+     * @param alunoId ID do aluno
+     * @param atualizacao Campos a alterar
+     * @return O aluno atualizado
+     * @throws AlunoNotFoundException se o aluno não existir
+     */
+    @Transactional
+    public Aluno executar(Long alunoId, AtualizacaoPerfil atualizacao) {
+        Aluno aluno = alunoRepository.buscarPorId(alunoId)
+                .orElseThrow(() -> new AlunoNotFoundException(alunoId));
+        
+        atualizacao.aplicar(aluno);
+        
+        Aluno salvo = alunoRepository.salvar(aluno);
+        eventos.publishEvent(AlunosAlterados.de(alunoId));
+        return salvo;
+    }
+}
@@ -1,9 +1,12 @@
 package com.devops.projeto_ac2.application.usecases;
 
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,9 +18,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class ConcluirCursoUseCase {
     
     private final AlunoRepository alunoRepository;
+    private final RegrasBonusCursos regras;
+    private final ApplicationEventPublisher eventos;
     
-    public ConcluirCursoUseCase(AlunoRepository alunoRepository) {
+    public ConcluirCursoUseCase(AlunoRepository alunoRepository, RegrasBonusCursos regras,
+                                ApplicationEventPublisher eventos) {
         this.alunoRepository = alunoRepository;
+        this.regras = regras;
+        this.eventos = eventos;
     }
     
     /**
@@ -38,9 +46,11 @@ public class ConcluirCursoUseCase {
         MediaFinal mediaVO = MediaFinal.criar(mediaFinal);
         
         // Executar comportamento de negócio (na entidade)
-        aluno.concluirCurso(mediaVO);
+        aluno.concluirCurso(mediaVO, regras);
         
         // Persistir mudanças
-        return alunoRepository.salvar(aluno);
+        Aluno salvo = alunoRepository.salvar(aluno);
+        eventos.publishEvent(AlunosAlterados.de(alunoId));
+        return salvo;
     }
 }
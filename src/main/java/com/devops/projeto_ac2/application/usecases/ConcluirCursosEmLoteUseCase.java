@@ -0,0 +1,39 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.lote.ItemLote;
+import com.devops.projeto_ac2.application.lote.ProcessadorLoteAlunos;
+import com.devops.projeto_ac2.application.lote.ResultadoLote;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use Case: Concluir curso de vários alunos (fechamento de período)
+ * Aplica as mesmas regras de ConcluirCursoUseCase, inclusive os bônus
+ * de cursos extras configurados, com resultado individual por item
+ */
+@Service
+public class ConcluirCursosEmLoteUseCase {
+    
+    private final ProcessadorLoteAlunos processadorLote;
+    private final RegrasBonusCursos regras;
+    
+    public ConcluirCursosEmLoteUseCase(ProcessadorLoteAlunos processadorLote, RegrasBonusCursos regras) {
+        this.processadorLote = processadorLote;
+        this.regras = regras;
+    }
+    
+    /**
+     * Executa a conclusão dos cursos
+     * Cada chunk é gravado em sua própria transação
+     * 
+     * @param conclusoes Pares (alunoId, média final)
+     * @return Resultado de cada conclusão, com a vazão do lote
+     */
+    public ResultadoLote executar(List<ItemLote<Double>> conclusoes) {
+        return processadorLote.processar(conclusoes,
+                (aluno, mediaFinal) -> aluno.concluirCurso(MediaFinal.criar(mediaFinal), regras));
+    }
+}
@@ -1,10 +1,12 @@
 package com.devops.projeto_ac2.application.usecases;
 
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.DomainException;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
 import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +18,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class CriarAlunoUseCase {
     
     private final AlunoRepository alunoRepository;
+    private final ApplicationEventPublisher eventos;
     
-    public CriarAlunoUseCase(AlunoRepository alunoRepository) {
+    public CriarAlunoUseCase(AlunoRepository alunoRepository, ApplicationEventPublisher eventos) {
         this.alunoRepository = alunoRepository;
+        this.eventos = eventos;
     }
     
     /**
@@ -43,7 +47,9 @@ public class CriarAlunoUseCase {
         // Criar entidade usando factory method
         Aluno aluno = Aluno.criar(nomeVO, raVO);
         
-        // Persistir
-        return alunoRepository.salvar(aluno);
+        // Persistir (um aluno novo entra no ranking)
+        Aluno salvo = alunoRepository.salvar(aluno);
+        eventos.publishEvent(AlunosAlterados.de(salvo.getId()));
+        return salvo;
     }
 }
@@ -0,0 +1,132 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
+import com.devops.projeto_ac2.application.lote.ResultadoOperacaoMassa;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoManutencaoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Use Case: Excluir alunos em massa (por lista de IDs ou concluídos antes de uma data)
+ * 
+ * Usa DELETE em massa (sem carregar entidades) em pedaços, cada pedaço na sua
+ * própria transação para manter os locks curtos. O histórico de tentativas
+ * dos alunos é excluído junto.
+ * 
+ * Só alcança alunos ativos: quem já foi movido para o arquivo de concluídos
+ * (tb_alunos_arquivados) não é excluído por nenhum dos dois filtros.
+ */
+@Service
+public class ExcluirAlunosEmMassaUseCase {
+    
+    /**
+     * Máximo de IDs por comando DELETE ... IN
+     */
+    static final int MAXIMO_IDS_POR_COMANDO = 1000;
+    
+    private final AlunoManutencaoRepository manutencaoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventos;
+    private final int tamanhoFaixa;
+    
+    public ExcluirAlunosEmMassaUseCase(
+            AlunoManutencaoRepository manutencaoRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventos,
+            @Value("${alunos.manutencao.tamanho-faixa:5000}") int tamanhoFaixa) {
+        if (tamanhoFaixa <= 0) {
+            throw new IllegalArgumentException("Tamanho da faixa deve ser maior que zero");
+        }
+        this.manutencaoRepository = manutencaoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventos = eventos;
+        this.tamanhoFaixa = tamanhoFaixa;
+    }
+    
+    /**
+     * Exclui os alunos informados
+     * IDs repetidos, inexistentes ou de alunos arquivados são ignorados
+     * 
+     * @param ids IDs dos alunos
+     * @return Pedaços processados, alunos excluídos e vazão
+     * @throws DomainException se a lista estiver vazia ou tiver ID nulo
+     */
+    public ResultadoOperacaoMassa executarPorIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new DomainException("Informe ao menos um ID para exclusão");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new DomainException("A lista de IDs para exclusão não pode ter ID nulo");
+        }
+        long inicio = System.nanoTime();
+        
+        // Ordenados: cada pedaço cobre uma faixa contínua do índice primário
+        List<Long> ordenados = List.copyOf(new TreeSet<>(ids));
+        int pedacos = 0;
+        long excluidos = 0;
+        for (int i = 0; i < ordenados.size(); i += MAXIMO_IDS_POR_COMANDO) {
+            List<Long> pedaco = ordenados.subList(i, Math.min(i + MAXIMO_IDS_POR_COMANDO, ordenados.size()));
+            Integer linhas = transactionTemplate.execute(status ->
+                    avisar(manutencaoRepository.excluirPorIds(pedaco), AlunosAlterados.de(pedaco)));
+            excluidos += linhas == null ? 0 : linhas;
+            pedacos++;
+        }
+        
+        return new ResultadoOperacaoMassa("exclusao-por-ids", pedacos, excluidos, System.nanoTime() - inicio);
+    }
+    
+    /**
+     * Exclui os alunos que concluíram o curso antes da data informada
+     * Os já arquivados ficam no arquivo de concluídos (ver ArquivarAlunosConcluidosUseCase)
+     * 
+     * @param data Data limite (exclusiva)
+     * @return Faixas processadas, alunos excluídos e vazão
+     */
+    public ResultadoOperacaoMassa executarConcluidosAntesDe(LocalDate data) {
+        if (data == null) {
+            throw new DomainException("Data limite não pode ser nula");
+        }
+        LocalDateTime limite = data.atStartOfDay();
+        long inicio = System.nanoTime();
+        
+        Optional<Long> menorId = manutencaoRepository.menorIdConcluidoAntesDe(limite);
+        Optional<Long> maiorId = manutencaoRepository.maiorIdConcluidoAntesDe(limite);
+        if (menorId.isEmpty() || maiorId.isEmpty()) {
+            return new ResultadoOperacaoMassa("exclusao-concluidos", 0, 0, System.nanoTime() - inicio);
+        }
+        
+        int faixas = 0;
+        long excluidos = 0;
+        long largura = manutencaoRepository.larguraFaixa(tamanhoFaixa);
+        for (long idInicial = menorId.get(); idInicial <= maiorId.get(); idInicial += largura) {
+            long idFinal = Math.min(idInicial + largura - 1, maiorId.get());
+            long faixaInicial = idInicial;
+            Integer linhas = transactionTemplate.execute(status ->
+                    avisar(manutencaoRepository.excluirConcluidosAntesDe(limite, faixaInicial, idFinal),
+                            AlunosAlterados.geral()));
+            excluidos += linhas == null ? 0 : linhas;
+            faixas++;
+        }
+        
+        return new ResultadoOperacaoMassa("exclusao-concluidos", faixas, excluidos, System.nanoTime() - inicio);
+    }
+    
+    private int avisar(int linhas, AlunosAlterados evento) {
+        if (linhas > 0) {
+            eventos.publishEvent(evento);
+        }
+        return linhas;
+    }
+}
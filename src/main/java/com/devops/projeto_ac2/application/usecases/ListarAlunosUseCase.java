@@ -5,6 +5,7 @@ import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,14 +25,28 @@ public class ListarAlunosUseCase {
      * Executa a listagem de todos os alunos
      */
     public List<Aluno> executar() {
-        return alunoRepository.buscarTodos();
+        return executar(false);
+    }
+    
+    /**
+     * Lista todos os alunos, opcionalmente incluindo os arquivados
+     */
+    public List<Aluno> executar(boolean incluirArquivados) {
+        return comArquivados(alunoRepository.buscarTodos(), incluirArquivados);
     }
     
     /**
      * Lista apenas alunos que concluíram
      */
     public List<Aluno> executarConcluidos() {
-        return alunoRepository.buscarConcluidos();
+        return executarConcluidos(false);
+    }
+    
+    /**
+     * Lista os alunos que concluíram, opcionalmente incluindo os arquivados
+     */
+    public List<Aluno> executarConcluidos(boolean incluirArquivados) {
+        return comArquivados(alunoRepository.buscarConcluidos(), incluirArquivados);
     }
     
     /**
@@ -40,4 +55,13 @@ public class ListarAlunosUseCase {
     public List<Aluno> executarNaoConcluidos() {
         return alunoRepository.buscarNaoConcluidos();
     }
+    
+    private List<Aluno> comArquivados(List<Aluno> ativos, boolean incluirArquivados) {
+        if (!incluirArquivados) {
+            return ativos;
+        }
+        List<Aluno> todos = new ArrayList<>(ativos);
+        todos.addAll(alunoRepository.buscarArquivados());
+        return todos;
+    }
 }
@@ -0,0 +1,59 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.domain.entities.TentativaAvaliacao;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.repositories.TentativaAvaliacaoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Use Case: Listar o histórico de tentativas de avaliação do aluno (paginado)
+ */
+@Service
+@Transactional(readOnly = true)
+public class ListarTentativasAlunoUseCase {
+    
+    public static final int TAMANHO_MAXIMO_PAGINA = 100;
+    
+    private final AlunoRepository alunoRepository;
+    private final TentativaAvaliacaoRepository tentativaRepository;
+    
+    public ListarTentativasAlunoUseCase(AlunoRepository alunoRepository,
+                                        TentativaAvaliacaoRepository tentativaRepository) {
+        this.alunoRepository = alunoRepository;
+        this.tentativaRepository = tentativaRepository;
+    }
+    
+    /**
+     * Executa a listagem de uma página do histórico
+     * 
+     * @param alunoId ID do aluno
+     * @param pagina Página (começa em 0)
+     * @param tamanho Itens por página (1 a 100)
+     * @return Tentativas da página, em ordem de número
+     * @throws AlunoNotFoundException se o aluno não existir
+     */
+    public List<TentativaAvaliacao> executar(Long alunoId, int pagina, int tamanho) {
+        if (pagina < 0) {
+            throw new DomainException("Página não pode ser negativa");
+        }
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new DomainException("Tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO_PAGINA);
+        }
+        if (alunoRepository.buscarPorId(alunoId).isEmpty()) {
+            throw new AlunoNotFoundException(alunoId);
+        }
+        return tentativaRepository.buscarPorAluno(alunoId, pagina, tamanho);
+    }
+    
+    /**
+     * Total de tentativas registradas no histórico do aluno
+     */
+    public long contar(Long alunoId) {
+        return tentativaRepository.contarPorAluno(alunoId);
+    }
+}
@@ -2,12 +2,14 @@ package com.devops.projeto_ac2.application.usecases;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Use Case: Obter ranking dos alunos
@@ -18,9 +20,11 @@ import java.util.stream.Collectors;
 public class ObterRankingAlunosUseCase {
     
     private final AlunoRepository alunoRepository;
+    private final RegrasBonusCursos regras;
     
-    public ObterRankingAlunosUseCase(AlunoRepository alunoRepository) {
+    public ObterRankingAlunosUseCase(AlunoRepository alunoRepository, RegrasBonusCursos regras) {
         this.alunoRepository = alunoRepository;
+        this.regras = regras;
     }
     
     /**
@@ -30,10 +34,15 @@ public class ObterRankingAlunosUseCase {
      * @return Lista ordenada de alunos
      */
     public List<Aluno> executar() {
-        return alunoRepository.buscarTodos().stream()
-                .sorted(Comparator
-                        .comparingDouble(Aluno::getMediaFinal).reversed()
-                        .thenComparingInt(Aluno::getCursosAdicionais).reversed())
+        return executar(false);
+    }
+    
+    /**
+     * Ranking completo, opcionalmente incluindo os alunos arquivados
+     */
+    public List<Aluno> executar(boolean incluirArquivados) {
+        List<Aluno> alunos = incluirArquivados ? todos() : alunoRepository.buscarRanking(Integer.MAX_VALUE);
+        return ordenar(alunos.stream())
                 .collect(Collectors.toList());
     }
     
@@ -44,27 +53,54 @@ public class ObterRankingAlunosUseCase {
      * @return Lista com os N melhores alunos
      */
     public List<Aluno> executarTop(int limite) {
+        return executarTop(limite, false);
+    }
+    
+    /**
+     * Top N, opcionalmente incluindo os alunos arquivados
+     */
+    public List<Aluno> executarTop(int limite, boolean incluirArquivados) {
         if (limite <= 0) {
             throw new IllegalArgumentException("Limite deve ser maior que zero");
         }
         
-        return alunoRepository.buscarTodos().stream()
-                .sorted(Comparator
-                        .comparingDouble(Aluno::getMediaFinal).reversed()
-                        .thenComparingInt(Aluno::getCursosAdicionais).reversed())
+        List<Aluno> alunos = incluirArquivados ? todos() : alunoRepository.buscarRanking(limite);
+        return ordenar(alunos.stream())
                 .limit(limite)
                 .collect(Collectors.toList());
     }
     
     /**
-     * Retorna ranking apenas dos alunos aprovados
+     * Retorna ranking apenas dos alunos aprovados (pela média de aprovação configurada)
      */
     public List<Aluno> executarAprovados() {
-        return alunoRepository.buscarConcluidos().stream()
-                .filter(Aluno::aprovado)
-                .sorted(Comparator
-                        .comparingDouble(Aluno::getMediaFinal).reversed()
-                        .thenComparingInt(Aluno::getCursosAdicionais).reversed())
+        return executarAprovados(false);
+    }
+    
+    /**
+     * Ranking dos aprovados, opcionalmente incluindo os alunos arquivados
+     */
+    public List<Aluno> executarAprovados(boolean incluirArquivados) {
+        List<Aluno> concluidos = alunoRepository.buscarConcluidos();
+        if (incluirArquivados) {
+            concluidos = new ArrayList<>(concluidos);
+            concluidos.addAll(alunoRepository.buscarArquivados());
+        }
+        return ordenar(concluidos.stream().filter(aluno -> aluno.aprovado(regras)))
                 .collect(Collectors.toList());
     }
+    
+    /**
+     * Ordena mesmo o que o repositório já entregou na ordem do ranking: a ordem é
+     * regra deste caso de uso e ordenar uma lista já ordenada custa uma passada
+     */
+    private static Stream<Aluno> ordenar(Stream<Aluno> alunos) {
+        return alunos.sorted(Aluno.ORDEM_RANKING);
+    }
+    
+    private List<Aluno> todos() {
+        List<Aluno> todos = new ArrayList<>(alunoRepository.buscarTodos());
+        todos.addAll(alunoRepository.buscarArquivados());
+        return todos;
+    }
 }
@@ -0,0 +1,80 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
+import com.devops.projeto_ac2.application.lote.ResultadoOperacaoMassa;
+import com.devops.projeto_ac2.domain.repositories.AlunoManutencaoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+/**
+ * Use Case: Recalcular os cursos adicionais de todos os alunos concluídos
+ * 
+ * Usado quando as regras de bônus mudam. Em vez de carregar cada aluno, executa
+ * um UPDATE ... CASE WHEN por faixa de IDs, cada faixa na sua própria transação
+ * (locks curtos). Usa o mesmo bean de regras que a conclusão do curso.
+ */
+@Service
+public class RecalcularBonusCursosUseCase {
+    
+    private final AlunoManutencaoRepository manutencaoRepository;
+    private final RegrasBonusCursos regras;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventos;
+    private final int tamanhoFaixa;
+    
+    public RecalcularBonusCursosUseCase(
+            AlunoManutencaoRepository manutencaoRepository,
+            RegrasBonusCursos regras,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventos,
+            @Value("${alunos.manutencao.tamanho-faixa:5000}") int tamanhoFaixa) {
+        if (tamanhoFaixa <= 0) {
+            throw new IllegalArgumentException("Tamanho da faixa deve ser maior que zero");
+        }
+        this.manutencaoRepository = manutencaoRepository;
+        this.regras = regras;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventos = eventos;
+        this.tamanhoFaixa = tamanhoFaixa;
+    }
+    
+    /**
+     * Executa o recálculo com as regras configuradas
+     * 
+     * @return Faixas processadas, alunos alterados e vazão
+     */
+    public ResultadoOperacaoMassa executar() {
+        long inicio = System.nanoTime();
+        
+        Optional<Long> menorId = manutencaoRepository.menorIdConcluido();
+        Optional<Long> maiorId = manutencaoRepository.maiorIdConcluido();
+        if (menorId.isEmpty() || maiorId.isEmpty()) {
+            return new ResultadoOperacaoMassa("recalculo-bonus", 0, 0, System.nanoTime() - inicio);
+        }
+        
+        int faixas = 0;
+        long alterados = 0;
+        long largura = manutencaoRepository.larguraFaixa(tamanhoFaixa);
+        for (long idInicial = menorId.get(); idInicial <= maiorId.get(); idInicial += largura) {
+            long idFinal = Math.min(idInicial + largura - 1, maiorId.get());
+            long faixaInicial = idInicial;
+            Integer linhas = transactionTemplate.execute(status -> {
+                int alteradas = manutencaoRepository.recalcularCursosAdicionais(regras, faixaInicial, idFinal);
+                if (alteradas > 0) {
+                    eventos.publishEvent(AlunosAlterados.geral());
+                }
+                return alteradas;
+            });
+            alterados += linhas == null ? 0 : linhas;
+            faixas++;
+        }
+        
+        return new ResultadoOperacaoMassa("recalculo-bonus", faixas, alterados, System.nanoTime() - inicio);
+    }
+}
@@ -1,23 +1,36 @@
 package com.devops.projeto_ac2.application.usecases;
 
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.entities.TentativaAvaliacao;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.exceptions.TentativasEsgotadasException;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.repositories.TentativaAvaliacaoRepository;
 import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use Case: Registrar tentativa de avaliação do aluno
  * Implementa regra de limite de 3 tentativas
+ * Cada tentativa registrada também entra no histórico (TentativaAvaliacao)
  */
 @Service
 public class RegistrarTentativaUseCase {
     
     private final AlunoRepository alunoRepository;
+    private final TentativaAvaliacaoRepository tentativaRepository;
+    private final ApplicationEventPublisher eventos;
     
-    public RegistrarTentativaUseCase(AlunoRepository alunoRepository) {
+    public RegistrarTentativaUseCase(AlunoRepository alunoRepository,
+                                     TentativaAvaliacaoRepository tentativaRepository,
+                                     ApplicationEventPublisher eventos) {
         this.alunoRepository = alunoRepository;
+        this.tentativaRepository = tentativaRepository;
+        this.eventos = eventos;
     }
     
     /**
@@ -41,6 +54,48 @@ public class RegistrarTentativaUseCase {
         aluno.registrarTentativa(media);
         
         // Persistir mudanças
-        return alunoRepository.salvar(aluno);
+        Aluno salvo = alunoRepository.salvar(aluno);
+        tentativaRepository.registrar(TentativaAvaliacao.registrar(salvo));
+        eventos.publishEvent(AlunosAlterados.de(alunoId));
+        return salvo;
+    }
+    
+    /**
+     * Executa o registro da tentativa com um UPDATE condicional atômico
+     * Evita a janela SELECT → UPDATE em que duas requisições concorrentes
+     * leem a mesma quantidade de tentativas e ultrapassam o limite
+     * 
+     * @param alunoId ID do aluno
+     * @param nota Nota obtida na tentativa
+     * @return O aluno atualizado
+     * @throws AlunoNotFoundException se o aluno não existir
+     * @throws TentativasEsgotadasException se o aluno já usou todas as tentativas
+     * @throws DomainException se o aluno já concluiu o curso
+     */
+    @Transactional
+    public Aluno executarAtomico(Long alunoId, double nota) {
+        // Validar a nota antes de ir ao banco
+        MediaFinal media = MediaFinal.criar(nota);
+        
+        // O UPDATE já devolve a linha alterada: só há leitura quando ele não altera nada
+        Aluno aluno = alunoRepository.registrarTentativaAtomica(alunoId, media.getValor())
+                .orElseThrow(() -> motivoDaRecusa(alunoId));
+        
+        tentativaRepository.registrar(TentativaAvaliacao.registrar(aluno));
+        eventos.publishEvent(AlunosAlterados.de(alunoId));
+        return aluno;
+    }
+    
+    /**
+     * Nenhuma linha atendeu à condição: identificar a regra que impediu o registro
+     */
+    private RuntimeException motivoDaRecusa(Long alunoId) {
+        Aluno aluno = alunoRepository.buscarPorId(alunoId)
+                .orElseThrow(() -> new AlunoNotFoundException(alunoId));
+        if (aluno.isConcluiu()) {
+            return new DomainException("Aluno já concluiu o curso");
+        }
+        return new TentativasEsgotadasException(
+                "Aluno já utilizou todas as " + Aluno.MAX_TENTATIVAS + " tentativas disponíveis");
     }
 }
@@ -0,0 +1,45 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.lote.ItemLote;
+import com.devops.projeto_ac2.application.lote.ProcessadorLoteAlunos;
+import com.devops.projeto_ac2.application.lote.ResultadoLote;
+import com.devops.projeto_ac2.domain.entities.TentativaAvaliacao;
+import com.devops.projeto_ac2.domain.repositories.TentativaAvaliacaoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use Case: Registrar tentativas de avaliação em lote
+ * Aplica a mesma regra de RegistrarTentativaUseCase (limite de 3 tentativas)
+ * a muitos alunos, com resultado individual por item
+ */
+@Service
+public class RegistrarTentativasEmLoteUseCase {
+    
+    private final ProcessadorLoteAlunos processadorLote;
+    private final TentativaAvaliacaoRepository tentativaRepository;
+    
+    public RegistrarTentativasEmLoteUseCase(ProcessadorLoteAlunos processadorLote,
+                                            TentativaAvaliacaoRepository tentativaRepository) {
+        this.processadorLote = processadorLote;
+        this.tentativaRepository = tentativaRepository;
+    }
+    
+    /**
+     * Executa o registro das tentativas
+     * Cada chunk é gravado em sua própria transação, junto com o histórico das tentativas
+     * 
+     * @param tentativas Pares (alunoId, nota) na ordem de aplicação
+     * @return Resultado de cada tentativa
+     */
+    public ResultadoLote executar(List<ItemLote<Double>> tentativas) {
+        return processadorLote.processar(tentativas,
+                (aluno, nota) -> {
+                    aluno.registrarTentativa(MediaFinal.criar(nota));
+                    return TentativaAvaliacao.registrar(aluno);
+                },
+                tentativaRepository::registrarTodas);
+    }
+}
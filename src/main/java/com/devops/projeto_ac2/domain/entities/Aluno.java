@@ -1,13 +1,20 @@
 package com.devops.projeto_ac2.domain.entities;
 
 import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.exceptions.TentativasEsgotadasException;
 import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
 import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
 import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 
 /**
  * Entidade Aluno seguindo DDD
@@ -18,8 +25,14 @@ import java.time.LocalDateTime;
  * - @ToString: Gera método toString() para debug e logs
  * - @EqualsAndHashCode(onlyExplicitlyIncluded = true): Gera equals/hashCode baseado no ID
  * - @NoArgsConstructor: Construtor vazio para JPA/Hibernate
+ * 
+ * @DynamicUpdate: o UPDATE gerado pelo dirty checking contém só as colunas alteradas
+ * @Cache: entidade no cache de segundo nível do Hibernate (READ_WRITE, atualizado no commit)
  */
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Aluno.REGIAO_CACHE)
 @Table(name = "tb_alunos")
 @Getter
 @ToString(of = {"id", "nome", "registroAcademico", "mediaFinal", "concluiu"})
@@ -27,6 +40,24 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // Para JPA
 public class Aluno {
     
+    /**
+     * Limite de tentativas de avaliação por aluno
+     */
+    public static final int MAX_TENTATIVAS = 3;
+    
+    /**
+     * Região do cache de segundo nível do Hibernate com os alunos
+     */
+    public static final String REGIAO_CACHE = "alunos";
+    
+    /**
+     * Ordem do ranking: maior média final primeiro e, com médias iguais, mais cursos adicionais
+     * Única definição da ordem, usada pelo caso de uso e pelos adapters que ordenam no banco
+     */
+    public static final Comparator<Aluno> ORDEM_RANKING = Comparator
+            .comparingDouble(Aluno::getMediaFinal).reversed()
+            .thenComparing(Comparator.comparingInt(Aluno::getCursosAdicionais).reversed());
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @EqualsAndHashCode.Include // Incluir ID no equals/hashCode
@@ -61,6 +92,20 @@ public class Aluno {
     @Column
     private LocalDateTime dataConclusao;
     
+    /**
+     * Versão para controle de concorrência otimista
+     * Evita que alterações concorrentes no mesmo aluno se sobrescrevam
+     */
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+    
+    /**
+     * Indica que o aluno foi lido do arquivo de concluídos (somente leitura)
+     */
+    @Transient
+    private boolean arquivado;
+    
     // Construtor privado para forçar uso do factory method
     private Aluno(NomeAluno nome, RegistroAcademico registroAcademico) {
         this.nome = nome.getValor();
@@ -69,8 +114,8 @@ public class Aluno {
         this.concluiu = false;
         this.cursosAdicionais = 0;
         this.tentativasAvaliacao = 0;
-        this.dataCriacao = LocalDateTime.now();
-        this.dataAtualizacao = LocalDateTime.now();
+        this.dataCriacao = agora();
+        this.dataAtualizacao = agora();
     }
     
     /**
@@ -87,6 +132,37 @@ public class Aluno {
         return new Aluno(nome, registroAcademico);
     }
     
+    /**
+     * Factory method para reconstituir um aluno já existente a partir do armazenamento
+     * (arquivo de concluídos, snapshots, adapters fora do JPA). Não aplica regras de criação.
+     */
+    public static Aluno reconstituir(Long id, String nome, String ra, double mediaFinal, boolean concluiu,
+                                     int cursosAdicionais, int tentativasAvaliacao,
+                                     LocalDateTime dataCriacao, LocalDateTime dataAtualizacao,
+                                     LocalDateTime dataConclusao, Long versao) {
+        Aluno aluno = new Aluno();
+        aluno.id = id;
+        aluno.nome = nome;
+        aluno.registroAcademico = RegistroAcademico.criar(ra);
+        aluno.mediaFinal = mediaFinal;
+        aluno.concluiu = concluiu;
+        aluno.cursosAdicionais = cursosAdicionais;
+        aluno.tentativasAvaliacao = tentativasAvaliacao;
+        aluno.dataCriacao = dataCriacao;
+        aluno.dataAtualizacao = dataAtualizacao;
+        aluno.dataConclusao = dataConclusao;
+        aluno.versao = versao;
+        return aluno;
+    }
+    
+    /**
+     * Marca o aluno como vindo do arquivo de concluídos: não pode mais ser gravado
+     */
+    public Aluno marcarComoArquivado() {
+        this.arquivado = true;
+        return this;
+    }
+    
     /**
      * Método de negócio: registra uma tentativa de avaliação
      * Valida se ainda há tentativas disponíveis
@@ -100,21 +176,29 @@ public class Aluno {
             throw new DomainException("Aluno já concluiu o curso");
         }
         
-        if (this.tentativasAvaliacao >= 3) {
-            throw new DomainException("Aluno já utilizou todas as 3 tentativas disponíveis");
+        if (this.tentativasAvaliacao >= MAX_TENTATIVAS) {
+            throw new TentativasEsgotadasException(
+                    "Aluno já utilizou todas as " + MAX_TENTATIVAS + " tentativas disponíveis");
         }
         
         this.tentativasAvaliacao++;
         this.mediaFinal = media.getValor();
-        this.dataAtualizacao = LocalDateTime.now();
+        this.dataAtualizacao = agora();
     }
     
     /**
-     * Método de negócio: conclui o curso do aluno com uma média final
-     * Implementa a regra: se média >= 7.0, ganha 3 cursos adicionais
-     * Implementa a regra: média >= 9.0 ganha bônus de 5 cursos extras
+     * Conclusão com as regras de bônus padrão (média >= 7.0 ganha 3 cursos,
+     * média >= 9.0 ganha 5 cursos); só para testes do pacote, o código de produção
+     * passa as regras configuradas
      */
-    public void concluirCurso(MediaFinal media) {
+    void concluirCurso(MediaFinal media) {
+        concluirCurso(media, RegrasBonusCursos.padrao());
+    }
+    
+    /**
+     * Método de negócio: conclui o curso do aluno aplicando as regras de bônus informadas
+     */
+    public void concluirCurso(MediaFinal media, RegrasBonusCursos regras) {
         if (media == null) {
             throw new DomainException("Média final não pode ser nula");
         }
@@ -129,16 +213,13 @@ public class Aluno {
         
         this.mediaFinal = media.getValor();
         this.concluiu = true;
-        this.dataConclusao = LocalDateTime.now();
-        this.dataAtualizacao = LocalDateTime.now();
+        this.dataConclusao = agora();
+        this.dataAtualizacao = agora();
         
-        // Regra de negócio: se média >= 9.0, ganha bônus de 5 cursos extras
-        if (media.getValor() >= 9.0) {
-            this.adicionarCursosExtras(5);
-        }
-        // Regra de negócio: se aprovado (>= 7.0), ganha 3 cursos adicionais
-        else if (media.aprovado()) {
-            this.adicionarCursosExtras(3);
+        // Regra de negócio: bônus de cursos adicionais conforme a faixa da média
+        int bonus = regras.cursosPara(media.getValor());
+        if (bonus > 0) {
+            this.adicionarCursosExtras(bonus);
         }
     }
     
@@ -150,7 +231,7 @@ public class Aluno {
             throw new DomainException("Quantidade de cursos deve ser positiva");
         }
         this.cursosAdicionais += quantidade;
-        this.dataAtualizacao = LocalDateTime.now();
+        this.dataAtualizacao = agora();
     }
     
     /**
@@ -166,7 +247,7 @@ public class Aluno {
         }
         
         this.mediaFinal = novaMedia.getValor();
-        this.dataAtualizacao = LocalDateTime.now();
+        this.dataAtualizacao = agora();
     }
     
     /**
@@ -177,28 +258,43 @@ public class Aluno {
             throw new DomainException("Nome não pode ser nulo");
         }
         this.nome = novoNome.getValor();
-        this.dataAtualizacao = LocalDateTime.now();
+        this.dataAtualizacao = agora();
     }
     
     /**
-     * Verifica se o aluno foi aprovado
+     * Verifica se o aluno foi aprovado segundo as regras informadas
      */
-    public boolean aprovado() {
-        return this.concluiu && this.mediaFinal >= 7.0;
+    public boolean aprovado(RegrasBonusCursos regras) {
+        return this.concluiu && regras.aprovado(this.mediaFinal);
     }
     
     /**
-     * Verifica se o aluno foi reprovado
+     * Verifica se o aluno foi reprovado segundo as regras informadas
      */
-    public boolean reprovado() {
-        return this.concluiu && this.mediaFinal < 5.0;
+    public boolean reprovado(RegrasBonusCursos regras) {
+        return this.concluiu && regras.reprovado(this.mediaFinal);
     }
     
     /**
-     * Verifica se o aluno está em recuperação
+     * Verifica se o aluno está em recuperação segundo as regras informadas
      */
-    public boolean emRecuperacao() {
-        return !this.concluiu && this.mediaFinal >= 5.0 && this.mediaFinal < 7.0;
+    public boolean emRecuperacao(RegrasBonusCursos regras) {
+        return !this.concluiu && regras.emRecuperacao(this.mediaFinal);
+    }
+    
+    /**
+     * Situação pelas regras padrão; só para testes do pacote
+     */
+    boolean aprovado() {
+        return aprovado(RegrasBonusCursos.padrao());
+    }
+    
+    boolean reprovado() {
+        return reprovado(RegrasBonusCursos.padrao());
+    }
+    
+    boolean emRecuperacao() {
+        return emRecuperacao(RegrasBonusCursos.padrao());
     }
     
     /**
@@ -219,13 +315,22 @@ public class Aluno {
      * Verifica se aluno tem tentativas disponíveis
      */
     public boolean temTentativasDisponiveis() {
-        return this.tentativasAvaliacao < 3;
+        return this.tentativasAvaliacao < MAX_TENTATIVAS;
     }
     
     /**
      * Retorna número de tentativas restantes
      */
     public int tentativasRestantes() {
-        return 3 - this.tentativasAvaliacao;
+        return MAX_TENTATIVAS - this.tentativasAvaliacao;
+    }
+    
+    /**
+     * Hora atual na precisão da coluna TIMESTAMP (microssegundos)
+     * 
+     * O objeto em memória (e a cópia no cache de segundo nível) fica igual ao que é lido do banco.
+     */
+    private static LocalDateTime agora() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
@@ -0,0 +1,58 @@
+package com.devops.projeto_ac2.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro histórico de uma tentativa de avaliação do aluno
+ * 
+ * Append-only: gravado uma vez e nunca alterado. Referencia o aluno só pelo ID
+ * (sem associação JPA), então carregar um Aluno nunca carrega o histórico.
+ * O ID vem de uma sequence com alocação em bloco para permitir INSERT em batch.
+ */
+@Entity
+@Immutable
+@Table(name = "tb_tentativas_avaliacao",
+        indexes = @Index(name = "idx_tentativa_aluno_numero", columnList = "aluno_id, numero"))
+@Getter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // Para JPA
+public class TentativaAvaliacao {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_tentativa_avaliacao")
+    @SequenceGenerator(name = "seq_tentativa_avaliacao", sequenceName = "seq_tentativa_avaliacao", allocationSize = 50)
+    @EqualsAndHashCode.Include
+    private Long id;
+    
+    @Column(name = "aluno_id", nullable = false, updatable = false)
+    private Long alunoId;
+    
+    @Column(nullable = false, updatable = false)
+    private int numero;
+    
+    @Column(nullable = false, updatable = false)
+    private double nota;
+    
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime dataRegistro;
+    
+    private TentativaAvaliacao(Long alunoId, int numero, double nota) {
+        this.alunoId = alunoId;
+        this.numero = numero;
+        this.nota = nota;
+        this.dataRegistro = LocalDateTime.now();
+    }
+    
+    /**
+     * Factory Method: registro da tentativa que o aluno acabou de fazer
+     * (número = tentativas já feitas, nota = média registrada)
+     */
+    public static TentativaAvaliacao registrar(Aluno aluno) {
+        return new TentativaAvaliacao(aluno.getId(), aluno.getTentativasAvaliacao(), aluno.getMediaFinal());
+    }
+}
@@ -0,0 +1,17 @@
+package com.devops.projeto_ac2.domain.exceptions;
+
+/**
+ * Exceção lançada quando uma alteração no aluno não pôde ser aplicada
+ * por conflito com alterações concorrentes, mesmo após novas tentativas
+ */
+public class ConflitoConcorrenciaException extends DomainException {
+    
+    public ConflitoConcorrenciaException(Long alunoId, int tentativas, Throwable cause) {
+        super("Aluno com ID " + alunoId + " foi alterado concorrentemente; operação abandonada após "
+                + tentativas + " tentativas", cause);
+    }
+    
+    public ConflitoConcorrenciaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,64 @@
+package com.devops.projeto_ac2.domain.repositories;
+
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Interface do repositório para operações administrativas em massa (Port)
+ * 
+ * Separada de AlunoRepository: são comandos set-based executados por faixa de IDs,
+ * sem carregar entidades, usados apenas por rotinas administrativas.
+ */
+public interface AlunoManutencaoRepository {
+    
+    /**
+     * Largura, em IDs, da faixa que alcança até tamanhoFaixa alunos em cada banco
+     * 
+     * Com IDs densos é o próprio tamanho; adapters que intercalam IDs entre bancos
+     * alargam a faixa para que ela não fique quase vazia.
+     */
+    default long larguraFaixa(int tamanhoFaixa) {
+        return tamanhoFaixa;
+    }
+    
+    Optional<Long> menorIdConcluido();
+    
+    Optional<Long> maiorIdConcluido();
+    
+    /**
+     * Recalcula cursosAdicionais dos alunos concluídos com ID na faixa [idInicial, idFinal]
+     * 
+     * @return Quantidade de alunos cujo valor mudou
+     */
+    int recalcularCursosAdicionais(RegrasBonusCursos regras, long idInicial, long idFinal);
+    
+    Optional<Long> menorIdConcluidoAntesDe(LocalDateTime limite);
+    
+    Optional<Long> maiorIdConcluidoAntesDe(LocalDateTime limite);
+    
+    /**
+     * Exclui (com o histórico de tentativas) os alunos concluídos antes do limite
+     * com ID na faixa [idInicial, idFinal]; alunos arquivados não são alcançados
+     * 
+     * @return Quantidade de alunos excluídos
+     */
+    int excluirConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal);
+    
+    /**
+     * Exclui (com o histórico de tentativas) os alunos informados; alunos arquivados não são alcançados
+     * 
+     * @return Quantidade de alunos excluídos
+     */
+    int excluirPorIds(Collection<Long> ids);
+    
+    /**
+     * Move para o arquivo de concluídos os alunos concluídos antes do limite
+     * com ID na faixa [idInicial, idFinal] (o histórico de tentativas permanece)
+     * 
+     * @return Quantidade de alunos arquivados
+     */
+    int arquivarConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal);
+}
@@ -2,6 +2,7 @@ package com.devops.projeto_ac2.domain.repositories;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,13 +18,34 @@ public interface AlunoRepository {
      */
     Aluno salvar(Aluno aluno);
     
+    /**
+     * Salva vários alunos de uma vez (gravação em batch)
+     */
+    List<Aluno> salvarTodos(List<Aluno> alunos);
+    
+    /**
+     * Registra uma tentativa com um único UPDATE condicional, sem leitura prévia
+     * A linha só é alterada se o aluno existir, não tiver concluído e ainda
+     * tiver tentativas disponíveis
+     * 
+     * @return O aluno já alterado, ou vazio se nenhuma linha atendeu à condição
+     */
+    Optional<Aluno> registrarTentativaAtomica(Long id, double media);
+    
     /**
      * Busca um aluno por ID
+     * Se não estiver entre os ativos, procura no arquivo de concluídos
+     * (o aluno arquivado retorna marcado como somente leitura)
      */
     Optional<Aluno> buscarPorId(Long id);
     
     /**
-     * Busca um aluno por RA
+     * Busca os alunos dos IDs informados (IDs inexistentes são ignorados)
+     */
+    List<Aluno> buscarPorIds(Collection<Long> ids);
+    
+    /**
+     * Busca um aluno por RA (com o mesmo fallback para o arquivo de buscarPorId)
      */
     Optional<Aluno> buscarPorRA(String ra);
     
@@ -43,7 +65,23 @@ public interface AlunoRepository {
     List<Aluno> buscarNaoConcluidos();
     
     /**
-     * Verifica se existe um aluno com o RA informado
+     * Os N primeiros alunos (não arquivados) na ordem de {@link Aluno#ORDEM_RANKING}
+     * Por padrão ordena buscarTodos em memória; adapters que sabem ordenar na fonte sobrescrevem
+     */
+    default List<Aluno> buscarRanking(int limite) {
+        return buscarTodos().stream()
+                .sorted(Aluno.ORDEM_RANKING)
+                .limit(limite)
+                .toList();
+    }
+    
+    /**
+     * Busca os alunos do arquivo de concluídos (somente leitura)
+     */
+    List<Aluno> buscarArquivados();
+    
+    /**
+     * Verifica se existe um aluno com o RA informado (ativo ou arquivado)
      */
     boolean existePorRA(String ra);
     
@@ -0,0 +1,26 @@
+package com.devops.projeto_ac2.domain.repositories;
+
+import com.devops.projeto_ac2.domain.entities.TentativaAvaliacao;
+
+import java.util.List;
+
+/**
+ * Interface do repositório do histórico de tentativas (Port)
+ * Somente inclusão e leitura: o histórico não é alterado nem removido por aqui
+ */
+public interface TentativaAvaliacaoRepository {
+    
+    void registrar(TentativaAvaliacao tentativa);
+    
+    /**
+     * Inclui vários registros de uma vez (INSERT em batch)
+     */
+    void registrarTodas(List<TentativaAvaliacao> tentativas);
+    
+    /**
+     * Página do histórico do aluno, em ordem de número da tentativa
+     */
+    List<TentativaAvaliacao> buscarPorAluno(Long alunoId, int pagina, int tamanho);
+    
+    long contarPorAluno(Long alunoId);
+}
@@ -54,24 +54,39 @@ public class MediaFinal {
     }
     
     /**
-     * Verifica se o aluno foi aprovado (média >= 7.0)
+     * Verifica se a média aprova segundo as regras informadas
      */
-    public boolean aprovado() {
-        return valor >= 7.0;
+    public boolean aprovado(RegrasBonusCursos regras) {
+        return regras.aprovado(valor);
     }
     
     /**
-     * Verifica se o aluno foi reprovado (média < 5.0)
+     * Verifica se a média reprova segundo as regras informadas
      */
-    public boolean reprovado() {
-        return valor < 5.0;
+    public boolean reprovado(RegrasBonusCursos regras) {
+        return regras.reprovado(valor);
     }
     
     /**
-     * Verifica se o aluno está em recuperação (5.0 <= média < 7.0)
+     * Verifica se a média deixa o aluno em recuperação segundo as regras informadas
      */
-    public boolean emRecuperacao() {
-        return valor >= 5.0 && valor < 7.0;
+    public boolean emRecuperacao(RegrasBonusCursos regras) {
+        return regras.emRecuperacao(valor);
+    }
+    
+    /**
+     * Faixas das regras padrão (aprovado >= 7.0, reprovado < 5.0); só para testes do pacote
+     */
+    boolean aprovado() {
+        return aprovado(RegrasBonusCursos.padrao());
+    }
+    
+    boolean reprovado() {
+        return reprovado(RegrasBonusCursos.padrao());
+    }
+    
+    boolean emRecuperacao() {
+        return emRecuperacao(RegrasBonusCursos.padrao());
     }
     
     @Override
@@ -0,0 +1,101 @@
+package com.devops.projeto_ac2.domain.valueobjects;
+
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Value Object com as regras de bônus de cursos adicionais na conclusão do curso
+ * 
+ * - média >= mediaExcelencia: ganha cursosExcelencia cursos
+ * - média >= mediaAprovacao: ganha cursosAprovacao cursos
+ * - abaixo disso: nenhum curso
+ * 
+ * A média de aprovação também define a situação do aluno (aprovado, em recuperação, reprovado).
+ * As regras configuradas são um bean único, passado pelos casos de uso a
+ * Aluno.concluirCurso, usado pelo recálculo em massa e pelo cálculo da situação,
+ * para que os caminhos nunca divirjam.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class RegrasBonusCursos {
+    
+    /**
+     * Abaixo desta média (e da média de aprovação) o aluno é reprovado
+     */
+    public static final double MEDIA_RECUPERACAO = 5.0;
+    
+    private static final RegrasBonusCursos PADRAO = new RegrasBonusCursos(9.0, 5, 7.0, 3);
+    
+    private final double mediaExcelencia;
+    private final int cursosExcelencia;
+    private final double mediaAprovacao;
+    private final int cursosAprovacao;
+    
+    private RegrasBonusCursos(double mediaExcelencia, int cursosExcelencia,
+                              double mediaAprovacao, int cursosAprovacao) {
+        this.mediaExcelencia = mediaExcelencia;
+        this.cursosExcelencia = cursosExcelencia;
+        this.mediaAprovacao = mediaAprovacao;
+        this.cursosAprovacao = cursosAprovacao;
+    }
+    
+    /**
+     * Factory method para criar regras válidas
+     * @throws InvalidValueObjectException se as faixas forem inconsistentes
+     */
+    public static RegrasBonusCursos criar(double mediaExcelencia, int cursosExcelencia,
+                                          double mediaAprovacao, int cursosAprovacao) {
+        if (mediaAprovacao < 0.0 || mediaExcelencia > 10.0 || mediaAprovacao > mediaExcelencia) {
+            throw new InvalidValueObjectException(
+                    "Faixas de bônus inválidas: 0.0 <= média de aprovação <= média de excelência <= 10.0");
+        }
+        if (cursosExcelencia < 0 || cursosAprovacao < 0) {
+            throw new InvalidValueObjectException("Quantidade de cursos de bônus não pode ser negativa");
+        }
+        return new RegrasBonusCursos(mediaExcelencia, cursosExcelencia, mediaAprovacao, cursosAprovacao);
+    }
+    
+    /**
+     * Regras originais do sistema (9.0 → 5 cursos, 7.0 → 3 cursos)
+     */
+    public static RegrasBonusCursos padrao() {
+        return PADRAO;
+    }
+    
+    /**
+     * Quantidade de cursos adicionais ganhos com a média informada
+     */
+    public int cursosPara(double media) {
+        if (media >= mediaExcelencia) {
+            return cursosExcelencia;
+        }
+        if (media >= mediaAprovacao) {
+            return cursosAprovacao;
+        }
+        return 0;
+    }
+    
+    /**
+     * Verifica se a média aprova (média >= média de aprovação)
+     */
+    public boolean aprovado(double media) {
+        return media >= mediaAprovacao;
+    }
+    
+    /**
+     * Verifica se a média reprova (abaixo da aprovação e da média de recuperação)
+     */
+    public boolean reprovado(double media) {
+        return !aprovado(media) && media < MEDIA_RECUPERACAO;
+    }
+    
+    /**
+     * Verifica se a média deixa o aluno em recuperação (entre a recuperação e a aprovação)
+     */
+    public boolean emRecuperacao(double media) {
+        return !aprovado(media) && !reprovado(media);
+    }
+}
@@ -3,12 +3,18 @@ package com.devops.projeto_ac2.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
-@Entity
+/**
+ * Entidade da primeira versão da API, usada só pelo AlunoService legado
+ * 
+ * Nome de entidade e tabela próprios: o Aluno do domínio já é a entidade "Aluno" em tb_alunos,
+ * e dois mapeamentos com o mesmo nome impedem o Hibernate de subir.
+ */
+@Entity(name = "AlunoLegado")
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "tb_alunos")
+@Table(name = "tb_alunos_legado")
 public class Aluno {
 
     @Id
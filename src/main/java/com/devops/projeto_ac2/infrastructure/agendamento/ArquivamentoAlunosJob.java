@@ -0,0 +1,41 @@
+package com.devops.projeto_ac2.infrastructure.agendamento;
+
+import com.devops.projeto_ac2.application.lote.ResultadoOperacaoMassa;
+import com.devops.projeto_ac2.application.usecases.ArquivarAlunosConcluidosUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rotina agendada de arquivamento dos alunos concluídos
+ * Roda conforme alunos.arquivamento.cron quando alunos.arquivamento.habilitado=true
+ */
+@Slf4j
+@Component
+public class ArquivamentoAlunosJob {
+    
+    private final ArquivarAlunosConcluidosUseCase arquivarAlunosConcluidosUseCase;
+    private final boolean habilitado;
+    private final int diasAposConclusao;
+    
+    public ArquivamentoAlunosJob(
+            ArquivarAlunosConcluidosUseCase arquivarAlunosConcluidosUseCase,
+            @Value("${alunos.arquivamento.habilitado:false}") boolean habilitado,
+            @Value("${alunos.arquivamento.dias-apos-conclusao:365}") int diasAposConclusao) {
+        this.arquivarAlunosConcluidosUseCase = arquivarAlunosConcluidosUseCase;
+        this.habilitado = habilitado;
+        this.diasAposConclusao = diasAposConclusao;
+    }
+    
+    @Scheduled(cron = "${alunos.arquivamento.cron:0 0 3 * * *}")
+    public void executar() {
+        if (!habilitado) {
+            return;
+        }
+        ResultadoOperacaoMassa resultado = arquivarAlunosConcluidosUseCase.executar(diasAposConclusao);
+        log.info("Arquivamento concluído: {} alunos em {} faixas ({} linhas/s)",
+                resultado.getLinhasAfetadas(), resultado.getFaixas(),
+                Math.round(resultado.getLinhasPorSegundo()));
+    }
+}
@@ -0,0 +1,159 @@
+package com.devops.projeto_ac2.infrastructure.cache;
+
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
+import com.devops.projeto_ac2.shared.dto.AlunoResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache em processo dos DTOs de GET /api/alunos/{id}, na frente da busca por ID
+ * 
+ * Caffeine com limite de elementos e admissão W-TinyLFU: um aluno novo só toma o lugar de outro
+ * se for mais acessado que ele, então varreduras (exportações, leitura de muitos IDs uma vez só)
+ * não expulsam os alunos consultados com frequência. O cache guarda a sua própria cópia de cada
+ * DTO e devolve outra cópia a cada acerto.
+ * 
+ * Invalidação por AlunosAlterados: na publicação e de novo no fim da transação que publicou
+ * (commit ou rollback). Uma leitura só grava o resultado se nenhuma invalidação da faixa do ID
+ * aconteceu enquanto ela lia, então um valor antigo lido durante a gravação não volta ao cache.
+ * A validade limita o tempo de vida de alterações feitas fora da aplicação.
+ * 
+ * Desligado no profile "replica": uma leitura atrasada da réplica ficaria no cache depois da
+ * invalidação, e um acerto não respeitaria o header Alunos-Lsn.
+ */
+@Component
+public class CacheAlunosPorId {
+    
+    private static final int FAIXAS = 256;
+    
+    private final boolean habilitado;
+    private final long capacidade;
+    private final Cache<Long, AlunoResponseDTO> cache;
+    private final AtomicLongArray versoes = new AtomicLongArray(FAIXAS);
+    private final LongAdder invalidacoes = new LongAdder();
+    
+    public CacheAlunosPorId(
+            Environment environment,
+            @Value("${alunos.cache-alunos.habilitado:true}") boolean habilitado,
+            @Value("${alunos.cache-alunos.capacidade:10000}") long capacidade,
+            @Value("${alunos.cache-alunos.validade-segundos:300}") long validadeSegundos) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade do cache deve ser maior que zero");
+        }
+        if (validadeSegundos <= 0) {
+            throw new IllegalArgumentException("Validade do cache deve ser maior que zero");
+        }
+        this.habilitado = habilitado && !environment.acceptsProfiles(Profiles.of("replica"));
+        this.capacidade = capacidade;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(capacidade)
+                .expireAfterWrite(Duration.ofSeconds(validadeSegundos))
+                .recordStats()
+                .build();
+    }
+    
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+    
+    /**
+     * DTO do aluno vindo do cache ou, numa falta, da leitura informada
+     * 
+     * @param id ID do aluno
+     * @param leitura Busca o DTO na fonte (só chamada numa falta; exceções passam direto e nada é guardado).
+     *                O DTO lido pode estar sendo devolvido a outras chamadas e não é alterado aqui
+     * @return Cópia do DTO, que pode ser alterada por quem chamou
+     */
+    public AlunoResponseDTO buscar(Long id, Supplier<AlunoResponseDTO> leitura) {
+        if (!habilitado) {
+            return leitura.get().toBuilder().build();
+        }
+        AlunoResponseDTO guardado = cache.getIfPresent(id);
+        if (guardado != null) {
+            return guardado.toBuilder().build();
+        }
+        
+        int faixa = faixa(id);
+        long versao = versoes.get(faixa);
+        AlunoResponseDTO lido = leitura.get();
+        AlunoResponseDTO copia = lido.toBuilder().build();
+        // Na mesma trava do mapa que a invalidação do ID: ou a invalidação vem depois e remove, ou a versão já mudou
+        cache.asMap().compute(id, (chave, atual) -> versoes.get(faixa) == versao ? copia : atual);
+        return lido.toBuilder().build();
+    }
+    
+    @EventListener
+    public void aoAlterarAlunos(AlunosAlterados evento) {
+        if (!habilitado) {
+            return;
+        }
+        invalidar(evento);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Até o fim da transação outras leituras ainda veem (e guardam) a versão anterior
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidar(evento);
+                }
+            });
+        }
+    }
+    
+    public void invalidar(Long id) {
+        versoes.incrementAndGet(faixa(id));
+        cache.invalidate(id);
+        invalidacoes.increment();
+    }
+    
+    public void invalidarTodos() {
+        for (int i = 0; i < FAIXAS; i++) {
+            versoes.incrementAndGet(i);
+        }
+        cache.invalidateAll();
+        invalidacoes.increment();
+    }
+    
+    public CacheStats getEstatisticas() {
+        return cache.stats();
+    }
+    
+    public long getCapacidade() {
+        return capacidade;
+    }
+    
+    public long getTamanho() {
+        return cache.estimatedSize();
+    }
+    
+    /**
+     * Invalidações recebidas (por ID ou do cache inteiro)
+     */
+    public long getInvalidacoes() {
+        return invalidacoes.sum();
+    }
+    
+    private void invalidar(AlunosAlterados evento) {
+        if (evento.todos()) {
+            invalidarTodos();
+        } else {
+            evento.ids().forEach(this::invalidar);
+        }
+    }
+    
+    private static int faixa(Long id) {
+        return Long.hashCode(id) & (FAIXAS - 1);
+    }
+}
@@ -0,0 +1,159 @@
+package com.devops.projeto_ac2.infrastructure.cache;
+
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache das respostas de GET /api/alunos/ranking já serializadas em JSON (e, opcionalmente, em gzip)
+ * 
+ * A chave é a versão dos dados mais os parâmetros normalizados do ranking; um acerto só copia os
+ * bytes para a resposta, sem passar pelo Jackson. A versão sobe a cada AlunosAlterados, na
+ * publicação e de novo no fim da transação: uma leitura começada antes do commit fica guardada
+ * numa versão que ninguém mais consulta.
+ * 
+ * O JSON é gerado pelo ObjectMapper da aplicação, então é o mesmo que o Spring escreveria.
+ * 
+ * No profile "replica" só serializa, sem guardar: um ranking lido da réplica atrasada logo
+ * depois de uma gravação ficaria no cache até a próxima alteração de aluno.
+ */
+@Component
+public class CacheRespostasRanking {
+    
+    private final boolean habilitado;
+    private final boolean gzip;
+    private final int gzipMinimoBytes;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, RespostaSerializada> cache;
+    private final AtomicLong versao = new AtomicLong();
+    
+    public CacheRespostasRanking(
+            ObjectMapper objectMapper,
+            Environment environment,
+            @Value("${alunos.ranking-serializado.habilitado:true}") boolean habilitado,
+            @Value("${alunos.ranking-serializado.capacidade:256}") long capacidade,
+            @Value("${alunos.ranking-serializado.gzip:true}") boolean gzip,
+            @Value("${alunos.ranking-serializado.gzip-minimo-bytes:1024}") int gzipMinimoBytes) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade do cache deve ser maior que zero");
+        }
+        this.objectMapper = objectMapper;
+        this.habilitado = habilitado && !environment.acceptsProfiles(Profiles.of("replica"));
+        this.gzip = gzip;
+        this.gzipMinimoBytes = gzipMinimoBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(capacidade)
+                .recordStats()
+                .build();
+    }
+    
+    /**
+     * Resposta serializada do ranking, do cache ou, numa falta, da leitura informada
+     * 
+     * @param chave Parâmetros normalizados do ranking
+     * @param leitura Calcula o ranking (só chamada numa falta)
+     * @return Bytes prontos para a resposta; não devem ser alterados
+     */
+    public RespostaSerializada buscar(String chave, Supplier<?> leitura) {
+        if (!habilitado) {
+            return serializar(leitura.get());
+        }
+        long versaoLida = versao.get();
+        String chaveVersionada = versaoLida + ":" + chave;
+        RespostaSerializada guardada = cache.getIfPresent(chaveVersionada);
+        if (guardada != null) {
+            return guardada;
+        }
+        
+        RespostaSerializada resposta = serializar(leitura.get());
+        if (versao.get() == versaoLida) {
+            cache.put(chaveVersionada, resposta);
+        }
+        return resposta;
+    }
+    
+    @EventListener
+    public void aoAlterarAlunos(AlunosAlterados evento) {
+        if (!habilitado) {
+            return;
+        }
+        // Qualquer aluno alterado pode mudar qualquer ranking
+        avancarVersao();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    avancarVersao();
+                }
+            });
+        }
+    }
+    
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+    
+    public long getVersao() {
+        return versao.get();
+    }
+    
+    public long getTamanho() {
+        return cache.estimatedSize();
+    }
+    
+    public CacheStats getEstatisticas() {
+        return cache.stats();
+    }
+    
+    private void avancarVersao() {
+        versao.incrementAndGet();
+        // As versões antigas não são mais consultadas: libera a memória sem esperar a remoção por tamanho
+        cache.invalidateAll();
+    }
+    
+    private RespostaSerializada serializar(Object valor) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(valor);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o ranking", e);
+        }
+        return new RespostaSerializada(json, gzip && json.length >= gzipMinimoBytes ? comprimir(json) : null);
+    }
+    
+    private static byte[] comprimir(byte[] json) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return saida.toByteArray();
+    }
+    
+    /**
+     * Resposta pronta: JSON e, se compensar, o mesmo JSON em gzip
+     * 
+     * @param json Corpo em JSON (UTF-8)
+     * @param gzip Corpo comprimido, ou null quando o JSON é pequeno ou o gzip está desligado
+     */
+    public record RespostaSerializada(byte[] json, byte[] gzip) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.devops.projeto_ac2.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as rotinas agendadas (@Scheduled) da aplicação
+ */
+@Configuration
+@EnableScheduling
+public class AgendamentoConfig {
+}
@@ -0,0 +1,84 @@
+package com.devops.projeto_ac2.infrastructure.config;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Configuração do cache de segundo nível do Hibernate (entidade Aluno e consultas JPQL fixas)
+ * 
+ * JCache com Caffeine no próprio processo. As regiões são criadas aqui com limite de elementos e
+ * guardadas por referência (sem cópia por serialização); a de timestamps não tem limite, porque é
+ * ela que invalida o cache de consultas. Cada contexto tem o seu CacheManager, fechado pelo
+ * Hibernate no shutdown.
+ * 
+ * Desligado no profile "replica": uma leitura atrasada da réplica ficaria no cache além de
+ * alunos.replica.atraso-maximo-ms.
+ */
+@Configuration
+public class CacheHibernateConfig {
+    
+    @Bean
+    public HibernatePropertiesCustomizer cacheSegundoNivelHibernate(
+            Environment environment,
+            @Value("${alunos.cache-hibernate.habilitado:true}") boolean habilitado,
+            @Value("${alunos.cache-hibernate.maximo-alunos:100000}") long maximoAlunos,
+            @Value("${alunos.cache-hibernate.maximo-consultas:1000}") long maximoConsultas,
+            @Value("${alunos.cache-hibernate.estatisticas:true}") boolean estatisticas) {
+        if (!habilitado || environment.acceptsProfiles(Profiles.of("replica"))) {
+            // Com hibernate-jcache no classpath o Hibernate ligaria o cache sozinho
+            return propriedades -> {
+                propriedades.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                propriedades.put(AvailableSettings.USE_QUERY_CACHE, false);
+                propriedades.put(AvailableSettings.GENERATE_STATISTICS, estatisticas);
+            };
+        }
+        
+        CacheManager cacheManager = criarCacheManager(maximoAlunos, maximoConsultas);
+        return propriedades -> {
+            propriedades.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            propriedades.put(AvailableSettings.USE_QUERY_CACHE, true);
+            propriedades.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            propriedades.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            propriedades.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+            propriedades.put(AvailableSettings.GENERATE_STATISTICS, estatisticas);
+        };
+    }
+    
+    private static CacheManager criarCacheManager(long maximoAlunos, long maximoConsultas) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        
+        // URI própria: contextos diferentes (testes com outros profiles) não dividem regiões
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("alunos-hibernate-" + UUID.randomUUID()), CacheHibernateConfig.class.getClassLoader());
+        cacheManager.createCache(Aluno.REGIAO_CACHE, regiao(OptionalLong.of(maximoAlunos)));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                regiao(OptionalLong.of(maximoConsultas)));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                regiao(OptionalLong.empty()));
+        return cacheManager;
+    }
+    
+    private static CaffeineConfiguration<Object, Object> regiao(OptionalLong maximoElementos) {
+        CaffeineConfiguration<Object, Object> configuracao = new CaffeineConfiguration<>();
+        configuracao.setMaximumSize(maximoElementos);
+        configuracao.setStoreByValue(false);
+        return configuracao;
+    }
+}
@@ -0,0 +1,25 @@
+package com.devops.projeto_ac2.infrastructure.config;
+
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração das regras de negócio parametrizáveis
+ * 
+ * As regras de bônus lidas de alunos.bonus.* viram um bean injetado na conclusão
+ * (individual e em lote) e no recálculo em massa.
+ */
+@Configuration
+public class RegrasNegocioConfig {
+    
+    @Bean
+    public RegrasBonusCursos regrasBonusCursos(
+            @Value("${alunos.bonus.media-excelencia:9.0}") double mediaExcelencia,
+            @Value("${alunos.bonus.cursos-excelencia:5}") int cursosExcelencia,
+            @Value("${alunos.bonus.media-aprovacao:7.0}") double mediaAprovacao,
+            @Value("${alunos.bonus.cursos-aprovacao:3}") int cursosAprovacao) {
+        return RegrasBonusCursos.criar(mediaExcelencia, cursosExcelencia, mediaAprovacao, cursosAprovacao);
+    }
+}
@@ -0,0 +1,73 @@
+package com.devops.projeto_ac2.infrastructure.config;
+
+import com.devops.projeto_ac2.infrastructure.replica.ControleReplica;
+import com.devops.projeto_ac2.infrastructure.replica.ReplicadorAlunos;
+import com.devops.projeto_ac2.infrastructure.replica.RoteamentoDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Profile "replica": leituras somente leitura numa segunda instância H2 local
+ * 
+ * O DataSource usado pelo JPA e pelos JdbcTemplate passa a ser um roteador atrás de um
+ * LazyConnectionDataSourceProxy: transações readOnly vão para a réplica quando ela está em dia
+ * (ou dentro de alunos.replica.atraso-maximo-ms) e já tem o LSN exigido pelo cliente;
+ * o resto vai para o primário, configurado por spring.datasource.*.
+ */
+@Configuration
+@Profile("replica")
+public class ReplicaConfig {
+    
+    @Bean
+    public ControleReplica controleReplica(@Value("${alunos.replica.atraso-maximo-ms:1000}") long atrasoMaximoMs) {
+        return new ControleReplica(atrasoMaximoMs);
+    }
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties propriedades) {
+        return propriedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+    
+    @Bean
+    public HikariDataSource dataSourceReplica(
+            DataSourceProperties propriedades,
+            @Value("${alunos.replica.url:jdbc:h2:mem:alunos-replica;DB_CLOSE_DELAY=-1}") String url,
+            @Value("${alunos.replica.pool:8}") int pool) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replica");
+        config.setJdbcUrl(url);
+        config.setUsername(propriedades.determineUsername());
+        config.setPassword(propriedades.determinePassword());
+        config.setMaximumPoolSize(pool);
+        return new HikariDataSource(config);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("dataSourcePrimario") DataSource primario,
+                                 @Qualifier("dataSourceReplica") DataSource replica,
+                                 ControleReplica controle) {
+        return new LazyConnectionDataSourceProxy(new RoteamentoDataSource(primario, replica, controle));
+    }
+    
+    @Bean
+    public ReplicadorAlunos replicadorAlunos(@Qualifier("dataSourcePrimario") DataSource primario,
+                                             @Qualifier("dataSourceReplica") DataSource replica,
+                                             ControleReplica controle,
+                                             @Value("${alunos.replica.intervalo-ms:200}") long intervaloMs,
+                                             @Value("${alunos.replica.tamanho-lote:1000}") int tamanhoLote) {
+        return new ReplicadorAlunos(primario, replica, controle, intervaloMs, tamanhoLote);
+    }
+}
@@ -0,0 +1,199 @@
+package com.devops.projeto_ac2.infrastructure.idempotencia;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Controle de requisições idempotentes (header Idempotency-Key)
+ * 
+ * A resposta da primeira execução é guardada num mapa LRU limitado e reenviada
+ * para as repetições, sem executar o use case de novo. Repetições que chegam
+ * enquanto a primeira ainda executa aguardam o resultado dela.
+ * Opcionalmente as respostas também são gravadas na tabela tb_idempotencia.
+ */
+@Component
+public class ControleIdempotencia {
+    
+    public static final String HEADER_CHAVE = "Idempotency-Key";
+    public static final String HEADER_REPETIDA = "Idempotent-Replayed";
+    
+    private final Map<String, RespostaIdempotente> respostas;
+    private final Map<String, CompletableFuture<RespostaIdempotente>> emAndamento = new ConcurrentHashMap<>();
+    private final Duration validade;
+    private final boolean persistir;
+    private final RegistroIdempotenciaJpaRepository repositorio;
+    private final ObjectMapper objectMapper;
+    
+    public ControleIdempotencia(
+            @Value("${alunos.idempotencia.capacidade:10000}") int capacidade,
+            @Value("${alunos.idempotencia.validade-minutos:1440}") long validadeMinutos,
+            @Value("${alunos.idempotencia.persistir:false}") boolean persistir,
+            @Nullable RegistroIdempotenciaJpaRepository repositorio,
+            ObjectMapper objectMapper) {
+        this.respostas = Collections.synchronizedMap(new LinkedHashMap<String, RespostaIdempotente>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RespostaIdempotente> maisAntiga) {
+                return size() > capacidade;
+            }
+        });
+        this.validade = Duration.ofMinutes(validadeMinutos);
+        this.persistir = persistir && repositorio != null;
+        this.repositorio = repositorio;
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * Executa a operação uma única vez por chave
+     * 
+     * @param chave Valor do header Idempotency-Key (sem chave, a operação sempre executa)
+     * @param escopo Operação e recurso alvo, ex.: "POST /api/alunos/1/tentativas"
+     * @param impressao Resumo do corpo da requisição, para detectar reuso da chave com outro corpo
+     * @param tipo Tipo do corpo da resposta
+     * @param operacao Execução real da requisição
+     * @throws IdempotenciaChaveInvalidaException se escopo + chave passar de
+     *         RegistroIdempotencia.TAMANHO_CHAVE (a operação não é executada)
+     */
+    public <T> ResponseEntity<T> executar(String chave, String escopo, String impressao,
+                                          Class<T> tipo, Supplier<ResponseEntity<T>> operacao) {
+        if (chave == null || chave.isBlank()) {
+            return operacao.get();
+        }
+        
+        // Mesmo limite com ou sem a tabela, para a chave aceita não depender da configuração
+        String id = escopo + "|" + chave;
+        if (id.length() > RegistroIdempotencia.TAMANHO_CHAVE) {
+            throw new IdempotenciaChaveInvalidaException(RegistroIdempotencia.TAMANHO_CHAVE - escopo.length() - 1);
+        }
+        RespostaIdempotente anterior = buscar(id, tipo);
+        if (anterior != null) {
+            return repetir(chave, anterior, impressao, tipo);
+        }
+        
+        CompletableFuture<RespostaIdempotente> execucao = new CompletableFuture<>();
+        CompletableFuture<RespostaIdempotente> concorrente = emAndamento.putIfAbsent(id, execucao);
+        if (concorrente != null) {
+            return repetir(chave, aguardar(concorrente), impressao, tipo);
+        }
+        
+        try {
+            // A primeira execução pode ter terminado entre a consulta e o registro acima
+            anterior = buscar(id, tipo);
+            if (anterior != null) {
+                execucao.complete(anterior);
+                return repetir(chave, anterior, impressao, tipo);
+            }
+            
+            ResponseEntity<T> resposta = operacao.get();
+            RespostaIdempotente registrada = new RespostaIdempotente(
+                    resposta.getStatusCode().value(), resposta.getBody(), impressao, Instant.now());
+            
+            // Só respostas de sucesso são reaproveitadas; erros podem ser tentados de novo
+            if (resposta.getStatusCode().is2xxSuccessful()) {
+                gravar(id, registrada);
+            }
+            execucao.complete(registrada);
+            return resposta;
+        } catch (RuntimeException ex) {
+            execucao.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            emAndamento.remove(id, execucao);
+        }
+    }
+    
+    /**
+     * Quantidade de respostas guardadas em memória
+     */
+    public int tamanho() {
+        return respostas.size();
+    }
+    
+    private <T> ResponseEntity<T> repetir(String chave, RespostaIdempotente resposta, String impressao, Class<T> tipo) {
+        if (!Objects.equals(resposta.getImpressao(), impressao)) {
+            throw new IdempotenciaConflitoException(chave);
+        }
+        return ResponseEntity.status(resposta.getStatus())
+                .header(HEADER_REPETIDA, "true")
+                .body(tipo.cast(resposta.getCorpo()));
+    }
+    
+    private RespostaIdempotente aguardar(CompletableFuture<RespostaIdempotente> execucao) {
+        try {
+            return execucao.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw ex;
+        }
+    }
+    
+    private RespostaIdempotente buscar(String id, Class<?> tipo) {
+        RespostaIdempotente resposta = respostas.get(id);
+        if (resposta != null) {
+            if (expirada(resposta.getCriadaEm())) {
+                respostas.remove(id);
+                return null;
+            }
+            return resposta;
+        }
+        
+        if (!persistir) {
+            return null;
+        }
+        
+        return repositorio.findById(id)
+                .filter(registro -> !expirada(registro.getCriadaEm()))
+                .map(registro -> {
+                    RespostaIdempotente recuperada = new RespostaIdempotente(
+                            registro.getStatus(), lerCorpo(registro.getCorpo(), tipo),
+                            registro.getImpressao(), registro.getCriadaEm());
+                    respostas.put(id, recuperada);
+                    return recuperada;
+                })
+                .orElse(null);
+    }
+    
+    private void gravar(String id, RespostaIdempotente resposta) {
+        respostas.put(id, resposta);
+        if (persistir) {
+            repositorio.save(new RegistroIdempotencia(id, resposta.getImpressao(), resposta.getStatus(),
+                    escreverCorpo(resposta.getCorpo()), resposta.getCriadaEm()));
+        }
+    }
+    
+    private boolean expirada(Instant criadaEm) {
+        return criadaEm.plus(validade).isBefore(Instant.now());
+    }
+    
+    private String escreverCorpo(Object corpo) {
+        try {
+            return corpo == null ? null : objectMapper.writeValueAsString(corpo);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Não foi possível serializar a resposta idempotente", ex);
+        }
+    }
+    
+    private Object lerCorpo(String json, Class<?> tipo) {
+        try {
+            return json == null ? null : objectMapper.readValue(json, tipo);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Não foi possível ler a resposta idempotente", ex);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.devops.projeto_ac2.infrastructure.idempotencia;
+
+/**
+ * Exceção lançada quando a Idempotency-Key não cabe no registro da resposta
+ */
+public class IdempotenciaChaveInvalidaException extends RuntimeException {
+    
+    public IdempotenciaChaveInvalidaException(int tamanhoMaximo) {
+        super("Idempotency-Key deve ter no máximo " + tamanhoMaximo + " caracteres para esta operação");
+    }
+}
@@ -0,0 +1,12 @@
+package com.devops.projeto_ac2.infrastructure.idempotencia;
+
+/**
+ * Exceção lançada quando uma Idempotency-Key já usada é reenviada
+ * com um corpo de requisição diferente
+ */
+public class IdempotenciaConflitoException extends RuntimeException {
+    
+    public IdempotenciaConflitoException(String chave) {
+        super("Idempotency-Key '" + chave + "' já foi usada com uma requisição diferente");
+    }
+}
@@ -0,0 +1,43 @@
+package com.devops.projeto_ac2.infrastructure.idempotencia;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Registro persistente de uma resposta idempotente (tabela opcional)
+ * Permite reaproveitar respostas após restart ou entre instâncias
+ */
+@Entity
+@Table(name = "tb_idempotencia")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // Para JPA
+@AllArgsConstructor
+public class RegistroIdempotencia {
+    
+    /**
+     * Tamanho máximo da chave gravada (escopo + "|" + Idempotency-Key)
+     */
+    public static final int TAMANHO_CHAVE = 200;
+    
+    @Id
+    @Column(length = TAMANHO_CHAVE)
+    private String chave;
+    
+    @Column(nullable = false, length = 200)
+    private String impressao;
+    
+    @Column(nullable = false)
+    private int status;
+    
+    @Lob
+    @Column
+    private String corpo;
+    
+    @Column(nullable = false)
+    private Instant criadaEm;
+}
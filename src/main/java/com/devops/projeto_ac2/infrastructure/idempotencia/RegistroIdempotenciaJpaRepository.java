@@ -0,0 +1,14 @@
+package com.devops.projeto_ac2.infrastructure.idempotencia;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JPA Repository para a tabela de respostas idempotentes
+ * Não é exposto pelo Spring Data REST
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface RegistroIdempotenciaJpaRepository extends JpaRepository<RegistroIdempotencia, String> {
+}
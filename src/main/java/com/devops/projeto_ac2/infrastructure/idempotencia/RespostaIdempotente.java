@@ -0,0 +1,19 @@
+package com.devops.projeto_ac2.infrastructure.idempotencia;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Resposta gravada na primeira execução de uma requisição com Idempotency-Key
+ */
+@Getter
+@AllArgsConstructor
+public class RespostaIdempotente {
+    
+    private final int status;
+    private final Object corpo;
+    private final String impressao;
+    private final Instant criadaEm;
+}
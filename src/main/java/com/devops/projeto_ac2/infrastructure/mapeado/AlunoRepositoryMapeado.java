@@ -0,0 +1,671 @@
+package com.devops.projeto_ac2.infrastructure.mapeado;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoManutencaoRepository;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+import static com.devops.projeto_ac2.infrastructure.snapshot.FormatoBinarioAluno.DATA_NULA;
+import static com.devops.projeto_ac2.infrastructure.snapshot.FormatoBinarioAluno.deMicros;
+import static com.devops.projeto_ac2.infrastructure.snapshot.FormatoBinarioAluno.paraMicros;
+
+/**
+ * Adapter de AlunoRepository e AlunoManutencaoRepository em arquivo mapeado (profile "mapeado")
+ * 
+ * Os alunos ficam fora do heap, em registros de 336 bytes de um arquivo mapeado
+ * ({@link SegmentosMapeados}); os índices por ID e por hash do RA são tabelas
+ * hash também mapeadas ({@link IndiceMapeado}). O Aluno só é montado na saída
+ * (Aluno.reconstituir), então o heap não cresce com a quantidade de alunos e a
+ * subida não precisa carregar nada: o cache de páginas do SO mantém os dados quentes.
+ * 
+ * Slots de alunos excluídos formam uma lista encadeada de livres dentro do
+ * próprio arquivo e são reaproveitados. Se a aplicação não fechou o arquivo
+ * corretamente, os índices são reconstruídos a partir dos registros na subida.
+ * As gravações vão para o cache de páginas e chegam ao disco no fechamento
+ * (ou quando o SO descarrega): não há fsync por operação.
+ */
+@Slf4j
+@Component
+@Profile("mapeado")
+public class AlunoRepositoryMapeado implements AlunoRepository, AlunoManutencaoRepository {
+    
+    // Registro
+    private static final int ID = 0;
+    private static final int MEDIA = 8;
+    private static final int PROXIMO_LIVRE = MEDIA; // slots removidos guardam o próximo livre no lugar da média
+    private static final int FLAGS = 16;
+    private static final int CURSOS = 17;
+    private static final int TENTATIVAS = 21;
+    private static final int CRIACAO = 25;
+    private static final int ATUALIZACAO = 33;
+    private static final int CONCLUSAO = 41;
+    private static final int VERSAO = 49;
+    private static final int RA_TAMANHO = 57;
+    private static final int RA = 58;
+    private static final int RA_MAXIMO = 20;
+    private static final int NOME_TAMANHO = RA + RA_MAXIMO;
+    private static final int NOME = NOME_TAMANHO + Short.BYTES;
+    private static final int NOME_MAXIMO = 254;
+    static final int TAMANHO_REGISTRO = 336;
+    
+    // Cabeçalho
+    private static final int TAMANHO_CABECALHO = 64;
+    private static final int MAGICO = 0x414C4E4D; // "ALNM"
+    private static final short VERSAO_FORMATO = 1;
+    private static final int CAB_VERSAO = 4;
+    private static final int CAB_TAMANHO_REGISTRO = 8;
+    private static final int CAB_SLOTS = 16;
+    private static final int CAB_PROXIMO_ID = 24;
+    private static final int CAB_LIVRE = 32;
+    private static final int CAB_REMOVIDOS = 40;
+    private static final int CAB_LIMPO = 48;
+    
+    private static final byte CONCLUIU = 1;
+    private static final byte ARQUIVADO = 1 << 1;
+    private static final byte REMOVIDO = 1 << 2;
+    private static final long SEM_LIVRE = -1;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final SegmentosMapeados registros;
+    private final IndiceMapeado indicePorId;
+    private final IndiceMapeado indicePorRa;
+    
+    private int slots;
+    private long proximoId;
+    private long livre;
+    private int removidos;
+    
+    public AlunoRepositoryMapeado(
+            @Value("${alunos.mapeado.diretorio:./dados-mapeados}") String diretorio,
+            @Value("${alunos.mapeado.registros-por-segmento:1048576}") int registrosPorSegmento) {
+        try {
+            Path pasta = Paths.get(diretorio);
+            Files.createDirectories(pasta);
+            this.registros = new SegmentosMapeados(pasta.resolve("alunos.dat"), TAMANHO_CABECALHO,
+                    TAMANHO_REGISTRO, registrosPorSegmento);
+            MappedByteBuffer cabecalho = registros.cabecalho();
+            if (cabecalho.getInt(0) == 0) {
+                iniciarCabecalho(cabecalho);
+            } else if (cabecalho.getInt(0) != MAGICO || cabecalho.getShort(CAB_VERSAO) != VERSAO_FORMATO
+                    || cabecalho.getInt(CAB_TAMANHO_REGISTRO) != TAMANHO_REGISTRO) {
+                throw new IllegalStateException("Arquivo de alunos incompatível em " + pasta.toAbsolutePath());
+            }
+            this.slots = (int) cabecalho.getLong(CAB_SLOTS);
+            this.proximoId = cabecalho.getLong(CAB_PROXIMO_ID);
+            this.livre = cabecalho.getLong(CAB_LIVRE);
+            this.removidos = (int) cabecalho.getLong(CAB_REMOVIDOS);
+            
+            long ativos = slots - removidos;
+            this.indicePorId = IndiceMapeado.abrir(pasta.resolve("indice-id.idx"), ativos);
+            this.indicePorRa = IndiceMapeado.abrir(pasta.resolve("indice-ra.idx"), ativos);
+            boolean consistente = cabecalho.get(CAB_LIMPO) == 1
+                    && indicePorId.tamanho() == ativos && indicePorRa.tamanho() == ativos;
+            if (!consistente) {
+                reconstruirIndices(ativos);
+            }
+            
+            // Fica "sujo" até o fechamento: uma queda no meio força a reconstrução dos índices
+            cabecalho.put(CAB_LIMPO, (byte) 0);
+            registros.forcarCabecalho();
+            log.info("Arquivo de alunos aberto: {} alunos em {} slots", ativos, slots);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir o arquivo de alunos em " + diretorio, e);
+        }
+    }
+    
+    /**
+     * Descarrega registros e índices no disco e marca o arquivo como fechado corretamente
+     */
+    @PreDestroy
+    public void fechar() {
+        lock.writeLock().lock();
+        try {
+            indicePorId.close();
+            indicePorRa.close();
+            registros.forcar();
+            registros.cabecalho().put(CAB_LIMPO, (byte) 1);
+            registros.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao fechar o arquivo de alunos", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public Aluno salvar(Aluno aluno) {
+        if (aluno.isArquivado()) {
+            throw new DomainException("Aluno arquivado não pode ser alterado");
+        }
+        lock.writeLock().lock();
+        try {
+            return montar(gravar(aluno));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Confere todas as versões antes de gravar: ou o lote inteiro entra ou nada muda
+     */
+    @Override
+    public List<Aluno> salvarTodos(List<Aluno> alunos) {
+        lock.writeLock().lock();
+        try {
+            for (Aluno aluno : alunos) {
+                if (aluno.getId() != null) {
+                    slotParaAtualizar(aluno);
+                }
+            }
+            List<Aluno> salvos = new ArrayList<>(alunos.size());
+            for (Aluno aluno : alunos) {
+                salvos.add(montar(gravar(aluno)));
+            }
+            return salvos;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public Optional<Aluno> registrarTentativaAtomica(Long id, double media) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotAtivo(id);
+            if (slot == IndiceMapeado.AUSENTE || (flags(slot) & CONCLUIU) != 0
+                    || getInt(slot, TENTATIVAS) >= Aluno.MAX_TENTATIVAS) {
+                return Optional.empty();
+            }
+            MappedByteBuffer segmento = registros.segmento(slot);
+            int base = registros.posicao(slot);
+            segmento.putInt(base + TENTATIVAS, segmento.getInt(base + TENTATIVAS) + 1);
+            segmento.putDouble(base + MEDIA, media);
+            segmento.putLong(base + ATUALIZACAO, paraMicros(LocalDateTime.now()));
+            segmento.putLong(base + VERSAO, segmento.getLong(base + VERSAO) + 1);
+            return Optional.of(montar(slot));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public Optional<Aluno> buscarPorId(Long id) {
+        lock.readLock().lock();
+        try {
+            int slot = slotPorId(id);
+            return slot == IndiceMapeado.AUSENTE ? Optional.empty() : Optional.of(montar(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public List<Aluno> buscarPorIds(Collection<Long> ids) {
+        lock.readLock().lock();
+        try {
+            List<Aluno> alunos = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                int slot = slotAtivo(id);
+                if (slot != IndiceMapeado.AUSENTE) {
+                    alunos.add(montar(slot));
+                }
+            }
+            return alunos;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public Optional<Aluno> buscarPorRA(String ra) {
+        lock.readLock().lock();
+        try {
+            int slot = slotPorRa(ra);
+            return slot == IndiceMapeado.AUSENTE ? Optional.empty() : Optional.of(montar(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public List<Aluno> buscarTodos() {
+        return filtrar(slot -> (flags(slot) & (ARQUIVADO | REMOVIDO)) == 0);
+    }
+    
+    @Override
+    public List<Aluno> buscarConcluidos() {
+        return filtrar(this::concluidoAtivo);
+    }
+    
+    @Override
+    public List<Aluno> buscarNaoConcluidos() {
+        return filtrar(slot -> (flags(slot) & (CONCLUIU | ARQUIVADO | REMOVIDO)) == 0);
+    }
+    
+    @Override
+    public List<Aluno> buscarArquivados() {
+        return filtrar(slot -> (flags(slot) & (ARQUIVADO | REMOVIDO)) == ARQUIVADO);
+    }
+    
+    @Override
+    public boolean existePorRA(String ra) {
+        lock.readLock().lock();
+        try {
+            return slotPorRa(ra) != IndiceMapeado.AUSENTE;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public void deletar(Long id) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotPorId(id);
+            if (slot != IndiceMapeado.AUSENTE) {
+                remover(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public Optional<Long> menorIdConcluido() {
+        return menorId(this::concluidoAtivo);
+    }
+    
+    @Override
+    public Optional<Long> maiorIdConcluido() {
+        return maiorId(this::concluidoAtivo);
+    }
+    
+    @Override
+    public int recalcularCursosAdicionais(RegrasBonusCursos regras, long idInicial, long idFinal) {
+        lock.writeLock().lock();
+        try {
+            long agora = paraMicros(LocalDateTime.now());
+            int alterados = 0;
+            for (int slot = 0; slot < slots; slot++) {
+                if (!concluidoAtivo(slot) || !naFaixa(slot, idInicial, idFinal)) {
+                    continue;
+                }
+                MappedByteBuffer segmento = registros.segmento(slot);
+                int base = registros.posicao(slot);
+                int novo = regras.cursosPara(segmento.getDouble(base + MEDIA));
+                if (novo != segmento.getInt(base + CURSOS)) {
+                    segmento.putInt(base + CURSOS, novo);
+                    segmento.putLong(base + ATUALIZACAO, agora);
+                    segmento.putLong(base + VERSAO, segmento.getLong(base + VERSAO) + 1);
+                    alterados++;
+                }
+            }
+            return alterados;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public Optional<Long> menorIdConcluidoAntesDe(LocalDateTime limite) {
+        long limiteMicros = paraMicros(limite);
+        return menorId(slot -> concluidoAntesDe(slot, limiteMicros));
+    }
+    
+    @Override
+    public Optional<Long> maiorIdConcluidoAntesDe(LocalDateTime limite) {
+        long limiteMicros = paraMicros(limite);
+        return maiorId(slot -> concluidoAntesDe(slot, limiteMicros));
+    }
+    
+    @Override
+    public int excluirConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal) {
+        long limiteMicros = paraMicros(limite);
+        lock.writeLock().lock();
+        try {
+            int excluidos = 0;
+            for (int slot = 0; slot < slots; slot++) {
+                if (concluidoAntesDe(slot, limiteMicros) && naFaixa(slot, idInicial, idFinal)) {
+                    remover(slot);
+                    excluidos++;
+                }
+            }
+            return excluidos;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public int excluirPorIds(Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            int excluidos = 0;
+            for (Long id : ids) {
+                int slot = slotAtivo(id);
+                if (slot != IndiceMapeado.AUSENTE) {
+                    remover(slot);
+                    excluidos++;
+                }
+            }
+            return excluidos;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Sem tabela fria aqui: arquivar só marca o registro (continua acessível por ID e RA)
+     */
+    @Override
+    public int arquivarConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal) {
+        long limiteMicros = paraMicros(limite);
+        lock.writeLock().lock();
+        try {
+            int arquivados = 0;
+            for (int slot = 0; slot < slots; slot++) {
+                if (concluidoAntesDe(slot, limiteMicros) && naFaixa(slot, idInicial, idFinal)) {
+                    registros.segmento(slot).put(registros.posicao(slot) + FLAGS, (byte) (flags(slot) | ARQUIVADO));
+                    arquivados++;
+                }
+            }
+            return arquivados;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Quantidade de alunos guardados (ativos e arquivados)
+     */
+    public int quantidade() {
+        lock.readLock().lock();
+        try {
+            return slots - removidos;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private int gravar(Aluno aluno) {
+        String ra = aluno.getRegistroAcademico().getValor();
+        byte[] raBytes = ra.getBytes(StandardCharsets.UTF_8);
+        byte[] nomeBytes = aluno.getNome().getBytes(StandardCharsets.UTF_8);
+        if (nomeBytes.length > NOME_MAXIMO || raBytes.length > RA_MAXIMO) {
+            throw new DomainException("Nome ou RA excede o tamanho do registro");
+        }
+        
+        int slot;
+        long versao;
+        int outro = slotPorRa(ra);
+        if (aluno.getId() == null) {
+            if (outro != IndiceMapeado.AUSENTE) {
+                throw new DataIntegrityViolationException("RA já cadastrado: " + ra);
+            }
+            slot = novoSlot();
+            versao = 0;
+            long id = proximoId++;
+            registros.cabecalho().putLong(CAB_PROXIMO_ID, proximoId);
+            registros.segmento(slot).putLong(registros.posicao(slot) + ID, id);
+            registros.segmento(slot).putLong(registros.posicao(slot) + CRIACAO, paraMicros(aluno.getDataCriacao()));
+            incluirIndice(indicePorId, id, slot);
+        } else {
+            slot = slotParaAtualizar(aluno);
+            if (outro != IndiceMapeado.AUSENTE && outro != slot) {
+                throw new DataIntegrityViolationException("RA já cadastrado: " + ra);
+            }
+            indicePorRa.remover(hashRa(lerRa(slot)), slot);
+            versao = aluno.getVersao() + 1;
+        }
+        
+        MappedByteBuffer segmento = registros.segmento(slot);
+        int base = registros.posicao(slot);
+        segmento.putDouble(base + MEDIA, aluno.getMediaFinal());
+        segmento.put(base + FLAGS, aluno.isConcluiu() ? CONCLUIU : 0);
+        segmento.putInt(base + CURSOS, aluno.getCursosAdicionais());
+        segmento.putInt(base + TENTATIVAS, aluno.getTentativasAvaliacao());
+        segmento.putLong(base + ATUALIZACAO, paraMicros(aluno.getDataAtualizacao()));
+        segmento.putLong(base + CONCLUSAO, paraMicros(aluno.getDataConclusao()));
+        segmento.putLong(base + VERSAO, versao);
+        segmento.put(base + RA_TAMANHO, (byte) raBytes.length);
+        segmento.put(base + RA, raBytes, 0, raBytes.length);
+        segmento.putShort(base + NOME_TAMANHO, (short) nomeBytes.length);
+        segmento.put(base + NOME, nomeBytes, 0, nomeBytes.length);
+        incluirIndice(indicePorRa, hashRa(ra), slot);
+        return slot;
+    }
+    
+    /**
+     * Slot do aluno já existente, conferindo a versão lida (lock otimista)
+     */
+    private int slotParaAtualizar(Aluno aluno) {
+        int slot = slotAtivo(aluno.getId());
+        if (slot == IndiceMapeado.AUSENTE || aluno.getVersao() == null
+                || getLong(slot, VERSAO) != aluno.getVersao()) {
+            throw new ObjectOptimisticLockingFailureException(Aluno.class, aluno.getId());
+        }
+        return slot;
+    }
+    
+    /**
+     * Reaproveita o primeiro slot da lista de livres ou usa um novo no fim do arquivo
+     */
+    private int novoSlot() {
+        MappedByteBuffer cabecalho = registros.cabecalho();
+        if (livre != SEM_LIVRE) {
+            int slot = (int) livre;
+            livre = getLong(slot, PROXIMO_LIVRE);
+            removidos--;
+            cabecalho.putLong(CAB_LIVRE, livre);
+            cabecalho.putLong(CAB_REMOVIDOS, removidos);
+            return slot;
+        }
+        try {
+            registros.garantir(slots + 1L);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao crescer o arquivo de alunos", e);
+        }
+        int slot = slots++;
+        cabecalho.putLong(CAB_SLOTS, slots);
+        return slot;
+    }
+    
+    private void remover(int slot) {
+        indicePorId.remover(getLong(slot, ID), slot);
+        indicePorRa.remover(hashRa(lerRa(slot)), slot);
+        
+        MappedByteBuffer segmento = registros.segmento(slot);
+        int base = registros.posicao(slot);
+        segmento.put(base + FLAGS, REMOVIDO);
+        segmento.putLong(base + PROXIMO_LIVRE, livre);
+        livre = slot;
+        removidos++;
+        registros.cabecalho().putLong(CAB_LIVRE, livre);
+        registros.cabecalho().putLong(CAB_REMOVIDOS, removidos);
+    }
+    
+    private void reconstruirIndices(long ativos) throws IOException {
+        log.warn("Arquivo de alunos não foi fechado corretamente: reconstruindo índices de {} slots", slots);
+        indicePorId.recriar(ativos);
+        indicePorRa.recriar(ativos);
+        for (int slot = 0; slot < slots; slot++) {
+            if ((flags(slot) & REMOVIDO) == 0) {
+                indicePorId.incluir(getLong(slot, ID), slot);
+                indicePorRa.incluir(hashRa(lerRa(slot)), slot);
+            }
+        }
+    }
+    
+    private void iniciarCabecalho(MappedByteBuffer cabecalho) {
+        cabecalho.putInt(0, MAGICO);
+        cabecalho.putShort(CAB_VERSAO, VERSAO_FORMATO);
+        cabecalho.putInt(CAB_TAMANHO_REGISTRO, TAMANHO_REGISTRO);
+        cabecalho.putLong(CAB_SLOTS, 0);
+        cabecalho.putLong(CAB_PROXIMO_ID, 1);
+        cabecalho.putLong(CAB_LIVRE, SEM_LIVRE);
+        cabecalho.putLong(CAB_REMOVIDOS, 0);
+        cabecalho.put(CAB_LIMPO, (byte) 1);
+    }
+    
+    private static void incluirIndice(IndiceMapeado indice, long chave, int slot) {
+        try {
+            indice.incluir(chave, slot);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao crescer o índice de alunos", e);
+        }
+    }
+    
+    private Aluno montar(int slot) {
+        MappedByteBuffer segmento = registros.segmento(slot);
+        int base = registros.posicao(slot);
+        byte flags = segmento.get(base + FLAGS);
+        Aluno aluno = Aluno.reconstituir(
+                segmento.getLong(base + ID),
+                lerTexto(segmento, base + NOME, Short.toUnsignedInt(segmento.getShort(base + NOME_TAMANHO))),
+                lerRa(slot),
+                segmento.getDouble(base + MEDIA),
+                (flags & CONCLUIU) != 0,
+                segmento.getInt(base + CURSOS),
+                segmento.getInt(base + TENTATIVAS),
+                deMicros(segmento.getLong(base + CRIACAO)),
+                deMicros(segmento.getLong(base + ATUALIZACAO)),
+                deMicros(segmento.getLong(base + CONCLUSAO)),
+                segmento.getLong(base + VERSAO));
+        return (flags & ARQUIVADO) != 0 ? aluno.marcarComoArquivado() : aluno;
+    }
+    
+    private List<Aluno> filtrar(IntPredicate condicao) {
+        lock.readLock().lock();
+        try {
+            List<Aluno> alunos = new ArrayList<>();
+            for (int slot = 0; slot < slots; slot++) {
+                if (condicao.test(slot)) {
+                    alunos.add(montar(slot));
+                }
+            }
+            return alunos;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private Optional<Long> menorId(IntPredicate condicao) {
+        lock.readLock().lock();
+        try {
+            long menor = Long.MAX_VALUE;
+            for (int slot = 0; slot < slots; slot++) {
+                if (condicao.test(slot)) {
+                    menor = Math.min(menor, getLong(slot, ID));
+                }
+            }
+            return menor == Long.MAX_VALUE ? Optional.empty() : Optional.of(menor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private Optional<Long> maiorId(IntPredicate condicao) {
+        lock.readLock().lock();
+        try {
+            long maior = Long.MIN_VALUE;
+            for (int slot = 0; slot < slots; slot++) {
+                if (condicao.test(slot)) {
+                    maior = Math.max(maior, getLong(slot, ID));
+                }
+            }
+            return maior == Long.MIN_VALUE ? Optional.empty() : Optional.of(maior);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private int slotPorId(Long id) {
+        return id == null ? IndiceMapeado.AUSENTE : indicePorId.buscar(id, slot -> true);
+    }
+    
+    /**
+     * Slot de aluno não arquivado (equivalente a estar em tb_alunos)
+     */
+    private int slotAtivo(Long id) {
+        int slot = slotPorId(id);
+        return slot != IndiceMapeado.AUSENTE && (flags(slot) & ARQUIVADO) == 0 ? slot : IndiceMapeado.AUSENTE;
+    }
+    
+    private int slotPorRa(String ra) {
+        return indicePorRa.buscar(hashRa(ra), slot -> ra.equals(lerRa(slot)));
+    }
+    
+    private boolean concluidoAtivo(int slot) {
+        return (flags(slot) & (CONCLUIU | ARQUIVADO | REMOVIDO)) == CONCLUIU;
+    }
+    
+    private boolean concluidoAntesDe(int slot, long limiteMicros) {
+        long conclusao = getLong(slot, CONCLUSAO);
+        return concluidoAtivo(slot) && conclusao != DATA_NULA && conclusao < limiteMicros;
+    }
+    
+    private boolean naFaixa(int slot, long idInicial, long idFinal) {
+        long id = getLong(slot, ID);
+        return id >= idInicial && id <= idFinal;
+    }
+    
+    private byte flags(int slot) {
+        return registros.segmento(slot).get(registros.posicao(slot) + FLAGS);
+    }
+    
+    private int getInt(int slot, int campo) {
+        return registros.segmento(slot).getInt(registros.posicao(slot) + campo);
+    }
+    
+    private long getLong(int slot, int campo) {
+        return registros.segmento(slot).getLong(registros.posicao(slot) + campo);
+    }
+    
+    private String lerRa(int slot) {
+        MappedByteBuffer segmento = registros.segmento(slot);
+        int base = registros.posicao(slot);
+        return lerTexto(segmento, base + RA, Byte.toUnsignedInt(segmento.get(base + RA_TAMANHO)));
+    }
+    
+    private static String lerTexto(MappedByteBuffer segmento, int posicao, int tamanho) {
+        byte[] bytes = new byte[tamanho];
+        segmento.get(posicao, bytes, 0, tamanho);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * FNV-1a de 64 bits; 0 é reservado para posição vazia do índice
+     */
+    private static long hashRa(String ra) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < ra.length(); i++) {
+            hash ^= ra.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+}
@@ -0,0 +1,230 @@
+package com.devops.projeto_ac2.infrastructure.mapeado;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntPredicate;
+
+/**
+ * Índice hash fora do heap, em arquivo mapeado: chave long → slot int
+ * 
+ * Endereçamento aberto com sondagem linear; cada posição tem 12 bytes
+ * (chave + slot) e a chave 0 marca posição vazia. Aceita chaves repetidas:
+ * o índice por RA usa o hash do RA como chave e quem consulta confirma o RA
+ * no registro ({@link #buscar(long, IntPredicate)}).
+ * Ao passar de 60% de ocupação é reconstruído com o dobro de posições num
+ * arquivo novo, que substitui o antigo.
+ * Não é thread-safe: o adapter protege o acesso com o seu lock.
+ */
+final class IndiceMapeado implements Closeable {
+    
+    static final int AUSENTE = -1;
+    
+    private static final int MAGICO = 0x414C4E49; // "ALNI"
+    private static final int TAMANHO_CABECALHO = 32;
+    private static final int POSICAO_CAPACIDADE = 8;
+    private static final int POSICAO_TAMANHO = 16;
+    private static final int TAMANHO_ENTRADA = Long.BYTES + Integer.BYTES;
+    private static final int ENTRADAS_POR_SEGMENTO = 1 << 20;
+    private static final double CARGA_MAXIMA = 0.6;
+    
+    private final Path arquivo;
+    private SegmentosMapeados entradas;
+    private long capacidade;
+    private long tamanho;
+    
+    private IndiceMapeado(Path arquivo, SegmentosMapeados entradas, long capacidade, long tamanho) {
+        this.arquivo = arquivo;
+        this.entradas = entradas;
+        this.capacidade = capacidade;
+        this.tamanho = tamanho;
+    }
+    
+    /**
+     * Abre o índice existente ou cria um vazio com espaço para a quantidade informada
+     */
+    static IndiceMapeado abrir(Path arquivo, long quantidadeEsperada) throws IOException {
+        long capacidadeGravada = lerCapacidade(arquivo);
+        if (capacidadeGravada > 0) {
+            SegmentosMapeados entradas = new SegmentosMapeados(arquivo, TAMANHO_CABECALHO, TAMANHO_ENTRADA,
+                    itensPorSegmento(capacidadeGravada));
+            entradas.garantir(capacidadeGravada);
+            return new IndiceMapeado(arquivo, entradas, capacidadeGravada,
+                    entradas.cabecalho().getLong(POSICAO_TAMANHO));
+        }
+        Files.deleteIfExists(arquivo);
+        long capacidade = capacidadePara(quantidadeEsperada);
+        return new IndiceMapeado(arquivo, criar(arquivo, capacidade), capacidade, 0);
+    }
+    
+    /**
+     * Descarta o conteúdo e recria o arquivo vazio (reconstrução a partir dos registros)
+     */
+    void recriar(long quantidadeEsperada) throws IOException {
+        entradas.close();
+        Files.deleteIfExists(arquivo);
+        capacidade = capacidadePara(quantidadeEsperada);
+        entradas = criar(arquivo, capacidade);
+        tamanho = 0;
+    }
+    
+    /**
+     * Primeiro slot com a chave informada aceito pelo filtro, ou AUSENTE
+     */
+    int buscar(long chave, IntPredicate aceita) {
+        long mascara = capacidade - 1;
+        for (long i = posicao(chave, mascara); ; i = (i + 1) & mascara) {
+            long atual = chave(i);
+            if (atual == 0) {
+                return AUSENTE;
+            }
+            if (atual == chave && aceita.test(slot(i))) {
+                return slot(i);
+            }
+        }
+    }
+    
+    void incluir(long chave, int slot) throws IOException {
+        if (chave == 0) {
+            throw new IllegalArgumentException("Chave 0 é reservada");
+        }
+        if (tamanho + 1 > capacidade * CARGA_MAXIMA) {
+            redimensionar();
+        }
+        inserir(entradas, capacidade - 1, chave, slot);
+        definirTamanho(tamanho + 1);
+    }
+    
+    /**
+     * Remove a entrada (chave, slot) deslocando para trás as seguintes do mesmo grupo
+     */
+    boolean remover(long chave, int slot) {
+        long mascara = capacidade - 1;
+        long i = posicao(chave, mascara);
+        while (chave(i) != chave || slot(i) != slot) {
+            if (chave(i) == 0) {
+                return false;
+            }
+            i = (i + 1) & mascara;
+        }
+        
+        long vazia = i;
+        for (long j = (i + 1) & mascara; chave(j) != 0; j = (j + 1) & mascara) {
+            long ideal = posicao(chave(j), mascara);
+            if (((j - ideal) & mascara) >= ((j - vazia) & mascara)) {
+                escrever(entradas, vazia, chave(j), slot(j));
+                vazia = j;
+            }
+        }
+        escrever(entradas, vazia, 0, 0);
+        definirTamanho(tamanho - 1);
+        return true;
+    }
+    
+    long tamanho() {
+        return tamanho;
+    }
+    
+    void forcar() {
+        entradas.forcar();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        entradas.close();
+    }
+    
+    private void redimensionar() throws IOException {
+        Path novo = arquivo.resolveSibling(arquivo.getFileName() + ".novo");
+        Files.deleteIfExists(novo);
+        long novaCapacidade = capacidade * 2;
+        SegmentosMapeados maior = criar(novo, novaCapacidade);
+        for (long i = 0; i < capacidade; i++) {
+            long chave = chave(i);
+            if (chave != 0) {
+                inserir(maior, novaCapacidade - 1, chave, slot(i));
+            }
+        }
+        maior.cabecalho().putLong(POSICAO_TAMANHO, tamanho);
+        
+        entradas.close();
+        Files.move(novo, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        entradas = maior;
+        capacidade = novaCapacidade;
+    }
+    
+    private void definirTamanho(long novoTamanho) {
+        tamanho = novoTamanho;
+        entradas.cabecalho().putLong(POSICAO_TAMANHO, novoTamanho);
+    }
+    
+    private long chave(long i) {
+        return entradas.segmento(i).getLong(entradas.posicao(i));
+    }
+    
+    private int slot(long i) {
+        return entradas.segmento(i).getInt(entradas.posicao(i) + Long.BYTES);
+    }
+    
+    /**
+     * Capacidade gravada no cabeçalho, ou 0 se o arquivo não existe ou não é um índice
+     */
+    private static long lerCapacidade(Path arquivo) throws IOException {
+        if (!Files.exists(arquivo) || Files.size(arquivo) < TAMANHO_CABECALHO) {
+            return 0;
+        }
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+            if (canal.read(cabecalho, 0) < TAMANHO_CABECALHO || cabecalho.getInt(0) != MAGICO) {
+                return 0;
+            }
+            return cabecalho.getLong(POSICAO_CAPACIDADE);
+        }
+    }
+    
+    private static int itensPorSegmento(long capacidade) {
+        return (int) Math.min(capacidade, ENTRADAS_POR_SEGMENTO);
+    }
+    
+    private static SegmentosMapeados criar(Path arquivo, long capacidade) throws IOException {
+        SegmentosMapeados entradas = new SegmentosMapeados(arquivo, TAMANHO_CABECALHO, TAMANHO_ENTRADA,
+                itensPorSegmento(capacidade));
+        entradas.garantir(capacidade);
+        MappedByteBuffer cabecalho = entradas.cabecalho();
+        cabecalho.putInt(0, MAGICO);
+        cabecalho.putLong(POSICAO_CAPACIDADE, capacidade);
+        cabecalho.putLong(POSICAO_TAMANHO, 0);
+        return entradas;
+    }
+    
+    private static void inserir(SegmentosMapeados entradas, long mascara, long chave, int slot) {
+        long i = posicao(chave, mascara);
+        while (entradas.segmento(i).getLong(entradas.posicao(i)) != 0) {
+            i = (i + 1) & mascara;
+        }
+        escrever(entradas, i, chave, slot);
+    }
+    
+    private static void escrever(SegmentosMapeados entradas, long i, long chave, int slot) {
+        MappedByteBuffer segmento = entradas.segmento(i);
+        int posicao = entradas.posicao(i);
+        segmento.putLong(posicao, chave);
+        segmento.putInt(posicao + Long.BYTES, slot);
+    }
+    
+    private static long capacidadePara(long quantidade) {
+        long minima = Math.max(1024, (long) (quantidade / CARGA_MAXIMA) + 1);
+        return Long.highestOneBit(minima - 1) << 1;
+    }
+    
+    private static long posicao(long chave, long mascara) {
+        long h = chave * 0x9E3779B97F4A7C15L;
+        return (h ^ (h >>> 32)) & mascara;
+    }
+}
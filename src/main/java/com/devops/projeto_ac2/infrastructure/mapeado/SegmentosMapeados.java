@@ -0,0 +1,98 @@
+package com.devops.projeto_ac2.infrastructure.mapeado;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Arquivo mapeado em memória como um cabeçalho seguido de itens de tamanho fixo
+ * 
+ * Um MappedByteBuffer é limitado a 2 GB, então os itens ficam em segmentos
+ * mapeados separadamente (nenhum item atravessa dois segmentos). Crescer é
+ * mapear mais um segmento além do fim do arquivo: o SO estende o arquivo com zeros.
+ * Os acessos usam só get/put absolutos, seguros para leituras concorrentes.
+ */
+final class SegmentosMapeados implements Closeable {
+    
+    private final FileChannel canal;
+    private final int tamanhoCabecalho;
+    private final int tamanhoItem;
+    private final int itensPorSegmento;
+    private final MappedByteBuffer cabecalho;
+    private final List<MappedByteBuffer> segmentos = new ArrayList<>();
+    
+    SegmentosMapeados(Path arquivo, int tamanhoCabecalho, int tamanhoItem, int itensPorSegmento) throws IOException {
+        if ((long) tamanhoItem * itensPorSegmento > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segmento maior que 2 GB");
+        }
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.tamanhoCabecalho = tamanhoCabecalho;
+        this.tamanhoItem = tamanhoItem;
+        this.itensPorSegmento = itensPorSegmento;
+        this.cabecalho = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanhoCabecalho);
+        
+        long bytesSegmento = (long) tamanhoItem * itensPorSegmento;
+        long bytesItens = Math.max(0, canal.size() - tamanhoCabecalho);
+        long existentes = (bytesItens + bytesSegmento - 1) / bytesSegmento;
+        for (long i = 0; i < existentes; i++) {
+            mapearSegmento();
+        }
+    }
+    
+    MappedByteBuffer cabecalho() {
+        return cabecalho;
+    }
+    
+    /**
+     * Mapeia segmentos até caber a quantidade de itens informada
+     */
+    void garantir(long itens) throws IOException {
+        while (capacidade() < itens) {
+            mapearSegmento();
+        }
+    }
+    
+    long capacidade() {
+        return (long) segmentos.size() * itensPorSegmento;
+    }
+    
+    MappedByteBuffer segmento(long item) {
+        return segmentos.get((int) (item / itensPorSegmento));
+    }
+    
+    int posicao(long item) {
+        return (int) (item % itensPorSegmento) * tamanhoItem;
+    }
+    
+    void forcarCabecalho() {
+        cabecalho.force();
+    }
+    
+    /**
+     * Grava no disco as páginas alteradas (msync)
+     */
+    void forcar() {
+        for (MappedByteBuffer segmento : segmentos) {
+            segmento.force();
+        }
+        cabecalho.force();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        forcar();
+        canal.close();
+    }
+    
+    private void mapearSegmento() throws IOException {
+        long bytesSegmento = (long) tamanhoItem * itensPorSegmento;
+        long inicio = tamanhoCabecalho + segmentos.size() * bytesSegmento;
+        segmentos.add(canal.map(FileChannel.MapMode.READ_WRITE, inicio, bytesSegmento));
+    }
+}
@@ -0,0 +1,704 @@
+package com.devops.projeto_ac2.infrastructure.memoria;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoManutencaoRepository;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+import static com.devops.projeto_ac2.infrastructure.snapshot.FormatoBinarioAluno.DATA_NULA;
+import static com.devops.projeto_ac2.infrastructure.snapshot.FormatoBinarioAluno.deMicros;
+import static com.devops.projeto_ac2.infrastructure.snapshot.FormatoBinarioAluno.paraMicros;
+
+/**
+ * Adapter em memória de AlunoRepository e AlunoManutencaoRepository (profile "memoria")
+ * 
+ * Armazenamento colunar em arrays primitivos, uma posição (slot) por aluno:
+ * IDs, médias, cursos, tentativas, datas (microssegundos UTC) e versões em
+ * long[]/double[]/int[]; nome e RA codificados por dicionário (int); flags
+ * concluiu/arquivado/removido num byte[]. O índice por ID é um {@link MapaLongInt}
+ * e o índice por RA é um int[] indexado pelo código do RA.
+ * 
+ * Cada leitura monta um Aluno novo (Aluno.reconstituir): não há entidade
+ * gerenciada, então salvar confere a versão (lock otimista) e grava todas as colunas.
+ * Exclusões marcam o slot como removido; os slots são compactados quando
+ * mais da metade estiver removida.
+ * 
+ * Limitações do profile: as gravações valem na hora (não desfazem com rollback
+ * da transação) e o histórico de tentativas continua no banco.
+ * A durabilidade (journal + snapshots) fica no {@link AlunoRepositoryJournal}, que o envolve.
+ */
+@Component
+@Profile("memoria")
+public class AlunoRepositoryColunar implements AlunoRepository, AlunoManutencaoRepository {
+    
+    private static final byte CONCLUIU = 1;
+    private static final byte ARQUIVADO = 1 << 1;
+    private static final byte REMOVIDO = 1 << 2;
+    
+    private static final int COMPACTACAO_MINIMA = 1024;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final DicionarioTextos nomes = new DicionarioTextos();
+    private final DicionarioTextos ras = new DicionarioTextos();
+    private final MapaLongInt slotPorId;
+    private int[] slotPorRa;
+    
+    private long[] ids;
+    private int[] codigosNome;
+    private int[] codigosRa;
+    private double[] medias;
+    private int[] cursos;
+    private int[] tentativas;
+    private long[] criacao;
+    private long[] atualizacao;
+    private long[] conclusao;
+    private long[] versoes;
+    private byte[] flags;
+    
+    private int slots;
+    private int removidos;
+    private long proximoId = 1;
+    
+    public AlunoRepositoryColunar(@Value("${alunos.memoria.capacidade-inicial:1024}") int capacidadeInicial) {
+        if (capacidadeInicial <= 0) {
+            throw new IllegalArgumentException("Capacidade inicial deve ser maior que zero");
+        }
+        this.slotPorId = new MapaLongInt(capacidadeInicial);
+        this.slotPorRa = vazio(capacidadeInicial);
+        alocar(capacidadeInicial);
+    }
+    
+    @Override
+    public Aluno salvar(Aluno aluno) {
+        if (aluno.isArquivado()) {
+            throw new DomainException("Aluno arquivado não pode ser alterado");
+        }
+        lock.writeLock().lock();
+        try {
+            return montar(gravar(aluno));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Confere todas as versões antes de gravar: ou o lote inteiro entra ou nada muda
+     */
+    @Override
+    public List<Aluno> salvarTodos(List<Aluno> alunos) {
+        lock.writeLock().lock();
+        try {
+            for (Aluno aluno : alunos) {
+                if (aluno.getId() != null) {
+                    slotParaAtualizar(aluno);
+                }
+            }
+            List<Aluno> salvos = new ArrayList<>(alunos.size());
+            for (Aluno aluno : alunos) {
+                salvos.add(montar(gravar(aluno)));
+            }
+            return salvos;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public Optional<Aluno> registrarTentativaAtomica(Long id, double media) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotAtivo(id);
+            if (slot == MapaLongInt.AUSENTE || (flags[slot] & CONCLUIU) != 0
+                    || tentativas[slot] >= Aluno.MAX_TENTATIVAS) {
+                return Optional.empty();
+            }
+            tentativas[slot]++;
+            medias[slot] = media;
+            atualizacao[slot] = paraMicros(LocalDateTime.now());
+            versoes[slot]++;
+            return Optional.of(montar(slot));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public Optional<Aluno> buscarPorId(Long id) {
+        lock.readLock().lock();
+        try {
+            int slot = id == null ? MapaLongInt.AUSENTE : slotPorId.get(id);
+            return slot == MapaLongInt.AUSENTE ? Optional.empty() : Optional.of(montar(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public List<Aluno> buscarPorIds(Collection<Long> idsBuscados) {
+        lock.readLock().lock();
+        try {
+            List<Aluno> alunos = new ArrayList<>(idsBuscados.size());
+            for (Long id : idsBuscados) {
+                int slot = slotAtivo(id);
+                if (slot != MapaLongInt.AUSENTE) {
+                    alunos.add(montar(slot));
+                }
+            }
+            return alunos;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public Optional<Aluno> buscarPorRA(String ra) {
+        lock.readLock().lock();
+        try {
+            int slot = slotPorRa(ra);
+            return slot == MapaLongInt.AUSENTE ? Optional.empty() : Optional.of(montar(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public List<Aluno> buscarTodos() {
+        return filtrar(slot -> (flags[slot] & (ARQUIVADO | REMOVIDO)) == 0);
+    }
+    
+    @Override
+    public List<Aluno> buscarConcluidos() {
+        return filtrar(slot -> (flags[slot] & (CONCLUIU | ARQUIVADO | REMOVIDO)) == CONCLUIU);
+    }
+    
+    @Override
+    public List<Aluno> buscarNaoConcluidos() {
+        return filtrar(slot -> (flags[slot] & (CONCLUIU | ARQUIVADO | REMOVIDO)) == 0);
+    }
+    
+    @Override
+    public List<Aluno> buscarArquivados() {
+        return filtrar(slot -> (flags[slot] & (ARQUIVADO | REMOVIDO)) == ARQUIVADO);
+    }
+    
+    @Override
+    public boolean existePorRA(String ra) {
+        lock.readLock().lock();
+        try {
+            return slotPorRa(ra) != MapaLongInt.AUSENTE;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public void deletar(Long id) {
+        lock.writeLock().lock();
+        try {
+            int slot = id == null ? MapaLongInt.AUSENTE : slotPorId.get(id);
+            if (slot != MapaLongInt.AUSENTE) {
+                remover(slot);
+                compactarSeNecessario();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public Optional<Long> menorIdConcluido() {
+        return menorId(this::concluidoAtivo);
+    }
+    
+    @Override
+    public Optional<Long> maiorIdConcluido() {
+        return maiorId(this::concluidoAtivo);
+    }
+    
+    @Override
+    public int recalcularCursosAdicionais(RegrasBonusCursos regras, long idInicial, long idFinal) {
+        lock.writeLock().lock();
+        try {
+            long agora = paraMicros(LocalDateTime.now());
+            int alterados = 0;
+            for (int slot = 0; slot < slots; slot++) {
+                if (!concluidoAtivo(slot) || ids[slot] < idInicial || ids[slot] > idFinal) {
+                    continue;
+                }
+                int novo = regras.cursosPara(medias[slot]);
+                if (novo != cursos[slot]) {
+                    cursos[slot] = novo;
+                    atualizacao[slot] = agora;
+                    versoes[slot]++;
+                    alterados++;
+                }
+            }
+            return alterados;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public Optional<Long> menorIdConcluidoAntesDe(LocalDateTime limite) {
+        long limiteMicros = paraMicros(limite);
+        return menorId(slot -> concluidoAntesDe(slot, limiteMicros));
+    }
+    
+    @Override
+    public Optional<Long> maiorIdConcluidoAntesDe(LocalDateTime limite) {
+        long limiteMicros = paraMicros(limite);
+        return maiorId(slot -> concluidoAntesDe(slot, limiteMicros));
+    }
+    
+    @Override
+    public int excluirConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal) {
+        long limiteMicros = paraMicros(limite);
+        lock.writeLock().lock();
+        try {
+            int excluidos = 0;
+            for (int slot = 0; slot < slots; slot++) {
+                if (concluidoAntesDe(slot, limiteMicros) && ids[slot] >= idInicial && ids[slot] <= idFinal) {
+                    remover(slot);
+                    excluidos++;
+                }
+            }
+            compactarSeNecessario();
+            return excluidos;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public int excluirPorIds(Collection<Long> idsExcluir) {
+        lock.writeLock().lock();
+        try {
+            int excluidos = 0;
+            for (Long id : idsExcluir) {
+                int slot = slotAtivo(id);
+                if (slot != MapaLongInt.AUSENTE) {
+                    remover(slot);
+                    excluidos++;
+                }
+            }
+            compactarSeNecessario();
+            return excluidos;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Sem tabela fria aqui: arquivar só marca o slot (continua acessível por ID e RA)
+     */
+    @Override
+    public int arquivarConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal) {
+        long limiteMicros = paraMicros(limite);
+        lock.writeLock().lock();
+        try {
+            int arquivados = 0;
+            for (int slot = 0; slot < slots; slot++) {
+                if (concluidoAntesDe(slot, limiteMicros) && ids[slot] >= idInicial && ids[slot] <= idFinal) {
+                    flags[slot] |= ARQUIVADO;
+                    arquivados++;
+                }
+            }
+            return arquivados;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Instala o aluno exatamente como veio (ID, versão, datas e arquivamento),
+     * sem lock otimista nem geração de ID: usado na recuperação do journal
+     */
+    public void restaurar(Aluno aluno) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotPorId.get(aluno.getId());
+            if (slot == MapaLongInt.AUSENTE) {
+                slot = novoSlot(aluno.getId());
+            } else {
+                liberarRa(slot);
+            }
+            codigosNome[slot] = nomes.codificar(aluno.getNome());
+            codigosRa[slot] = ras.codificar(aluno.getRegistroAcademico().getValor());
+            indexarRa(codigosRa[slot], slot);
+            medias[slot] = aluno.getMediaFinal();
+            cursos[slot] = aluno.getCursosAdicionais();
+            tentativas[slot] = aluno.getTentativasAvaliacao();
+            criacao[slot] = paraMicros(aluno.getDataCriacao());
+            atualizacao[slot] = paraMicros(aluno.getDataAtualizacao());
+            conclusao[slot] = paraMicros(aluno.getDataConclusao());
+            versoes[slot] = aluno.getVersao() == null ? 0 : aluno.getVersao();
+            flags[slot] = (byte) ((aluno.isConcluiu() ? CONCLUIU : 0) | (aluno.isArquivado() ? ARQUIVADO : 0));
+            proximoId = Math.max(proximoId, aluno.getId() + 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Copia as colunas até o slot atual, sem montar os alunos
+     * 
+     * Só copia arrays primitivos e o dicionário (referências), então o lock
+     * fica pouco tempo preso; os alunos são montados depois, fora dele.
+     */
+    CopiaColunar copiar() {
+        lock.readLock().lock();
+        try {
+            return new CopiaColunar(
+                    Arrays.copyOf(ids, slots),
+                    Arrays.copyOf(codigosNome, slots),
+                    Arrays.copyOf(codigosRa, slots),
+                    Arrays.copyOf(medias, slots),
+                    Arrays.copyOf(cursos, slots),
+                    Arrays.copyOf(tentativas, slots),
+                    Arrays.copyOf(criacao, slots),
+                    Arrays.copyOf(atualizacao, slots),
+                    Arrays.copyOf(conclusao, slots),
+                    Arrays.copyOf(versoes, slots),
+                    Arrays.copyOf(flags, slots),
+                    nomes.copiarValores(),
+                    ras.copiarValores(),
+                    proximoId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Próximo ID a ser gerado (IDs de alunos excluídos não são reaproveitados)
+     */
+    public long getProximoId() {
+        lock.readLock().lock();
+        try {
+            return proximoId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Garante que os próximos IDs gerados comecem em pelo menos proximoId
+     */
+    public void reservarIdsAte(long proximoId) {
+        lock.writeLock().lock();
+        try {
+            this.proximoId = Math.max(this.proximoId, proximoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Quantidade de alunos guardados (ativos e arquivados)
+     */
+    public int quantidade() {
+        lock.readLock().lock();
+        try {
+            return slots - removidos;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Bytes ocupados pelas colunas e índices (sem contar os textos dos dicionários)
+     */
+    public long bytesColunas() {
+        lock.readLock().lock();
+        try {
+            long porSlot = Long.BYTES * 6L + Double.BYTES + Integer.BYTES * 4L + Byte.BYTES;
+            return ids.length * porSlot + slotPorId.bytesOcupados() + (long) slotPorRa.length * Integer.BYTES;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private int gravar(Aluno aluno) {
+        String ra = aluno.getRegistroAcademico().getValor();
+        int slot;
+        if (aluno.getId() == null) {
+            if (slotPorRa(ra) != MapaLongInt.AUSENTE) {
+                throw new DataIntegrityViolationException("RA já cadastrado: " + ra);
+            }
+            slot = novoSlot(proximoId++);
+            versoes[slot] = 0;
+            criacao[slot] = paraMicros(aluno.getDataCriacao());
+        } else {
+            slot = slotParaAtualizar(aluno);
+            int outro = slotPorRa(ra);
+            if (outro != MapaLongInt.AUSENTE && outro != slot) {
+                throw new DataIntegrityViolationException("RA já cadastrado: " + ra);
+            }
+            liberarRa(slot);
+            versoes[slot] = aluno.getVersao() + 1;
+        }
+        
+        codigosNome[slot] = nomes.codificar(aluno.getNome());
+        codigosRa[slot] = ras.codificar(ra);
+        indexarRa(codigosRa[slot], slot);
+        medias[slot] = aluno.getMediaFinal();
+        cursos[slot] = aluno.getCursosAdicionais();
+        tentativas[slot] = aluno.getTentativasAvaliacao();
+        atualizacao[slot] = paraMicros(aluno.getDataAtualizacao());
+        conclusao[slot] = paraMicros(aluno.getDataConclusao());
+        flags[slot] = aluno.isConcluiu() ? CONCLUIU : 0;
+        return slot;
+    }
+    
+    /**
+     * Slot do aluno já existente, conferindo a versão lida (lock otimista)
+     */
+    private int slotParaAtualizar(Aluno aluno) {
+        int slot = slotAtivo(aluno.getId());
+        if (slot == MapaLongInt.AUSENTE || aluno.getVersao() == null || versoes[slot] != aluno.getVersao()) {
+            throw new ObjectOptimisticLockingFailureException(Aluno.class, aluno.getId());
+        }
+        return slot;
+    }
+    
+    private int novoSlot(long id) {
+        if (slots == ids.length) {
+            crescer(ids.length * 2);
+        }
+        int slot = slots++;
+        ids[slot] = id;
+        slotPorId.put(id, slot);
+        return slot;
+    }
+    
+    private void remover(int slot) {
+        slotPorId.remove(ids[slot]);
+        liberarRa(slot);
+        flags[slot] = REMOVIDO;
+        removidos++;
+    }
+    
+    private void liberarRa(int slot) {
+        int codigo = codigosRa[slot];
+        if (codigo < slotPorRa.length && slotPorRa[codigo] == slot) {
+            slotPorRa[codigo] = MapaLongInt.AUSENTE;
+        }
+    }
+    
+    private void indexarRa(int codigo, int slot) {
+        if (codigo >= slotPorRa.length) {
+            int[] maior = vazio(Math.max(codigo + 1, slotPorRa.length * 2));
+            System.arraycopy(slotPorRa, 0, maior, 0, slotPorRa.length);
+            slotPorRa = maior;
+        }
+        slotPorRa[codigo] = slot;
+    }
+    
+    /**
+     * Reescreve as colunas sem os slots removidos quando eles passam da metade
+     */
+    private void compactarSeNecessario() {
+        if (removidos < COMPACTACAO_MINIMA || removidos * 2 < slots) {
+            return;
+        }
+        int destino = 0;
+        slotPorId.limpar();
+        for (int origem = 0; origem < slots; origem++) {
+            if ((flags[origem] & REMOVIDO) != 0) {
+                continue;
+            }
+            if (destino != origem) {
+                ids[destino] = ids[origem];
+                codigosNome[destino] = codigosNome[origem];
+                codigosRa[destino] = codigosRa[origem];
+                medias[destino] = medias[origem];
+                cursos[destino] = cursos[origem];
+                tentativas[destino] = tentativas[origem];
+                criacao[destino] = criacao[origem];
+                atualizacao[destino] = atualizacao[origem];
+                conclusao[destino] = conclusao[origem];
+                versoes[destino] = versoes[origem];
+                flags[destino] = flags[origem];
+            }
+            slotPorId.put(ids[destino], destino);
+            slotPorRa[codigosRa[destino]] = destino;
+            destino++;
+        }
+        slots = destino;
+        removidos = 0;
+    }
+    
+    private Aluno montar(int slot) {
+        return montar(ids[slot], nomes.texto(codigosNome[slot]), ras.texto(codigosRa[slot]), medias[slot],
+                cursos[slot], tentativas[slot], criacao[slot], atualizacao[slot], conclusao[slot], versoes[slot],
+                flags[slot]);
+    }
+    
+    private static Aluno montar(long id, String nome, String ra, double media, int cursosAdicionais,
+            int tentativasAvaliacao, long criacaoMicros, long atualizacaoMicros, long conclusaoMicros,
+            long versao, byte flag) {
+        Aluno aluno = Aluno.reconstituir(
+                id,
+                nome,
+                ra,
+                media,
+                (flag & CONCLUIU) != 0,
+                cursosAdicionais,
+                tentativasAvaliacao,
+                deMicros(criacaoMicros),
+                deMicros(atualizacaoMicros),
+                deMicros(conclusaoMicros),
+                versao);
+        return (flag & ARQUIVADO) != 0 ? aluno.marcarComoArquivado() : aluno;
+    }
+    
+    private List<Aluno> filtrar(IntPredicate condicao) {
+        lock.readLock().lock();
+        try {
+            List<Aluno> alunos = new ArrayList<>();
+            for (int slot = 0; slot < slots; slot++) {
+                if (condicao.test(slot)) {
+                    alunos.add(montar(slot));
+                }
+            }
+            return alunos;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private Optional<Long> menorId(IntPredicate condicao) {
+        lock.readLock().lock();
+        try {
+            long menor = Long.MAX_VALUE;
+            for (int slot = 0; slot < slots; slot++) {
+                if (condicao.test(slot) && ids[slot] < menor) {
+                    menor = ids[slot];
+                }
+            }
+            return menor == Long.MAX_VALUE ? Optional.empty() : Optional.of(menor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private Optional<Long> maiorId(IntPredicate condicao) {
+        lock.readLock().lock();
+        try {
+            long maior = Long.MIN_VALUE;
+            for (int slot = 0; slot < slots; slot++) {
+                if (condicao.test(slot) && ids[slot] > maior) {
+                    maior = ids[slot];
+                }
+            }
+            return maior == Long.MIN_VALUE ? Optional.empty() : Optional.of(maior);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Slot de aluno não arquivado (equivalente a estar em tb_alunos)
+     */
+    private int slotAtivo(Long id) {
+        if (id == null) {
+            return MapaLongInt.AUSENTE;
+        }
+        int slot = slotPorId.get(id);
+        return slot != MapaLongInt.AUSENTE && (flags[slot] & ARQUIVADO) == 0 ? slot : MapaLongInt.AUSENTE;
+    }
+    
+    private int slotPorRa(String ra) {
+        int codigo = ras.codigo(ra);
+        if (codigo == DicionarioTextos.AUSENTE || codigo >= slotPorRa.length) {
+            return MapaLongInt.AUSENTE;
+        }
+        return slotPorRa[codigo];
+    }
+    
+    private boolean concluidoAtivo(int slot) {
+        return (flags[slot] & (CONCLUIU | ARQUIVADO | REMOVIDO)) == CONCLUIU;
+    }
+    
+    private boolean concluidoAntesDe(int slot, long limiteMicros) {
+        return concluidoAtivo(slot) && conclusao[slot] != DATA_NULA && conclusao[slot] < limiteMicros;
+    }
+    
+    private void alocar(int capacidade) {
+        ids = new long[capacidade];
+        codigosNome = new int[capacidade];
+        codigosRa = new int[capacidade];
+        medias = new double[capacidade];
+        cursos = new int[capacidade];
+        tentativas = new int[capacidade];
+        criacao = new long[capacidade];
+        atualizacao = new long[capacidade];
+        conclusao = new long[capacidade];
+        versoes = new long[capacidade];
+        flags = new byte[capacidade];
+    }
+    
+    private void crescer(int capacidade) {
+        ids = Arrays.copyOf(ids, capacidade);
+        codigosNome = Arrays.copyOf(codigosNome, capacidade);
+        codigosRa = Arrays.copyOf(codigosRa, capacidade);
+        medias = Arrays.copyOf(medias, capacidade);
+        cursos = Arrays.copyOf(cursos, capacidade);
+        tentativas = Arrays.copyOf(tentativas, capacidade);
+        criacao = Arrays.copyOf(criacao, capacidade);
+        atualizacao = Arrays.copyOf(atualizacao, capacidade);
+        conclusao = Arrays.copyOf(conclusao, capacidade);
+        versoes = Arrays.copyOf(versoes, capacidade);
+        flags = Arrays.copyOf(flags, capacidade);
+    }
+    
+    private static int[] vazio(int capacidade) {
+        int[] array = new int[capacidade];
+        Arrays.fill(array, MapaLongInt.AUSENTE);
+        return array;
+    }
+    
+    /**
+     * Cópia das colunas tirada por {@link #copiar()}; monta os alunos sem lock
+     */
+    record CopiaColunar(long[] ids, int[] codigosNome, int[] codigosRa, double[] medias, int[] cursos,
+            int[] tentativas, long[] criacao, long[] atualizacao, long[] conclusao, long[] versoes,
+            byte[] flags, String[] nomes, String[] ras, long proximoId) {
+        
+        List<Aluno> ativos() {
+            return filtrar(slot -> (flags[slot] & (ARQUIVADO | REMOVIDO)) == 0);
+        }
+        
+        List<Aluno> arquivados() {
+            return filtrar(slot -> (flags[slot] & (ARQUIVADO | REMOVIDO)) == ARQUIVADO);
+        }
+        
+        private List<Aluno> filtrar(IntPredicate condicao) {
+            List<Aluno> alunos = new ArrayList<>();
+            for (int slot = 0; slot < ids.length; slot++) {
+                if (condicao.test(slot)) {
+                    alunos.add(montar(ids[slot], nomes[codigosNome[slot]], ras[codigosRa[slot]], medias[slot],
+                            cursos[slot], tentativas[slot], criacao[slot], atualizacao[slot], conclusao[slot],
+                            versoes[slot], flags[slot]));
+                }
+            }
+            return alunos;
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package com.devops.projeto_ac2.infrastructure.memoria;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoManutencaoRepository;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import com.devops.projeto_ac2.infrastructure.snapshot.FormatoBinarioAluno;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.devops.projeto_ac2.infrastructure.snapshot.FormatoBinarioAluno.deMicros;
+import static com.devops.projeto_ac2.infrastructure.snapshot.FormatoBinarioAluno.paraMicros;
+
+/**
+ * Durabilidade do profile "memoria": journal (write-ahead log) na frente do {@link AlunoRepositoryColunar}
+ * 
+ * Cada gravação é aplicada em memória e anexada ao {@link JournalAlunos} sob um
+ * mesmo lock, então a ordem do journal é a ordem em que as gravações aconteceram.
+ * salvar e tentativas viram a imagem do aluno gravado; deletar vira o ID; as
+ * operações em massa viram os parâmetros do comando, reaplicado na recuperação.
+ * 
+ * alunos.journal.janela-ms define a janela de durabilidade: 0 faz cada gravação
+ * esperar o fsync (em grupo, um fsync para todas as que chegaram juntas); acima
+ * de 0 a gravação responde na hora e um fsync roda a cada janela, perdendo no
+ * máximo essa janela numa queda do SO. Snapshots periódicos compactam o journal
+ * e a subida carrega o último snapshot e reaplica o restante.
+ * 
+ * Com alunos.journal.habilitado=false só repassa as chamadas (o profile começa vazio).
+ */
+@Slf4j
+@Primary
+@Component
+@Profile("memoria")
+public class AlunoRepositoryJournal implements AlunoRepository, AlunoManutencaoRepository {
+    
+    private final AlunoRepositoryColunar colunar;
+    private final boolean habilitado;
+    private final Path diretorio;
+    private final long janelaMs;
+    private final long intervaloSnapshotMs;
+    
+    private final ReentrantLock escrita = new ReentrantLock();
+    private final Object snapshotLock = new Object();
+    private final ByteBuffer conteudo = ByteBuffer.allocate(JournalAlunos.TAMANHO_MAXIMO_CONTEUDO);
+    
+    private JournalAlunos journal;
+    private ScheduledExecutorService agendador;
+    private long lsnUltimoSnapshot;
+    
+    public AlunoRepositoryJournal(
+            AlunoRepositoryColunar colunar,
+            @Value("${alunos.journal.habilitado:false}") boolean habilitado,
+            @Value("${alunos.journal.diretorio:./journal}") String diretorio,
+            @Value("${alunos.journal.janela-ms:0}") long janelaMs,
+            @Value("${alunos.journal.snapshot-intervalo-ms:300000}") long intervaloSnapshotMs) {
+        if (janelaMs < 0 || intervaloSnapshotMs <= 0) {
+            throw new IllegalArgumentException("Janela do journal não pode ser negativa e o intervalo de snapshot deve ser positivo");
+        }
+        this.colunar = colunar;
+        this.habilitado = habilitado;
+        this.diretorio = Paths.get(diretorio).toAbsolutePath().normalize();
+        this.janelaMs = janelaMs;
+        this.intervaloSnapshotMs = intervaloSnapshotMs;
+    }
+    
+    /**
+     * Recupera o estado do disco (snapshot + journal) antes de atender qualquer chamada
+     */
+    @PostConstruct
+    public void iniciar() {
+        if (!habilitado) {
+            return;
+        }
+        long inicio = System.nanoTime();
+        journal = new JournalAlunos(diretorio);
+        JournalAlunos.Recuperacao recuperacao = journal.recuperar(colunar::restaurar, this::reaplicar);
+        colunar.reservarIdsAte(recuperacao.proximoId);
+        if (recuperacao.registros > 0) {
+            lsnUltimoSnapshot = -1; // journal reaplicado: o próximo snapshot compacta mesmo sem gravações novas
+        }
+        log.info("Journal recuperado de {}: {} alunos do snapshot e {} registros reaplicados em {} ms",
+                diretorio, recuperacao.alunosSnapshot, recuperacao.registros, (System.nanoTime() - inicio) / 1_000_000);
+        
+        agendador = Executors.newScheduledThreadPool(2, tarefa -> {
+            Thread thread = new Thread(tarefa, "journal-alunos");
+            thread.setDaemon(true);
+            return thread;
+        });
+        agendador.scheduleWithFixedDelay(this::snapshotAgendado, intervaloSnapshotMs, intervaloSnapshotMs,
+                TimeUnit.MILLISECONDS);
+        if (janelaMs > 0) {
+            agendador.scheduleAtFixedRate(this::fsyncAgendado, janelaMs, janelaMs, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Snapshot final: a próxima subida não precisa reaplicar o journal
+     */
+    @PreDestroy
+    public void fechar() throws InterruptedException {
+        if (journal == null) {
+            return;
+        }
+        agendador.shutdown();
+        agendador.awaitTermination(10, TimeUnit.SECONDS);
+        gerarSnapshot();
+        try {
+            journal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao fechar journal", e);
+        }
+        journal = null;
+    }
+    
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+    
+    /**
+     * Grava um snapshot do estado atual e descarta o journal anterior a ele
+     * 
+     * @return Alunos gravados no snapshot (0 se nada mudou desde o último)
+     */
+    public long gerarSnapshot() {
+        if (journal == null) {
+            return 0;
+        }
+        synchronized (snapshotLock) {
+            long segmento;
+            AlunoRepositoryColunar.CopiaColunar copia;
+            escrita.lock();
+            try {
+                if (journal.getLsnEscrito() == lsnUltimoSnapshot) {
+                    return 0;
+                }
+                // Rotaciona e copia as colunas sob o mesmo lock: o snapshot N é exatamente o estado antes do segmento N
+                segmento = journal.rotacionar();
+                copia = colunar.copiar();
+                lsnUltimoSnapshot = journal.getLsnEscrito();
+            } finally {
+                escrita.unlock();
+            }
+            
+            // Monta e serializa fora do lock: as escritas seguem para o segmento novo
+            long inicio = System.nanoTime();
+            List<Aluno> ativos = copia.ativos();
+            List<Aluno> arquivados = copia.arquivados();
+            long bytes = journal.gravarSnapshot(segmento, copia.proximoId(), ativos, arquivados);
+            log.info("Snapshot do journal {}: {} alunos, {} KB em {} ms", segmento, ativos.size() + arquivados.size(),
+                    bytes / 1024, (System.nanoTime() - inicio) / 1_000_000);
+            return ativos.size() + arquivados.size();
+        }
+    }
+    
+    /**
+     * Bytes do journal e dos snapshots em disco
+     */
+    public long bytesEmDisco() {
+        return journal == null ? 0 : journal.bytesEmDisco();
+    }
+    
+    @Override
+    public Aluno salvar(Aluno aluno) {
+        return gravar(() -> colunar.salvar(aluno), this::anexarImagem);
+    }
+    
+    @Override
+    public List<Aluno> salvarTodos(List<Aluno> alunos) {
+        return gravar(() -> colunar.salvarTodos(alunos), salvos -> salvos.forEach(this::anexarImagem));
+    }
+    
+    @Override
+    public Optional<Aluno> registrarTentativaAtomica(Long id, double media) {
+        return gravar(() -> colunar.registrarTentativaAtomica(id, media),
+                alterado -> alterado.ifPresent(this::anexarImagem));
+    }
+    
+    @Override
+    public void deletar(Long id) {
+        gravar(() -> {
+            colunar.deletar(id);
+            return id;
+        }, removido -> {
+            if (removido != null) {
+                conteudo.clear();
+                conteudo.putLong(removido);
+                anexar(JournalAlunos.REMOCAO);
+            }
+        });
+    }
+    
+    @Override
+    public int recalcularCursosAdicionais(RegrasBonusCursos regras, long idInicial, long idFinal) {
+        return gravar(() -> colunar.recalcularCursosAdicionais(regras, idInicial, idFinal), alterados -> {
+            if (alterados > 0) {
+                conteudo.clear();
+                conteudo.putDouble(regras.getMediaExcelencia());
+                conteudo.putInt(regras.getCursosExcelencia());
+                conteudo.putDouble(regras.getMediaAprovacao());
+                conteudo.putInt(regras.getCursosAprovacao());
+                conteudo.putLong(idInicial);
+                conteudo.putLong(idFinal);
+                anexar(JournalAlunos.RECALCULO);
+            }
+        });
+    }
+    
+    @Override
+    public int excluirConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal) {
+        return gravar(() -> colunar.excluirConcluidosAntesDe(limite, idInicial, idFinal),
+                excluidos -> anexarFaixa(JournalAlunos.EXCLUSAO_CONCLUIDOS, excluidos, limite, idInicial, idFinal));
+    }
+    
+    @Override
+    public int excluirPorIds(Collection<Long> ids) {
+        return gravar(() -> colunar.excluirPorIds(ids), excluidos -> {
+            if (excluidos == 0) {
+                return;
+            }
+            int porRegistro = (JournalAlunos.TAMANHO_MAXIMO_CONTEUDO - Integer.BYTES) / Long.BYTES;
+            List<Long> lista = new ArrayList<>(ids);
+            for (int inicio = 0; inicio < lista.size(); inicio += porRegistro) {
+                List<Long> parte = lista.subList(inicio, Math.min(inicio + porRegistro, lista.size()));
+                conteudo.clear();
+                conteudo.putInt(parte.size());
+                parte.forEach(conteudo::putLong);
+                anexar(JournalAlunos.EXCLUSAO_IDS);
+            }
+        });
+    }
+    
+    @Override
+    public int arquivarConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal) {
+        return gravar(() -> colunar.arquivarConcluidosAntesDe(limite, idInicial, idFinal),
+                arquivados -> anexarFaixa(JournalAlunos.ARQUIVAMENTO, arquivados, limite, idInicial, idFinal));
+    }
+    
+    @Override
+    public Optional<Aluno> buscarPorId(Long id) {
+        return colunar.buscarPorId(id);
+    }
+    
+    @Override
+    public List<Aluno> buscarPorIds(Collection<Long> ids) {
+        return colunar.buscarPorIds(ids);
+    }
+    
+    @Override
+    public Optional<Aluno> buscarPorRA(String ra) {
+        return colunar.buscarPorRA(ra);
+    }
+    
+    @Override
+    public List<Aluno> buscarTodos() {
+        return colunar.buscarTodos();
+    }
+    
+    @Override
+    public List<Aluno> buscarConcluidos() {
+        return colunar.buscarConcluidos();
+    }
+    
+    @Override
+    public List<Aluno> buscarNaoConcluidos() {
+        return colunar.buscarNaoConcluidos();
+    }
+    
+    @Override
+    public List<Aluno> buscarArquivados() {
+        return colunar.buscarArquivados();
+    }
+    
+    @Override
+    public boolean existePorRA(String ra) {
+        return colunar.existePorRA(ra);
+    }
+    
+    @Override
+    public Optional<Long> menorIdConcluido() {
+        return colunar.menorIdConcluido();
+    }
+    
+    @Override
+    public Optional<Long> maiorIdConcluido() {
+        return colunar.maiorIdConcluido();
+    }
+    
+    @Override
+    public Optional<Long> menorIdConcluidoAntesDe(LocalDateTime limite) {
+        return colunar.menorIdConcluidoAntesDe(limite);
+    }
+    
+    @Override
+    public Optional<Long> maiorIdConcluidoAntesDe(LocalDateTime limite) {
+        return colunar.maiorIdConcluidoAntesDe(limite);
+    }
+    
+    /**
+     * Aplica a gravação e anexa o registro sob o lock de escrita; o fsync é esperado fora dele
+     */
+    private <T> T gravar(Supplier<T> operacao, Consumer<T> registrar) {
+        if (journal == null) {
+            return operacao.get();
+        }
+        T resultado;
+        long lsn;
+        escrita.lock();
+        try {
+            resultado = operacao.get();
+            registrar.accept(resultado);
+            lsn = journal.getLsnEscrito();
+        } finally {
+            escrita.unlock();
+        }
+        if (janelaMs == 0) {
+            journal.aguardarDurabilidade(lsn);
+        }
+        return resultado;
+    }
+    
+    private void anexarImagem(Aluno aluno) {
+        conteudo.clear();
+        FormatoBinarioAluno.escrever(conteudo, aluno);
+        anexar(JournalAlunos.IMAGEM);
+    }
+    
+    private void anexarFaixa(byte tipo, int afetados, LocalDateTime limite, long idInicial, long idFinal) {
+        if (afetados == 0) {
+            return;
+        }
+        conteudo.clear();
+        conteudo.putLong(paraMicros(limite));
+        conteudo.putLong(idInicial);
+        conteudo.putLong(idFinal);
+        anexar(tipo);
+    }
+    
+    private void anexar(byte tipo) {
+        conteudo.flip();
+        journal.anexar(tipo, conteudo);
+    }
+    
+    /**
+     * Reaplica um registro do journal no repositório em memória (recuperação)
+     */
+    private void reaplicar(byte tipo, ByteBuffer registro) {
+        switch (tipo) {
+            case JournalAlunos.IMAGEM -> colunar.restaurar(FormatoBinarioAluno.ler(registro));
+            case JournalAlunos.REMOCAO -> colunar.deletar(registro.getLong());
+            case JournalAlunos.RECALCULO -> colunar.recalcularCursosAdicionais(
+                    RegrasBonusCursos.criar(registro.getDouble(), registro.getInt(), registro.getDouble(), registro.getInt()),
+                    registro.getLong(), registro.getLong());
+            case JournalAlunos.EXCLUSAO_CONCLUIDOS -> colunar.excluirConcluidosAntesDe(
+                    deMicros(registro.getLong()), registro.getLong(), registro.getLong());
+            case JournalAlunos.EXCLUSAO_IDS -> {
+                int quantidade = registro.getInt();
+                List<Long> ids = new ArrayList<>(quantidade);
+                for (int i = 0; i < quantidade; i++) {
+                    ids.add(registro.getLong());
+                }
+                colunar.excluirPorIds(ids);
+            }
+            case JournalAlunos.ARQUIVAMENTO -> colunar.arquivarConcluidosAntesDe(
+                    deMicros(registro.getLong()), registro.getLong(), registro.getLong());
+            default -> throw new IllegalStateException("Tipo de registro de journal desconhecido: " + tipo);
+        }
+    }
+    
+    private void snapshotAgendado() {
+        try {
+            gerarSnapshot();
+        } catch (RuntimeException e) {
+            log.error("Falha no snapshot periódico do journal; o journal continua íntegro", e);
+        }
+    }
+    
+    private void fsyncAgendado() {
+        try {
+            journal.aguardarDurabilidade(journal.getLsnEscrito());
+        } catch (RuntimeException e) {
+            log.error("Falha no fsync periódico do journal", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.devops.projeto_ac2.infrastructure.memoria;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dicionário de textos: cada valor distinto é guardado uma vez e as colunas
+ * guardam só o código int
+ * 
+ * Os códigos nunca são reaproveitados (um texto que deixou de ser usado
+ * continua no dicionário até o adapter ser recriado).
+ * Não é thread-safe: o adapter protege o acesso com o seu lock.
+ */
+final class DicionarioTextos {
+    
+    static final int AUSENTE = -1;
+    
+    private final List<String> valores = new ArrayList<>();
+    private final Map<String, Integer> codigos = new HashMap<>();
+    
+    /**
+     * Código do texto, incluindo no dicionário se ainda não existir
+     */
+    int codificar(String texto) {
+        Integer codigo = codigos.get(texto);
+        if (codigo != null) {
+            return codigo;
+        }
+        int novo = valores.size();
+        valores.add(texto);
+        codigos.put(texto, novo);
+        return novo;
+    }
+    
+    /**
+     * Código do texto, ou AUSENTE se nunca foi incluído
+     */
+    int codigo(String texto) {
+        Integer codigo = codigos.get(texto);
+        return codigo == null ? AUSENTE : codigo;
+    }
+    
+    String texto(int codigo) {
+        return valores.get(codigo);
+    }
+    
+    /**
+     * Cópia dos textos indexada pelo código
+     */
+    String[] copiarValores() {
+        return valores.toArray(new String[0]);
+    }
+    
+    int tamanho() {
+        return valores.size();
+    }
+    
+    void limpar() {
+        valores.clear();
+        codigos.clear();
+    }
+}
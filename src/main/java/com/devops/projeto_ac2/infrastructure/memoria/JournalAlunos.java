@@ -0,0 +1,426 @@
+package com.devops.projeto_ac2.infrastructure.memoria;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.infrastructure.snapshot.FormatoBinarioAluno;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead log dos alunos em memória
+ * 
+ * O diretório guarda segmentos journal-N.log e snapshots snapshot-N.snap. O
+ * snapshot N tem o estado de antes do segmento N: a recuperação carrega o
+ * snapshot mais recente, reaplica os segmentos a partir dele e abre um segmento
+ * novo (nunca continua escrevendo num segmento que pode ter o fim truncado).
+ * 
+ * Registro: tamanho do conteúdo (int), tipo (byte), conteúdo e CRC32 de tipo +
+ * conteúdo (int). A leitura de um segmento para no primeiro registro incompleto
+ * ou com CRC errado, que é o que sobra de uma escrita interrompida.
+ * 
+ * fsync em grupo: cada registro anexado avança o LSN (bytes escritos desde a
+ * abertura) e {@link #aguardarDurabilidade(long)} só retorna depois de um force()
+ * que cubra aquele LSN. Só uma thread faz force() por vez; quem chega no meio
+ * espera e o próximo force() atende todos de uma vez.
+ * 
+ * {@link #anexar} e {@link #rotacionar()} devem ser chamados por um escritor de
+ * cada vez (quem usa o journal serializa as gravações).
+ */
+@Slf4j
+final class JournalAlunos implements Closeable {
+    
+    static final byte IMAGEM = 1;
+    static final byte REMOCAO = 2;
+    static final byte RECALCULO = 3;
+    static final byte EXCLUSAO_CONCLUIDOS = 4;
+    static final byte EXCLUSAO_IDS = 5;
+    static final byte ARQUIVAMENTO = 6;
+    
+    /**
+     * Maior conteúdo aceito num registro (quem anexa divide operações maiores)
+     */
+    static final int TAMANHO_MAXIMO_CONTEUDO = 1 << 19;
+    
+    private static final int MAGICO_SNAPSHOT = 0x414C4E4A; // "ALNJ"
+    private static final int TAMANHO_MOLDURA = Integer.BYTES + Byte.BYTES + Integer.BYTES;
+    private static final int TAMANHO_BUFFER = 1 << 20;
+    private static final Pattern SEGMENTO = Pattern.compile("journal-(\\d{12})\\.log");
+    private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d{12})\\.snap");
+    
+    /**
+     * Aplica um registro do journal durante a recuperação
+     */
+    interface Aplicador {
+        void aplicar(byte tipo, ByteBuffer conteudo);
+    }
+    
+    private final Path diretorio;
+    private final Object monitor = new Object();
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer moldura = ByteBuffer.allocate(4096);
+    
+    private volatile FileChannel canal;
+    private long numeroSegmento;
+    private volatile long lsnEscrito;
+    private long lsnDuravel;
+    private boolean forcando;
+    
+    JournalAlunos(Path diretorio) {
+        this.diretorio = diretorio;
+        try {
+            Files.createDirectories(diretorio);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao criar diretório do journal " + diretorio, e);
+        }
+    }
+    
+    /**
+     * Carrega o snapshot mais recente, reaplica os segmentos posteriores e abre um segmento novo
+     * 
+     * @param restaurar Recebe cada aluno do snapshot (arquivados já vêm marcados)
+     * @param aplicador Recebe cada registro válido dos segmentos, em ordem
+     * @return Próximo ID gravado no snapshot (0 sem snapshot) e quantidades lidas
+     */
+    Recuperacao recuperar(Consumer<Aluno> restaurar, Aplicador aplicador) {
+        try {
+            TreeMap<Long, Path> segmentos = listar(SEGMENTO);
+            TreeMap<Long, Path> snapshots = listar(SNAPSHOT);
+            
+            long inicio = snapshots.isEmpty() ? 0 : snapshots.lastKey();
+            Recuperacao recuperacao = new Recuperacao();
+            if (!snapshots.isEmpty()) {
+                carregarSnapshot(snapshots.lastEntry().getValue(), restaurar, recuperacao);
+            }
+            for (Path segmento : segmentos.tailMap(inicio, true).values()) {
+                recuperacao.registros += reproduzir(segmento, aplicador);
+            }
+            
+            long maiorSegmento = segmentos.isEmpty() ? 0 : segmentos.lastKey();
+            abrirSegmento(Math.max(Math.max(maiorSegmento + 1, inicio), 1));
+            return recuperacao;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao recuperar journal de " + diretorio, e);
+        }
+    }
+    
+    /**
+     * Anexa um registro ao segmento atual (vai para o cache de páginas, sem fsync)
+     * 
+     * @return LSN do fim do registro, para {@link #aguardarDurabilidade(long)}
+     */
+    long anexar(byte tipo, ByteBuffer conteudo) {
+        int tamanho = conteudo.remaining();
+        if (tamanho > TAMANHO_MAXIMO_CONTEUDO) {
+            throw new IllegalArgumentException("Registro de journal grande demais: " + tamanho + " bytes");
+        }
+        if (moldura.capacity() < tamanho + TAMANHO_MOLDURA) {
+            moldura = ByteBuffer.allocate(Math.max(tamanho + TAMANHO_MOLDURA, moldura.capacity() * 2));
+        }
+        moldura.clear();
+        moldura.putInt(tamanho);
+        moldura.put(tipo);
+        moldura.put(conteudo);
+        crc.reset();
+        crc.update(moldura.array(), Integer.BYTES, Byte.BYTES + tamanho);
+        moldura.putInt((int) crc.getValue());
+        moldura.flip();
+        
+        try {
+            while (moldura.hasRemaining()) {
+                canal.write(moldura);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar no journal", e);
+        }
+        lsnEscrito += tamanho + TAMANHO_MOLDURA;
+        return lsnEscrito;
+    }
+    
+    long getLsnEscrito() {
+        return lsnEscrito;
+    }
+    
+    /**
+     * Bloqueia até o LSN informado estar em disco (fsync em grupo)
+     */
+    void aguardarDurabilidade(long lsn) {
+        while (true) {
+            FileChannel atual;
+            long alvo;
+            synchronized (monitor) {
+                while (forcando && lsnDuravel < lsn) {
+                    esperar();
+                }
+                if (lsnDuravel >= lsn) {
+                    return;
+                }
+                forcando = true;
+                atual = canal;
+                alvo = lsnEscrito;
+            }
+            
+            long duravel = -1;
+            try {
+                // force(false) = fdatasync: inclui o tamanho do arquivo, que é o que importa num append
+                atual.force(false);
+                duravel = alvo;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha no fsync do journal", e);
+            } finally {
+                synchronized (monitor) {
+                    lsnDuravel = Math.max(lsnDuravel, duravel);
+                    forcando = false;
+                    monitor.notifyAll();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Fecha o segmento atual (com fsync) e abre o próximo
+     * 
+     * @return Número do segmento aberto: um snapshot do estado atual leva esse número
+     */
+    long rotacionar() {
+        synchronized (monitor) {
+            while (forcando) {
+                esperar();
+            }
+            forcando = true;
+        }
+        try {
+            canal.force(false);
+            canal.close();
+            abrirSegmento(numeroSegmento + 1);
+            return numeroSegmento;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao rotacionar journal", e);
+        } finally {
+            synchronized (monitor) {
+                lsnDuravel = Math.max(lsnDuravel, lsnEscrito);
+                forcando = false;
+                monitor.notifyAll();
+            }
+        }
+    }
+    
+    /**
+     * Grava o snapshot N (em .tmp, fsync e rename) e apaga os segmentos e snapshots anteriores a ele
+     * 
+     * @return Bytes gravados
+     */
+    long gravarSnapshot(long segmento, long proximoId, List<Aluno> ativos, List<Aluno> arquivados) {
+        Path destino = diretorio.resolve(String.format("snapshot-%012d.snap", segmento));
+        Path temporario = destino.resolveSibling(destino.getFileName() + ".tmp");
+        long bytes;
+        try {
+            try (FileChannel arquivo = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+                buffer.putInt(MAGICO_SNAPSHOT);
+                buffer.putLong(proximoId);
+                gravarSecao(arquivo, buffer, ativos);
+                gravarSecao(arquivo, buffer, arquivados);
+                descarregar(arquivo, buffer);
+                arquivo.force(true);
+                bytes = arquivo.size();
+            }
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            
+            for (Path antigo : listar(SEGMENTO).headMap(segmento, false).values()) {
+                Files.deleteIfExists(antigo);
+            }
+            for (Path antigo : listar(SNAPSHOT).headMap(segmento, false).values()) {
+                Files.deleteIfExists(antigo);
+            }
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar snapshot do journal " + destino, e);
+        }
+    }
+    
+    /**
+     * Bytes ocupados no diretório pelos segmentos e snapshots
+     */
+    long bytesEmDisco() {
+        try {
+            long total = 0;
+            for (Path arquivo : listar(SEGMENTO).values()) {
+                total += Files.size(arquivo);
+            }
+            for (Path arquivo : listar(SNAPSHOT).values()) {
+                total += Files.size(arquivo);
+            }
+            return total;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        FileChannel atual = canal;
+        if (atual != null && atual.isOpen()) {
+            aguardarDurabilidade(lsnEscrito);
+            atual.close();
+        }
+    }
+    
+    private void abrirSegmento(long numero) throws IOException {
+        Path arquivo = diretorio.resolve(String.format("journal-%012d.log", numero));
+        canal = FileChannel.open(arquivo, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        numeroSegmento = numero;
+    }
+    
+    private void carregarSnapshot(Path arquivo, Consumer<Aluno> restaurar, Recuperacao recuperacao) throws IOException {
+        try (FileChannel entrada = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+            buffer.flip();
+            garantir(entrada, buffer, Integer.BYTES + Long.BYTES);
+            if (buffer.getInt() != MAGICO_SNAPSHOT) {
+                throw new IllegalStateException("Arquivo não é um snapshot do journal: " + arquivo);
+            }
+            recuperacao.proximoId = buffer.getLong();
+            recuperacao.alunosSnapshot += lerSecao(entrada, buffer, restaurar, false);
+            recuperacao.alunosSnapshot += lerSecao(entrada, buffer, restaurar, true);
+        } catch (BufferUnderflowException e) {
+            // O snapshot só ganha o nome final depois do fsync: truncado aqui é corrupção de disco
+            throw new IllegalStateException("Snapshot do journal truncado: " + arquivo, e);
+        }
+    }
+    
+    private static long lerSecao(FileChannel entrada, ByteBuffer buffer, Consumer<Aluno> restaurar,
+                                 boolean arquivados) throws IOException {
+        garantir(entrada, buffer, FormatoBinarioAluno.TAMANHO_CABECALHO);
+        long quantidade = FormatoBinarioAluno.lerCabecalho(buffer);
+        for (long i = 0; i < quantidade; i++) {
+            garantir(entrada, buffer, FormatoBinarioAluno.TAMANHO_MAXIMO_REGISTRO);
+            Aluno aluno = FormatoBinarioAluno.ler(buffer);
+            restaurar.accept(arquivados ? aluno.marcarComoArquivado() : aluno);
+        }
+        return quantidade;
+    }
+    
+    private static void gravarSecao(FileChannel arquivo, ByteBuffer buffer, List<Aluno> alunos) throws IOException {
+        if (buffer.remaining() < FormatoBinarioAluno.TAMANHO_CABECALHO) {
+            descarregar(arquivo, buffer);
+        }
+        FormatoBinarioAluno.escreverCabecalho(buffer, alunos.size());
+        for (Aluno aluno : alunos) {
+            if (buffer.remaining() < FormatoBinarioAluno.TAMANHO_MAXIMO_REGISTRO) {
+                descarregar(arquivo, buffer);
+            }
+            FormatoBinarioAluno.escrever(buffer, aluno);
+        }
+    }
+    
+    /**
+     * Reaplica os registros válidos de um segmento
+     * 
+     * @return Quantidade de registros aplicados
+     */
+    private long reproduzir(Path arquivo, Aplicador aplicador) throws IOException {
+        long registros = 0;
+        try (FileChannel entrada = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_BUFFER);
+            buffer.flip();
+            while (garantir(entrada, buffer, Integer.BYTES)) {
+                int tamanho = buffer.getInt();
+                if (tamanho < 0 || tamanho > TAMANHO_MAXIMO_CONTEUDO
+                        || !garantir(entrada, buffer, Byte.BYTES + tamanho + Integer.BYTES)) {
+                    log.warn("Journal {}: registro incompleto após {} registros; restante ignorado",
+                            arquivo.getFileName(), registros);
+                    break;
+                }
+                int inicio = buffer.position();
+                crc.reset();
+                crc.update(buffer.array(), buffer.arrayOffset() + inicio, Byte.BYTES + tamanho);
+                byte tipo = buffer.get();
+                ByteBuffer conteudo = buffer.slice(inicio + Byte.BYTES, tamanho);
+                buffer.position(inicio + Byte.BYTES + tamanho);
+                if (buffer.getInt() != (int) crc.getValue()) {
+                    log.warn("Journal {}: CRC inválido após {} registros; restante ignorado",
+                            arquivo.getFileName(), registros);
+                    break;
+                }
+                aplicador.aplicar(tipo, conteudo);
+                registros++;
+            }
+        }
+        return registros;
+    }
+    
+    private TreeMap<Long, Path> listar(Pattern padrao) throws IOException {
+        TreeMap<Long, Path> arquivos = new TreeMap<>();
+        try (DirectoryStream<Path> conteudo = Files.newDirectoryStream(diretorio)) {
+            for (Path arquivo : conteudo) {
+                Matcher matcher = padrao.matcher(arquivo.getFileName().toString());
+                if (matcher.matches()) {
+                    arquivos.put(Long.parseLong(matcher.group(1)), arquivo);
+                }
+            }
+        }
+        return arquivos;
+    }
+    
+    private void esperar() {
+        try {
+            monitor.wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando fsync do journal", e);
+        }
+    }
+    
+    private static void descarregar(FileChannel arquivo, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            arquivo.write(buffer);
+        }
+        buffer.clear();
+    }
+    
+    /**
+     * Garante ao menos n bytes disponíveis no buffer (em modo leitura), lendo mais do canal se preciso
+     * 
+     * @return false se o arquivo acabou antes
+     */
+    private static boolean garantir(FileChannel entrada, ByteBuffer buffer, int n) throws IOException {
+        if (buffer.remaining() >= n) {
+            return true;
+        }
+        buffer.compact();
+        while (buffer.position() < n) {
+            if (entrada.read(buffer) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining() >= n;
+    }
+    
+    /**
+     * O que a recuperação encontrou no disco
+     */
+    static final class Recuperacao {
+        long proximoId;
+        long alunosSnapshot;
+        long registros;
+    }
+}
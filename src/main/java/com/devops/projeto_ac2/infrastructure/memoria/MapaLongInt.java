@@ -0,0 +1,135 @@
+package com.devops.projeto_ac2.infrastructure.memoria;
+
+import java.util.Arrays;
+
+/**
+ * Mapa long → int com endereçamento aberto (sondagem linear) sobre arrays primitivos
+ * 
+ * Substitui HashMap&lt;Long, Integer&gt; no índice por ID: sem boxing, sem nós
+ * por entrada (16 bytes por posição contra ~50 do HashMap). A chave 0 é
+ * reservada para posição vazia; IDs de aluno começam em 1.
+ * Não é thread-safe: o adapter protege o acesso com o seu lock.
+ */
+final class MapaLongInt {
+    
+    static final int AUSENTE = -1;
+    
+    private static final long VAZIA = 0L;
+    private static final double CARGA_MAXIMA = 0.6;
+    
+    private long[] chaves;
+    private int[] valores;
+    private int tamanho;
+    private int limite;
+    
+    MapaLongInt(int capacidadeInicial) {
+        int capacidade = Integer.highestOneBit(Math.max(16, (int) (capacidadeInicial / CARGA_MAXIMA)) - 1) << 1;
+        alocar(capacidade);
+    }
+    
+    int get(long chave) {
+        int mascara = chaves.length - 1;
+        for (int i = posicao(chave, mascara); ; i = (i + 1) & mascara) {
+            long atual = chaves[i];
+            // VAZIA antes da igualdade: a chave 0 coincide com o marcador e nunca está no mapa
+            if (atual == VAZIA) {
+                return AUSENTE;
+            }
+            if (atual == chave) {
+                return valores[i];
+            }
+        }
+    }
+    
+    void put(long chave, int valor) {
+        if (chave == VAZIA) {
+            throw new IllegalArgumentException("Chave 0 é reservada");
+        }
+        int mascara = chaves.length - 1;
+        for (int i = posicao(chave, mascara); ; i = (i + 1) & mascara) {
+            long atual = chaves[i];
+            if (atual == chave) {
+                valores[i] = valor;
+                return;
+            }
+            if (atual == VAZIA) {
+                chaves[i] = chave;
+                valores[i] = valor;
+                if (++tamanho > limite) {
+                    redimensionar();
+                }
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Remove a chave deslocando para trás as entradas seguintes do mesmo grupo
+     * (sem marcadores de remoção, as buscas continuam curtas)
+     */
+    void remove(long chave) {
+        if (chave == VAZIA) {
+            return;
+        }
+        int mascara = chaves.length - 1;
+        int i = posicao(chave, mascara);
+        while (chaves[i] != chave) {
+            if (chaves[i] == VAZIA) {
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        
+        int vazia = i;
+        for (int j = (i + 1) & mascara; chaves[j] != VAZIA; j = (j + 1) & mascara) {
+            int ideal = posicao(chaves[j], mascara);
+            // A entrada em j pode ocupar a posição vazia se o caminho ideal→j passa por ela
+            if (((j - ideal) & mascara) >= ((j - vazia) & mascara)) {
+                chaves[vazia] = chaves[j];
+                valores[vazia] = valores[j];
+                vazia = j;
+            }
+        }
+        chaves[vazia] = VAZIA;
+        tamanho--;
+    }
+    
+    int tamanho() {
+        return tamanho;
+    }
+    
+    void limpar() {
+        Arrays.fill(chaves, VAZIA);
+        tamanho = 0;
+    }
+    
+    /**
+     * Bytes ocupados pelos arrays (para as métricas de memória)
+     */
+    long bytesOcupados() {
+        return (long) chaves.length * (Long.BYTES + Integer.BYTES);
+    }
+    
+    private void redimensionar() {
+        long[] chavesAntigas = chaves;
+        int[] valoresAntigos = valores;
+        alocar(chaves.length * 2);
+        for (int i = 0; i < chavesAntigas.length; i++) {
+            if (chavesAntigas[i] != VAZIA) {
+                put(chavesAntigas[i], valoresAntigos[i]);
+            }
+        }
+    }
+    
+    private void alocar(int capacidade) {
+        chaves = new long[capacidade];
+        valores = new int[capacidade];
+        tamanho = 0;
+        limite = (int) (capacidade * CARGA_MAXIMA);
+    }
+    
+    private static int posicao(long chave, int mascara) {
+        long h = chave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mascara;
+    }
+}
@@ -0,0 +1,63 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha do arquivo de alunos concluídos (tb_alunos_arquivados)
+ * 
+ * Camada fria: alunos concluídos há mais de N dias saem de tb_alunos e vêm para cá,
+ * mantendo o mesmo ID. Somente leitura; gravada apenas por INSERT ... SELECT.
+ */
+@Entity
+@Immutable
+@Table(name = "tb_alunos_arquivados",
+        indexes = @Index(name = "idx_arquivado_ra", columnList = "ra", unique = true))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // Para JPA
+public class AlunoArquivado {
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false, length = 100)
+    private String nome;
+    
+    @Column(nullable = false, length = 20)
+    private String ra;
+    
+    @Column(nullable = false)
+    private double mediaFinal;
+    
+    @Column(nullable = false)
+    private int cursosAdicionais;
+    
+    @Column(nullable = false)
+    private int tentativasAvaliacao;
+    
+    @Column(nullable = false)
+    private LocalDateTime dataCriacao;
+    
+    @Column
+    private LocalDateTime dataAtualizacao;
+    
+    @Column(nullable = false)
+    private LocalDateTime dataConclusao;
+    
+    @Column(nullable = false)
+    private LocalDateTime dataArquivamento;
+    
+    /**
+     * Converte para a entidade de domínio, marcada como arquivada (somente leitura)
+     */
+    public Aluno paraAluno() {
+        return Aluno.reconstituir(id, nome, ra, mediaFinal, true, cursosAdicionais, tentativasAvaliacao,
+                dataCriacao, dataAtualizacao, dataConclusao, 0L).marcarComoArquivado();
+    }
+}
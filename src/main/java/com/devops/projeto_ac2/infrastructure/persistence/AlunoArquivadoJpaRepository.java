@@ -0,0 +1,39 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * JPA Repository para o arquivo de alunos concluídos
+ * Não é exposto pelo Spring Data REST
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface AlunoArquivadoJpaRepository extends JpaRepository<AlunoArquivado, Long> {
+    
+    Optional<AlunoArquivado> findByRa(String ra);
+    
+    boolean existsByRa(String ra);
+    
+    /**
+     * Copia para o arquivo os concluídos antes do limite na faixa de IDs (INSERT ... SELECT)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO AlunoArquivado (id, nome, ra, mediaFinal, cursosAdicionais, tentativasAvaliacao, " +
+            "dataCriacao, dataAtualizacao, dataConclusao, dataArquivamento) " +
+            "SELECT a.id, a.nome, a.registroAcademico.valor, a.mediaFinal, a.cursosAdicionais, " +
+            "a.tentativasAvaliacao, a.dataCriacao, a.dataAtualizacao, a.dataConclusao, :agora " +
+            "FROM Aluno a WHERE a.concluiu = true AND a.dataConclusao < :limite " +
+            "AND a.id BETWEEN :idInicial AND :idFinal")
+    int copiarConcluidosAntesDe(@Param("limite") LocalDateTime limite,
+                                @Param("idInicial") long idInicial,
+                                @Param("idFinal") long idFinal,
+                                @Param("agora") LocalDateTime agora);
+}
@@ -1,30 +1,139 @@
 package com.devops.projeto_ac2.infrastructure.persistence;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * JPA Repository para Aluno
  * Implementação específica do Spring Data JPA
+ * 
+ * As consultas marcadas com HINT_CACHEABLE usam o cache de consultas do Hibernate, invalidado
+ * a cada gravação em tb_alunos feita pelo Hibernate (inclusive UPDATE/DELETE em massa)
  */
 @Repository
 public interface AlunoJpaRepository extends JpaRepository<Aluno, Long> {
     
     @Query("SELECT a FROM Aluno a WHERE a.registroAcademico.valor = :ra")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Aluno> findByRA(@Param("ra") String ra);
     
     @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Aluno a WHERE a.registroAcademico.valor = :ra")
     boolean existsByRA(@Param("ra") String ra);
     
     @Query("SELECT a FROM Aluno a WHERE a.concluiu = true")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Aluno> findConcluidos();
     
     @Query("SELECT a FROM Aluno a WHERE a.concluiu = false")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Aluno> findNaoConcluidos();
+    
+    /**
+     * Busca com lock pessimista de linha (SELECT ... FOR UPDATE)
+     * Alternativa ao controle otimista, usada como referência no benchmark de contenção
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Aluno a WHERE a.id = :id")
+    Optional<Aluno> findByIdParaAtualizacao(@Param("id") Long id);
+    
+    /**
+     * UPDATE condicional do registro de tentativa: grava as pendências antes, mas não limpa
+     * o contexto (quem chama descarta só o aluno alterado)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Aluno a SET a.tentativasAvaliacao = a.tentativasAvaliacao + 1, a.mediaFinal = :media, " +
+            "a.dataAtualizacao = :agora, a.versao = a.versao + 1 " +
+            "WHERE a.id = :id AND a.concluiu = false AND a.tentativasAvaliacao < :limite")
+    int registrarTentativa(@Param("id") Long id,
+                           @Param("media") double media,
+                           @Param("agora") LocalDateTime agora,
+                           @Param("limite") int limite);
+    
+    /**
+     * O mesmo UPDATE já devolvendo a linha alterada (FINAL TABLE, só no H2): um comando só
+     * SQL nativo não passa pela invalidação do Hibernate; ver AlunoRepositoryImpl
+     */
+    @Query(value = "SELECT * FROM FINAL TABLE (UPDATE tb_alunos SET tentativas_avaliacao = tentativas_avaliacao + 1, " +
+            "media_final = :media, data_atualizacao = :agora, versao = versao + 1 " +
+            "WHERE id = :id AND concluiu = FALSE AND tentativas_avaliacao < :limite)", nativeQuery = true)
+    Optional<Aluno> registrarTentativaDevolvendoAluno(@Param("id") Long id,
+                                                      @Param("media") double media,
+                                                      @Param("agora") LocalDateTime agora,
+                                                      @Param("limite") int limite);
+    
+    @Query("SELECT MIN(a.id) FROM Aluno a WHERE a.concluiu = true")
+    Optional<Long> findMenorIdConcluido();
+    
+    @Query("SELECT MAX(a.id) FROM Aluno a WHERE a.concluiu = true")
+    Optional<Long> findMaiorIdConcluido();
+    
+    /**
+     * Recálculo set-based do bônus de cursos numa faixa de IDs
+     * Só reescreve (e incrementa a versão de) linhas cujo valor muda
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Aluno a SET a.cursosAdicionais = " +
+            "CASE WHEN a.mediaFinal >= :mediaExcelencia THEN :cursosExcelencia " +
+            "WHEN a.mediaFinal >= :mediaAprovacao THEN :cursosAprovacao ELSE 0 END, " +
+            "a.dataAtualizacao = :agora, a.versao = a.versao + 1 " +
+            "WHERE a.concluiu = true AND a.id BETWEEN :idInicial AND :idFinal " +
+            "AND a.cursosAdicionais <> " +
+            "CASE WHEN a.mediaFinal >= :mediaExcelencia THEN :cursosExcelencia " +
+            "WHEN a.mediaFinal >= :mediaAprovacao THEN :cursosAprovacao ELSE 0 END")
+    int recalcularCursosAdicionais(@Param("mediaExcelencia") double mediaExcelencia,
+                                   @Param("cursosExcelencia") int cursosExcelencia,
+                                   @Param("mediaAprovacao") double mediaAprovacao,
+                                   @Param("cursosAprovacao") int cursosAprovacao,
+                                   @Param("agora") LocalDateTime agora,
+                                   @Param("idInicial") long idInicial,
+                                   @Param("idFinal") long idFinal);
+    
+    @Query("SELECT MIN(a.id) FROM Aluno a WHERE a.concluiu = true AND a.dataConclusao < :limite")
+    Optional<Long> findMenorIdConcluidoAntesDe(@Param("limite") LocalDateTime limite);
+    
+    @Query("SELECT MAX(a.id) FROM Aluno a WHERE a.concluiu = true AND a.dataConclusao < :limite")
+    Optional<Long> findMaiorIdConcluidoAntesDe(@Param("limite") LocalDateTime limite);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Aluno a WHERE a.concluiu = true AND a.dataConclusao < :limite " +
+            "AND a.id BETWEEN :idInicial AND :idFinal")
+    int excluirConcluidosAntesDe(@Param("limite") LocalDateTime limite,
+                                 @Param("idInicial") long idInicial,
+                                 @Param("idFinal") long idFinal);
+    
+    /**
+     * Trava (SELECT ... FOR UPDATE) os concluídos antes do limite na faixa de IDs:
+     * até o commit nenhuma outra transação altera as linhas que serão arquivadas
+     */
+    @Query(value = "SELECT id FROM tb_alunos WHERE concluiu = TRUE AND data_conclusao < :limite " +
+            "AND id BETWEEN :idInicial AND :idFinal FOR UPDATE", nativeQuery = true)
+    List<Long> travarConcluidosAntesDe(@Param("limite") LocalDateTime limite,
+                                       @Param("idInicial") long idInicial,
+                                       @Param("idFinal") long idFinal);
+    
+    /**
+     * Exclui da faixa de IDs só os alunos que já estão no arquivo (os copiados pelo INSERT ... SELECT)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Aluno a WHERE a.id BETWEEN :idInicial AND :idFinal " +
+            "AND a.id IN (SELECT r.id FROM AlunoArquivado r WHERE r.id BETWEEN :idInicial AND :idFinal)")
+    int excluirArquivados(@Param("idInicial") long idInicial, @Param("idFinal") long idFinal);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Aluno a WHERE a.id IN :ids")
+    int excluirPorIds(@Param("ids") Collection<Long> ids);
 }
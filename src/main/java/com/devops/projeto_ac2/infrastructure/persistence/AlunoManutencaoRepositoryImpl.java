@@ -0,0 +1,90 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.domain.repositories.AlunoManutencaoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Adapter do AlunoManutencaoRepository: comandos JPQL em massa sobre tb_alunos
+ * As exclusões removem primeiro o histórico de tentativas (sem FK, ligado pelo ID do aluno)
+ */
+@Component
+@Profile("!memoria & !mapeado & !sharding")
+public class AlunoManutencaoRepositoryImpl implements AlunoManutencaoRepository {
+    
+    private final AlunoJpaRepository jpaRepository;
+    private final TentativaAvaliacaoJpaRepository tentativaJpaRepository;
+    private final AlunoArquivadoJpaRepository arquivadoJpaRepository;
+    
+    public AlunoManutencaoRepositoryImpl(AlunoJpaRepository jpaRepository,
+                                         TentativaAvaliacaoJpaRepository tentativaJpaRepository,
+                                         AlunoArquivadoJpaRepository arquivadoJpaRepository) {
+        this.jpaRepository = jpaRepository;
+        this.tentativaJpaRepository = tentativaJpaRepository;
+        this.arquivadoJpaRepository = arquivadoJpaRepository;
+    }
+    
+    @Override
+    public Optional<Long> menorIdConcluido() {
+        return jpaRepository.findMenorIdConcluido();
+    }
+    
+    @Override
+    public Optional<Long> maiorIdConcluido() {
+        return jpaRepository.findMaiorIdConcluido();
+    }
+    
+    @Override
+    public int recalcularCursosAdicionais(RegrasBonusCursos regras, long idInicial, long idFinal) {
+        return jpaRepository.recalcularCursosAdicionais(
+                regras.getMediaExcelencia(), regras.getCursosExcelencia(),
+                regras.getMediaAprovacao(), regras.getCursosAprovacao(),
+                LocalDateTime.now(), idInicial, idFinal);
+    }
+    
+    @Override
+    public Optional<Long> menorIdConcluidoAntesDe(LocalDateTime limite) {
+        return jpaRepository.findMenorIdConcluidoAntesDe(limite);
+    }
+    
+    @Override
+    public Optional<Long> maiorIdConcluidoAntesDe(LocalDateTime limite) {
+        return jpaRepository.findMaiorIdConcluidoAntesDe(limite);
+    }
+    
+    @Override
+    public int excluirConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal) {
+        tentativaJpaRepository.excluirDeConcluidosAntesDe(limite, idInicial, idFinal);
+        return jpaRepository.excluirConcluidosAntesDe(limite, idInicial, idFinal);
+    }
+    
+    @Override
+    public int excluirPorIds(Collection<Long> ids) {
+        tentativaJpaRepository.excluirPorAlunos(ids);
+        return jpaRepository.excluirPorIds(ids);
+    }
+    
+    /**
+     * INSERT ... SELECT no arquivo seguido do DELETE em tb_alunos, na mesma transação
+     * 
+     * Em READ_COMMITTED os dois comandos podem enxergar linhas diferentes: as linhas são
+     * travadas antes da cópia (nenhuma alteração se perde entre a cópia e a exclusão) e o
+     * DELETE remove só o que está no arquivo (quem concluiu depois da cópia fica em tb_alunos).
+     */
+    @Override
+    public int arquivarConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal) {
+        if (jpaRepository.travarConcluidosAntesDe(limite, idInicial, idFinal).isEmpty()) {
+            return 0;
+        }
+        int copiados = arquivadoJpaRepository.copiarConcluidosAntesDe(limite, idInicial, idFinal, LocalDateTime.now());
+        if (copiados == 0) {
+            return 0;
+        }
+        return jpaRepository.excluirArquivados(idInicial, idFinal);
+    }
+}
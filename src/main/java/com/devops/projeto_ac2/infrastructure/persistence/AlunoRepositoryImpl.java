@@ -1,38 +1,122 @@
 package com.devops.projeto_ac2.infrastructure.persistence;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Adapter do AlunoRepository (interface do domínio) para AlunoJpaRepository (Spring Data JPA)
  * Seguindo Clean Architecture: implementação na infraestrutura, interface no domínio
+ * Ativo em todos os profiles menos "memoria", "mapeado" e "sharding"
+ * (ver AlunoRepositoryColunar, AlunoRepositoryMapeado e AlunoRepositorySharded)
  */
 @Component
+@Profile("!memoria & !mapeado & !sharding")
 public class AlunoRepositoryImpl implements AlunoRepository {
     
     private final AlunoJpaRepository jpaRepository;
+    private final AlunoArquivadoJpaRepository arquivadoJpaRepository;
+    private final CacheSegundoNivel cacheSegundoNivel;
+    private final boolean h2;
     
-    public AlunoRepositoryImpl(AlunoJpaRepository jpaRepository) {
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public AlunoRepositoryImpl(AlunoJpaRepository jpaRepository,
+                               AlunoArquivadoJpaRepository arquivadoJpaRepository,
+                               CacheSegundoNivel cacheSegundoNivel,
+                               EntityManagerFactory entityManagerFactory) {
         this.jpaRepository = jpaRepository;
+        this.arquivadoJpaRepository = arquivadoJpaRepository;
+        this.cacheSegundoNivel = cacheSegundoNivel;
+        this.h2 = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof H2Dialect;
     }
     
+    /**
+     * Aluno já gerenciado pela transação atual não passa por save/merge:
+     * o dirty checking grava só as colunas alteradas no commit
+     */
     @Override
     public Aluno salvar(Aluno aluno) {
+        if (aluno.isArquivado()) {
+            throw new DomainException("Aluno arquivado não pode ser alterado");
+        }
+        if (gerenciado(aluno)) {
+            return aluno;
+        }
         return jpaRepository.save(aluno);
     }
     
     @Override
-    public Optional<Aluno> buscarPorId(Long id) {
+    public List<Aluno> salvarTodos(List<Aluno> alunos) {
+        if (alunos.stream().allMatch(this::gerenciado)) {
+            return alunos;
+        }
+        return jpaRepository.saveAll(alunos);
+    }
+    
+    private boolean gerenciado(Aluno aluno) {
+        return aluno.getId() != null && entityManager.contains(aluno);
+    }
+    
+    /**
+     * Só o aluno alterado sai do contexto (gravado antes, para não perder pendências): as demais
+     * entidades do chamador continuam gerenciadas. No H2 o UPDATE já devolve a linha (FINAL TABLE)
+     * e o aluno é descartado do cache de segundo nível, que o SQL nativo não invalida; nos demais
+     * bancos o UPDATE é JPQL (invalidado pelo Hibernate) seguido da releitura do aluno.
+     */
+    @Override
+    public Optional<Aluno> registrarTentativaAtomica(Long id, double media) {
+        entityManager.flush();
+        entityManager.detach(entityManager.getReference(Aluno.class, id));
+        LocalDateTime agora = LocalDateTime.now();
+        if (h2) {
+            Optional<Aluno> alterado = jpaRepository.registrarTentativaDevolvendoAluno(id, media, agora,
+                    Aluno.MAX_TENTATIVAS);
+            alterado.ifPresent(aluno -> cacheSegundoNivel.invalidarAluno(id));
+            return alterado;
+        }
+        if (jpaRepository.registrarTentativa(id, media, agora, Aluno.MAX_TENTATIVAS) == 0) {
+            return Optional.empty();
+        }
         return jpaRepository.findById(id);
     }
     
+    @Override
+    public Optional<Aluno> buscarPorId(Long id) {
+        Optional<Aluno> ativo = jpaRepository.findById(id);
+        if (ativo.isPresent()) {
+            return ativo;
+        }
+        return arquivadoJpaRepository.findById(id).map(AlunoArquivado::paraAluno);
+    }
+    
+    @Override
+    public List<Aluno> buscarPorIds(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids);
+    }
+    
     @Override
     public Optional<Aluno> buscarPorRA(String ra) {
-        return jpaRepository.findByRA(ra);
+        Optional<Aluno> ativo = jpaRepository.findByRA(ra);
+        if (ativo.isPresent()) {
+            return ativo;
+        }
+        return arquivadoJpaRepository.findByRa(ra).map(AlunoArquivado::paraAluno);
     }
     
     @Override
@@ -50,9 +134,16 @@ public class AlunoRepositoryImpl implements AlunoRepository {
         return jpaRepository.findNaoConcluidos();
     }
     
+    @Override
+    public List<Aluno> buscarArquivados() {
+        return arquivadoJpaRepository.findAll().stream()
+                .map(AlunoArquivado::paraAluno)
+                .collect(Collectors.toList());
+    }
+    
     @Override
     public boolean existePorRA(String ra) {
-        return jpaRepository.existsByRA(ra);
+        return jpaRepository.existsByRA(ra) || arquivadoJpaRepository.existsByRa(ra);
     }
     
     @Override
@@ -0,0 +1,70 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cache de segundo nível do Hibernate visto de fora do EntityManager
+ * 
+ * Gravações em tb_alunos por JDBC direto (restauração de snapshot) ou SQL nativo (registro
+ * atômico de tentativa) não passam pelo Hibernate: quem as faz chama {@link #invalidarAlunos()}
+ * ou {@link #invalidarAluno(Long)} para descartar os alunos e as consultas em cache.
+ * Gravações por entidade e UPDATE/DELETE JPQL em massa já são invalidadas pelo próprio Hibernate.
+ */
+@Component
+public class CacheSegundoNivel {
+    
+    private final SessionFactory sessionFactory;
+    
+    public CacheSegundoNivel(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+    
+    public boolean isHabilitado() {
+        return sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled();
+    }
+    
+    /**
+     * Descarta todos os alunos e todos os resultados de consulta em cache
+     */
+    public void invalidarAlunos() {
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(Aluno.class);
+        cache.evictQueryRegions();
+    }
+    
+    /**
+     * Descarta um aluno e os resultados de consulta em cache, agora e de novo no fim da
+     * transação atual (uma leitura concorrente antes do commit pode ter guardado a linha antiga)
+     */
+    public void invalidarAluno(Long id) {
+        descartar(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    descartar(id);
+                }
+            });
+        }
+    }
+    
+    /**
+     * Estatísticas do Hibernate (coletadas só com alunos.cache-hibernate.estatisticas=true)
+     */
+    public Statistics getEstatisticas() {
+        return sessionFactory.getStatistics();
+    }
+    
+    private void descartar(Long id) {
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(Aluno.class, id);
+        cache.evictQueryRegions();
+    }
+}
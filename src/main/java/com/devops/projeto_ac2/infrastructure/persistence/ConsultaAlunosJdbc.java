@@ -0,0 +1,100 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import com.devops.projeto_ac2.shared.dto.AlunoResponseDTO;
+import com.devops.projeto_ac2.shared.dto.RankingResponseDTO;
+import com.devops.projeto_ac2.shared.mapper.AlunoMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Leitura direta por JDBC para os GETs mais acessados (busca por ID e ranking)
+ * 
+ * Mapeia o ResultSet direto para os DTOs de resposta, sem Spring Data, sem entidade gerenciada
+ * pelo Hibernate e sem passar pelo AlunoMapper; a situação usa a mesma regra do mapper.
+ * Habilitada por endpoint em alunos.leitura-jdbc.*. Roda fora de transação: no profile
+ * "replica" estas consultas vão para o primário.
+ */
+@Component
+@Profile("!memoria & !mapeado & !sharding")
+public class ConsultaAlunosJdbc {
+    
+    private static final String POR_ID = "SELECT id, nome, ra, media_final, concluiu, cursos_adicionais, "
+            + "tentativas_avaliacao, data_criacao, data_atualizacao, data_conclusao FROM tb_alunos WHERE id = ?";
+    private static final String POR_ID_ARQUIVADO = "SELECT id, nome, ra, media_final, TRUE AS concluiu, "
+            + "cursos_adicionais, tentativas_avaliacao, data_criacao, data_atualizacao, data_conclusao "
+            + "FROM tb_alunos_arquivados WHERE id = ?";
+    private static final String RANKING = "SELECT id, nome, ra, media_final, concluiu, cursos_adicionais "
+            + "FROM tb_alunos ORDER BY media_final DESC, cursos_adicionais DESC, id LIMIT ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final RegrasBonusCursos regras;
+    
+    public ConsultaAlunosJdbc(JdbcTemplate jdbcTemplate, RegrasBonusCursos regras) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.regras = regras;
+    }
+    
+    /**
+     * Aluno ativo ou, se não houver, arquivado (mesma ordem do AlunoRepositoryImpl)
+     */
+    public Optional<AlunoResponseDTO> buscarPorId(long id) {
+        List<AlunoResponseDTO> ativo = jdbcTemplate.query(POR_ID, this::mapearAluno, id);
+        if (!ativo.isEmpty()) {
+            return Optional.of(ativo.get(0));
+        }
+        return jdbcTemplate.query(POR_ID_ARQUIVADO, this::mapearAluno, id).stream().findFirst();
+    }
+    
+    /**
+     * Ranking dos alunos ativos, na ordem de Aluno.ORDEM_RANKING (empate pelo ID)
+     * 
+     * @param limite Quantidade máxima de posições
+     */
+    public List<RankingResponseDTO> ranking(int limite) {
+        return jdbcTemplate.query(RANKING, this::mapearPosicaoRanking, limite);
+    }
+    
+    private AlunoResponseDTO mapearAluno(ResultSet rs, int linha) throws SQLException {
+        boolean concluiu = rs.getBoolean("concluiu");
+        double mediaFinal = rs.getDouble("media_final");
+        int tentativas = rs.getInt("tentativas_avaliacao");
+        return AlunoResponseDTO.builder()
+                .id(rs.getLong("id"))
+                .nome(rs.getString("nome"))
+                .ra(rs.getString("ra"))
+                .mediaFinal(mediaFinal)
+                .concluiu(concluiu)
+                .cursosAdicionais(rs.getInt("cursos_adicionais"))
+                .tentativasAvaliacao(tentativas)
+                .tentativasRestantes(Aluno.MAX_TENTATIVAS - tentativas)
+                .situacao(AlunoMapper.determinarSituacao(concluiu, mediaFinal, regras))
+                .dataCriacao(rs.getObject("data_criacao", LocalDateTime.class))
+                .dataAtualizacao(rs.getObject("data_atualizacao", LocalDateTime.class))
+                .dataConclusao(rs.getObject("data_conclusao", LocalDateTime.class))
+                .build();
+    }
+    
+    private RankingResponseDTO mapearPosicaoRanking(ResultSet rs, int linha) throws SQLException {
+        boolean concluiu = rs.getBoolean("concluiu");
+        double mediaFinal = rs.getDouble("media_final");
+        return RankingResponseDTO.builder()
+                .posicao(linha + 1)
+                .alunoId(rs.getLong("id"))
+                .nome(rs.getString("nome"))
+                .ra(rs.getString("ra"))
+                .mediaFinal(mediaFinal)
+                .cursosAdicionais(rs.getInt("cursos_adicionais"))
+                .concluiu(concluiu)
+                .situacao(AlunoMapper.determinarSituacao(concluiu, mediaFinal, regras))
+                .build();
+    }
+}
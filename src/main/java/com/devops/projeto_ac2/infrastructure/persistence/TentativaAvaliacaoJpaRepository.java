@@ -0,0 +1,39 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.domain.entities.TentativaAvaliacao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA Repository para o histórico de tentativas
+ * Não é exposto pelo Spring Data REST
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface TentativaAvaliacaoJpaRepository extends JpaRepository<TentativaAvaliacao, Long> {
+    
+    List<TentativaAvaliacao> findByAlunoIdOrderByNumeroAsc(Long alunoId, Pageable pageable);
+    
+    long countByAlunoId(Long alunoId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TentativaAvaliacao t WHERE t.alunoId IN :alunoIds")
+    int excluirPorAlunos(@Param("alunoIds") Collection<Long> alunoIds);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TentativaAvaliacao t WHERE t.alunoId IN " +
+            "(SELECT a.id FROM Aluno a WHERE a.concluiu = true AND a.dataConclusao < :limite " +
+            "AND a.id BETWEEN :idInicial AND :idFinal)")
+    int excluirDeConcluidosAntesDe(@Param("limite") LocalDateTime limite,
+                                   @Param("idInicial") long idInicial,
+                                   @Param("idFinal") long idFinal);
+}
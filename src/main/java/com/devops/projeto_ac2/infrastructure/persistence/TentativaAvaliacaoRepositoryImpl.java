@@ -0,0 +1,41 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.domain.entities.TentativaAvaliacao;
+import com.devops.projeto_ac2.domain.repositories.TentativaAvaliacaoRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adapter do TentativaAvaliacaoRepository (interface do domínio) para TentativaAvaliacaoJpaRepository
+ */
+@Component
+public class TentativaAvaliacaoRepositoryImpl implements TentativaAvaliacaoRepository {
+    
+    private final TentativaAvaliacaoJpaRepository jpaRepository;
+    
+    public TentativaAvaliacaoRepositoryImpl(TentativaAvaliacaoJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+    
+    @Override
+    public void registrar(TentativaAvaliacao tentativa) {
+        jpaRepository.save(tentativa);
+    }
+    
+    @Override
+    public void registrarTodas(List<TentativaAvaliacao> tentativas) {
+        jpaRepository.saveAll(tentativas);
+    }
+    
+    @Override
+    public List<TentativaAvaliacao> buscarPorAluno(Long alunoId, int pagina, int tamanho) {
+        return jpaRepository.findByAlunoIdOrderByNumeroAsc(alunoId, PageRequest.of(pagina, tamanho));
+    }
+    
+    @Override
+    public long contarPorAluno(Long alunoId) {
+        return jpaRepository.countByAlunoId(alunoId);
+    }
+}
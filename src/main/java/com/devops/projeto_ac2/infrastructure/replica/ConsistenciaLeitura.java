@@ -0,0 +1,55 @@
+package com.devops.projeto_ac2.infrastructure.replica;
+
+import java.util.function.LongConsumer;
+
+/**
+ * LSN que a requisição atual precisa enxergar nas leituras (read-your-writes)
+ * 
+ * Durante a requisição o valor só cresce: parte do LSN informado pelo cliente (header Alunos-Lsn)
+ * e acompanha cada commit feito por ela. Enquanto a réplica não alcança esse LSN, as leituras
+ * vão para o primário. No fim da requisição o contexto da thread é descartado: a próxima
+ * requisição atendida pela mesma thread depende só do próprio header.
+ */
+public final class ConsistenciaLeitura {
+    
+    private static final ThreadLocal<Contexto> CONTEXTO = ThreadLocal.withInitial(Contexto::new);
+    
+    private static final class Contexto {
+        private long lsnExigido;
+        private LongConsumer aoConfirmarEscrita;
+    }
+    
+    private ConsistenciaLeitura() {
+    }
+    
+    /**
+     * Início de uma requisição
+     * 
+     * @param lsnInformado LSN enviado pelo cliente (0 quando não enviado)
+     * @param aoConfirmarEscrita Recebe o LSN de cada commit feito durante a requisição
+     */
+    public static void iniciar(long lsnInformado, LongConsumer aoConfirmarEscrita) {
+        Contexto contexto = CONTEXTO.get();
+        contexto.lsnExigido = lsnInformado;
+        contexto.aoConfirmarEscrita = aoConfirmarEscrita;
+    }
+    
+    /**
+     * Fim da requisição: descarta o LSN exigido e o callback da thread
+     */
+    public static void encerrar() {
+        CONTEXTO.remove();
+    }
+    
+    public static long lsnExigido() {
+        return CONTEXTO.get().lsnExigido;
+    }
+    
+    static void registrarEscrita(long lsn) {
+        Contexto contexto = CONTEXTO.get();
+        contexto.lsnExigido = Math.max(contexto.lsnExigido, lsn);
+        if (contexto.aoConfirmarEscrita != null) {
+            contexto.aoConfirmarEscrita.accept(lsn);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.devops.projeto_ac2.infrastructure.replica;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Posição da réplica de leitura em relação ao primário
+ * 
+ * Cada transação de escrita confirmada no primário recebe um LSN (número sequencial de commit).
+ * O ReplicadorAlunos registra até qual LSN a réplica já aplicou e a partir de que instante.
+ * A leitura vai para a réplica só se ela já contém o LSN exigido pelo cliente
+ * (read-your-writes) e se o atraso dela não passa de alunos.replica.atraso-maximo-ms.
+ */
+public class ControleReplica {
+    
+    private final AtomicLong lsnPrimario = new AtomicLong();
+    private final long atrasoMaximoNanos;
+    private final LongSupplier relogio;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition novoCommit = lock.newCondition();
+    
+    /** Null até a cópia inicial da réplica terminar */
+    private volatile Sincronia sincronia;
+    
+    /**
+     * A réplica contém tudo o que foi confirmado no primário até o LSN e até o instante (System.nanoTime)
+     */
+    record Sincronia(long lsn, long instante) {
+    }
+    
+    public ControleReplica(long atrasoMaximoMs) {
+        this(atrasoMaximoMs, System::nanoTime);
+    }
+    
+    ControleReplica(long atrasoMaximoMs, LongSupplier relogio) {
+        this.atrasoMaximoNanos = TimeUnit.MILLISECONDS.toNanos(atrasoMaximoMs);
+        this.relogio = relogio;
+    }
+    
+    /**
+     * Numera um commit do primário e acorda o replicador
+     * 
+     * @return LSN do commit
+     */
+    public long registrarCommit() {
+        long lsn = lsnPrimario.incrementAndGet();
+        lock.lock();
+        try {
+            novoCommit.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        return lsn;
+    }
+    
+    /**
+     * Decide se uma transação somente leitura pode usar a réplica
+     * 
+     * @param lsnExigido Último LSN que o cliente precisa enxergar (0 quando não há exigência)
+     */
+    public boolean podeLerDaReplica(long lsnExigido) {
+        Sincronia atual = sincronia;
+        if (atual == null || atual.lsn() < lsnExigido) {
+            return false;
+        }
+        if (atual.lsn() >= lsnPrimario.get()) {
+            return true;
+        }
+        return relogio.getAsLong() - atual.instante() <= atrasoMaximoNanos;
+    }
+    
+    public long getLsnPrimario() {
+        return lsnPrimario.get();
+    }
+    
+    public long getLsnAplicado() {
+        Sincronia atual = sincronia;
+        return atual == null ? 0 : atual.lsn();
+    }
+    
+    public boolean isSincronizada() {
+        Sincronia atual = sincronia;
+        return atual != null && atual.lsn() >= lsnPrimario.get();
+    }
+    
+    /**
+     * Marca o início de uma rodada de aplicação: tudo o que já foi confirmado até aqui
+     * estará na réplica quando a rodada terminar
+     */
+    Sincronia capturar() {
+        long lsn = lsnPrimario.get();
+        return new Sincronia(lsn, relogio.getAsLong());
+    }
+    
+    void confirmar(Sincronia aplicada) {
+        Sincronia atual = sincronia;
+        if (atual == null || aplicada.lsn() >= atual.lsn()) {
+            sincronia = aplicada;
+        }
+    }
+    
+    /**
+     * Aguarda um commit depois do LSN informado (ou o tempo limite)
+     */
+    void aguardarCommitApos(long lsn, long timeoutMs) throws InterruptedException {
+        long restante = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        lock.lock();
+        try {
+            while (lsnPrimario.get() <= lsn && restante > 0) {
+                restante = novoCommit.awaitNanos(restante);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
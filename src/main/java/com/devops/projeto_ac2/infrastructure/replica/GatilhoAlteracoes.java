@@ -0,0 +1,53 @@
+package com.devops.projeto_ac2.infrastructure.replica;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Trigger H2 do primário: registra em tb_replicacao_alteracoes a tabela e o ID de cada linha
+ * inserida, alterada ou excluída, na mesma transação da alteração
+ * 
+ * Só a chave vai para o log; o ReplicadorAlunos lê a imagem atual da linha ao aplicar.
+ */
+public class GatilhoAlteracoes implements Trigger {
+    
+    private String tabela;
+    private int colunaId;
+    
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName,
+                     boolean before, int type) throws SQLException {
+        this.tabela = tableName;
+        try (ResultSet colunas = conn.getMetaData().getColumns(null, schemaName, tableName, "ID")) {
+            if (!colunas.next()) {
+                throw new SQLException("Tabela sem coluna ID não pode ser replicada: " + tableName);
+            }
+            this.colunaId = colunas.getInt("ORDINAL_POSITION") - 1;
+        }
+    }
+    
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        Object chaveNova = newRow == null ? null : newRow[colunaId];
+        Object chaveAntiga = oldRow == null ? null : oldRow[colunaId];
+        try (PreparedStatement insert = conn.prepareStatement(
+                "INSERT INTO " + ReplicadorAlunos.TABELA_ALTERACOES + " (tabela, chave) VALUES (?, ?)")) {
+            if (chaveNova != null) {
+                registrar(insert, chaveNova);
+            }
+            if (chaveAntiga != null && !chaveAntiga.equals(chaveNova)) {
+                registrar(insert, chaveAntiga);
+            }
+        }
+    }
+    
+    private void registrar(PreparedStatement insert, Object chave) throws SQLException {
+        insert.setString(1, tabela);
+        insert.setLong(2, ((Number) chave).longValue());
+        insert.executeUpdate();
+    }
+}
@@ -0,0 +1,280 @@
+package com.devops.projeto_ac2.infrastructure.replica;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSetMetaData;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Mantém a réplica de leitura em sincronia com o primário (fluxo de aplicação de alterações)
+ * 
+ * 1. Na subida instala o GatilhoAlteracoes nas tabelas replicadas, apaga a réplica e copia
+ *    schema e dados do primário (SCRIPT do H2, sem FKs e sem unicidade)
+ * 2. Depois, a cada commit notificado pelo ControleReplica (ou a cada alunos.replica.intervalo-ms),
+ *    lê tb_replicacao_alteracoes em lotes, substitui na réplica as linhas afetadas pela imagem
+ *    atual do primário e apaga do log o que foi aplicado
+ * 
+ * Reaplicar uma alteração é inofensivo (a imagem é sempre a atual), então a ordem do log não
+ * importa e nada se perde entre a instalação do gatilho e a cópia inicial.
+ */
+@Slf4j
+public class ReplicadorAlunos {
+    
+    static final String TABELA_ALTERACOES = "tb_replicacao_alteracoes";
+    static final List<String> TABELAS = List.of("tb_alunos", "tb_tentativas_avaliacao", "tb_alunos_arquivados");
+    private static final Pattern UNICO = Pattern.compile("^CREATE UNIQUE (NULLS (NOT )?DISTINCT )?INDEX",
+            Pattern.CASE_INSENSITIVE);
+    
+    private final JdbcTemplate primario;
+    private final JdbcTemplate replica;
+    private final TransactionTemplate transacaoReplica;
+    private final ControleReplica controle;
+    private final long intervaloMs;
+    private final int tamanhoLote;
+    
+    private volatile boolean executando;
+    private boolean pausado;
+    private Thread thread;
+    
+    public ReplicadorAlunos(DataSource primario, DataSource replica, ControleReplica controle,
+                            long intervaloMs, int tamanhoLote) {
+        this.primario = new JdbcTemplate(primario);
+        this.replica = new JdbcTemplate(replica);
+        this.transacaoReplica = new TransactionTemplate(new DataSourceTransactionManager(replica));
+        this.controle = controle;
+        this.intervaloMs = intervaloMs;
+        this.tamanhoLote = tamanhoLote;
+    }
+    
+    /**
+     * Cópia inicial e início da aplicação contínua, depois que o Hibernate criou o schema
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public synchronized void iniciar() {
+        if (executando) {
+            return;
+        }
+        instalarGatilhos();
+        ControleReplica.Sincronia inicio = controle.capturar();
+        copiarTudo();
+        aplicarPendentes(inicio);
+        
+        executando = true;
+        thread = new Thread(this::executar, "replicador-alunos");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Réplica de leitura sincronizada até o LSN {}", inicio.lsn());
+    }
+    
+    @PreDestroy
+    public void fechar() {
+        executando = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(Duration.ofSeconds(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    /**
+     * Suspende a aplicação das alterações (manutenção da réplica; testes de atraso).
+     * Espera a rodada em andamento terminar.
+     */
+    public synchronized void pausar() {
+        pausado = true;
+    }
+    
+    public synchronized void retomar() {
+        pausado = false;
+    }
+    
+    /**
+     * Espera a réplica alcançar o último commit numerado do primário
+     * 
+     * @return false se o limite acabou antes
+     */
+    public boolean aguardarSincronizacao(Duration limite) throws InterruptedException {
+        long prazo = System.nanoTime() + limite.toNanos();
+        while (!controle.isSincronizada()) {
+            if (System.nanoTime() > prazo) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+    
+    private void executar() {
+        while (executando) {
+            try {
+                controle.aguardarCommitApos(controle.getLsnAplicado(), intervaloMs);
+                if (!rodada()) {
+                    Thread.sleep(intervaloMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Falha ao aplicar alterações na réplica, nova tentativa em {} ms", intervaloMs, e);
+                try {
+                    Thread.sleep(intervaloMs);
+                } catch (InterruptedException interrompido) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+    
+    /**
+     * @return false se a replicação está pausada
+     */
+    private synchronized boolean rodada() {
+        if (pausado) {
+            return false;
+        }
+        aplicarPendentes(controle.capturar());
+        return true;
+    }
+    
+    private void aplicarPendentes(ControleReplica.Sincronia inicio) {
+        int aplicadas;
+        do {
+            aplicadas = aplicarLote();
+        } while (aplicadas == tamanhoLote);
+        controle.confirmar(inicio);
+    }
+    
+    private int aplicarLote() {
+        List<Alteracao> alteracoes = primario.query(
+                "SELECT seq, tabela, chave FROM " + TABELA_ALTERACOES + " ORDER BY seq LIMIT ?",
+                (rs, linha) -> new Alteracao(rs.getLong(1), rs.getString(2), rs.getLong(3)), tamanhoLote);
+        if (alteracoes.isEmpty()) {
+            return 0;
+        }
+        
+        Map<String, Set<Long>> chavesPorTabela = new LinkedHashMap<>();
+        for (Alteracao alteracao : alteracoes) {
+            chavesPorTabela.computeIfAbsent(alteracao.tabela(), tabela -> new LinkedHashSet<>()).add(alteracao.chave());
+        }
+        transacaoReplica.executeWithoutResult(status -> chavesPorTabela.forEach(this::substituirLinhas));
+        
+        // Apaga pelo seq exato: um seq menor confirmado depois da leitura continua no log
+        primario.batchUpdate("DELETE FROM " + TABELA_ALTERACOES + " WHERE seq = ?",
+                alteracoes.stream().map(alteracao -> new Object[]{alteracao.seq()}).toList());
+        return alteracoes.size();
+    }
+    
+    /**
+     * Substitui na réplica as linhas das chaves pela imagem atual do primário
+     * (chave ausente no primário = linha excluída)
+     */
+    private void substituirLinhas(String tabela, Set<Long> chaves) {
+        String nome = validarTabela(tabela);
+        String marcadores = String.join(", ", Collections.nCopies(chaves.size(), "?"));
+        Object[] ids = chaves.toArray();
+        
+        replica.update("DELETE FROM " + nome + " WHERE id IN (" + marcadores + ")", ids);
+        primario.query("SELECT * FROM " + nome + " WHERE id IN (" + marcadores + ")",
+                (ResultSetExtractor<Void>) rs -> {
+                    ResultSetMetaData metadados = rs.getMetaData();
+                    int colunas = metadados.getColumnCount();
+                    List<String> nomes = new ArrayList<>(colunas);
+                    for (int i = 1; i <= colunas; i++) {
+                        nomes.add('"' + metadados.getColumnName(i) + '"');
+                    }
+                    List<Object[]> linhas = new ArrayList<>();
+                    while (rs.next()) {
+                        Object[] linha = new Object[colunas];
+                        for (int i = 0; i < colunas; i++) {
+                            linha[i] = rs.getObject(i + 1);
+                        }
+                        linhas.add(linha);
+                    }
+                    if (!linhas.isEmpty()) {
+                        replica.batchUpdate("INSERT INTO " + nome + " (" + String.join(", ", nomes) + ") VALUES ("
+                                + String.join(", ", Collections.nCopies(colunas, "?")) + ")", linhas);
+                    }
+                    return null;
+                }, ids);
+    }
+    
+    private void instalarGatilhos() {
+        primario.execute("CREATE TABLE IF NOT EXISTS " + TABELA_ALTERACOES + " ("
+                + "seq BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "tabela VARCHAR(64) NOT NULL, "
+                + "chave BIGINT NOT NULL)");
+        for (String tabela : TABELAS) {
+            primario.execute("CREATE TRIGGER IF NOT EXISTS trg_replicacao_" + tabela
+                    + " AFTER INSERT, UPDATE, DELETE ON " + tabela
+                    + " FOR EACH ROW CALL \"" + GatilhoAlteracoes.class.getName() + "\"");
+        }
+    }
+    
+    /**
+     * Recria a réplica a partir do SCRIPT do primário. A réplica só recebe gravações do
+     * replicador, em qualquer ordem: ficam a chave primária e os índices (únicos viram comuns)
+     */
+    private void copiarTudo() {
+        List<String> comandos = primario.query("SCRIPT NOPASSWORDS NOSETTINGS TABLE " + String.join(", ", TABELAS),
+                (rs, linha) -> rs.getString(1));
+        List<String> aplicaveis = comandos.stream()
+                .map(ReplicadorAlunos::adaptarParaReplica)
+                .filter(Objects::nonNull)
+                .toList();
+        
+        long inicio = System.nanoTime();
+        replica.execute("DROP ALL OBJECTS");
+        aplicaveis.forEach(replica::execute);
+        log.info("Cópia inicial da réplica: {} comandos em {} ms", aplicaveis.size(),
+                (System.nanoTime() - inicio) / 1_000_000);
+    }
+    
+    static String adaptarParaReplica(String comando) {
+        String normalizado = comando.stripLeading().toUpperCase(Locale.ROOT);
+        if (normalizado.startsWith("--") || normalizado.startsWith("CREATE USER") || normalizado.startsWith("SET ")
+                || normalizado.startsWith("CREATE TRIGGER") || normalizado.startsWith("CREATE FORCE TRIGGER")) {
+            return null;
+        }
+        if (normalizado.startsWith("ALTER TABLE") && normalizado.contains("ADD CONSTRAINT")
+                && !normalizado.contains("PRIMARY KEY")) {
+            return null;
+        }
+        if (normalizado.startsWith("CREATE UNIQUE")) {
+            return UNICO.matcher(comando.stripLeading()).replaceFirst("CREATE INDEX");
+        }
+        return comando;
+    }
+    
+    private static String validarTabela(String tabela) {
+        String nome = tabela.toLowerCase(Locale.ROOT);
+        if (!TABELAS.contains(nome)) {
+            throw new IllegalStateException("Tabela fora da replicação: " + tabela);
+        }
+        return nome;
+    }
+    
+    private record Alteracao(long seq, String tabela, long chave) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.devops.projeto_ac2.infrastructure.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource que envia transações somente leitura para a réplica e o resto para o primário
+ * 
+ * Precisa ficar atrás de um LazyConnectionDataSourceProxy: a conexão física só é pedida no
+ * primeiro comando, quando o flag readOnly da transação já está disponível.
+ * Transações de escrita recebem um LSN no commit (ControleReplica), repassado à
+ * ConsistenciaLeitura da thread. Escritas fora de transação vão para o primário sem LSN:
+ * a réplica as recebe na rodada seguinte do replicador, sem garantia de read-your-writes.
+ */
+public class RoteamentoDataSource extends AbstractRoutingDataSource {
+    
+    enum Destino { PRIMARIO, REPLICA }
+    
+    private final ControleReplica controle;
+    private final Object chaveTransacao = new Object();
+    private final LongAdder leiturasReplica = new LongAdder();
+    private final LongAdder leiturasPrimario = new LongAdder();
+    
+    public RoteamentoDataSource(DataSource primario, DataSource replica, ControleReplica controle) {
+        this.controle = controle;
+        setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        setDefaultTargetDataSource(primario);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (controle.podeLerDaReplica(ConsistenciaLeitura.lsnExigido())) {
+                leiturasReplica.increment();
+                return Destino.REPLICA;
+            }
+            leiturasPrimario.increment();
+            return Destino.PRIMARIO;
+        }
+        numerarCommit();
+        return Destino.PRIMARIO;
+    }
+    
+    public long getLeiturasReplica() {
+        return leiturasReplica.sum();
+    }
+    
+    public long getLeiturasPrimario() {
+        return leiturasPrimario.sum();
+    }
+    
+    /**
+     * Registra (uma vez por transação) o callback que numera o commit
+     */
+    private void numerarCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(chaveTransacao)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(chaveTransacao, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ConsistenciaLeitura.registrarEscrita(controle.registrarCommit());
+            }
+            
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(chaveTransacao);
+            }
+        });
+    }
+}
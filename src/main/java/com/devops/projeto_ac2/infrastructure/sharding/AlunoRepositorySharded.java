@@ -0,0 +1,371 @@
+package com.devops.projeto_ac2.infrastructure.sharding;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoManutencaoRepository;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Adapter de AlunoRepository e AlunoManutencaoRepository particionado em N bancos locais (profile "sharding")
+ * 
+ * Cada shard é um {@link ShardAlunos} com DataSource (pool Hikari) próprio, então
+ * as gravações concorrentes não disputam o mesmo banco. Roteamento:
+ * - aluno novo, buscarPorRA e existePorRA: hash do RA (o RA nunca muda, então a
+ *   unicidade por shard garante a unicidade global)
+ * - demais operações por ID: o shard está nos bits baixos do ID ({@link ShardAlunos#BITS_SHARD})
+ * - listagens, ranking e comandos em massa: consulta todos os shards em paralelo
+ *   e junta as listas já ordenadas de cada um com mesclagem k-way
+ * 
+ * Gravações dentro de uma transação Spring (a JPA dos use cases) rodam na thread de quem
+ * chama e entram numa transação de cada shard tocado, confirmada depois do commit
+ * principal e desfeita no rollback (ver {@link ShardAlunos}).
+ * 
+ * Limitações: sem transação em curso não há atomicidade entre shards (salvarTodos é
+ * atômico só dentro de cada shard), e mesmo com ela não há commit em duas fases; o
+ * histórico de tentativas continua no banco principal. Mudar alunos.sharding.shards com dados
+ * gravados muda o shard dos RAs: a quantidade é fixa depois da primeira carga.
+ */
+@Slf4j
+@Component
+@Profile("sharding")
+public class AlunoRepositorySharded implements AlunoRepository, AlunoManutencaoRepository {
+    
+    private static final Comparator<Aluno> ORDEM_ID = Comparator.comparing(Aluno::getId);
+    
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+    private final List<ShardAlunos> shards = new ArrayList<>();
+    private final ExecutorService executor;
+    
+    public AlunoRepositorySharded(
+            @Value("${alunos.sharding.shards:4}") int quantidade,
+            @Value("${alunos.sharding.url:jdbc:h2:mem:alunos-shard-{shard};DB_CLOSE_DELAY=-1}") String url,
+            @Value("${alunos.sharding.pool-por-shard:8}") int poolPorShard) {
+        if (quantidade <= 0 || quantidade > ShardAlunos.MAXIMO_SHARDS) {
+            throw new IllegalArgumentException("Quantidade de shards deve estar entre 1 e " + ShardAlunos.MAXIMO_SHARDS);
+        }
+        if (!url.contains("{shard}")) {
+            throw new IllegalArgumentException("alunos.sharding.url precisa conter {shard}: " + url);
+        }
+        for (int numero = 0; numero < quantidade; numero++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("shard-alunos-" + numero);
+            config.setJdbcUrl(url.replace("{shard}", String.valueOf(numero)));
+            config.setUsername("sa");
+            config.setPassword("");
+            config.setMaximumPoolSize(poolPorShard);
+            HikariDataSource dataSource = new HikariDataSource(config);
+            dataSources.add(dataSource);
+            shards.add(new ShardAlunos(numero, dataSource));
+        }
+        
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(quantidade * poolPorShard, tarefa -> {
+            Thread thread = new Thread(tarefa, "shard-alunos-consulta-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("AlunoRepository particionado em {} shards ({})", quantidade, url);
+    }
+    
+    @PreDestroy
+    public void fechar() {
+        executor.shutdownNow();
+        dataSources.forEach(HikariDataSource::close);
+    }
+    
+    /**
+     * Quantidade de alunos (ativos e arquivados) em cada shard, na ordem dos shards
+     */
+    public List<Long> quantidadePorShard() {
+        return emTodos(ShardAlunos::quantidade);
+    }
+    
+    @Override
+    public Aluno salvar(Aluno aluno) {
+        if (aluno.isArquivado()) {
+            throw new DomainException("Aluno arquivado não pode ser alterado");
+        }
+        return shardDoAluno(aluno).salvar(aluno);
+    }
+    
+    /**
+     * Agrupa por shard e grava os grupos em paralelo; o resultado mantém a ordem da entrada
+     */
+    @Override
+    public List<Aluno> salvarTodos(List<Aluno> alunos) {
+        Map<ShardAlunos, List<Integer>> posicoes = new LinkedHashMap<>();
+        for (int i = 0; i < alunos.size(); i++) {
+            Aluno aluno = alunos.get(i);
+            if (aluno.isArquivado()) {
+                throw new DomainException("Aluno arquivado não pode ser alterado");
+            }
+            posicoes.computeIfAbsent(shardDoAluno(aluno), shard -> new ArrayList<>()).add(i);
+        }
+        
+        // Na transação em curso, os grupos são gravados na thread dela para entrar na transação
+        boolean emTransacao = TransactionSynchronizationManager.isActualTransactionActive();
+        Map<ShardAlunos, Future<List<Aluno>>> gravacoes = new LinkedHashMap<>();
+        posicoes.forEach((shard, indices) -> {
+            List<Aluno> grupo = indices.stream().map(alunos::get).toList();
+            gravacoes.put(shard, emTransacao
+                    ? CompletableFuture.completedFuture(shard.salvarTodos(grupo))
+                    : executor.submit(() -> shard.salvarTodos(grupo)));
+        });
+        
+        Aluno[] salvos = new Aluno[alunos.size()];
+        gravacoes.forEach((shard, gravacao) -> {
+            List<Aluno> grupo = aguardar(gravacao);
+            List<Integer> indices = posicoes.get(shard);
+            for (int i = 0; i < indices.size(); i++) {
+                salvos[indices.get(i)] = grupo.get(i);
+            }
+        });
+        return List.of(salvos);
+    }
+    
+    @Override
+    public Optional<Aluno> registrarTentativaAtomica(Long id, double media) {
+        return shardDoId(id).flatMap(shard -> shard.registrarTentativaAtomica(id, media));
+    }
+    
+    @Override
+    public Optional<Aluno> buscarPorId(Long id) {
+        return shardDoId(id).flatMap(shard -> shard.buscarPorId(id));
+    }
+    
+    @Override
+    public List<Aluno> buscarPorIds(Collection<Long> ids) {
+        Map<ShardAlunos, List<Long>> porShard = new LinkedHashMap<>();
+        for (Long id : ids) {
+            shardDoId(id).ifPresent(shard -> porShard.computeIfAbsent(shard, s -> new ArrayList<>()).add(id));
+        }
+        boolean naThread = porShard.keySet().stream().anyMatch(ShardAlunos::temGravacaoNaTransacao);
+        List<Future<List<Aluno>>> consultas = new ArrayList<>(porShard.size());
+        porShard.forEach((shard, idsDoShard) -> consultas.add(naThread
+                ? CompletableFuture.completedFuture(shard.buscarPorIds(idsDoShard))
+                : executor.submit(() -> shard.buscarPorIds(idsDoShard))));
+        List<List<Aluno>> resultados = new ArrayList<>(consultas.size());
+        for (Future<List<Aluno>> consulta : consultas) {
+            resultados.add(aguardar(consulta));
+        }
+        return MesclagemOrdenada.mesclar(resultados, ORDEM_ID);
+    }
+    
+    @Override
+    public Optional<Aluno> buscarPorRA(String ra) {
+        return shardDoRa(ra).buscarPorRA(ra);
+    }
+    
+    @Override
+    public List<Aluno> buscarTodos() {
+        return MesclagemOrdenada.mesclar(emTodos(ShardAlunos::listarAtivos), ORDEM_ID);
+    }
+    
+    @Override
+    public List<Aluno> buscarConcluidos() {
+        return MesclagemOrdenada.mesclar(emTodos(ShardAlunos::listarConcluidos), ORDEM_ID);
+    }
+    
+    @Override
+    public List<Aluno> buscarNaoConcluidos() {
+        return MesclagemOrdenada.mesclar(emTodos(ShardAlunos::listarNaoConcluidos), ORDEM_ID);
+    }
+    
+    /**
+     * Top N de cada shard, ordenado no banco, e mesclagem k-way até N
+     */
+    @Override
+    public List<Aluno> buscarRanking(int limite) {
+        return MesclagemOrdenada.mesclar(emTodos(shard -> shard.ranking(limite)), Aluno.ORDEM_RANKING, limite);
+    }
+    
+    @Override
+    public List<Aluno> buscarArquivados() {
+        return MesclagemOrdenada.mesclar(emTodos(ShardAlunos::listarArquivados), ORDEM_ID);
+    }
+    
+    @Override
+    public boolean existePorRA(String ra) {
+        return shardDoRa(ra).existePorRA(ra);
+    }
+    
+    @Override
+    public void deletar(Long id) {
+        shardDoId(id).ifPresent(shard -> shard.deletar(id));
+    }
+    
+    /**
+     * IDs consecutivos de um shard distam 2^BITS_SHARD: a faixa cobre tamanhoFaixa
+     * posições da sequência de cada shard, e cada shard executa só a sua parte
+     */
+    @Override
+    public long larguraFaixa(int tamanhoFaixa) {
+        return (long) tamanhoFaixa << ShardAlunos.BITS_SHARD;
+    }
+    
+    @Override
+    public Optional<Long> menorIdConcluido() {
+        return emTodos(shard -> shard.idConcluido("MIN", null)).stream()
+                .flatMap(Optional::stream).min(Long::compare);
+    }
+    
+    @Override
+    public Optional<Long> maiorIdConcluido() {
+        return emTodos(shard -> shard.idConcluido("MAX", null)).stream()
+                .flatMap(Optional::stream).max(Long::compare);
+    }
+    
+    @Override
+    public int recalcularCursosAdicionais(RegrasBonusCursos regras, long idInicial, long idFinal) {
+        return somar(gravarEmTodos(shard -> shard.recalcularCursosAdicionais(regras, idInicial, idFinal)));
+    }
+    
+    @Override
+    public Optional<Long> menorIdConcluidoAntesDe(LocalDateTime limite) {
+        return emTodos(shard -> shard.idConcluido("MIN", limite)).stream()
+                .flatMap(Optional::stream).min(Long::compare);
+    }
+    
+    @Override
+    public Optional<Long> maiorIdConcluidoAntesDe(LocalDateTime limite) {
+        return emTodos(shard -> shard.idConcluido("MAX", limite)).stream()
+                .flatMap(Optional::stream).max(Long::compare);
+    }
+    
+    /**
+     * A faixa de IDs atravessa todos os shards (o shard está nos bits baixos): executa em todos
+     */
+    @Override
+    public int excluirConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal) {
+        return somar(gravarEmTodos(shard -> shard.excluirConcluidosAntesDe(limite, idInicial, idFinal)));
+    }
+    
+    @Override
+    public int excluirPorIds(Collection<Long> ids) {
+        Map<ShardAlunos, List<Long>> porShard = new LinkedHashMap<>();
+        for (Long id : ids) {
+            shardDoId(id).ifPresent(shard -> porShard.computeIfAbsent(shard, s -> new ArrayList<>()).add(id));
+        }
+        int excluidos = 0;
+        for (Map.Entry<ShardAlunos, List<Long>> grupo : porShard.entrySet()) {
+            excluidos += grupo.getKey().excluirPorIds(grupo.getValue());
+        }
+        return excluidos;
+    }
+    
+    @Override
+    public int arquivarConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal) {
+        return somar(gravarEmTodos(shard -> shard.arquivarConcluidosAntesDe(limite, idInicial, idFinal)));
+    }
+    
+    /**
+     * Índice do shard de um RA; o hash é espalhado porque RAs costumam ser sequenciais
+     */
+    static int indiceDoRa(String ra, int quantidade) {
+        int hash = ra.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return Math.floorMod(hash, quantidade);
+    }
+    
+    private ShardAlunos shardDoRa(String ra) {
+        return shards.get(indiceDoRa(ra, shards.size()));
+    }
+    
+    /**
+     * Shard de um ID; vazio para IDs que não podem ter sido gerados aqui
+     */
+    private Optional<ShardAlunos> shardDoId(Long id) {
+        if (id == null || id <= 0) {
+            return Optional.empty();
+        }
+        int numero = ShardAlunos.shardDoId(id);
+        return numero < shards.size() ? Optional.of(shards.get(numero)) : Optional.empty();
+    }
+    
+    private ShardAlunos shardDoAluno(Aluno aluno) {
+        if (aluno.getId() == null) {
+            return shardDoRa(aluno.getRegistroAcademico().getValor());
+        }
+        return shardDoId(aluno.getId())
+                .orElseThrow(() -> new ObjectOptimisticLockingFailureException(Aluno.class, aluno.getId()));
+    }
+    
+    /**
+     * Executa a consulta em todos os shards ao mesmo tempo; resultados na ordem dos shards
+     */
+    private <R> List<R> emTodos(Function<ShardAlunos, R> consulta) {
+        // Com gravação pendente nesta thread, só ela enxerga o que ainda não foi confirmado
+        if (shards.size() == 1 || shards.stream().anyMatch(ShardAlunos::temGravacaoNaTransacao)) {
+            return shards.stream().map(consulta).toList();
+        }
+        List<Future<R>> consultas = new ArrayList<>(shards.size());
+        for (ShardAlunos shard : shards) {
+            consultas.add(executor.submit(() -> consulta.apply(shard)));
+        }
+        List<R> resultados = new ArrayList<>(shards.size());
+        for (Future<R> futuro : consultas) {
+            resultados.add(aguardar(futuro));
+        }
+        return resultados;
+    }
+    
+    /**
+     * Comando em todos os shards; numa transação em curso, um shard por vez na thread dela
+     */
+    private <R> List<R> gravarEmTodos(Function<ShardAlunos, R> comando) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return emTodos(comando);
+        }
+        return shards.stream().map(comando).toList();
+    }
+    
+    private static <R> R aguardar(Future<R> futuro) {
+        try {
+            return futuro.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando os shards", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException("Falha num shard", e.getCause());
+        }
+    }
+    
+    private static int somar(List<Integer> valores) {
+        int total = 0;
+        for (int valor : valores) {
+            total += valor;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,68 @@
+package com.devops.projeto_ac2.infrastructure.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Mesclagem k-way de listas já ordenadas (resultado de cada shard)
+ * 
+ * Um heap com a cabeça de cada lista: cada elemento de saída custa O(log k),
+ * sem reordenar o conjunto inteiro. Com limite, para assim que junta N elementos.
+ */
+final class MesclagemOrdenada {
+    
+    private MesclagemOrdenada() {
+    }
+    
+    static <T> List<T> mesclar(List<List<T>> listas, Comparator<? super T> ordem) {
+        return mesclar(listas, ordem, Integer.MAX_VALUE);
+    }
+    
+    static <T> List<T> mesclar(List<List<T>> listas, Comparator<? super T> ordem, int limite) {
+        if (listas.size() == 1) {
+            List<T> unica = listas.get(0);
+            return new ArrayList<>(unica.subList(0, Math.min(unica.size(), limite)));
+        }
+        int total = 0;
+        for (List<T> lista : listas) {
+            total += lista.size();
+        }
+        List<T> resultado = new ArrayList<>(Math.min(total, limite));
+        
+        PriorityQueue<Cursor<T>> cabecas = new PriorityQueue<>(Math.max(1, listas.size()),
+                (a, b) -> ordem.compare(a.atual(), b.atual()));
+        for (List<T> lista : listas) {
+            if (!lista.isEmpty()) {
+                cabecas.add(new Cursor<>(lista));
+            }
+        }
+        while (!cabecas.isEmpty() && resultado.size() < limite) {
+            Cursor<T> menor = cabecas.poll();
+            resultado.add(menor.atual());
+            if (menor.avancar()) {
+                cabecas.add(menor);
+            }
+        }
+        return resultado;
+    }
+    
+    private static final class Cursor<T> {
+        
+        private final List<T> lista;
+        private int posicao;
+        
+        Cursor(List<T> lista) {
+            this.lista = lista;
+        }
+        
+        T atual() {
+            return lista.get(posicao);
+        }
+        
+        boolean avancar() {
+            return ++posicao < lista.size();
+        }
+    }
+}
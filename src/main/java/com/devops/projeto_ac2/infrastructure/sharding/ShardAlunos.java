@@ -0,0 +1,392 @@
+package com.devops.projeto_ac2.infrastructure.sharding;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Um shard de alunos: tb_alunos num banco próprio, acessada por JdbcTemplate
+ * 
+ * IDs gerados aqui carregam o número do shard nos bits baixos
+ * ({@link #BITS_SHARD}), então qualquer ID diz em que shard o aluno está.
+ * Arquivar marca a linha (coluna arquivado), como nos outros adapters sem tabela fria.
+ * As listas saem ordenadas (por ID ou na ordem do ranking) para a mesclagem entre shards.
+ * 
+ * Gravações feitas dentro de uma transação Spring (a JPA dos use cases) abrem uma transação
+ * do shard amarrada a ela: commit logo depois do commit dela, rollback se ela voltar atrás.
+ * Não é commit em duas fases: se o commit do shard falhar depois do commit principal,
+ * o erro chega a quem chamou, mas o banco principal já está gravado.
+ */
+@Slf4j
+final class ShardAlunos {
+    
+    /**
+     * Bits baixos do ID reservados para o número do shard (até 256 shards)
+     */
+    static final int BITS_SHARD = 8;
+    static final int MAXIMO_SHARDS = 1 << BITS_SHARD;
+    
+    private static final String COLUNAS = "id, nome, ra, media_final, concluiu, cursos_adicionais, "
+            + "tentativas_avaliacao, data_criacao, data_atualizacao, data_conclusao, versao, arquivado";
+    private static final String SELECT = "SELECT " + COLUNAS + " FROM tb_alunos ";
+    private static final String ATIVO = "arquivado = FALSE";
+    private static final String CONCLUIDO_ANTES_DE = ATIVO + " AND concluiu = TRUE AND data_conclusao < ? "
+            + "AND id BETWEEN ? AND ?";
+    
+    private static final RowMapper<Aluno> MAPEADOR = (rs, linha) -> {
+        Aluno aluno = Aluno.reconstituir(
+                rs.getLong("id"),
+                rs.getString("nome"),
+                rs.getString("ra"),
+                rs.getDouble("media_final"),
+                rs.getBoolean("concluiu"),
+                rs.getInt("cursos_adicionais"),
+                rs.getInt("tentativas_avaliacao"),
+                rs.getObject("data_criacao", LocalDateTime.class),
+                rs.getObject("data_atualizacao", LocalDateTime.class),
+                rs.getObject("data_conclusao", LocalDateTime.class),
+                rs.getLong("versao"));
+        return rs.getBoolean("arquivado") ? aluno.marcarComoArquivado() : aluno;
+    };
+    
+    private final int numero;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicLong sequencia;
+    
+    ShardAlunos(int numero, DataSource dataSource) {
+        if (numero < 0 || numero >= MAXIMO_SHARDS) {
+            throw new IllegalArgumentException("Número de shard fora de [0, " + MAXIMO_SHARDS + "): " + numero);
+        }
+        this.numero = numero;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        criarTabela();
+        Long maiorId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM tb_alunos", Long.class);
+        this.sequencia = new AtomicLong((maiorId == null ? 0 : maiorId) >>> BITS_SHARD);
+    }
+    
+    /**
+     * Número do shard codificado no ID
+     */
+    static int shardDoId(long id) {
+        return (int) (id & (MAXIMO_SHARDS - 1));
+    }
+    
+    int getNumero() {
+        return numero;
+    }
+    
+    Aluno salvar(Aluno aluno) {
+        participarDaTransacaoAtual();
+        if (aluno.getId() == null) {
+            long id = (sequencia.incrementAndGet() << BITS_SHARD) | numero;
+            jdbcTemplate.update("INSERT INTO tb_alunos (" + COLUNAS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, FALSE)",
+                    id, aluno.getNome(), aluno.getRegistroAcademico().getValor(), aluno.getMediaFinal(),
+                    aluno.isConcluiu(), aluno.getCursosAdicionais(), aluno.getTentativasAvaliacao(),
+                    aluno.getDataCriacao(), aluno.getDataAtualizacao(), aluno.getDataConclusao());
+            return comIdEVersao(aluno, id, 0L);
+        }
+        
+        // Lock otimista: só atualiza se ninguém gravou depois da leitura
+        int linhas = aluno.getVersao() == null ? 0 : jdbcTemplate.update(
+                "UPDATE tb_alunos SET nome = ?, media_final = ?, concluiu = ?, cursos_adicionais = ?, "
+                        + "tentativas_avaliacao = ?, data_atualizacao = ?, data_conclusao = ?, versao = versao + 1 "
+                        + "WHERE id = ? AND versao = ? AND " + ATIVO,
+                aluno.getNome(), aluno.getMediaFinal(), aluno.isConcluiu(), aluno.getCursosAdicionais(),
+                aluno.getTentativasAvaliacao(), aluno.getDataAtualizacao(), aluno.getDataConclusao(),
+                aluno.getId(), aluno.getVersao());
+        if (linhas == 0) {
+            throw new ObjectOptimisticLockingFailureException(Aluno.class, aluno.getId());
+        }
+        return comIdEVersao(aluno, aluno.getId(), aluno.getVersao() + 1);
+    }
+    
+    /**
+     * Grava os alunos deste shard na transação em curso ou, sem ela, numa transação só do shard
+     */
+    List<Aluno> salvarTodos(List<Aluno> alunos) {
+        if (participarDaTransacaoAtual()) {
+            return salvarCada(alunos);
+        }
+        return transactionTemplate.execute(status -> salvarCada(alunos));
+    }
+    
+    private List<Aluno> salvarCada(List<Aluno> alunos) {
+        List<Aluno> salvos = new ArrayList<>(alunos.size());
+        for (Aluno aluno : alunos) {
+            salvos.add(salvar(aluno));
+        }
+        return salvos;
+    }
+    
+    /**
+     * UPDATE condicional que já devolve a linha alterada (FINAL TABLE do H2)
+     */
+    Optional<Aluno> registrarTentativaAtomica(long id, double media) {
+        participarDaTransacaoAtual();
+        return jdbcTemplate.query("SELECT " + COLUNAS + " FROM FINAL TABLE (UPDATE tb_alunos SET "
+                        + "tentativas_avaliacao = tentativas_avaliacao + 1, media_final = ?, data_atualizacao = ?, "
+                        + "versao = versao + 1 WHERE id = ? AND concluiu = FALSE AND tentativas_avaliacao < ? AND "
+                        + ATIVO + ")",
+                MAPEADOR, media, LocalDateTime.now(), id, Aluno.MAX_TENTATIVAS).stream().findFirst();
+    }
+    
+    Optional<Aluno> buscarPorId(long id) {
+        return jdbcTemplate.query(SELECT + "WHERE id = ?", MAPEADOR, id).stream().findFirst();
+    }
+    
+    /**
+     * Alunos não arquivados com os IDs informados, em ordem de ID
+     */
+    List<Aluno> buscarPorIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String marcadores = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.query(SELECT + "WHERE id IN (" + marcadores + ") AND " + ATIVO + " ORDER BY id",
+                MAPEADOR, ids.toArray());
+    }
+    
+    Optional<Aluno> buscarPorRA(String ra) {
+        return jdbcTemplate.query(SELECT + "WHERE ra = ?", MAPEADOR, ra).stream().findFirst();
+    }
+    
+    boolean existePorRA(String ra) {
+        Integer existe = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_alunos WHERE ra = ?", Integer.class, ra);
+        return existe != null && existe > 0;
+    }
+    
+    /**
+     * Alunos não arquivados, em ordem de ID (assim como as demais listas)
+     */
+    List<Aluno> listarAtivos() {
+        return listar(ATIVO);
+    }
+    
+    List<Aluno> listarConcluidos() {
+        return listar(ATIVO + " AND concluiu = TRUE");
+    }
+    
+    List<Aluno> listarNaoConcluidos() {
+        return listar(ATIVO + " AND concluiu = FALSE");
+    }
+    
+    List<Aluno> listarArquivados() {
+        return listar("arquivado = TRUE");
+    }
+    
+    /**
+     * Os N primeiros alunos não arquivados do shard, na ordem de Aluno.ORDEM_RANKING
+     */
+    List<Aluno> ranking(int limite) {
+        return jdbcTemplate.query(SELECT + "WHERE " + ATIVO
+                + " ORDER BY media_final DESC, cursos_adicionais DESC, id LIMIT ?", MAPEADOR, limite);
+    }
+    
+    void deletar(long id) {
+        participarDaTransacaoAtual();
+        jdbcTemplate.update("DELETE FROM tb_alunos WHERE id = ?", id);
+    }
+    
+    Optional<Long> idConcluido(String funcao, LocalDateTime limite) {
+        String sql = "SELECT " + funcao + "(id) FROM tb_alunos WHERE " + ATIVO + " AND concluiu = TRUE";
+        Long id = limite == null
+                ? jdbcTemplate.queryForObject(sql, Long.class)
+                : jdbcTemplate.queryForObject(sql + " AND data_conclusao < ?", Long.class, limite);
+        return Optional.ofNullable(id);
+    }
+    
+    int recalcularCursosAdicionais(RegrasBonusCursos regras, long idInicial, long idFinal) {
+        participarDaTransacaoAtual();
+        return jdbcTemplate.update("UPDATE tb_alunos SET cursos_adicionais = CASE "
+                        + "WHEN media_final >= ? THEN ? WHEN media_final >= ? THEN ? ELSE 0 END, "
+                        + "data_atualizacao = ?, versao = versao + 1 "
+                        + "WHERE " + ATIVO + " AND concluiu = TRUE AND id BETWEEN ? AND ? AND cursos_adicionais <> CASE "
+                        + "WHEN media_final >= ? THEN ? WHEN media_final >= ? THEN ? ELSE 0 END",
+                regras.getMediaExcelencia(), regras.getCursosExcelencia(),
+                regras.getMediaAprovacao(), regras.getCursosAprovacao(),
+                LocalDateTime.now(), idInicial, idFinal,
+                regras.getMediaExcelencia(), regras.getCursosExcelencia(),
+                regras.getMediaAprovacao(), regras.getCursosAprovacao());
+    }
+    
+    int excluirConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal) {
+        participarDaTransacaoAtual();
+        return jdbcTemplate.update("DELETE FROM tb_alunos WHERE " + CONCLUIDO_ANTES_DE, limite, idInicial, idFinal);
+    }
+    
+    int excluirPorIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        participarDaTransacaoAtual();
+        String marcadores = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM tb_alunos WHERE " + ATIVO + " AND id IN (" + marcadores + ")",
+                ids.toArray());
+    }
+    
+    int arquivarConcluidosAntesDe(LocalDateTime limite, long idInicial, long idFinal) {
+        participarDaTransacaoAtual();
+        return jdbcTemplate.update("UPDATE tb_alunos SET arquivado = TRUE WHERE " + CONCLUIDO_ANTES_DE,
+                limite, idInicial, idFinal);
+    }
+    
+    long quantidade() {
+        Long quantidade = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_alunos", Long.class);
+        return quantidade == null ? 0 : quantidade;
+    }
+    
+    /**
+     * Se há conexão do shard presa à thread (gravação anterior nesta transação): as consultas
+     * precisam rodar nesta thread para enxergar o que ainda não foi confirmado
+     */
+    boolean temGravacaoNaTransacao() {
+        return TransactionSynchronizationManager.hasResource(dataSource);
+    }
+    
+    /**
+     * Na primeira gravação dentro de uma transação Spring, abre a transação do shard: a conexão
+     * fica presa à thread (o JdbcTemplate passa a usá-la) e acompanha o fim da transação em curso.
+     * Não usa o DataSourceTransactionManager do shard porque abrir uma transação nova por ele
+     * suspenderia as sincronizações da transação em curso.
+     * 
+     * @return se há transação em curso (do shard ou externa) para as gravações participarem
+     */
+    private boolean participarDaTransacaoAtual() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.hasResource(dataSource)) {
+            return true;
+        }
+        ConnectionHolder conexao;
+        try {
+            Connection conexaoJdbc = dataSource.getConnection();
+            conexaoJdbc.setAutoCommit(false);
+            conexao = new ConnectionHolder(conexaoJdbc);
+        } catch (SQLException e) {
+            throw new CannotGetJdbcConnectionException("Falha ao abrir a transação do shard " + numero, e);
+        }
+        conexao.setSynchronizedWithTransaction(true);
+        TransactionSynchronizationManager.bindResource(dataSource, conexao);
+        TransactionSynchronizationManager.registerSynchronization(new TransacaoDoShard(conexao));
+        return true;
+    }
+    
+    /**
+     * Transação do shard acompanhando a transação Spring em que foi aberta
+     */
+    private final class TransacaoDoShard implements TransactionSynchronization {
+        
+        private final ConnectionHolder conexao;
+        private boolean confirmada;
+        
+        private TransacaoDoShard(ConnectionHolder conexao) {
+            this.conexao = conexao;
+        }
+        
+        /**
+         * Antes dos demais callbacks: quem reage ao commit já enxerga o que foi gravado no shard
+         */
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+        
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(dataSource);
+        }
+        
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(dataSource, conexao);
+        }
+        
+        @Override
+        public void afterCommit() {
+            try {
+                conexao.getConnection().commit();
+                confirmada = true;
+            } catch (SQLException e) {
+                throw new TransactionSystemException("Falha no commit do shard " + numero
+                        + " depois do commit principal", e);
+            }
+        }
+        
+        @Override
+        public void afterCompletion(int situacao) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(dataSource);
+            Connection conexaoJdbc = conexao.getConnection();
+            try {
+                if (!confirmada) {
+                    conexaoJdbc.rollback();
+                }
+                conexaoJdbc.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.error("Falha ao encerrar a transação do shard {}", numero, e);
+            } finally {
+                conexao.released();
+                try {
+                    conexaoJdbc.close();
+                } catch (SQLException e) {
+                    log.warn("Falha ao devolver a conexão do shard {}", numero, e);
+                }
+            }
+        }
+    }
+    
+    private List<Aluno> listar(String condicao) {
+        return jdbcTemplate.query(SELECT + "WHERE " + condicao + " ORDER BY id", MAPEADOR);
+    }
+    
+    private void criarTabela() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS tb_alunos ("
+                + "id BIGINT PRIMARY KEY, "
+                + "nome VARCHAR(100) NOT NULL, "
+                + "ra VARCHAR(20) NOT NULL UNIQUE, "
+                + "media_final DOUBLE PRECISION NOT NULL, "
+                + "concluiu BOOLEAN NOT NULL, "
+                + "cursos_adicionais INT NOT NULL, "
+                + "tentativas_avaliacao INT NOT NULL, "
+                + "data_criacao TIMESTAMP NOT NULL, "
+                + "data_atualizacao TIMESTAMP, "
+                + "data_conclusao TIMESTAMP, "
+                + "versao BIGINT NOT NULL, "
+                + "arquivado BOOLEAN DEFAULT FALSE NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_alunos_ranking "
+                + "ON tb_alunos (media_final DESC, cursos_adicionais DESC, id)");
+    }
+    
+    private static Aluno comIdEVersao(Aluno aluno, long id, long versao) {
+        return Aluno.reconstituir(id, aluno.getNome(), aluno.getRegistroAcademico().getValor(),
+                aluno.getMediaFinal(), aluno.isConcluiu(), aluno.getCursosAdicionais(),
+                aluno.getTentativasAvaliacao(), aluno.getDataCriacao(), aluno.getDataAtualizacao(),
+                aluno.getDataConclusao(), versao);
+    }
+}
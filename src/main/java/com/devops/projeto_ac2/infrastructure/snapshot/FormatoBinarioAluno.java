@@ -0,0 +1,129 @@
+package com.devops.projeto_ac2.infrastructure.snapshot;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Formato binário compacto dos alunos (snapshots)
+ * 
+ * Cabeçalho: mágico "ALNS" (int), versão (short), quantidade de registros (long)
+ * Registro:  parte de largura fixa (id, média, concluiu, cursos, tentativas,
+ *            datas em microssegundos UTC, versão) seguida de nome e RA em UTF-8
+ *            prefixados pelo tamanho em bytes
+ * Datas nulas são gravadas como Long.MIN_VALUE.
+ */
+public final class FormatoBinarioAluno {
+    
+    public static final int MAGICO = 0x414C4E53; // "ALNS"
+    public static final short VERSAO = 1;
+    public static final int TAMANHO_CABECALHO = Integer.BYTES + Short.BYTES + Long.BYTES;
+    
+    /**
+     * Posição do campo quantidade no cabeçalho (preenchido ao final da gravação)
+     */
+    public static final int POSICAO_QUANTIDADE = Integer.BYTES + Short.BYTES;
+    
+    private static final int TAMANHO_FIXO = Long.BYTES + Double.BYTES + Byte.BYTES + Integer.BYTES * 2
+            + Long.BYTES * 4;
+    
+    /**
+     * Maior registro possível: nome com 100 e RA com 20 caracteres de até 4 bytes em UTF-8
+     */
+    public static final int TAMANHO_MAXIMO_REGISTRO = TAMANHO_FIXO + Short.BYTES + 100 * 4 + Byte.BYTES + 20 * 4;
+    
+    /**
+     * Representação de data nula nos campos de data em microssegundos
+     */
+    public static final long DATA_NULA = Long.MIN_VALUE;
+    
+    private FormatoBinarioAluno() {
+    }
+    
+    public static void escreverCabecalho(ByteBuffer buffer, long quantidade) {
+        buffer.putInt(MAGICO);
+        buffer.putShort(VERSAO);
+        buffer.putLong(quantidade);
+    }
+    
+    /**
+     * Lê e valida o cabeçalho
+     * 
+     * @return Quantidade de registros do arquivo
+     * @throws SnapshotException se o arquivo não for um snapshot de alunos desta versão
+     */
+    public static long lerCabecalho(ByteBuffer buffer) {
+        if (buffer.remaining() < TAMANHO_CABECALHO || buffer.getInt() != MAGICO) {
+            throw new SnapshotException("Arquivo não é um snapshot de alunos");
+        }
+        short versao = buffer.getShort();
+        if (versao != VERSAO) {
+            throw new SnapshotException("Versão de snapshot não suportada: " + versao);
+        }
+        return buffer.getLong();
+    }
+    
+    public static void escrever(ByteBuffer buffer, Aluno aluno) {
+        buffer.putLong(aluno.getId());
+        buffer.putDouble(aluno.getMediaFinal());
+        buffer.put(aluno.isConcluiu() ? (byte) 1 : (byte) 0);
+        buffer.putInt(aluno.getCursosAdicionais());
+        buffer.putInt(aluno.getTentativasAvaliacao());
+        buffer.putLong(paraMicros(aluno.getDataCriacao()));
+        buffer.putLong(paraMicros(aluno.getDataAtualizacao()));
+        buffer.putLong(paraMicros(aluno.getDataConclusao()));
+        buffer.putLong(aluno.getVersao() == null ? 0L : aluno.getVersao());
+        
+        byte[] nome = aluno.getNome().getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) nome.length);
+        buffer.put(nome);
+        byte[] ra = aluno.getRegistroAcademico().getValor().getBytes(StandardCharsets.UTF_8);
+        buffer.put((byte) ra.length);
+        buffer.put(ra);
+    }
+    
+    public static Aluno ler(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        double mediaFinal = buffer.getDouble();
+        boolean concluiu = buffer.get() == 1;
+        int cursosAdicionais = buffer.getInt();
+        int tentativasAvaliacao = buffer.getInt();
+        LocalDateTime dataCriacao = deMicros(buffer.getLong());
+        LocalDateTime dataAtualizacao = deMicros(buffer.getLong());
+        LocalDateTime dataConclusao = deMicros(buffer.getLong());
+        long versao = buffer.getLong();
+        
+        String nome = lerTexto(buffer, Short.toUnsignedInt(buffer.getShort()));
+        String ra = lerTexto(buffer, Byte.toUnsignedInt(buffer.get()));
+        
+        return Aluno.reconstituir(id, nome, ra, mediaFinal, concluiu, cursosAdicionais, tentativasAvaliacao,
+                dataCriacao, dataAtualizacao, dataConclusao, versao);
+    }
+    
+    private static String lerTexto(ByteBuffer buffer, int tamanho) {
+        byte[] bytes = new byte[tamanho];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Data em microssegundos desde a época (UTC), ou DATA_NULA
+     */
+    public static long paraMicros(LocalDateTime data) {
+        if (data == null) {
+            return DATA_NULA;
+        }
+        return data.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + data.getNano() / 1_000;
+    }
+    
+    public static LocalDateTime deMicros(long micros) {
+        if (micros == DATA_NULA) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,69 @@
+package com.devops.projeto_ac2.infrastructure.snapshot;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progresso de uma geração ou restauração de snapshot
+ * Atualizado pela thread da operação e lido pelo endpoint de progresso
+ */
+@Getter
+public class ProgressoSnapshot {
+    
+    private final String operacao;
+    private final String arquivo;
+    private final long total;
+    private final long inicioNanos;
+    private final AtomicLong processadas = new AtomicLong();
+    private volatile long fimNanos;
+    private volatile boolean concluido;
+    private volatile String erro;
+    
+    ProgressoSnapshot(String operacao, String arquivo, long total) {
+        this.operacao = operacao;
+        this.arquivo = arquivo;
+        this.total = total;
+        this.inicioNanos = System.nanoTime();
+    }
+    
+    void avancar(long linhas) {
+        processadas.addAndGet(linhas);
+    }
+    
+    void concluir() {
+        this.fimNanos = System.nanoTime();
+        this.concluido = true;
+    }
+    
+    void falhar(String mensagem) {
+        this.erro = mensagem;
+        concluir();
+    }
+    
+    public long getLinhasProcessadas() {
+        return processadas.get();
+    }
+    
+    public long getDuracaoNanos() {
+        return (concluido ? fimNanos : System.nanoTime()) - inicioNanos;
+    }
+    
+    /**
+     * Percentual concluído (0 a 100)
+     */
+    public double getPercentual() {
+        if (total <= 0) {
+            return concluido ? 100.0 : 0.0;
+        }
+        return Math.min(100.0, processadas.get() * 100.0 / total);
+    }
+    
+    public double getLinhasPorSegundo() {
+        long duracao = getDuracaoNanos();
+        if (duracao <= 0) {
+            return 0.0;
+        }
+        return processadas.get() * 1_000_000_000.0 / duracao;
+    }
+}
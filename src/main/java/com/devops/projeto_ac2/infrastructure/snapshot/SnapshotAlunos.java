@@ -0,0 +1,386 @@
+package com.devops.projeto_ac2.infrastructure.snapshot;
+
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
+import com.devops.projeto_ac2.application.lote.ResultadoOperacaoMassa;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.infrastructure.persistence.CacheSegundoNivel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Snapshot binário de tb_alunos
+ * 
+ * Geração: lê a tabela em streaming (fetch size) e grava no formato de
+ * {@link FormatoBinarioAluno} por um FileChannel com buffer direto; o arquivo
+ * só aparece com o nome final depois do force() (grava em .tmp e renomeia).
+ * 
+ * Restauração: decodifica o arquivo em streaming e insere com JDBC batch,
+ * mantendo os IDs originais, tudo numa única transação: ou o snapshot entra
+ * inteiro ou nada muda. O histórico de tentativas e o arquivo de concluídos não
+ * fazem parte do snapshot; ao substituir, tb_tentativas_avaliacao e
+ * tb_alunos_arquivados também são esvaziadas (com os IDs reaproveitados, as linhas
+ * antigas apontariam para outros alunos). Depois do commit a identidade de
+ * tb_alunos é reposicionada (o ALTER do H2 não é transacional; se falhar, basta
+ * restaurar de novo). Como essas gravações não passam pelo Hibernate nem pelos casos
+ * de uso, o cache de segundo nível é descartado e AlunosAlterados é publicado no fim.
+ * 
+ * Uma operação por vez; o progresso da atual (ou da última) fica em {@link #getProgresso()}.
+ */
+@Slf4j
+@Component
+public class SnapshotAlunos {
+    
+    private static final String COLUNAS = "id, nome, ra, media_final, concluiu, cursos_adicionais, "
+            + "tentativas_avaliacao, data_criacao, data_atualizacao, data_conclusao, versao";
+    private static final String SELECT = "SELECT " + COLUNAS + " FROM tb_alunos ORDER BY id";
+    private static final String INSERT = "INSERT INTO tb_alunos (" + COLUNAS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    /** Ordem de limpeza ao substituir: dependentes antes de tb_alunos */
+    private static final List<String> TABELAS = List.of("tb_tentativas_avaliacao", "tb_alunos_arquivados", "tb_alunos");
+    
+    private static final int TAMANHO_BUFFER = 1 << 20;
+    private static final Pattern NOME_VALIDO = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,99}");
+    private static final DateTimeFormatter FORMATO_NOME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheSegundoNivel cacheSegundoNivel;
+    private final ApplicationEventPublisher eventos;
+    private final Path diretorio;
+    private final int tamanhoLote;
+    
+    private final AtomicBoolean emExecucao = new AtomicBoolean();
+    private volatile ProgressoSnapshot progresso;
+    
+    public SnapshotAlunos(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CacheSegundoNivel cacheSegundoNivel,
+            ApplicationEventPublisher eventos,
+            @Value("${alunos.snapshot.diretorio:./snapshots}") String diretorio,
+            @Value("${alunos.snapshot.tamanho-lote:5000}") int tamanhoLote) {
+        if (tamanhoLote <= 0) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser maior que zero");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheSegundoNivel = cacheSegundoNivel;
+        this.eventos = eventos;
+        this.diretorio = Paths.get(diretorio).toAbsolutePath().normalize();
+        this.tamanhoLote = tamanhoLote;
+    }
+    
+    /**
+     * Grava todos os alunos de tb_alunos no arquivo informado
+     * 
+     * @param nomeArquivo Nome do arquivo dentro de alunos.snapshot.diretorio (null gera um nome com data e hora)
+     * @return Alunos gravados e vazão
+     */
+    public ResultadoOperacaoMassa gerar(String nomeArquivo) {
+        String nome = nomeArquivo == null || nomeArquivo.isBlank()
+                ? "alunos-" + LocalDateTime.now().format(FORMATO_NOME) + ".snap"
+                : nomeArquivo;
+        Path destino = resolver(nome);
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_alunos", Long.class);
+        ProgressoSnapshot atual = iniciar("snapshot", nome, total == null ? 0 : total);
+        
+        try {
+            Files.createDirectories(diretorio);
+            Path temporario = destino.resolveSibling(nome + ".tmp");
+            long gravados;
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                gravados = gravarRegistros(canal, atual);
+                
+                // Quantidade real só é conhecida no fim: reescreve o cabeçalho
+                ByteBuffer cabecalho = ByteBuffer.allocate(FormatoBinarioAluno.TAMANHO_CABECALHO);
+                FormatoBinarioAluno.escreverCabecalho(cabecalho, gravados);
+                cabecalho.flip();
+                while (cabecalho.hasRemaining()) {
+                    canal.write(cabecalho, cabecalho.position());
+                }
+                canal.force(true);
+            }
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            
+            atual.concluir();
+            log.info("Snapshot {} gerado: {} alunos em {} ms", nome, gravados, atual.getDuracaoNanos() / 1_000_000);
+            return new ResultadoOperacaoMassa("snapshot", 1, gravados, atual.getDuracaoNanos());
+        } catch (IOException e) {
+            atual.falhar(e.getMessage());
+            throw new UncheckedIOException("Falha ao gravar snapshot " + nome, e);
+        } catch (RuntimeException e) {
+            atual.falhar(e.getMessage());
+            throw e;
+        } finally {
+            emExecucao.set(false);
+        }
+    }
+    
+    /**
+     * Carrega um snapshot em tb_alunos
+     * 
+     * @param nomeArquivo Nome do arquivo dentro de alunos.snapshot.diretorio
+     * @param substituir Se true, esvazia antes tb_alunos, o histórico de tentativas e o arquivo;
+     *                   se false, exige as três tabelas vazias
+     * @return Lotes inseridos, alunos restaurados e vazão
+     */
+    public ResultadoOperacaoMassa restaurar(String nomeArquivo, boolean substituir) {
+        if (nomeArquivo == null || nomeArquivo.isBlank()) {
+            throw new SnapshotException("Informe o arquivo do snapshot");
+        }
+        Path origem = resolver(nomeArquivo);
+        if (!Files.isRegularFile(origem)) {
+            throw new SnapshotException("Snapshot não encontrado: " + nomeArquivo);
+        }
+        
+        ProgressoSnapshot atual = null;
+        try (FileChannel canal = FileChannel.open(origem, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+            preencher(canal, buffer);
+            long quantidade = FormatoBinarioAluno.lerCabecalho(buffer);
+            
+            atual = iniciar("restauracao", nomeArquivo, quantidade);
+            ProgressoSnapshot emAndamento = atual;
+            Integer lotes = transactionTemplate.execute(status -> {
+                prepararTabelas(substituir);
+                return carregar(canal, buffer, quantidade, emAndamento);
+            });
+            reposicionarIdentidade();
+            
+            atual.concluir();
+            log.info("Snapshot {} restaurado: {} alunos em {} ms", nomeArquivo, quantidade,
+                    atual.getDuracaoNanos() / 1_000_000);
+            return new ResultadoOperacaoMassa("restauracao", lotes, quantidade, atual.getDuracaoNanos());
+        } catch (BufferUnderflowException e) {
+            falhar(atual, "Snapshot truncado");
+            throw new SnapshotException("Snapshot truncado ou corrompido: " + nomeArquivo);
+        } catch (IOException e) {
+            falhar(atual, e.getMessage());
+            throw new UncheckedIOException("Falha ao ler snapshot " + nomeArquivo, e);
+        } catch (RuntimeException e) {
+            falhar(atual, e.getMessage());
+            throw e;
+        } finally {
+            if (atual != null) {
+                descartarCopias();
+                emExecucao.set(false);
+            }
+        }
+    }
+    
+    /**
+     * Progresso da operação em andamento ou da última executada (null se nenhuma)
+     */
+    public ProgressoSnapshot getProgresso() {
+        return progresso;
+    }
+    
+    private long gravarRegistros(FileChannel canal, ProgressoSnapshot atual) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+        FormatoBinarioAluno.escreverCabecalho(buffer, 0);
+        long[] gravados = {0};
+        
+        jdbcTemplate.query(conexao -> {
+            PreparedStatement ps = conexao.prepareStatement(SELECT, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(tamanhoLote);
+            return ps;
+        }, rs -> {
+            if (buffer.remaining() < FormatoBinarioAluno.TAMANHO_MAXIMO_REGISTRO) {
+                descarregar(canal, buffer);
+            }
+            FormatoBinarioAluno.escrever(buffer, paraAluno(rs));
+            if (++gravados[0] % tamanhoLote == 0) {
+                atual.avancar(tamanhoLote);
+            }
+        });
+        descarregar(canal, buffer);
+        atual.avancar(gravados[0] % tamanhoLote);
+        return gravados[0];
+    }
+    
+    /**
+     * DELETE em vez de TRUNCATE: no H2 o TRUNCATE faz commit na hora e quebraria a atomicidade
+     */
+    private void prepararTabelas(boolean substituir) {
+        for (String tabela : TABELAS) {
+            if (substituir) {
+                jdbcTemplate.update("DELETE FROM " + tabela);
+                continue;
+            }
+            Long existentes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tabela, Long.class);
+            if (existentes != null && existentes > 0) {
+                throw new SnapshotException(tabela + " não está vazia (" + existentes
+                        + " linhas); use substituir=true para restaurar por cima");
+            }
+        }
+    }
+    
+    /**
+     * Decodifica e insere os registros em lotes; roda dentro da transação da restauração
+     * 
+     * @return Quantidade de lotes inseridos
+     */
+    private int carregar(FileChannel canal, ByteBuffer buffer, long quantidade, ProgressoSnapshot atual) {
+        List<Aluno> lote = new ArrayList<>(tamanhoLote);
+        int lotes = 0;
+        try {
+            for (long i = 0; i < quantidade; i++) {
+                if (buffer.remaining() < FormatoBinarioAluno.TAMANHO_MAXIMO_REGISTRO) {
+                    buffer.compact();
+                    preencher(canal, buffer);
+                }
+                lote.add(FormatoBinarioAluno.ler(buffer));
+                if (lote.size() == tamanhoLote) {
+                    inserir(lote, atual);
+                    lotes++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler snapshot", e);
+        }
+        if (!lote.isEmpty()) {
+            inserir(lote, atual);
+            lotes++;
+        }
+        return lotes;
+    }
+    
+    private void inserir(List<Aluno> lote, ProgressoSnapshot atual) {
+        jdbcTemplate.batchUpdate(INSERT, lote, lote.size(), (ps, aluno) -> {
+            ps.setLong(1, aluno.getId());
+            ps.setString(2, aluno.getNome());
+            ps.setString(3, aluno.getRegistroAcademico().getValor());
+            ps.setDouble(4, aluno.getMediaFinal());
+            ps.setBoolean(5, aluno.isConcluiu());
+            ps.setInt(6, aluno.getCursosAdicionais());
+            ps.setInt(7, aluno.getTentativasAvaliacao());
+            definirData(ps, 8, aluno.getDataCriacao());
+            definirData(ps, 9, aluno.getDataAtualizacao());
+            definirData(ps, 10, aluno.getDataConclusao());
+            ps.setLong(11, aluno.getVersao());
+        });
+        atual.avancar(lote.size());
+        lote.clear();
+    }
+    
+    private void descartarCopias() {
+        cacheSegundoNivel.invalidarAlunos();
+        eventos.publishEvent(AlunosAlterados.geral());
+    }
+    
+    /**
+     * Os IDs vieram do arquivo: a identidade precisa continuar depois do maior deles,
+     * contando também os arquivados (que guardam o ID que tinham em tb_alunos)
+     */
+    private void reposicionarIdentidade() {
+        Long maiorId = jdbcTemplate.queryForObject("SELECT GREATEST("
+                + "(SELECT COALESCE(MAX(id), 0) FROM tb_alunos), "
+                + "(SELECT COALESCE(MAX(id), 0) FROM tb_alunos_arquivados))", Long.class);
+        long proximo = (maiorId == null ? 0 : maiorId) + 1;
+        jdbcTemplate.execute("ALTER TABLE tb_alunos ALTER COLUMN id RESTART WITH " + proximo);
+    }
+    
+    private ProgressoSnapshot iniciar(String operacao, String arquivo, long total) {
+        if (!emExecucao.compareAndSet(false, true)) {
+            throw new SnapshotException("Já existe um snapshot ou restauração em andamento");
+        }
+        ProgressoSnapshot atual = new ProgressoSnapshot(operacao, arquivo, total);
+        this.progresso = atual;
+        return atual;
+    }
+    
+    private void falhar(ProgressoSnapshot atual, String mensagem) {
+        if (atual != null) {
+            atual.falhar(mensagem);
+        }
+    }
+    
+    /**
+     * Só aceita nomes simples, sem separadores, dentro do diretório configurado
+     */
+    private Path resolver(String nomeArquivo) {
+        if (!NOME_VALIDO.matcher(nomeArquivo).matches()) {
+            throw new SnapshotException("Nome de arquivo inválido: " + nomeArquivo);
+        }
+        Path caminho = diretorio.resolve(nomeArquivo).normalize();
+        if (!caminho.getParent().equals(diretorio)) {
+            throw new SnapshotException("Nome de arquivo inválido: " + nomeArquivo);
+        }
+        return caminho;
+    }
+    
+    private static Aluno paraAluno(ResultSet rs) throws SQLException {
+        return Aluno.reconstituir(
+                rs.getLong("id"),
+                rs.getString("nome"),
+                rs.getString("ra"),
+                rs.getDouble("media_final"),
+                rs.getBoolean("concluiu"),
+                rs.getInt("cursos_adicionais"),
+                rs.getInt("tentativas_avaliacao"),
+                rs.getObject("data_criacao", LocalDateTime.class),
+                rs.getObject("data_atualizacao", LocalDateTime.class),
+                rs.getObject("data_conclusao", LocalDateTime.class),
+                rs.getLong("versao"));
+    }
+    
+    private static void definirData(PreparedStatement ps, int indice, LocalDateTime data) throws SQLException {
+        if (data == null) {
+            ps.setNull(indice, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(indice, Timestamp.valueOf(data));
+        }
+    }
+    
+    private static void descarregar(FileChannel canal, ByteBuffer buffer) {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+    
+    /**
+     * Lê do canal até encher o buffer ou chegar ao fim do arquivo; deixa o buffer pronto para leitura
+     */
+    private static void preencher(FileChannel canal, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (canal.read(buffer) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,12 @@
+package com.devops.projeto_ac2.infrastructure.snapshot;
+
+/**
+ * Exceção lançada quando um snapshot não pode ser gerado ou restaurado
+ * (arquivo inválido, nome de arquivo inválido, operação já em andamento)
+ */
+public class SnapshotException extends RuntimeException {
+    
+    public SnapshotException(String mensagem) {
+        super(mensagem);
+    }
+}
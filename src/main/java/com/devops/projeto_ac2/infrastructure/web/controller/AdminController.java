@@ -0,0 +1,373 @@
+package com.devops.projeto_ac2.infrastructure.web.controller;
+
+import com.devops.projeto_ac2.application.concorrencia.BloqueioPorAluno;
+import com.devops.projeto_ac2.application.concorrencia.ExecutorMutacaoAluno;
+import com.devops.projeto_ac2.application.concorrencia.LeiturasCompartilhadas;
+import com.devops.projeto_ac2.application.lote.ResultadoOperacaoMassa;
+import com.devops.projeto_ac2.application.lote.WriteBehindPerfilAlunos;
+import com.devops.projeto_ac2.application.usecases.ArquivarAlunosConcluidosUseCase;
+import com.devops.projeto_ac2.application.usecases.ExcluirAlunosEmMassaUseCase;
+import com.devops.projeto_ac2.application.usecases.RecalcularBonusCursosUseCase;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.infrastructure.cache.CacheAlunosPorId;
+import com.devops.projeto_ac2.infrastructure.cache.CacheRespostasRanking;
+import com.devops.projeto_ac2.infrastructure.persistence.CacheSegundoNivel;
+import com.devops.projeto_ac2.infrastructure.snapshot.ProgressoSnapshot;
+import com.devops.projeto_ac2.infrastructure.snapshot.SnapshotAlunos;
+import com.devops.projeto_ac2.shared.dto.CacheAlunosResponseDTO;
+import com.devops.projeto_ac2.shared.dto.CacheHibernateResponseDTO;
+import com.devops.projeto_ac2.shared.dto.CacheRankingResponseDTO;
+import com.devops.projeto_ac2.shared.dto.ConcorrenciaResponseDTO;
+import com.devops.projeto_ac2.shared.dto.ExcluirAlunosRequestDTO;
+import com.devops.projeto_ac2.shared.dto.LeiturasCompartilhadasResponseDTO;
+import com.devops.projeto_ac2.shared.dto.OperacaoMassaResponseDTO;
+import com.devops.projeto_ac2.shared.dto.ProgressoSnapshotResponseDTO;
+import com.devops.projeto_ac2.shared.dto.WriteBehindResponseDTO;
+import com.devops.projeto_ac2.shared.mapper.AlunoMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Controller REST de administração e monitoramento
+ */
+@RestController
+@RequestMapping("/api/admin")
+@Tag(name = "Administração", description = "Operações administrativas e métricas internas")
+public class AdminController {
+    
+    private final BloqueioPorAluno bloqueioPorAluno;
+    private final ExecutorMutacaoAluno executorMutacao;
+    private final RecalcularBonusCursosUseCase recalcularBonusCursosUseCase;
+    private final ExcluirAlunosEmMassaUseCase excluirAlunosEmMassaUseCase;
+    private final ArquivarAlunosConcluidosUseCase arquivarAlunosConcluidosUseCase;
+    private final SnapshotAlunos snapshotAlunos;
+    private final CacheSegundoNivel cacheSegundoNivel;
+    private final CacheAlunosPorId cacheAlunos;
+    private final LeiturasCompartilhadas leiturasCompartilhadas;
+    private final CacheRespostasRanking cacheRespostasRanking;
+    private final WriteBehindPerfilAlunos writeBehindPerfil;
+    private final AlunoMapper alunoMapper;
+    
+    public AdminController(
+            BloqueioPorAluno bloqueioPorAluno,
+            ExecutorMutacaoAluno executorMutacao,
+            RecalcularBonusCursosUseCase recalcularBonusCursosUseCase,
+            ExcluirAlunosEmMassaUseCase excluirAlunosEmMassaUseCase,
+            ArquivarAlunosConcluidosUseCase arquivarAlunosConcluidosUseCase,
+            SnapshotAlunos snapshotAlunos,
+            CacheSegundoNivel cacheSegundoNivel,
+            CacheAlunosPorId cacheAlunos,
+            LeiturasCompartilhadas leiturasCompartilhadas,
+            CacheRespostasRanking cacheRespostasRanking,
+            WriteBehindPerfilAlunos writeBehindPerfil,
+            AlunoMapper alunoMapper) {
+        this.bloqueioPorAluno = bloqueioPorAluno;
+        this.executorMutacao = executorMutacao;
+        this.recalcularBonusCursosUseCase = recalcularBonusCursosUseCase;
+        this.excluirAlunosEmMassaUseCase = excluirAlunosEmMassaUseCase;
+        this.arquivarAlunosConcluidosUseCase = arquivarAlunosConcluidosUseCase;
+        this.snapshotAlunos = snapshotAlunos;
+        this.cacheSegundoNivel = cacheSegundoNivel;
+        this.cacheAlunos = cacheAlunos;
+        this.leiturasCompartilhadas = leiturasCompartilhadas;
+        this.cacheRespostasRanking = cacheRespostasRanking;
+        this.writeBehindPerfil = writeBehindPerfil;
+        this.alunoMapper = alunoMapper;
+    }
+    
+    /**
+     * GET /api/admin/concorrencia - Métricas de concorrência das mutações
+     */
+    @Operation(summary = "Métricas de concorrência",
+            description = "Profundidade das filas de cada faixa do lock por aluno e conflitos otimistas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Métricas retornadas com sucesso")
+    })
+    @GetMapping("/concorrencia")
+    public ResponseEntity<ConcorrenciaResponseDTO> obterConcorrencia() {
+        int[] profundidades = bloqueioPorAluno.profundidadeFilas();
+        
+        ConcorrenciaResponseDTO response = ConcorrenciaResponseDTO.builder()
+                .faixas(bloqueioPorAluno.getQuantidadeFaixas())
+                .threadsAguardando(Arrays.stream(profundidades).sum())
+                .maiorFila(Arrays.stream(profundidades).max().orElse(0))
+                .profundidadePorFaixa(Arrays.stream(profundidades).boxed().collect(Collectors.toList()))
+                .conflitosOtimistas(executorMutacao.getConflitos())
+                .mutacoesAbandonadas(executorMutacao.getAbandonos())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * GET /api/admin/cache-hibernate - Estatísticas do cache de segundo nível
+     */
+    @Operation(summary = "Estatísticas do cache do Hibernate",
+            description = "Acertos, faltas e inserções do cache de alunos e do cache de consultas, "
+                    + "acumulados desde a subida (alunos.cache-hibernate.*)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso")
+    })
+    @GetMapping("/cache-hibernate")
+    public ResponseEntity<CacheHibernateResponseDTO> obterCacheHibernate() {
+        Statistics estatisticas = cacheSegundoNivel.getEstatisticas();
+        EntityStatistics alunos = estatisticas.getEntityStatistics(Aluno.class.getName());
+        long leituras = alunos.getCacheHitCount() + alunos.getCacheMissCount();
+        
+        CacheHibernateResponseDTO response = CacheHibernateResponseDTO.builder()
+                .habilitado(cacheSegundoNivel.isHabilitado())
+                .estatisticasHabilitadas(estatisticas.isStatisticsEnabled())
+                .alunosAcertos(alunos.getCacheHitCount())
+                .alunosFaltas(alunos.getCacheMissCount())
+                .alunosInsercoes(alunos.getCachePutCount())
+                .alunosCarregadosDoBanco(alunos.getLoadCount())
+                .taxaAcertoAlunos(leituras == 0 ? 0.0 : 100.0 * alunos.getCacheHitCount() / leituras)
+                .consultasAcertos(estatisticas.getQueryCacheHitCount())
+                .consultasFaltas(estatisticas.getQueryCacheMissCount())
+                .consultasInsercoes(estatisticas.getQueryCachePutCount())
+                .consultasExecutadasNoBanco(estatisticas.getQueryExecutionCount())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * GET /api/admin/cache-alunos - Métricas do cache de DTOs da busca por ID
+     */
+    @Operation(summary = "Métricas do cache de alunos",
+            description = "Ocupação, acertos, faltas, remoções e invalidações do cache de GET /api/alunos/{id} "
+                    + "(alunos.cache-alunos.*)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Métricas retornadas com sucesso")
+    })
+    @GetMapping("/cache-alunos")
+    public ResponseEntity<CacheAlunosResponseDTO> obterCacheAlunos() {
+        CacheStats estatisticas = cacheAlunos.getEstatisticas();
+        
+        CacheAlunosResponseDTO response = CacheAlunosResponseDTO.builder()
+                .habilitado(cacheAlunos.isHabilitado())
+                .capacidade(cacheAlunos.getCapacidade())
+                .tamanho(cacheAlunos.getTamanho())
+                .acertos(estatisticas.hitCount())
+                .faltas(estatisticas.missCount())
+                .taxaAcerto(100.0 * estatisticas.hitRate())
+                .remocoes(estatisticas.evictionCount())
+                .invalidacoes(cacheAlunos.getInvalidacoes())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * GET /api/admin/leituras-compartilhadas - Leituras executadas e compartilhadas (single-flight)
+     */
+    @Operation(summary = "Métricas das leituras compartilhadas",
+            description = "Quantas leituras de ranking e de aluno por ID foram executadas e quantas chamadas "
+                    + "simultâneas receberam o resultado de uma leitura já em andamento")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Métricas retornadas com sucesso")
+    })
+    @GetMapping("/leituras-compartilhadas")
+    public ResponseEntity<LeiturasCompartilhadasResponseDTO> obterLeiturasCompartilhadas() {
+        LeiturasCompartilhadasResponseDTO response = LeiturasCompartilhadasResponseDTO.builder()
+                .habilitado(leiturasCompartilhadas.isHabilitado())
+                .execucoes(leiturasCompartilhadas.getExecucoes())
+                .compartilhadas(leiturasCompartilhadas.getCompartilhadas())
+                .emAndamento(leiturasCompartilhadas.getEmAndamento())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * GET /api/admin/cache-ranking - Métricas do cache de respostas serializadas do ranking
+     */
+    @Operation(summary = "Métricas do cache do ranking",
+            description = "Versão dos dados, ocupação, acertos e faltas do cache de respostas já serializadas "
+                    + "de GET /api/alunos/ranking (alunos.ranking-serializado.*)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Métricas retornadas com sucesso")
+    })
+    @GetMapping("/cache-ranking")
+    public ResponseEntity<CacheRankingResponseDTO> obterCacheRanking() {
+        CacheStats estatisticas = cacheRespostasRanking.getEstatisticas();
+        
+        CacheRankingResponseDTO response = CacheRankingResponseDTO.builder()
+                .habilitado(cacheRespostasRanking.isHabilitado())
+                .versao(cacheRespostasRanking.getVersao())
+                .tamanho(cacheRespostasRanking.getTamanho())
+                .acertos(estatisticas.hitCount())
+                .faltas(estatisticas.missCount())
+                .taxaAcerto(100.0 * estatisticas.hitRate())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * GET /api/admin/write-behind - Pendências, gravações e descartes do write-behind de perfil
+     */
+    @Operation(summary = "Estado do write-behind de perfil",
+            description = "Atualizações pendentes, gravadas e descartadas (aceitas com 202 mas não gravadas "
+                    + "porque o aluno mudou antes do flush), com os descartes mais recentes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estado retornado com sucesso")
+    })
+    @GetMapping("/write-behind")
+    public ResponseEntity<WriteBehindResponseDTO> obterWriteBehind() {
+        WriteBehindResponseDTO response = WriteBehindResponseDTO.builder()
+                .habilitado(writeBehindPerfil.isHabilitado())
+                .pendentes(writeBehindPerfil.quantidadePendentes())
+                .gravadas(writeBehindPerfil.getGravadas())
+                .descartadas(writeBehindPerfil.getDescartadas())
+                .ultimosDescartes(writeBehindPerfil.ultimosDescartes().stream()
+                        .map(descarte -> WriteBehindResponseDTO.Descarte.builder()
+                                .alunoId(descarte.alunoId())
+                                .motivo(descarte.motivo())
+                                .instante(descarte.instante())
+                                .build())
+                        .toList())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * POST /api/admin/bonus/recalculo - Reaplicar as regras de bônus aos alunos concluídos
+     */
+    @Operation(summary = "Recalcular bônus de cursos",
+            description = "Recalcula cursosAdicionais de todos os concluídos com as regras alunos.bonus.* "
+                    + "usando UPDATE em massa por faixa de IDs")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recálculo concluído (alunos alterados e vazão)")
+    })
+    @PostMapping("/bonus/recalculo")
+    public ResponseEntity<OperacaoMassaResponseDTO> recalcularBonus() {
+        ResultadoOperacaoMassa resultado = recalcularBonusCursosUseCase.executar();
+        return ResponseEntity.ok(alunoMapper.toOperacaoMassaResponseDTO(resultado));
+    }
+    
+    /**
+     * POST /api/admin/alunos/exclusao - Excluir alunos em massa
+     */
+    @Operation(summary = "Excluir alunos em massa",
+            description = "Exclui por lista de IDs ou os concluídos antes de uma data (dd/MM/yyyy), "
+                    + "com DELETE em massa por pedaços e o histórico de tentativas junto. "
+                    + "Alunos já arquivados (tb_alunos_arquivados) não são excluídos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exclusão concluída (alunos excluídos e vazão)"),
+            @ApiResponse(responseCode = "400", description = "Nenhum filtro, os dois filtros ou ID nulo na lista")
+    })
+    @PostMapping("/alunos/exclusao")
+    public ResponseEntity<OperacaoMassaResponseDTO> excluirAlunos(@Valid @RequestBody ExcluirAlunosRequestDTO request) {
+        boolean porIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean porData = request.getConcluidosAntesDe() != null;
+        if (porIds == porData) {
+            throw new DomainException("Informe a lista de IDs ou a data de conclusão (apenas um dos dois)");
+        }
+        
+        ResultadoOperacaoMassa resultado = porIds
+                ? excluirAlunosEmMassaUseCase.executarPorIds(request.getIds())
+                : excluirAlunosEmMassaUseCase.executarConcluidosAntesDe(request.getConcluidosAntesDe());
+        return ResponseEntity.ok(alunoMapper.toOperacaoMassaResponseDTO(resultado));
+    }
+    
+    /**
+     * POST /api/admin/arquivamento - Arquivar alunos concluídos há mais de N dias
+     */
+    @Operation(summary = "Arquivar concluídos",
+            description = "Move para tb_alunos_arquivados os alunos concluídos há mais de N dias "
+                    + "(mesma rotina do agendamento alunos.arquivamento.*)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Arquivamento concluído (alunos movidos e vazão)"),
+            @ApiResponse(responseCode = "400", description = "Quantidade de dias negativa")
+    })
+    @PostMapping("/arquivamento")
+    public ResponseEntity<OperacaoMassaResponseDTO> arquivar(
+            @Parameter(description = "Arquivar quem concluiu há mais de N dias")
+            @RequestParam(defaultValue = "365") int dias) {
+        ResultadoOperacaoMassa resultado = arquivarAlunosConcluidosUseCase.executar(dias);
+        return ResponseEntity.ok(alunoMapper.toOperacaoMassaResponseDTO(resultado));
+    }
+    
+    /**
+     * POST /api/admin/snapshot - Gerar snapshot binário de tb_alunos
+     */
+    @Operation(summary = "Gerar snapshot",
+            description = "Grava todos os alunos num arquivo binário compacto em alunos.snapshot.diretorio")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Snapshot gravado (alunos e vazão)"),
+            @ApiResponse(responseCode = "400", description = "Nome de arquivo inválido ou operação em andamento")
+    })
+    @PostMapping("/snapshot")
+    public ResponseEntity<OperacaoMassaResponseDTO> gerarSnapshot(
+            @Parameter(description = "Nome do arquivo (padrão: alunos-<data>-<hora>.snap)")
+            @RequestParam(required = false) String arquivo) {
+        ResultadoOperacaoMassa resultado = snapshotAlunos.gerar(arquivo);
+        return ResponseEntity.ok(alunoMapper.toOperacaoMassaResponseDTO(resultado));
+    }
+    
+    /**
+     * POST /api/admin/snapshot/restauracao - Restaurar tb_alunos a partir de um snapshot
+     */
+    @Operation(summary = "Restaurar snapshot",
+            description = "Carrega um snapshot em tb_alunos com JDBC batch, mantendo os IDs originais, "
+                    + "numa única transação")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Snapshot restaurado (lotes, alunos e vazão)"),
+            @ApiResponse(responseCode = "400", description = "Arquivo inválido, tabela não vazia ou operação em andamento")
+    })
+    @PostMapping("/snapshot/restauracao")
+    public ResponseEntity<OperacaoMassaResponseDTO> restaurarSnapshot(
+            @Parameter(description = "Nome do arquivo do snapshot")
+            @RequestParam String arquivo,
+            @Parameter(description = "Esvaziar tb_alunos, o histórico de tentativas e o arquivo antes de restaurar")
+            @RequestParam(defaultValue = "false") boolean substituir) {
+        ResultadoOperacaoMassa resultado = snapshotAlunos.restaurar(arquivo, substituir);
+        return ResponseEntity.ok(alunoMapper.toOperacaoMassaResponseDTO(resultado));
+    }
+    
+    /**
+     * GET /api/admin/snapshot/progresso - Progresso do snapshot ou restauração
+     */
+    @Operation(summary = "Progresso do snapshot",
+            description = "Linhas processadas, percentual e vazão da operação em andamento ou da última")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Progresso retornado com sucesso"),
+            @ApiResponse(responseCode = "204", description = "Nenhuma operação executada ainda")
+    })
+    @GetMapping("/snapshot/progresso")
+    public ResponseEntity<ProgressoSnapshotResponseDTO> obterProgressoSnapshot() {
+        ProgressoSnapshot progresso = snapshotAlunos.getProgresso();
+        if (progresso == null) {
+            return ResponseEntity.noContent().build();
+        }
+        
+        ProgressoSnapshotResponseDTO response = ProgressoSnapshotResponseDTO.builder()
+                .operacao(progresso.getOperacao())
+                .arquivo(progresso.getArquivo())
+                .total(progresso.getTotal())
+                .linhasProcessadas(progresso.getLinhasProcessadas())
+                .percentual(progresso.getPercentual())
+                .duracaoMs(progresso.getDuracaoNanos() / 1_000_000)
+                .linhasPorSegundo(progresso.getLinhasPorSegundo())
+                .concluido(progresso.isConcluido())
+                .erro(progresso.getErro())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+}
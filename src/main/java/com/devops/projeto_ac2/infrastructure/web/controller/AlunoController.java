@@ -1,28 +1,53 @@
 package com.devops.projeto_ac2.infrastructure.web.controller;
 
+import com.devops.projeto_ac2.application.concorrencia.LeiturasCompartilhadas;
+import com.devops.projeto_ac2.application.concorrencia.MutacoesAluno;
+import com.devops.projeto_ac2.application.lote.AtualizacaoPerfil;
+import com.devops.projeto_ac2.application.lote.ItemLote;
+import com.devops.projeto_ac2.application.lote.ResultadoLote;
+import com.devops.projeto_ac2.application.lote.WriteBehindPerfilAlunos;
 import com.devops.projeto_ac2.application.usecases.BuscarAlunoPorIdUseCase;
-import com.devops.projeto_ac2.application.usecases.ConcluirCursoUseCase;
+import com.devops.projeto_ac2.application.usecases.ConcluirCursosEmLoteUseCase;
 import com.devops.projeto_ac2.application.usecases.CriarAlunoUseCase;
 import com.devops.projeto_ac2.application.usecases.ListarAlunosUseCase;
-import com.devops.projeto_ac2.application.usecases.RegistrarTentativaUseCase;
+import com.devops.projeto_ac2.application.usecases.ListarTentativasAlunoUseCase;
+import com.devops.projeto_ac2.application.usecases.RegistrarTentativasEmLoteUseCase;
 import com.devops.projeto_ac2.application.usecases.ObterRankingAlunosUseCase;
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.entities.TentativaAvaliacao;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.infrastructure.cache.CacheAlunosPorId;
+import com.devops.projeto_ac2.infrastructure.cache.CacheRespostasRanking;
+import com.devops.projeto_ac2.infrastructure.cache.CacheRespostasRanking.RespostaSerializada;
+import com.devops.projeto_ac2.infrastructure.idempotencia.ControleIdempotencia;
+import com.devops.projeto_ac2.infrastructure.persistence.ConsultaAlunosJdbc;
+import com.devops.projeto_ac2.infrastructure.replica.ConsistenciaLeitura;
 import com.devops.projeto_ac2.shared.dto.AlunoResponseDTO;
+import com.devops.projeto_ac2.shared.dto.AtualizarAlunoRequestDTO;
 import com.devops.projeto_ac2.shared.dto.ConcluirCursoRequestDTO;
+import com.devops.projeto_ac2.shared.dto.ConcluirCursosLoteRequestDTO;
 import com.devops.projeto_ac2.shared.dto.CriarAlunoRequestDTO;
+import com.devops.projeto_ac2.shared.dto.HistoricoTentativasResponseDTO;
 import com.devops.projeto_ac2.shared.dto.RegistrarTentativaRequestDTO;
+import com.devops.projeto_ac2.shared.dto.RegistrarTentativasLoteRequestDTO;
 import com.devops.projeto_ac2.shared.dto.RankingResponseDTO;
+import com.devops.projeto_ac2.shared.dto.ResultadoLoteResponseDTO;
 import com.devops.projeto_ac2.shared.mapper.AlunoMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -39,28 +64,59 @@ import java.util.stream.Collectors;
 public class AlunoController {
     
     private final CriarAlunoUseCase criarAlunoUseCase;
-    private final ConcluirCursoUseCase concluirCursoUseCase;
+    private final ConcluirCursosEmLoteUseCase concluirCursosEmLoteUseCase;
     private final BuscarAlunoPorIdUseCase buscarAlunoPorIdUseCase;
     private final ListarAlunosUseCase listarAlunosUseCase;
-    private final RegistrarTentativaUseCase registrarTentativaUseCase;
+    private final ListarTentativasAlunoUseCase listarTentativasAlunoUseCase;
+    private final RegistrarTentativasEmLoteUseCase registrarTentativasEmLoteUseCase;
     private final ObterRankingAlunosUseCase obterRankingAlunosUseCase;
     private final AlunoMapper alunoMapper;
+    private final MutacoesAluno mutacoesAluno;
+    private final ControleIdempotencia controleIdempotencia;
+    private final WriteBehindPerfilAlunos writeBehindPerfil;
+    private final ConsultaAlunosJdbc consultaJdbc;
+    private final boolean buscaPorIdJdbc;
+    private final boolean rankingJdbc;
+    private final CacheAlunosPorId cacheAlunos;
+    private final LeiturasCompartilhadas leiturasCompartilhadas;
+    private final CacheRespostasRanking cacheRespostasRanking;
     
     public AlunoController(
             CriarAlunoUseCase criarAlunoUseCase,
-            ConcluirCursoUseCase concluirCursoUseCase,
+            ConcluirCursosEmLoteUseCase concluirCursosEmLoteUseCase,
             BuscarAlunoPorIdUseCase buscarAlunoPorIdUseCase,
             ListarAlunosUseCase listarAlunosUseCase,
-            RegistrarTentativaUseCase registrarTentativaUseCase,
+            ListarTentativasAlunoUseCase listarTentativasAlunoUseCase,
+            RegistrarTentativasEmLoteUseCase registrarTentativasEmLoteUseCase,
             ObterRankingAlunosUseCase obterRankingAlunosUseCase,
-            AlunoMapper alunoMapper) {
+            AlunoMapper alunoMapper,
+            MutacoesAluno mutacoesAluno,
+            ControleIdempotencia controleIdempotencia,
+            WriteBehindPerfilAlunos writeBehindPerfil,
+            @Nullable ConsultaAlunosJdbc consultaJdbc,
+            @Value("${alunos.leitura-jdbc.busca-por-id:false}") boolean buscaPorIdJdbc,
+            @Value("${alunos.leitura-jdbc.ranking:false}") boolean rankingJdbc,
+            CacheAlunosPorId cacheAlunos,
+            LeiturasCompartilhadas leiturasCompartilhadas,
+            CacheRespostasRanking cacheRespostasRanking) {
         this.criarAlunoUseCase = criarAlunoUseCase;
-        this.concluirCursoUseCase = concluirCursoUseCase;
+        this.concluirCursosEmLoteUseCase = concluirCursosEmLoteUseCase;
         this.buscarAlunoPorIdUseCase = buscarAlunoPorIdUseCase;
         this.listarAlunosUseCase = listarAlunosUseCase;
-        this.registrarTentativaUseCase = registrarTentativaUseCase;
+        this.listarTentativasAlunoUseCase = listarTentativasAlunoUseCase;
+        this.registrarTentativasEmLoteUseCase = registrarTentativasEmLoteUseCase;
         this.obterRankingAlunosUseCase = obterRankingAlunosUseCase;
         this.alunoMapper = alunoMapper;
+        this.mutacoesAluno = mutacoesAluno;
+        this.controleIdempotencia = controleIdempotencia;
+        this.writeBehindPerfil = writeBehindPerfil;
+        // Sem o adapter JPA (profiles memoria, mapeado, sharding) não há tb_alunos para ler por JDBC
+        this.consultaJdbc = consultaJdbc;
+        this.buscaPorIdJdbc = buscaPorIdJdbc && consultaJdbc != null;
+        this.rankingJdbc = rankingJdbc && consultaJdbc != null;
+        this.cacheAlunos = cacheAlunos;
+        this.leiturasCompartilhadas = leiturasCompartilhadas;
+        this.cacheRespostasRanking = cacheRespostasRanking;
     }
     
     /**
@@ -92,11 +148,49 @@ public class AlunoController {
     @GetMapping("/{id}")
     public ResponseEntity<AlunoResponseDTO> buscarPorId(
             @Parameter(description = "ID do aluno") @PathVariable Long id) {
-        Aluno aluno = buscarAlunoPorIdUseCase.executar(id);
-        AlunoResponseDTO response = alunoMapper.toResponseDTO(aluno);
+        // Faltas simultâneas no cache para o mesmo aluno viram uma única leitura
+        AlunoResponseDTO encontrado = cacheAlunos.buscar(id, () -> leiturasCompartilhadas.executar(chaveCompartilhada("aluno:" + id),
+                () -> buscaPorIdJdbc
+                        ? consultaJdbc.buscarPorId(id).orElseThrow(() -> new AlunoNotFoundException(id))
+                        : alunoMapper.toResponseDTO(buscarAlunoPorIdUseCase.executar(id))));
+        // O pendente do write-behind fica fora do cache: é aplicado em cima a cada leitura
+        AlunoResponseDTO response = alunoMapper.aplicarPendente(encontrado, writeBehindPerfil.pendente(id));
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * PATCH /api/alunos/{id} - Atualizar nome e/ou média do aluno
+     */
+    @Operation(summary = "Atualizar aluno",
+            description = "Atualiza nome e/ou média. Com write-behind habilitado, a gravação é assíncrona (202)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Aluno atualizado",
+                    content = @Content(schema = @Schema(implementation = AlunoResponseDTO.class))),
+            @ApiResponse(responseCode = "202", description = "Atualização aceita para o próximo flush. Não é garantia "
+                    + "de gravação: se outra escrita alterar o aluno antes do flush, a atualização é descartada "
+                    + "(contada em GET /api/admin/write-behind)"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos, aluno arquivado ou média de aluno que já concluiu"),
+            @ApiResponse(responseCode = "404", description = "Aluno não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Já existe atualização pendente sobre versão mais nova do aluno")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<AlunoResponseDTO> atualizar(
+            @Parameter(description = "ID do aluno") @PathVariable Long id,
+            @Valid @RequestBody AtualizarAlunoRequestDTO request) {
+        
+        AtualizacaoPerfil atualizacao = AtualizacaoPerfil.criar(request.getNome(), request.getMediaFinal());
+        
+        if (writeBehindPerfil.isHabilitado()) {
+            // Confere a existência antes do 202 e guarda a versão sobre a qual a atualização vale
+            Aluno atual = buscarAlunoPorIdUseCase.executar(id);
+            writeBehindPerfil.registrar(atual, atualizacao);
+            return ResponseEntity.accepted().build();
+        }
+        
+        Aluno aluno = mutacoesAluno.atualizar(id, atualizacao);
+        return ResponseEntity.ok(alunoMapper.toResponseDTO(aluno));
+    }
+    
     /**
      * GET /api/alunos - Listar todos os alunos
      */
@@ -107,18 +201,20 @@ public class AlunoController {
     @GetMapping
     public ResponseEntity<List<AlunoResponseDTO>> listarTodos(
             @Parameter(description = "Filtrar por conclusão: true (concluídos), false (não concluídos), null (todos)")
-            @RequestParam(required = false) Boolean concluido) {
+            @RequestParam(required = false) Boolean concluido,
+            @Parameter(description = "Incluir alunos do arquivo de concluídos")
+            @RequestParam(defaultValue = "false") boolean incluirArquivados) {
         
         List<Aluno> alunos;
         
         if (concluido != null) {
             if (concluido) {
-                alunos = listarAlunosUseCase.executarConcluidos();
+                alunos = listarAlunosUseCase.executarConcluidos(incluirArquivados);
             } else {
                 alunos = listarAlunosUseCase.executarNaoConcluidos();
             }
         } else {
-            alunos = listarAlunosUseCase.executar();
+            alunos = listarAlunosUseCase.executar(incluirArquivados);
         }
         
         List<AlunoResponseDTO> response = alunos.stream()
@@ -134,17 +230,65 @@ public class AlunoController {
     @Operation(summary = "Registrar tentativa", description = "Registra uma tentativa de avaliação (máximo 3 tentativas)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tentativa registrada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Nota inválida ou Idempotency-Key longa demais"),
             @ApiResponse(responseCode = "404", description = "Aluno não encontrado"),
-            @ApiResponse(responseCode = "409", description = "Limite de tentativas esgotado")
+            @ApiResponse(responseCode = "409", description = "Limite de tentativas esgotado ou conflito de concorrência"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key reutilizada com outra nota")
     })
     @PostMapping("/{id}/tentativas")
     public ResponseEntity<AlunoResponseDTO> registrarTentativa(
             @Parameter(description = "ID do aluno") @PathVariable Long id,
+            @Parameter(description = "Chave para repetir a requisição com segurança (ex.: após timeout)")
+            @RequestHeader(value = ControleIdempotencia.HEADER_CHAVE, required = false) String idempotencyKey,
             @Valid @RequestBody RegistrarTentativaRequestDTO request) {
         
-        Aluno aluno = registrarTentativaUseCase.executar(id, request.getNota());
-        AlunoResponseDTO response = alunoMapper.toResponseDTO(aluno);
-        return ResponseEntity.ok(response);
+        return controleIdempotencia.executar(idempotencyKey, "POST /api/alunos/" + id + "/tentativas",
+                String.valueOf(request.getNota()), AlunoResponseDTO.class, () -> {
+                    Aluno aluno = mutacoesAluno.registrarTentativa(id, request.getNota());
+                    AlunoResponseDTO response = alunoMapper.toResponseDTO(aluno);
+                    return ResponseEntity.ok(response);
+                });
+    }
+    
+    /**
+     * GET /api/alunos/{id}/tentativas - Histórico de tentativas do aluno
+     */
+    @Operation(summary = "Histórico de tentativas", description = "Lista, paginado, as notas de cada tentativa do aluno")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Histórico retornado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Página ou tamanho inválido"),
+            @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
+    })
+    @GetMapping("/{id}/tentativas")
+    public ResponseEntity<HistoricoTentativasResponseDTO> listarTentativas(
+            @Parameter(description = "ID do aluno") @PathVariable Long id,
+            @Parameter(description = "Página (começa em 0)") @RequestParam(defaultValue = "0") int pagina,
+            @Parameter(description = "Itens por página (máximo 100)") @RequestParam(defaultValue = "20") int tamanho) {
+        
+        List<TentativaAvaliacao> tentativas = listarTentativasAlunoUseCase.executar(id, pagina, tamanho);
+        long total = listarTentativasAlunoUseCase.contar(id);
+        return ResponseEntity.ok(alunoMapper.toHistoricoTentativasResponseDTO(id, tentativas, pagina, tamanho, total));
+    }
+    
+    /**
+     * POST /api/alunos/tentativas/lote - Registrar tentativas de vários alunos
+     */
+    @Operation(summary = "Registrar tentativas em lote",
+            description = "Registra tentativas de avaliação de vários alunos, com resultado individual por item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado (ver resultado de cada item)"),
+            @ApiResponse(responseCode = "400", description = "Lista vazia ou itens sem aluno/nota")
+    })
+    @PostMapping("/tentativas/lote")
+    public ResponseEntity<ResultadoLoteResponseDTO> registrarTentativasEmLote(
+            @Valid @RequestBody RegistrarTentativasLoteRequestDTO request) {
+        
+        List<ItemLote<Double>> tentativas = request.getTentativas().stream()
+                .map(item -> new ItemLote<>(item.getAlunoId(), item.getNota()))
+                .collect(Collectors.toList());
+        
+        ResultadoLote resultado = registrarTentativasEmLoteUseCase.executar(tentativas);
+        return ResponseEntity.ok(alunoMapper.toResultadoLoteResponseDTO(resultado));
     }
     
     /**
@@ -153,17 +297,45 @@ public class AlunoController {
     @Operation(summary = "Concluir curso", description = "Finaliza o curso do aluno aplicando bônus conforme média")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Curso concluído com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Aluno já concluiu ou sem tentativas"),
-            @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
+            @ApiResponse(responseCode = "400", description = "Aluno já concluiu, sem tentativas ou Idempotency-Key longa demais"),
+            @ApiResponse(responseCode = "404", description = "Aluno não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Conflito de concorrência persistente"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key reutilizada com outra média")
     })
     @PatchMapping("/{id}/concluir")
     public ResponseEntity<AlunoResponseDTO> concluirCurso(
             @Parameter(description = "ID do aluno") @PathVariable Long id,
+            @Parameter(description = "Chave para repetir a requisição com segurança (ex.: após timeout)")
+            @RequestHeader(value = ControleIdempotencia.HEADER_CHAVE, required = false) String idempotencyKey,
             @Valid @RequestBody ConcluirCursoRequestDTO request) {
         
-        Aluno aluno = concluirCursoUseCase.executar(id, request.getMediaFinal());
-        AlunoResponseDTO response = alunoMapper.toResponseDTO(aluno);
-        return ResponseEntity.ok(response);
+        return controleIdempotencia.executar(idempotencyKey, "PATCH /api/alunos/" + id + "/concluir",
+                String.valueOf(request.getMediaFinal()), AlunoResponseDTO.class, () -> {
+                    Aluno aluno = mutacoesAluno.concluirCurso(id, request.getMediaFinal());
+                    AlunoResponseDTO response = alunoMapper.toResponseDTO(aluno);
+                    return ResponseEntity.ok(response);
+                });
+    }
+    
+    /**
+     * PATCH /api/alunos/concluir/lote - Concluir curso de vários alunos
+     */
+    @Operation(summary = "Concluir cursos em lote",
+            description = "Fechamento de período: conclui o curso de vários alunos aplicando os bônus conforme média")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado (ver resultado de cada item e vazão)"),
+            @ApiResponse(responseCode = "400", description = "Lista vazia ou itens sem aluno/média")
+    })
+    @PatchMapping("/concluir/lote")
+    public ResponseEntity<ResultadoLoteResponseDTO> concluirCursosEmLote(
+            @Valid @RequestBody ConcluirCursosLoteRequestDTO request) {
+        
+        List<ItemLote<Double>> conclusoes = request.getConclusoes().stream()
+                .map(item -> new ItemLote<>(item.getAlunoId(), item.getMediaFinal()))
+                .collect(Collectors.toList());
+        
+        ResultadoLote resultado = concluirCursosEmLoteUseCase.executar(conclusoes);
+        return ResponseEntity.ok(alunoMapper.toResultadoLoteResponseDTO(resultado));
     }
     
     /**
@@ -171,24 +343,78 @@ public class AlunoController {
      */
     @Operation(summary = "Obter ranking", description = "Retorna ranking dos alunos ordenado por média e cursos extras")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Ranking retornado com sucesso")
+            @ApiResponse(responseCode = "200", description = "Ranking retornado com sucesso",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = RankingResponseDTO.class))))
     })
-    @GetMapping("/ranking")
-    public ResponseEntity<List<RankingResponseDTO>> obterRanking(
+    @GetMapping(value = "/ranking", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> obterRanking(
             @Parameter(description = "Limitar top N alunos") @RequestParam(required = false) Integer top,
-            @Parameter(description = "Filtrar apenas aprovados") @RequestParam(required = false) Boolean apenasAprovados) {
+            @Parameter(description = "Filtrar apenas aprovados") @RequestParam(required = false) Boolean apenasAprovados,
+            @Parameter(description = "Incluir alunos do arquivo de concluídos")
+            @RequestParam(defaultValue = "false") boolean incluirArquivados,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        boolean apenasAprovadosAtivo = apenasAprovados != null && apenasAprovados;
+        // Parâmetros normalizados: top ignorado com apenasAprovados, top <= 0 é o ranking completo
+        Integer limite = !apenasAprovadosAtivo && top != null && top > 0 ? top : null;
+        String chave = "ranking:" + (apenasAprovadosAtivo ? "aprovados" : "top=" + limite)
+                + ":arquivados=" + incluirArquivados;
+        
+        // Rankings idênticos pedidos ao mesmo tempo dividem uma única ordenação e serialização;
+        // um acerto no cache só copia os bytes já prontos para a resposta
+        RespostaSerializada resposta = leiturasCompartilhadas.executar(chaveCompartilhada(chave), () -> cacheRespostasRanking.buscar(chave,
+                () -> calcularRanking(apenasAprovadosAtivo, limite, incluirArquivados)));
+        
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (resposta.gzip() != null && aceitaGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(resposta.gzip());
+        }
+        return builder.body(resposta.json());
+    }
+    
+    /**
+     * Chave da leitura compartilhada com o LSN exigido (profile "replica")
+     * 
+     * Quem enviou Alunos-Lsn só divide a leitura com quem exige o mesmo LSN: uma leitura feita
+     * para um cliente sem exigência pode ter vindo da réplica atrasada.
+     */
+    private static String chaveCompartilhada(String chave) {
+        return chave + ":lsn=" + ConsistenciaLeitura.lsnExigido();
+    }
+    
+    private static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String codificacao : acceptEncoding.split(",")) {
+            String[] partes = codificacao.trim().split(";");
+            if (partes[0].trim().equalsIgnoreCase("gzip")) {
+                // "gzip;q=0" recusa explicitamente
+                return partes.length < 2 || !partes[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+    
+    private List<RankingResponseDTO> calcularRanking(boolean apenasAprovados, Integer limite,
+                                                      boolean incluirArquivados) {
+        if (rankingJdbc && !apenasAprovados && !incluirArquivados) {
+            return consultaJdbc.ranking(limite != null ? limite : Integer.MAX_VALUE);
+        }
         
         List<Aluno> alunos;
         
-        if (apenasAprovados != null && apenasAprovados) {
-            alunos = obterRankingAlunosUseCase.executarAprovados();
-        } else if (top != null && top > 0) {
-            alunos = obterRankingAlunosUseCase.executarTop(top);
+        if (apenasAprovados) {
+            alunos = obterRankingAlunosUseCase.executarAprovados(incluirArquivados);
+        } else if (limite != null) {
+            alunos = obterRankingAlunosUseCase.executarTop(limite, incluirArquivados);
         } else {
-            alunos = obterRankingAlunosUseCase.executar();
+            alunos = obterRankingAlunosUseCase.executar(incluirArquivados);
         }
         
-        List<RankingResponseDTO> response = alunoMapper.toRankingResponseDTOList(alunos);
-        return ResponseEntity.ok(response);
+        return alunoMapper.toRankingResponseDTOList(alunos);
     }
 }
@@ -1,9 +1,13 @@
 package com.devops.projeto_ac2.infrastructure.web.exception;
 
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
 import com.devops.projeto_ac2.domain.exceptions.DomainException;
 import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
 import com.devops.projeto_ac2.domain.exceptions.TentativasEsgotadasException;
+import com.devops.projeto_ac2.infrastructure.idempotencia.IdempotenciaChaveInvalidaException;
+import com.devops.projeto_ac2.infrastructure.idempotencia.IdempotenciaConflitoException;
+import com.devops.projeto_ac2.infrastructure.snapshot.SnapshotException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -80,6 +84,82 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
     
+    /**
+     * Trata conflitos de concorrência que persistiram após as novas tentativas
+     */
+    @ExceptionHandler(ConflitoConcorrenciaException.class)
+    public ResponseEntity<ErrorResponse> handleConflitoConcorrencia(
+            ConflitoConcorrenciaException ex, 
+            HttpServletRequest request) {
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflito de concorrência")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
+    /**
+     * Trata reuso de Idempotency-Key com outra requisição
+     */
+    @ExceptionHandler(IdempotenciaConflitoException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotenciaConflito(
+            IdempotenciaConflitoException ex, 
+            HttpServletRequest request) {
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+                .error("Idempotency-Key reutilizada")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+    }
+    
+    /**
+     * Trata Idempotency-Key longa demais (rejeitada antes de executar a operação)
+     */
+    @ExceptionHandler(IdempotenciaChaveInvalidaException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotenciaChaveInvalida(
+            IdempotenciaChaveInvalidaException ex, 
+            HttpServletRequest request) {
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Idempotency-Key inválida")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+    
+    /**
+     * Trata snapshots inválidos (arquivo, nome ou operação já em andamento)
+     */
+    @ExceptionHandler(SnapshotException.class)
+    public ResponseEntity<ErrorResponse> handleSnapshot(
+            SnapshotException ex, 
+            HttpServletRequest request) {
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Snapshot inválido")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+    
     /**
      * Trata exceções gerais de domínio
      */
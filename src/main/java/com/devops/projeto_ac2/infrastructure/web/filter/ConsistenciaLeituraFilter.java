@@ -0,0 +1,50 @@
+package com.devops.projeto_ac2.infrastructure.web.filter;
+
+import com.devops.projeto_ac2.infrastructure.replica.ConsistenciaLeitura;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Read-your-writes entre requisições no profile "replica"
+ * 
+ * Respostas de requisições que gravaram trazem o header Alunos-Lsn com o LSN do commit.
+ * O cliente que reenvia esse header nas próximas requisições só é atendido pela réplica
+ * depois que ela aplicou esse LSN; até lá as leituras dele vão para o primário.
+ */
+@Component
+@Profile("replica")
+public class ConsistenciaLeituraFilter extends OncePerRequestFilter {
+    
+    public static final String HEADER_LSN = "Alunos-Lsn";
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ConsistenciaLeitura.iniciar(lsnInformado(request),
+                lsn -> response.setHeader(HEADER_LSN, Long.toString(lsn)));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ConsistenciaLeitura.encerrar();
+        }
+    }
+    
+    private static long lsnInformado(HttpServletRequest request) {
+        String valor = request.getHeader(HEADER_LSN);
+        if (valor == null || valor.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(valor.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
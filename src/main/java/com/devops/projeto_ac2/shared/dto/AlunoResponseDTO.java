@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
  * DTO para resposta de Aluno
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class AlunoResponseDTO {
@@ -0,0 +1,27 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para atualização cadastral do aluno
+ * Campos ausentes não são alterados
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AtualizarAlunoRequestDTO {
+    
+    @Size(min = 3, max = 100, message = "Nome deve ter entre 3 e 100 caracteres")
+    @Pattern(regexp = "^[a-zA-ZÀ-ÿ\\s]+$", message = "Nome deve conter apenas letras e espaços")
+    private String nome;
+    
+    @DecimalMin(value = "0.0", message = "Média final não pode ser negativa")
+    @DecimalMax(value = "10.0", message = "Média final não pode ser maior que 10.0")
+    private Double mediaFinal;
+}
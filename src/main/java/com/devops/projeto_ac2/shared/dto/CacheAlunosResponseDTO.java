@@ -0,0 +1,25 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com as métricas do cache de DTOs da busca de aluno por ID
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheAlunosResponseDTO {
+    
+    private Boolean habilitado;
+    private Long capacidade;
+    private Long tamanho;
+    private Long acertos;
+    private Long faltas;
+    private Double taxaAcerto;
+    private Long remocoes;
+    private Long invalidacoes;
+}
@@ -0,0 +1,28 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com as estatísticas do cache de segundo nível e do cache de consultas do Hibernate
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheHibernateResponseDTO {
+    
+    private Boolean habilitado;
+    private Boolean estatisticasHabilitadas;
+    private Long alunosAcertos;
+    private Long alunosFaltas;
+    private Long alunosInsercoes;
+    private Long alunosCarregadosDoBanco;
+    private Double taxaAcertoAlunos;
+    private Long consultasAcertos;
+    private Long consultasFaltas;
+    private Long consultasInsercoes;
+    private Long consultasExecutadasNoBanco;
+}
@@ -0,0 +1,23 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com as métricas do cache de respostas serializadas do ranking
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRankingResponseDTO {
+    
+    private Boolean habilitado;
+    private Long versao;
+    private Long tamanho;
+    private Long acertos;
+    private Long faltas;
+    private Double taxaAcerto;
+}
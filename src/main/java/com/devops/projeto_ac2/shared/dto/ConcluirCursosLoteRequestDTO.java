@@ -0,0 +1,36 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para conclusão de curso em lote (fechamento de período)
+ * A faixa da média é validada por item
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConcluirCursosLoteRequestDTO {
+    
+    @NotEmpty(message = "Lista de conclusões não pode ser vazia")
+    @Valid
+    private List<Item> conclusoes;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        
+        @NotNull(message = "ID do aluno é obrigatório")
+        private Long alunoId;
+        
+        @NotNull(message = "Média final é obrigatória")
+        private Double mediaFinal;
+    }
+}
@@ -0,0 +1,25 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO com métricas de concorrência das mutações de aluno
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConcorrenciaResponseDTO {
+    
+    private Integer faixas;
+    private Integer threadsAguardando;
+    private Integer maiorFila;
+    private List<Integer> profundidadePorFaixa;
+    private Long conflitosOtimistas;
+    private Long mutacoesAbandonadas;
+}
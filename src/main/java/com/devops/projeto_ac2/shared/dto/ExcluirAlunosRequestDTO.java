@@ -0,0 +1,25 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO para exclusão em massa de alunos
+ * Informe a lista de IDs ou a data limite de conclusão (apenas um dos dois)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExcluirAlunosRequestDTO {
+    
+    private List<@NotNull(message = "ID do aluno não pode ser nulo") Long> ids;
+    
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    private LocalDate concluidosAntesDe;
+}
@@ -0,0 +1,39 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO para resposta paginada do histórico de tentativas
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoricoTentativasResponseDTO {
+    
+    private Long alunoId;
+    private Integer pagina;
+    private Integer tamanho;
+    private Long totalTentativas;
+    private Integer totalPaginas;
+    private List<Tentativa> tentativas;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Tentativa {
+        private Integer numero;
+        private Double nota;
+        
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+        private LocalDateTime dataRegistro;
+    }
+}
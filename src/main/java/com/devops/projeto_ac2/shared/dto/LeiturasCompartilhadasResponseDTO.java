@@ -0,0 +1,21 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com as métricas das leituras compartilhadas (ranking e aluno por ID)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeiturasCompartilhadasResponseDTO {
+    
+    private Boolean habilitado;
+    private Long execucoes;
+    private Long compartilhadas;
+    private Integer emAndamento;
+}
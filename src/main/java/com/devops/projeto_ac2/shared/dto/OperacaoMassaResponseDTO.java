@@ -0,0 +1,22 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com o resultado de uma operação administrativa em massa
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OperacaoMassaResponseDTO {
+    
+    private String operacao;
+    private Integer faixas;
+    private Long linhasAfetadas;
+    private Long duracaoMs;
+    private Double linhasPorSegundo;
+}
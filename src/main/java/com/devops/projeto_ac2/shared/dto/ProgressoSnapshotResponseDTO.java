@@ -0,0 +1,26 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com o progresso da geração ou restauração de snapshot
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressoSnapshotResponseDTO {
+    
+    private String operacao;
+    private String arquivo;
+    private Long total;
+    private Long linhasProcessadas;
+    private Double percentual;
+    private Long duracaoMs;
+    private Double linhasPorSegundo;
+    private Boolean concluido;
+    private String erro;
+}
@@ -0,0 +1,37 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para registrar tentativas de avaliação em lote
+ * A faixa da nota é validada por item, para que uma nota inválida
+ * não rejeite o lote inteiro
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrarTentativasLoteRequestDTO {
+    
+    @NotEmpty(message = "Lista de tentativas não pode ser vazia")
+    @Valid
+    private List<Item> tentativas;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        
+        @NotNull(message = "ID do aluno é obrigatório")
+        private Long alunoId;
+        
+        @NotNull(message = "Nota é obrigatória")
+        private Double nota;
+    }
+}
@@ -0,0 +1,39 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para resposta de operações em lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoLoteResponseDTO {
+    
+    private Integer total;
+    private Integer sucessos;
+    private Integer falhas;
+    private Long duracaoMs;
+    private Double linhasPorSegundo;
+    private List<Item> itens;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long alunoId;
+        private Boolean sucesso;
+        private String erro;
+        private Integer tentativasAvaliacao;
+        private Double mediaFinal;
+        private Integer cursosAdicionais;
+        private Boolean concluiu;
+    }
+}
@@ -0,0 +1,39 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO com o estado do write-behind de perfil: pendências, gravações e descartes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WriteBehindResponseDTO {
+    
+    private Boolean habilitado;
+    private Integer pendentes;
+    private Long gravadas;
+    private Long descartadas;
+    private List<Descarte> ultimosDescartes;
+    
+    /**
+     * Atualização aceita com 202 que não foi gravada
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Descarte {
+        
+        private Long alunoId;
+        private String motivo;
+        private Instant instante;
+    }
+}
@@ -1,8 +1,17 @@
 package com.devops.projeto_ac2.shared.mapper;
 
+import com.devops.projeto_ac2.application.lote.AtualizacaoPerfil;
+import com.devops.projeto_ac2.application.lote.ResultadoLote;
+import com.devops.projeto_ac2.application.lote.ResultadoOperacaoMassa;
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.entities.TentativaAvaliacao;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
 import com.devops.projeto_ac2.shared.dto.AlunoResponseDTO;
+import com.devops.projeto_ac2.shared.dto.HistoricoTentativasResponseDTO;
+import com.devops.projeto_ac2.shared.dto.OperacaoMassaResponseDTO;
 import com.devops.projeto_ac2.shared.dto.RankingResponseDTO;
+import com.devops.projeto_ac2.shared.dto.ResultadoLoteResponseDTO;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -11,10 +20,17 @@ import java.util.stream.IntStream;
 
 /**
  * Mapper para converter Aluno em DTOs
+ * A situação (aprovado, em recuperação...) usa as mesmas regras configuradas da conclusão
  */
 @Component
 public class AlunoMapper {
     
+    private final RegrasBonusCursos regras;
+    
+    public AlunoMapper(RegrasBonusCursos regras) {
+        this.regras = regras;
+    }
+    
     /**
      * Converte Aluno entity para AlunoResponseDTO
      */
@@ -39,6 +55,26 @@ public class AlunoMapper {
                 .build();
     }
     
+    /**
+     * Sobrepõe ao DTO uma atualização cadastral ainda não gravada (write-behind)
+     * Retorna uma cópia; o DTO original não é alterado
+     */
+    public AlunoResponseDTO aplicarPendente(AlunoResponseDTO dto, AtualizacaoPerfil pendente) {
+        if (dto == null || pendente == null) {
+            return dto;
+        }
+        
+        AlunoResponseDTO.AlunoResponseDTOBuilder builder = dto.toBuilder();
+        if (pendente.getNome() != null) {
+            builder.nome(pendente.getNome());
+        }
+        if (pendente.getMediaFinal() != null && !Boolean.TRUE.equals(dto.getConcluiu())) {
+            builder.mediaFinal(pendente.getMediaFinal())
+                    .situacao(determinarSituacao(false, pendente.getMediaFinal(), regras));
+        }
+        return builder.build();
+    }
+    
     /**
      * Converte lista de Alunos para lista de RankingResponseDTO com posições
      */
@@ -68,19 +104,89 @@ public class AlunoMapper {
                 .build();
     }
     
+    /**
+     * Converte o resultado de uma operação em lote para ResultadoLoteResponseDTO
+     */
+    public ResultadoLoteResponseDTO toResultadoLoteResponseDTO(ResultadoLote resultado) {
+        List<ResultadoLoteResponseDTO.Item> itens = resultado.getItens().stream()
+                .map(item -> ResultadoLoteResponseDTO.Item.builder()
+                        .alunoId(item.getAlunoId())
+                        .sucesso(item.isSucesso())
+                        .erro(item.getErro())
+                        .tentativasAvaliacao(item.getTentativasAvaliacao())
+                        .mediaFinal(item.getMediaFinal())
+                        .cursosAdicionais(item.getCursosAdicionais())
+                        .concluiu(item.getConcluiu())
+                        .build())
+                .collect(Collectors.toList());
+        
+        return ResultadoLoteResponseDTO.builder()
+                .total(resultado.getTotal())
+                .sucessos(resultado.getSucessos())
+                .falhas(resultado.getFalhas())
+                .duracaoMs(resultado.getDuracaoNanos() / 1_000_000)
+                .linhasPorSegundo(Math.round(resultado.getLinhasPorSegundo() * 10.0) / 10.0)
+                .itens(itens)
+                .build();
+    }
+    
+    /**
+     * Converte o resultado de uma operação em massa para OperacaoMassaResponseDTO
+     */
+    public OperacaoMassaResponseDTO toOperacaoMassaResponseDTO(ResultadoOperacaoMassa resultado) {
+        return OperacaoMassaResponseDTO.builder()
+                .operacao(resultado.getOperacao())
+                .faixas(resultado.getFaixas())
+                .linhasAfetadas(resultado.getLinhasAfetadas())
+                .duracaoMs(resultado.getDuracaoNanos() / 1_000_000)
+                .linhasPorSegundo(Math.round(resultado.getLinhasPorSegundo() * 10.0) / 10.0)
+                .build();
+    }
+    
+    /**
+     * Converte uma página do histórico de tentativas para HistoricoTentativasResponseDTO
+     */
+    public HistoricoTentativasResponseDTO toHistoricoTentativasResponseDTO(
+            Long alunoId, List<TentativaAvaliacao> tentativas, int pagina, int tamanho, long total) {
+        List<HistoricoTentativasResponseDTO.Tentativa> itens = tentativas.stream()
+                .map(tentativa -> HistoricoTentativasResponseDTO.Tentativa.builder()
+                        .numero(tentativa.getNumero())
+                        .nota(tentativa.getNota())
+                        .dataRegistro(tentativa.getDataRegistro())
+                        .build())
+                .collect(Collectors.toList());
+        
+        return HistoricoTentativasResponseDTO.builder()
+                .alunoId(alunoId)
+                .pagina(pagina)
+                .tamanho(tamanho)
+                .totalTentativas(total)
+                .totalPaginas((int) ((total + tamanho - 1) / tamanho))
+                .tentativas(itens)
+                .build();
+    }
+    
     private String determinarSituacao(Aluno aluno) {
-        if (!aluno.isConcluiu()) {
-            if (aluno.emRecuperacao()) {
+        return determinarSituacao(aluno.isConcluiu(), aluno.getMediaFinal(), regras);
+    }
+    
+    /**
+     * Situação a partir das colunas, sem montar a entidade (usada também pela leitura JDBC)
+     */
+    public static String determinarSituacao(boolean concluiu, double mediaFinal, RegrasBonusCursos regras) {
+        MediaFinal media = MediaFinal.criar(mediaFinal);
+        if (!concluiu) {
+            if (media.emRecuperacao(regras)) {
                 return "EM_RECUPERACAO";
             }
             return "NAO_CONCLUIDO";
         }
         
-        if (aluno.aprovado()) {
+        if (media.aprovado(regras)) {
             return "APROVADO";
         }
         
-        if (aluno.reprovado()) {
+        if (media.reprovado(regras)) {
             return "REPROVADO";
         }
         
@@ -0,0 +1,76 @@
+package com.devops.projeto_ac2.application.concorrencia;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para BloqueioPorAluno
+ */
+@DisplayName("Testes do Lock em Faixas por Aluno")
+class BloqueioPorAlunoTest {
+    
+    @Test
+    @DisplayName("Deve arredondar a quantidade de faixas para potência de 2")
+    void deveArredondarFaixas() {
+        assertThat(new BloqueioPorAluno(1).getQuantidadeFaixas()).isEqualTo(1);
+        assertThat(new BloqueioPorAluno(64).getQuantidadeFaixas()).isEqualTo(64);
+        assertThat(new BloqueioPorAluno(100).getQuantidadeFaixas()).isEqualTo(128);
+    }
+    
+    @Test
+    @DisplayName("Deve enfileirar a segunda mutação do mesmo aluno e expor a profundidade da fila")
+    void deveSerializarMesmoAluno() throws InterruptedException {
+        // Arrange
+        BloqueioPorAluno bloqueio = new BloqueioPorAluno(16);
+        CountDownLatch dentro = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        AtomicBoolean segundaExecutou = new AtomicBoolean();
+        
+        Thread primeira = new Thread(() -> bloqueio.executar(1L, () -> {
+            dentro.countDown();
+            aguardar(liberar);
+            return null;
+        }));
+        Thread segunda = new Thread(() -> bloqueio.executar(1L, () -> {
+            segundaExecutou.set(true);
+            return null;
+        }));
+        
+        // Act
+        primeira.start();
+        assertThat(dentro.await(5, TimeUnit.SECONDS)).isTrue();
+        segunda.start();
+        esperarFila(bloqueio, bloqueio.indice(1L));
+        
+        // Assert
+        assertThat(segundaExecutou).isFalse();
+        assertThat(bloqueio.profundidadeFilas()[bloqueio.indice(1L)]).isEqualTo(1);
+        assertThat(bloqueio.executar(2L, () -> "paralelo")).isEqualTo("paralelo");
+        
+        liberar.countDown();
+        primeira.join(5000);
+        segunda.join(5000);
+        assertThat(segundaExecutou).isTrue();
+    }
+    
+    private static void esperarFila(BloqueioPorAluno bloqueio, int faixa) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 5000;
+        while (bloqueio.profundidadeFilas()[faixa] == 0 && System.currentTimeMillis() < limite) {
+            Thread.sleep(5);
+        }
+    }
+    
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.devops.projeto_ac2.application.concorrencia;
+
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para ExecutorMutacaoAluno
+ */
+@DisplayName("Testes do Executor de Mutações com Retry Otimista")
+class ExecutorMutacaoAlunoTest {
+    
+    private final ExecutorMutacaoAluno executor = new ExecutorMutacaoAluno(new BloqueioPorAluno(4), 3, 1, 2);
+    
+    @Test
+    @DisplayName("Deve repetir a mutação após conflito de versão")
+    void deveRepetirAposConflito() {
+        // Arrange
+        AtomicInteger execucoes = new AtomicInteger();
+        
+        // Act
+        String resultado = executor.executar(1L, () -> {
+            if (execucoes.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Aluno", 1L);
+            }
+            return "ok";
+        });
+        
+        // Assert
+        assertThat(resultado).isEqualTo("ok");
+        assertThat(execucoes.get()).isEqualTo(3);
+        assertThat(executor.getConflitos()).isEqualTo(2);
+        assertThat(executor.getAbandonos()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Deve lançar ConflitoConcorrenciaException ao esgotar as tentativas")
+    void deveAbandonarAposTentativasMaximas() {
+        // Arrange
+        AtomicInteger execucoes = new AtomicInteger();
+        
+        // Act & Assert
+        assertThatThrownBy(() -> executor.executar(7L, () -> {
+            execucoes.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Aluno", 7L);
+        }))
+                .isInstanceOf(ConflitoConcorrenciaException.class)
+                .hasMessageContaining("ID 7");
+        
+        assertThat(execucoes.get()).isEqualTo(3);
+        assertThat(executor.getAbandonos()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve soltar o lock do aluno durante o backoff")
+    void deveSoltarLockDuranteBackoff() throws Exception {
+        // Arrange - backoff longo o bastante para a outra mutação caber dentro dele
+        ExecutorMutacaoAluno lento = new ExecutorMutacaoAluno(new BloqueioPorAluno(1), 2, 500, 500);
+        AtomicInteger execucoes = new AtomicInteger();
+        CountDownLatch primeiraFalhou = new CountDownLatch(1);
+        
+        CompletableFuture<String> comConflito = CompletableFuture.supplyAsync(() -> lento.executar(1L, () -> {
+            if (execucoes.incrementAndGet() == 1) {
+                primeiraFalhou.countDown();
+                throw new ObjectOptimisticLockingFailureException("Aluno", 1L);
+            }
+            return "repetida";
+        }));
+        assertThat(primeiraFalhou.await(5, TimeUnit.SECONDS)).isTrue();
+        
+        // Act - mesmo aluno (e mesma faixa) enquanto a primeira aguarda para tentar de novo
+        int execucoesDuranteOutra = lento.executar(1L, execucoes::get);
+        
+        // Assert
+        assertThat(execucoesDuranteOutra).isEqualTo(1);
+        assertThat(comConflito.get(5, TimeUnit.SECONDS)).isEqualTo("repetida");
+    }
+    
+    @Test
+    @DisplayName("Não deve repetir a mutação em erro de regra de negócio")
+    void naoDeveRepetirEmErroDeDominio() {
+        // Arrange
+        AtomicInteger execucoes = new AtomicInteger();
+        
+        // Act & Assert
+        assertThatThrownBy(() -> executor.executar(1L, () -> {
+            execucoes.incrementAndGet();
+            throw new DomainException("Aluno já concluiu o curso");
+        })).isExactlyInstanceOf(DomainException.class);
+        
+        assertThat(execucoes.get()).isEqualTo(1);
+    }
+}
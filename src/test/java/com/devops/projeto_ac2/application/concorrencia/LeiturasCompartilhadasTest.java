@@ -0,0 +1,136 @@
+package com.devops.projeto_ac2.application.concorrencia;
+
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para LeiturasCompartilhadas
+ */
+@DisplayName("Testes das Leituras Compartilhadas")
+class LeiturasCompartilhadasTest {
+    
+    private final LeiturasCompartilhadas leituras = new LeiturasCompartilhadas(true);
+    
+    private final CountDownLatch dentro = new CountDownLatch(1);
+    private final CountDownLatch liberar = new CountDownLatch(1);
+    private final AtomicInteger execucoes = new AtomicInteger();
+    
+    private List<Integer> lerDevagar() {
+        execucoes.incrementAndGet();
+        dentro.countDown();
+        aguardar(liberar);
+        return List.of(1, 2, 3);
+    }
+    
+    @Test
+    @DisplayName("Chamadas simultâneas com a mesma chave devem dividir uma única leitura")
+    void chamadasSimultaneasDevemDividirLeitura() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(9);
+        List<CompletableFuture<List<Integer>>> resultados = new ArrayList<>();
+        
+        // Act
+        resultados.add(CompletableFuture.supplyAsync(() -> leituras.executar("ranking", this::lerDevagar), executor));
+        assertThat(dentro.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 8; i++) {
+            resultados.add(CompletableFuture.supplyAsync(() -> leituras.executar("ranking", this::lerDevagar), executor));
+        }
+        esperarCompartilhadas(8);
+        liberar.countDown();
+        
+        // Assert
+        List<Integer> primeiro = resultados.get(0).get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<List<Integer>> resultado : resultados) {
+            assertThat(resultado.get(5, TimeUnit.SECONDS)).isSameAs(primeiro);
+        }
+        assertThat(execucoes.get()).isEqualTo(1);
+        assertThat(leituras.getExecucoes()).isEqualTo(1);
+        assertThat(leituras.getEmAndamento()).isZero();
+        executor.shutdown();
+    }
+    
+    @Test
+    @DisplayName("Chaves diferentes e chamadas em sequência devem ler de novo")
+    void chavesDiferentesDevemLerDeNovo() {
+        // Act
+        leituras.executar("aluno:1", execucoes::incrementAndGet);
+        leituras.executar("aluno:2", execucoes::incrementAndGet);
+        leituras.executar("aluno:1", execucoes::incrementAndGet);
+        
+        // Assert
+        assertThat(execucoes.get()).isEqualTo(3);
+        assertThat(leituras.getCompartilhadas()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Exceção da leitura deve chegar a todos que esperavam")
+    void excecaoDeveChegarATodos() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CompletableFuture<Object> primeira = CompletableFuture.supplyAsync(() -> leituras.executar("aluno:9", () -> {
+            lerDevagar();
+            throw new IllegalStateException("aluno sumiu");
+        }), executor);
+        assertThat(dentro.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Object> segunda = CompletableFuture.supplyAsync(
+                () -> leituras.executar("aluno:9", () -> "não deveria executar"), executor);
+        esperarCompartilhadas(1);
+        
+        // Act
+        liberar.countDown();
+        
+        // Assert
+        assertThatThrownBy(() -> primeira.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> segunda.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        executor.shutdown();
+    }
+    
+    @Test
+    @DisplayName("Depois de uma gravação, quem chega deve começar uma leitura nova")
+    void gravacaoDeveEncerrarCompartilhamento() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CompletableFuture<List<Integer>> antiga =
+                CompletableFuture.supplyAsync(() -> leituras.executar("ranking", this::lerDevagar), executor);
+        assertThat(dentro.await(5, TimeUnit.SECONDS)).isTrue();
+        
+        // Act
+        leituras.aoAlterarAlunos(AlunosAlterados.de(1L));
+        List<Integer> nova = leituras.executar("ranking", () -> List.of(9));
+        liberar.countDown();
+        
+        // Assert
+        assertThat(nova).containsExactly(9);
+        assertThat(antiga.get(5, TimeUnit.SECONDS)).containsExactly(1, 2, 3);
+        assertThat(leituras.getCompartilhadas()).isZero();
+        executor.shutdown();
+    }
+    
+    private void esperarCompartilhadas(long quantidade) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (leituras.getCompartilhadas() < quantidade && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+        assertThat(leituras.getCompartilhadas()).isEqualTo(quantidade);
+    }
+    
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
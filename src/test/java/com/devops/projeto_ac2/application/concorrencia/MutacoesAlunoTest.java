@@ -0,0 +1,101 @@
+package com.devops.projeto_ac2.application.concorrencia;
+
+import com.devops.projeto_ac2.application.lote.AtualizacaoPerfil;
+import com.devops.projeto_ac2.application.lote.PipelineTentativas;
+import com.devops.projeto_ac2.application.usecases.AtualizarAlunoUseCase;
+import com.devops.projeto_ac2.application.usecases.ConcluirCursoUseCase;
+import com.devops.projeto_ac2.application.usecases.RegistrarTentativaUseCase;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para MutacoesAluno
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes das Mutações de Aluno com Retry Otimista")
+class MutacoesAlunoTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    @Mock
+    private ApplicationEventPublisher eventos;
+    
+    @Mock
+    private ConcluirCursoUseCase concluirCursoUseCase;
+    
+    @Mock
+    private RegistrarTentativaUseCase registrarTentativaUseCase;
+    
+    @Mock
+    private PipelineTentativas pipelineTentativas;
+    
+    private ExecutorMutacaoAluno executor;
+    private MutacoesAluno mutacoes;
+    
+    @BeforeEach
+    void setUp() {
+        executor = new ExecutorMutacaoAluno(new BloqueioPorAluno(4), 3, 1, 2);
+        mutacoes = new MutacoesAluno(executor, new AtualizarAlunoUseCase(alunoRepository, eventos),
+                concluirCursoUseCase, registrarTentativaUseCase, pipelineTentativas, true);
+    }
+    
+    @Test
+    @DisplayName("Deve reler o aluno e regravar quando o primeiro salvar tiver conflito de versão")
+    void deveRepetirAposConflitoNoSalvar() {
+        // Arrange - a segunda leitura já enxerga a gravação concorrente (versão 1)
+        when(alunoRepository.buscarPorId(1L)).thenReturn(Optional.of(aluno(0L)), Optional.of(aluno(1L)));
+        when(alunoRepository.salvar(any(Aluno.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Aluno.class, 1L))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        Aluno resultado = mutacoes.atualizar(1L, AtualizacaoPerfil.criar(null, 8.0));
+        
+        // Assert
+        assertThat(resultado.getVersao()).isEqualTo(1L);
+        assertThat(resultado.getMediaFinal()).isEqualTo(8.0);
+        verify(alunoRepository, times(2)).buscarPorId(1L);
+        verify(alunoRepository, times(2)).salvar(any(Aluno.class));
+        verify(eventos, times(1)).publishEvent(any(Object.class));
+        assertThat(executor.getConflitos()).isEqualTo(1);
+        assertThat(executor.getAbandonos()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Deve registrar tentativa pelo UPDATE atômico quando o pipeline estiver desligado")
+    void deveRegistrarTentativaAtomica() {
+        // Arrange
+        Aluno aluno = aluno(2L);
+        when(registrarTentativaUseCase.executarAtomico(1L, 7.0)).thenReturn(aluno);
+        
+        // Act
+        Aluno resultado = mutacoes.registrarTentativa(1L, 7.0);
+        
+        // Assert
+        assertThat(resultado).isSameAs(aluno);
+        verify(registrarTentativaUseCase, never()).executar(any(), anyDouble());
+        verify(pipelineTentativas, never()).registrar(any(), anyDouble());
+    }
+    
+    private static Aluno aluno(long versao) {
+        LocalDateTime criacao = LocalDateTime.of(2024, 1, 10, 8, 0);
+        return Aluno.reconstituir(1L, "João Silva", "2024001", 6.0, false, 0, 1,
+                criacao, criacao, null, versao);
+    }
+}
@@ -0,0 +1,199 @@
+package com.devops.projeto_ac2.application.lote;
+
+import com.devops.projeto_ac2.application.concorrencia.BloqueioPorAluno;
+import com.devops.projeto_ac2.application.concorrencia.ExecutorMutacaoAluno;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.repositories.TentativaAvaliacaoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para PipelineTentativas
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Pipeline de Group Commit de Tentativas")
+class PipelineTentativasTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    @Mock
+    private TentativaAvaliacaoRepository tentativaRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private ExecutorMutacaoAluno executor;
+    private ProcessadorLoteAlunos processador;
+    private PipelineTentativas pipeline;
+    
+    @BeforeEach
+    void setUp() {
+        executor = new ExecutorMutacaoAluno(new BloqueioPorAluno(4), 3, 1, 2);
+        processador = new ProcessadorLoteAlunos(alunoRepository, transactionManager, evento -> { }, 500);
+        // Janela longa para que as três requisições caiam no mesmo grupo
+        pipeline = new PipelineTentativas(processador, tentativaRepository, executor, true, 3, 500, 16, 5000);
+        pipeline.iniciar();
+    }
+    
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.parar();
+    }
+    
+    @Test
+    @DisplayName("Deve gravar as requisições de um grupo com um único commit")
+    void deveGravarGrupoComUmCommit() throws Exception {
+        // Arrange
+        Aluno aluno1 = criarAluno(1L, "11111");
+        Aluno aluno2 = criarAluno(2L, "22222");
+        when(alunoRepository.buscarPorIds(anyCollection())).thenReturn(List.of(aluno1, aluno2));
+        
+        // Act
+        CompletableFuture<Aluno> primeira = pipeline.submeter(1L, 7.0);
+        CompletableFuture<Aluno> segunda = pipeline.submeter(2L, 8.0);
+        CompletableFuture<Aluno> inexistente = pipeline.submeter(999L, 8.0);
+        
+        // Assert
+        assertThat(primeira.get(5, TimeUnit.SECONDS).getTentativasAvaliacao()).isEqualTo(1);
+        assertThat(segunda.get(5, TimeUnit.SECONDS).getMediaFinal()).isEqualTo(8.0);
+        assertThatThrownBy(() -> inexistente.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AlunoNotFoundException.class);
+        
+        verify(alunoRepository, times(1)).buscarPorIds(anyCollection());
+        verify(transactionManager, times(1)).commit(any());
+    }
+    
+    @Test
+    @DisplayName("Deve propagar o erro de domínio para o chamador")
+    void devePropagarErroDeDominio() {
+        when(alunoRepository.buscarPorIds(anyCollection())).thenReturn(List.of());
+        
+        assertThatThrownBy(() -> pipeline.registrar(999L, 7.0))
+                .isInstanceOf(AlunoNotFoundException.class);
+    }
+    
+    @Test
+    @DisplayName("Deve refazer um a um quando o commit do grupo falhar")
+    void deveRefazerIndividualmenteQuandoGrupoFalhar() throws Exception {
+        // Arrange - cada leitura devolve alunos novos (como o banco depois do rollback)
+        when(alunoRepository.buscarPorIds(anyCollection())).thenAnswer(invocacao -> {
+            Collection<Long> ids = invocacao.getArgument(0);
+            return ids.stream().map(id -> criarAluno(id, "1000" + id)).toList();
+        });
+        when(alunoRepository.salvarTodos(anyList())).thenAnswer(invocacao -> {
+            List<Aluno> alunos = invocacao.getArgument(0);
+            if (alunos.stream().anyMatch(aluno -> aluno.getId() == 2L)) {
+                throw new DataIntegrityViolationException("Falha ao gravar o aluno 2");
+            }
+            return alunos;
+        });
+        
+        // Act
+        CompletableFuture<Aluno> primeira = pipeline.submeter(1L, 7.0);
+        CompletableFuture<Aluno> comFalha = pipeline.submeter(2L, 8.0);
+        CompletableFuture<Aluno> terceira = pipeline.submeter(3L, 9.0);
+        
+        // Assert - só o pedido com problema falha; os outros são gravados
+        assertThat(primeira.get(5, TimeUnit.SECONDS).getTentativasAvaliacao()).isEqualTo(1);
+        assertThat(terceira.get(5, TimeUnit.SECONDS).getMediaFinal()).isEqualTo(9.0);
+        assertThatThrownBy(() -> comFalha.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+        verify(transactionManager, times(2)).commit(any());
+    }
+    
+    @Test
+    @DisplayName("Deve refazer com a política do executor o pedido que perdeu a corrida de versão")
+    void deveRefazerPedidoComConflitoDeVersao() {
+        // Arrange - o commit do grupo e a primeira gravação individual encontram
+        // o aluno alterado por fora do pipeline
+        when(alunoRepository.buscarPorIds(anyCollection())).thenAnswer(invocacao -> List.of(criarAluno(1L, "11111")));
+        when(alunoRepository.salvarTodos(anyList()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Aluno.class, 1L))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Aluno.class, 1L))
+                .thenAnswer(invocacao -> invocacao.getArgument(0));
+        
+        // Act
+        Aluno aluno = pipeline.registrar(1L, 7.0);
+        
+        // Assert
+        assertThat(aluno.getTentativasAvaliacao()).isEqualTo(1);
+        assertThat(executor.getConflitos()).isEqualTo(1);
+        verify(alunoRepository, times(3)).salvarTodos(anyList());
+    }
+    
+    @Test
+    @DisplayName("Deve responder conflito de concorrência quando o conflito de versão persistir")
+    void deveResponderConflitoQuandoVersaoPersistir() {
+        // Arrange
+        when(alunoRepository.buscarPorIds(anyCollection())).thenAnswer(invocacao -> List.of(criarAluno(1L, "11111")));
+        when(alunoRepository.salvarTodos(anyList()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Aluno.class, 1L));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> pipeline.registrar(1L, 7.0))
+                .isInstanceOf(ConflitoConcorrenciaException.class);
+        assertThat(executor.getAbandonos()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve recusar pedidos depois de parar")
+    void deveRecusarPedidosDepoisDeParar() throws InterruptedException {
+        pipeline.parar();
+        
+        assertThatThrownBy(() -> pipeline.submeter(1L, 7.0))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(pipeline.pendentes()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Deve liberar o chamador quando o commit passar do timeout")
+    void deveLiberarChamadorNoTimeout() throws InterruptedException {
+        // Arrange - a janela do grupo (500 ms) é maior que o timeout
+        PipelineTentativas lento = new PipelineTentativas(processador, tentativaRepository, executor, true, 3, 500, 16, 50);
+        lento.iniciar();
+        
+        try {
+            // Act & Assert
+            assertThatThrownBy(() -> lento.registrar(999L, 7.0))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Tempo esgotado");
+        } finally {
+            lento.parar();
+        }
+    }
+    
+    private Aluno criarAluno(Long id, String ra) {
+        Aluno aluno = Aluno.criar(NomeAluno.criar("Maria Santos"), RegistroAcademico.criar(ra));
+        ReflectionTestUtils.setField(aluno, "id", id);
+        return aluno;
+    }
+}
@@ -0,0 +1,208 @@
+package com.devops.projeto_ac2.application.lote;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para WriteBehindPerfilAlunos
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Write-behind de Perfil de Alunos")
+class WriteBehindPerfilAlunosTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private WriteBehindPerfilAlunos writeBehind;
+    
+    @BeforeEach
+    void setUp() {
+        ProcessadorLoteAlunos processador = new ProcessadorLoteAlunos(alunoRepository, transactionManager, evento -> { }, 500);
+        // Agendador não é iniciado: os flushes são disparados pelo teste
+        writeBehind = new WriteBehindPerfilAlunos(processador, true, 60_000, 2);
+    }
+    
+    @Test
+    @DisplayName("Deve juntar várias atualizações do mesmo aluno em uma gravação")
+    void deveJuntarAtualizacoesDoMesmoAluno() {
+        // Arrange
+        Aluno aluno = criarAluno(1L);
+        when(alunoRepository.buscarPorIds(anyCollection())).thenReturn(List.of(aluno));
+        
+        writeBehind.registrar(1L, 0L, AtualizacaoPerfil.criar("Nome Antigo", null));
+        writeBehind.registrar(1L, 0L, AtualizacaoPerfil.criar(null, 6.5));
+        writeBehind.registrar(1L, 0L, AtualizacaoPerfil.criar("Nome Novo", null));
+        
+        // Assert - visão em memória já reflete as atualizações
+        assertThat(writeBehind.quantidadePendentes()).isEqualTo(1);
+        assertThat(writeBehind.pendente(1L).getNome()).isEqualTo("Nome Novo");
+        assertThat(writeBehind.pendente(1L).getMediaFinal()).isEqualTo(6.5);
+        
+        // Act
+        ResultadoLote resultado = writeBehind.flush();
+        
+        // Assert
+        assertThat(resultado.getTotal()).isEqualTo(1);
+        assertThat(aluno.getNome()).isEqualTo("Nome Novo");
+        assertThat(aluno.getMediaFinal()).isEqualTo(6.5);
+        assertThat(writeBehind.pendente(1L)).isNull();
+        verify(alunoRepository, times(1)).salvarTodos(List.of(aluno));
+    }
+    
+    @Test
+    @DisplayName("Deve gravar na hora quando passar do limite de pendentes")
+    void deveGravarAoPassarDoLimite() {
+        when(alunoRepository.buscarPorIds(anyCollection()))
+                .thenReturn(List.of(criarAluno(1L), criarAluno(2L), criarAluno(3L)));
+        
+        writeBehind.registrar(1L, 0L, AtualizacaoPerfil.criar("Aluno Um", null));
+        writeBehind.registrar(2L, 0L, AtualizacaoPerfil.criar("Aluno Dois", null));
+        verify(alunoRepository, never()).salvarTodos(anyList());
+        
+        writeBehind.registrar(3L, 0L, AtualizacaoPerfil.criar("Aluno Tres", null));
+        
+        assertThat(writeBehind.quantidadePendentes()).isZero();
+        verify(alunoRepository, times(1)).salvarTodos(anyList());
+    }
+    
+    @Test
+    @DisplayName("Deve gravar as pendências no desligamento")
+    void deveGravarNoDesligamento() throws InterruptedException {
+        Aluno aluno = criarAluno(1L);
+        when(alunoRepository.buscarPorIds(anyCollection())).thenReturn(List.of(aluno));
+        writeBehind.registrar(1L, 0L, AtualizacaoPerfil.criar(null, 8.0));
+        
+        writeBehind.parar();
+        
+        assertThat(aluno.getMediaFinal()).isEqualTo(8.0);
+        assertThat(writeBehind.quantidadePendentes()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Deve descartar a atualização se o aluno mudou de versão antes do flush")
+    void deveDescartarAtualizacaoDeVersaoAntiga() {
+        // Arrange - outra escrita gravou o aluno depois do registro
+        Aluno aluno = criarAluno(1L);
+        ReflectionTestUtils.setField(aluno, "versao", 1L);
+        when(alunoRepository.buscarPorIds(anyCollection())).thenReturn(List.of(aluno));
+        writeBehind.registrar(1L, 0L, AtualizacaoPerfil.criar(null, 8.0));
+        
+        // Act
+        ResultadoLote resultado = writeBehind.flush();
+        
+        // Assert
+        assertThat(resultado.getFalhas()).isEqualTo(1);
+        assertThat(aluno.getMediaFinal()).isZero();
+        assertThat(writeBehind.quantidadePendentes()).isZero();
+        assertThat(writeBehind.getDescartadas()).isEqualTo(1);
+        assertThat(writeBehind.getGravadas()).isZero();
+        assertThat(writeBehind.ultimosDescartes())
+                .extracting(WriteBehindPerfilAlunos.Descarte::alunoId)
+                .containsExactly(1L);
+        verify(alunoRepository, never()).salvarTodos(anyList());
+    }
+    
+    @Test
+    @DisplayName("Deve recusar com conflito atualização sobre versão mais antiga que a pendente")
+    void deveRecusarAtualizacaoSobreVersaoMaisAntiga() {
+        // Arrange
+        writeBehind.registrar(1L, 1L, AtualizacaoPerfil.criar("Nome Novo", null));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> writeBehind.registrar(1L, 0L, AtualizacaoPerfil.criar(null, 8.0)))
+                .isInstanceOf(ConflitoConcorrenciaException.class);
+        assertThat(writeBehind.pendente(1L).getNome()).isEqualTo("Nome Novo");
+        assertThat(writeBehind.pendente(1L).getMediaFinal()).isNull();
+    }
+    
+    @Test
+    @DisplayName("Deve contar como descartada a pendência substituída por outra sobre versão mais nova")
+    void deveContarPendenciaSubstituida() {
+        writeBehind.registrar(1L, 0L, AtualizacaoPerfil.criar("Nome Antigo", null));
+        
+        writeBehind.registrar(1L, 1L, AtualizacaoPerfil.criar(null, 8.0));
+        
+        assertThat(writeBehind.pendente(1L).getNome()).isNull();
+        assertThat(writeBehind.getDescartadas()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve recusar antes de enfileirar a média de aluno que já concluiu")
+    void deveRecusarMediaDeAlunoConcluido() {
+        // Arrange
+        Aluno aluno = criarAluno(1L);
+        ReflectionTestUtils.setField(aluno, "concluiu", true);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> writeBehind.registrar(aluno, AtualizacaoPerfil.criar(null, 8.0)))
+                .isInstanceOf(DomainException.class)
+                .hasMessageContaining("já concluiu");
+        assertThat(writeBehind.quantidadePendentes()).isZero();
+        
+        // Nome continua podendo mudar
+        writeBehind.registrar(aluno, AtualizacaoPerfil.criar("Maria Souza", null));
+        assertThat(writeBehind.quantidadePendentes()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Não deve considerar conflito a versão avançada pelo próprio flush")
+    void deveManterAtualizacaoRegistradaDuranteFlush() {
+        // Arrange - a segunda atualização chega enquanto a primeira está sendo gravada
+        Aluno aluno = criarAluno(1L);
+        when(alunoRepository.buscarPorIds(anyCollection())).thenReturn(List.of(aluno));
+        when(alunoRepository.salvarTodos(anyList())).thenAnswer(invocacao -> {
+            writeBehind.registrar(1L, 0L, AtualizacaoPerfil.criar("Nome Novo", null));
+            ReflectionTestUtils.setField(aluno, "versao", 1L);
+            return invocacao.getArgument(0);
+        }).thenReturn(List.of(aluno));
+        writeBehind.registrar(1L, 0L, AtualizacaoPerfil.criar(null, 8.0));
+        
+        // Act
+        writeBehind.flush();
+        ResultadoLote segundo = writeBehind.flush();
+        
+        // Assert
+        assertThat(segundo.getSucessos()).isEqualTo(1);
+        assertThat(aluno.getNome()).isEqualTo("Nome Novo");
+        assertThat(aluno.getMediaFinal()).isEqualTo(8.0);
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar atualização inválida antes de enfileirar")
+    void deveRejeitarAtualizacaoInvalida() {
+        assertThatThrownBy(() -> AtualizacaoPerfil.criar(null, null))
+                .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> AtualizacaoPerfil.criar("X", null))
+                .isInstanceOf(DomainException.class);
+        assertThat(writeBehind.quantidadePendentes()).isZero();
+    }
+    
+    private Aluno criarAluno(Long id) {
+        Aluno aluno = Aluno.criar(NomeAluno.criar("Maria Santos"), RegistroAcademico.criar("1234" + id));
+        ReflectionTestUtils.setField(aluno, "id", id);
+        ReflectionTestUtils.setField(aluno, "versao", 0L);
+        return aluno;
+    }
+}
@@ -0,0 +1,110 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.infrastructure.persistence.AlunoArquivadoJpaRepository;
+import com.devops.projeto_ac2.infrastructure.persistence.AlunoJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração do arquivamento de alunos concluídos
+ * Verifica o INSERT ... SELECT + DELETE e o fallback de leitura para o arquivo
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do Arquivamento de Alunos")
+class ArquivamentoAlunosIntegrationTest {
+    
+    @Autowired
+    private CriarAlunoUseCase criarAlunoUseCase;
+    
+    @Autowired
+    private RegistrarTentativaUseCase registrarTentativaUseCase;
+    
+    @Autowired
+    private ConcluirCursoUseCase concluirCursoUseCase;
+    
+    @Autowired
+    private ArquivarAlunosConcluidosUseCase arquivarAlunosConcluidosUseCase;
+    
+    @Autowired
+    private ListarAlunosUseCase listarAlunosUseCase;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private AlunoJpaRepository jpaRepository;
+    
+    @Autowired
+    private AlunoArquivadoJpaRepository arquivadoJpaRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Test
+    @DisplayName("Aluno arquivado deve sair de tb_alunos e continuar acessível por ID e RA")
+    void alunoArquivadoDeveContinuarAcessivel() {
+        // Arrange
+        String ra = String.format("ARQ%06d", System.nanoTime() % 1_000_000);
+        Long concluidoId = criarAlunoUseCase.executar("Ana Concluida", ra).getId();
+        registrarTentativaUseCase.executar(concluidoId, 8.0);
+        concluirCursoUseCase.executar(concluidoId, 8.0);
+        Long ativoId = criarAlunoUseCase.executar("Bruno Ativo", "ATV" + ra.substring(3)).getId();
+        
+        // Act - arquiva tudo que concluiu antes de agora
+        long arquivados = arquivarAlunosConcluidosUseCase.executar(0).getLinhasAfetadas();
+        
+        // Assert
+        assertThat(arquivados).isGreaterThanOrEqualTo(1);
+        assertThat(listarAlunosUseCase.executar()).extracting(Aluno::getId)
+                .contains(ativoId)
+                .doesNotContain(concluidoId);
+        assertThat(listarAlunosUseCase.executar(true)).extracting(Aluno::getId)
+                .contains(ativoId, concluidoId);
+        
+        Aluno arquivado = alunoRepository.buscarPorId(concluidoId).orElseThrow();
+        assertThat(arquivado.isArquivado()).isTrue();
+        assertThat(arquivado.getCursosAdicionais()).isEqualTo(3);
+        assertThat(alunoRepository.buscarPorRA(ra)).isPresent();
+        assertThat(alunoRepository.existePorRA(ra)).isTrue();
+        assertThatThrownBy(() -> alunoRepository.salvar(arquivado))
+                .isInstanceOf(DomainException.class);
+    }
+    
+    @Test
+    @DisplayName("DELETE do arquivamento deve manter quem concluiu depois da cópia")
+    void exclusaoDeveRemoverSoOsCopiados() {
+        // Arrange
+        String ra = String.format("ARC%06d", System.nanoTime() % 1_000_000);
+        Long copiadoId = criarAlunoUseCase.executar("Caio Copiado", ra).getId();
+        registrarTentativaUseCase.executar(copiadoId, 8.0);
+        concluirCursoUseCase.executar(copiadoId, 8.0);
+        Long tardioId = criarAlunoUseCase.executar("Davi Tardio", "ARD" + ra.substring(3)).getId();
+        registrarTentativaUseCase.executar(tardioId, 9.0);
+        LocalDateTime limite = LocalDateTime.now().plusDays(1);
+        
+        // Act - o segundo aluno conclui entre o INSERT ... SELECT e o DELETE
+        Integer excluidos = new TransactionTemplate(transactionManager).execute(status -> {
+            arquivadoJpaRepository.copiarConcluidosAntesDe(limite, copiadoId, tardioId, LocalDateTime.now());
+            concluirCursoUseCase.executar(tardioId, 9.0);
+            return jpaRepository.excluirArquivados(copiadoId, tardioId);
+        });
+        
+        // Assert
+        assertThat(excluidos).isEqualTo(1);
+        assertThat(alunoRepository.buscarPorId(copiadoId)).get().extracting(Aluno::isArquivado).isEqualTo(true);
+        assertThat(alunoRepository.buscarPorId(tardioId)).get().extracting(Aluno::isArquivado).isEqualTo(false);
+    }
+}
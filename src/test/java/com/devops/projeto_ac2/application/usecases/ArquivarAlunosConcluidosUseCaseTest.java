@@ -0,0 +1,71 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.lote.ResultadoOperacaoMassa;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoManutencaoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ArquivarAlunosConcluidosUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Use Case Arquivar Alunos Concluídos")
+class ArquivarAlunosConcluidosUseCaseTest {
+    
+    @Mock
+    private AlunoManutencaoRepository manutencaoRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private ArquivarAlunosConcluidosUseCase useCase;
+    
+    @BeforeEach
+    void setUp() {
+        useCase = new ArquivarAlunosConcluidosUseCase(manutencaoRepository, transactionManager, evento -> { }, 1000);
+        lenient().when(manutencaoRepository.larguraFaixa(1000)).thenReturn(1000L);
+    }
+    
+    @Test
+    @DisplayName("Deve arquivar por faixa de IDs os concluídos antes do limite")
+    void deveArquivarPorFaixa() {
+        // Arrange
+        when(manutencaoRepository.menorIdConcluidoAntesDe(any())).thenReturn(Optional.of(1L));
+        when(manutencaoRepository.maiorIdConcluidoAntesDe(any())).thenReturn(Optional.of(2500L));
+        when(manutencaoRepository.arquivarConcluidosAntesDe(any(), anyLong(), anyLong())).thenReturn(400);
+        LocalDateTime antes = LocalDateTime.now().minusDays(30);
+        
+        // Act
+        ResultadoOperacaoMassa resultado = useCase.executar(30);
+        
+        // Assert
+        assertThat(resultado.getFaixas()).isEqualTo(3);
+        assertThat(resultado.getLinhasAfetadas()).isEqualTo(1200);
+        verify(manutencaoRepository).arquivarConcluidosAntesDe(
+                argThat(limite -> !limite.isBefore(antes)), eq(2001L), eq(2500L));
+        verify(transactionManager, times(3)).commit(any());
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar quantidade de dias negativa")
+    void deveRejeitarDiasNegativos() {
+        assertThatThrownBy(() -> useCase.executar(-1))
+                .isInstanceOf(DomainException.class);
+        
+        verifyNoInteractions(manutencaoRepository);
+    }
+}
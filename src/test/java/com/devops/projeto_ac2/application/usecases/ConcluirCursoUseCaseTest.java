@@ -3,14 +3,18 @@ package com.devops.projeto_ac2.application.usecases;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
 import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
 import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -28,6 +32,12 @@ class ConcluirCursoUseCaseTest {
     @Mock
     private AlunoRepository alunoRepository;
     
+    @Mock
+    private ApplicationEventPublisher eventos;
+    
+    @Spy
+    private RegrasBonusCursos regras = RegrasBonusCursos.padrao();
+    
     @InjectMocks
     private ConcluirCursoUseCase useCase;
     
@@ -116,6 +126,25 @@ class ConcluirCursoUseCaseTest {
         verify(alunoRepository, never()).salvar(any());
     }
     
+    @Test
+    @DisplayName("Deve aplicar as regras de bônus configuradas")
+    void deveAplicarRegrasConfiguradas() {
+        // Arrange - regras diferentes das padrão, injetadas no use case
+        ConcluirCursoUseCase comRegras = new ConcluirCursoUseCase(alunoRepository,
+                RegrasBonusCursos.criar(9.5, 8, 6.0, 2), eventos);
+        Aluno aluno = criarAlunoTeste(1L);
+        aluno.registrarTentativa(MediaFinal.criar(6.5));
+        
+        when(alunoRepository.buscarPorId(1L)).thenReturn(Optional.of(aluno));
+        when(alunoRepository.salvar(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        Aluno resultado = comRegras.executar(1L, 6.5);
+        
+        // Assert
+        assertThat(resultado.getCursosAdicionais()).isEqualTo(2);
+    }
+    
     private Aluno criarAlunoTeste(Long id) {
         NomeAluno nome = NomeAluno.criar("João Silva");
         RegistroAcademico ra = RegistroAcademico.criar("12345");
@@ -0,0 +1,115 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.lote.ItemLote;
+import com.devops.projeto_ac2.application.lote.ProcessadorLoteAlunos;
+import com.devops.projeto_ac2.application.lote.ResultadoLote;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ConcluirCursosEmLoteUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Use Case Concluir Cursos em Lote")
+class ConcluirCursosEmLoteUseCaseTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private ConcluirCursosEmLoteUseCase useCase;
+    
+    @BeforeEach
+    void setUp() {
+        ProcessadorLoteAlunos processador = new ProcessadorLoteAlunos(alunoRepository, transactionManager, evento -> { }, 500);
+        useCase = new ConcluirCursosEmLoteUseCase(processador, RegrasBonusCursos.padrao());
+    }
+    
+    @Test
+    @DisplayName("Deve aplicar os bônus de 5, 3 e 0 cursos conforme a média")
+    void deveAplicarBonusConformeMedia() {
+        // Arrange
+        Aluno excelente = criarAlunoComTentativa(1L, "11111");
+        Aluno aprovado = criarAlunoComTentativa(2L, "22222");
+        Aluno reprovado = criarAlunoComTentativa(3L, "33333");
+        
+        when(alunoRepository.buscarPorIds(anyCollection())).thenReturn(List.of(excelente, aprovado, reprovado));
+        
+        // Act
+        ResultadoLote resultado = useCase.executar(List.of(
+                new ItemLote<>(1L, 9.5),
+                new ItemLote<>(2L, 7.5),
+                new ItemLote<>(3L, 4.0)));
+        
+        // Assert
+        assertThat(resultado.getSucessos()).isEqualTo(3);
+        assertThat(excelente.getCursosAdicionais()).isEqualTo(5);
+        assertThat(aprovado.getCursosAdicionais()).isEqualTo(3);
+        assertThat(reprovado.getCursosAdicionais()).isZero();
+        assertThat(resultado.getItens()).allMatch(item -> Boolean.TRUE.equals(item.getConcluiu()));
+        assertThat(resultado.getLinhasPorSegundo()).isPositive();
+        
+        verify(alunoRepository, times(1)).buscarPorIds(anyCollection());
+        verify(alunoRepository, times(1)).salvarTodos(any());
+    }
+    
+    @Test
+    @DisplayName("Deve reportar erro para aluno sem tentativa ou já concluído")
+    void deveReportarErroDeRegraDeNegocio() {
+        // Arrange
+        Aluno semTentativa = criarAluno(1L, "11111");
+        Aluno concluido = criarAlunoComTentativa(2L, "22222");
+        concluido.concluirCurso(MediaFinal.criar(8.0), RegrasBonusCursos.padrao());
+        
+        when(alunoRepository.buscarPorIds(anyCollection())).thenReturn(List.of(semTentativa, concluido));
+        
+        // Act
+        ResultadoLote resultado = useCase.executar(List.of(
+                new ItemLote<>(1L, 8.0),
+                new ItemLote<>(2L, 8.0)));
+        
+        // Assert
+        assertThat(resultado.getFalhas()).isEqualTo(2);
+        assertThat(resultado.getItens().get(0).getErro()).contains("pelo menos uma tentativa");
+        assertThat(resultado.getItens().get(1).getErro()).isEqualTo("Aluno já concluiu o curso");
+        assertThat(concluido.getCursosAdicionais()).isEqualTo(3);
+        
+        verify(alunoRepository, never()).salvarTodos(any());
+    }
+    
+    private Aluno criarAlunoComTentativa(Long id, String ra) {
+        Aluno aluno = criarAluno(id, ra);
+        aluno.registrarTentativa(MediaFinal.criar(6.0));
+        return aluno;
+    }
+    
+    private Aluno criarAluno(Long id, String ra) {
+        Aluno aluno = Aluno.criar(
+                NomeAluno.criar("Maria Santos"),
+                RegistroAcademico.criar(ra)
+        );
+        ReflectionTestUtils.setField(aluno, "id", id);
+        return aluno;
+    }
+}
@@ -0,0 +1,35 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * StatementInspector de teste: guarda o SQL que o Hibernate envia ao banco
+ * Registrado via spring.jpa.properties.hibernate.session_factory.statement_inspector
+ */
+public class ContadorSql implements StatementInspector {
+    
+    private static final List<String> COMANDOS = new CopyOnWriteArrayList<>();
+    
+    @Override
+    public String inspect(String sql) {
+        COMANDOS.add(sql.toLowerCase(Locale.ROOT));
+        return sql;
+    }
+    
+    static void limpar() {
+        COMANDOS.clear();
+    }
+    
+    /**
+     * Comandos que começam com o verbo informado e citam a tabela
+     */
+    static List<String> comandos(String verbo, String tabela) {
+        return COMANDOS.stream()
+                .filter(sql -> sql.startsWith(verbo) && sql.contains(tabela))
+                .toList();
+    }
+}
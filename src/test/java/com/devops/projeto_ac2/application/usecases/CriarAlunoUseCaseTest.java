@@ -1,5 +1,6 @@
 package com.devops.projeto_ac2.application.usecases;
 
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.DomainException;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
@@ -10,6 +11,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,6 +29,9 @@ class CriarAlunoUseCaseTest {
     @Mock
     private AlunoRepository alunoRepository;
     
+    @Mock
+    private ApplicationEventPublisher eventos;
+    
     @InjectMocks
     private CriarAlunoUseCase useCase;
     
@@ -44,6 +50,7 @@ class CriarAlunoUseCaseTest {
         when(alunoRepository.existePorRA(ra)).thenReturn(false);
         when(alunoRepository.salvar(any(Aluno.class))).thenAnswer(invocation -> {
             Aluno aluno = invocation.getArgument(0);
+            ReflectionTestUtils.setField(aluno, "id", 1L);
             return aluno;
         });
         
@@ -59,6 +66,7 @@ class CriarAlunoUseCaseTest {
         
         verify(alunoRepository, times(1)).existePorRA(ra);
         verify(alunoRepository, times(1)).salvar(any(Aluno.class));
+        verify(eventos).publishEvent(AlunosAlterados.de(1L));
     }
     
     @Test
@@ -0,0 +1,86 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração do caminho de escrita dos use cases
+ * Conta os comandos SQL enviados: sem save redundante e UPDATE só com as colunas alteradas
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.devops.projeto_ac2.application.usecases.ContadorSql",
+        // Sem o cache de segundo nível a leitura do aluno é sempre um SELECT: contagem determinística
+        "alunos.cache-hibernate.habilitado=false"
+})
+@ActiveProfiles("test")
+@DisplayName("Testes de SQL gerado na escrita de Alunos")
+class EscritaAlunoSqlIntegrationTest {
+    
+    @Autowired
+    private CriarAlunoUseCase criarAlunoUseCase;
+    
+    @Autowired
+    private RegistrarTentativaUseCase registrarTentativaUseCase;
+    
+    @Autowired
+    private ConcluirCursoUseCase concluirCursoUseCase;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    private Long alunoId;
+    
+    @BeforeEach
+    void setUp() {
+        alunoId = criarAlunoUseCase.executar("João Silva", String.format("SQL%06d", System.nanoTime() % 1_000_000)).getId();
+        ContadorSql.limpar();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        alunoRepository.deletar(alunoId);
+    }
+    
+    @Test
+    @DisplayName("Registrar tentativa: um SELECT e um UPDATE só com as colunas alteradas")
+    void registrarTentativaDeveGerarUpdateDinamico() {
+        registrarTentativaUseCase.executar(alunoId, 7.5);
+        
+        assertThat(ContadorSql.comandos("select", "tb_alunos")).hasSize(1);
+        List<String> updates = ContadorSql.comandos("update", "tb_alunos");
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0))
+                .contains("media_final", "tentativas_avaliacao", "data_atualizacao", "versao")
+                .doesNotContain("data_criacao", "nome", "ra=", "concluiu", "cursos_adicionais");
+        assertThat(ContadorSql.comandos("insert", "tb_tentativas_avaliacao")).hasSize(1);
+    }
+    
+    @Test
+    @DisplayName("Concluir curso: um SELECT e um UPDATE sem reenviar dataCriacao")
+    void concluirCursoDeveGerarUpdateDinamico() {
+        registrarTentativaUseCase.executar(alunoId, 9.5);
+        ContadorSql.limpar();
+        
+        Aluno aluno = concluirCursoUseCase.executar(alunoId, 9.5);
+        
+        assertThat(aluno.isConcluiu()).isTrue();
+        assertThat(ContadorSql.comandos("select", "tb_alunos")).hasSize(1);
+        List<String> updates = ContadorSql.comandos("update", "tb_alunos");
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0))
+                .contains("concluiu", "cursos_adicionais", "data_conclusao")
+                .doesNotContain("data_criacao", "nome", "tentativas_avaliacao");
+    }
+}
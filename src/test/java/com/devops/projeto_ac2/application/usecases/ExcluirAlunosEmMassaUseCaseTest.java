@@ -0,0 +1,115 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
+import com.devops.projeto_ac2.application.lote.ResultadoOperacaoMassa;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoManutencaoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ExcluirAlunosEmMassaUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Use Case Excluir Alunos em Massa")
+class ExcluirAlunosEmMassaUseCaseTest {
+    
+    @Mock
+    private AlunoManutencaoRepository manutencaoRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private final List<Object> eventos = new ArrayList<>();
+    
+    private ExcluirAlunosEmMassaUseCase useCase;
+    
+    @BeforeEach
+    void setUp() {
+        useCase = new ExcluirAlunosEmMassaUseCase(manutencaoRepository, transactionManager, eventos::add, 100);
+        lenient().when(manutencaoRepository.larguraFaixa(100)).thenReturn(100L);
+    }
+    
+    @Test
+    @DisplayName("Deve excluir por IDs em pedaços ordenados, uma transação por pedaço")
+    void deveExcluirPorIdsEmPedacos() {
+        // Arrange - 1500 IDs fora de ordem e com repetição
+        List<Long> ids = LongStream.rangeClosed(1, 1500).map(i -> 1501 - i).boxed().collect(Collectors.toList());
+        ids.add(10L);
+        when(manutencaoRepository.excluirPorIds(anyList()))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        
+        // Act
+        ResultadoOperacaoMassa resultado = useCase.executarPorIds(ids);
+        
+        // Assert
+        assertThat(resultado.getFaixas()).isEqualTo(2);
+        assertThat(resultado.getLinhasAfetadas()).isEqualTo(1500);
+        verify(manutencaoRepository).excluirPorIds(argThat(pedaco ->
+                pedaco.size() == 1000 && pedaco.iterator().next() == 1L));
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(eventos).hasSize(2);
+        assertThat(((AlunosAlterados) eventos.get(0)).ids()).hasSize(1000).contains(1L, 1000L);
+    }
+    
+    @Test
+    @DisplayName("Deve excluir concluídos antes da data por faixa de IDs")
+    void deveExcluirConcluidosPorFaixa() {
+        // Arrange
+        LocalDateTime limite = LocalDate.of(2025, 1, 1).atStartOfDay();
+        when(manutencaoRepository.menorIdConcluidoAntesDe(limite)).thenReturn(Optional.of(50L));
+        when(manutencaoRepository.maiorIdConcluidoAntesDe(limite)).thenReturn(Optional.of(180L));
+        when(manutencaoRepository.excluirConcluidosAntesDe(eq(limite), anyLong(), anyLong())).thenReturn(7);
+        
+        // Act
+        ResultadoOperacaoMassa resultado = useCase.executarConcluidosAntesDe(LocalDate.of(2025, 1, 1));
+        
+        // Assert
+        assertThat(resultado.getFaixas()).isEqualTo(2);
+        assertThat(resultado.getLinhasAfetadas()).isEqualTo(14);
+        verify(manutencaoRepository).excluirConcluidosAntesDe(limite, 50L, 149L);
+        verify(manutencaoRepository).excluirConcluidosAntesDe(limite, 150L, 180L);
+        assertThat(eventos).containsExactly(AlunosAlterados.geral(), AlunosAlterados.geral());
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar exclusão sem IDs")
+    void deveRejeitarExclusaoSemIds() {
+        assertThatThrownBy(() -> useCase.executarPorIds(List.of()))
+                .isInstanceOf(DomainException.class);
+        
+        verifyNoInteractions(manutencaoRepository);
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar lista de IDs com ID nulo")
+    void deveRejeitarIdNulo() {
+        List<Long> ids = new ArrayList<>(List.of(1L, 2L));
+        ids.add(null);
+        
+        assertThatThrownBy(() -> useCase.executarPorIds(ids))
+                .isInstanceOf(DomainException.class)
+                .hasMessageContaining("nulo");
+        
+        verifyNoInteractions(manutencaoRepository);
+    }
+}
@@ -0,0 +1,89 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.entities.TentativaAvaliacao;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.repositories.TentativaAvaliacaoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ListarTentativasAlunoUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Use Case Listar Tentativas do Aluno")
+class ListarTentativasAlunoUseCaseTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    @Mock
+    private TentativaAvaliacaoRepository tentativaRepository;
+    
+    @InjectMocks
+    private ListarTentativasAlunoUseCase useCase;
+    
+    @Test
+    @DisplayName("Deve retornar a página do histórico do aluno")
+    void deveRetornarPaginaDoHistorico() {
+        // Arrange
+        Aluno aluno = Aluno.criar(NomeAluno.criar("Maria Santos"), RegistroAcademico.criar("12345"));
+        ReflectionTestUtils.setField(aluno, "id", 1L);
+        aluno.registrarTentativa(MediaFinal.criar(4.0));
+        TentativaAvaliacao primeira = TentativaAvaliacao.registrar(aluno);
+        aluno.registrarTentativa(MediaFinal.criar(6.5));
+        TentativaAvaliacao segunda = TentativaAvaliacao.registrar(aluno);
+        
+        when(alunoRepository.buscarPorId(1L)).thenReturn(Optional.of(aluno));
+        when(tentativaRepository.buscarPorAluno(1L, 0, 20)).thenReturn(List.of(primeira, segunda));
+        
+        // Act
+        List<TentativaAvaliacao> resultado = useCase.executar(1L, 0, 20);
+        
+        // Assert
+        assertThat(resultado).extracting(TentativaAvaliacao::getNumero).containsExactly(1, 2);
+        assertThat(resultado).extracting(TentativaAvaliacao::getNota).containsExactly(4.0, 6.5);
+    }
+    
+    @Test
+    @DisplayName("Deve lançar exceção quando aluno não existe")
+    void deveLancarExcecaoQuandoAlunoNaoExiste() {
+        when(alunoRepository.buscarPorId(999L)).thenReturn(Optional.empty());
+        
+        assertThatThrownBy(() -> useCase.executar(999L, 0, 20))
+                .isInstanceOf(AlunoNotFoundException.class);
+        
+        verify(tentativaRepository, never()).buscarPorAluno(anyLong(), anyInt(), anyInt());
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar página ou tamanho inválidos")
+    void deveRejeitarPaginacaoInvalida() {
+        assertThatThrownBy(() -> useCase.executar(1L, -1, 20))
+                .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> useCase.executar(1L, 0, 0))
+                .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> useCase.executar(1L, 0, 101))
+                .isInstanceOf(DomainException.class);
+        
+        verifyNoInteractions(alunoRepository, tentativaRepository);
+    }
+}
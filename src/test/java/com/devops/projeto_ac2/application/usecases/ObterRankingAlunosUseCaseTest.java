@@ -3,6 +3,7 @@ package com.devops.projeto_ac2.application.usecases;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
 import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
 import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
@@ -28,6 +30,9 @@ class ObterRankingAlunosUseCaseTest {
     @Mock
     private AlunoRepository alunoRepository;
     
+    @Spy
+    private RegrasBonusCursos regras = RegrasBonusCursos.padrao();
+    
     @InjectMocks
     private ObterRankingAlunosUseCase useCase;
     
@@ -35,11 +40,11 @@ class ObterRankingAlunosUseCaseTest {
     @DisplayName("Deve retornar ranking ordenado por média final")
     void deveRetornarRankingOrdenado() {
         // Arrange
-        Aluno aluno1 = criarAlunoComMedia("João", "111", 8.5);
-        Aluno aluno2 = criarAlunoComMedia("Maria", "222", 9.5);
-        Aluno aluno3 = criarAlunoComMedia("Pedro", "333", 7.0);
+        Aluno aluno1 = criarAlunoComMedia("João", "11111", 8.5);
+        Aluno aluno2 = criarAlunoComMedia("Maria", "22222", 9.5);
+        Aluno aluno3 = criarAlunoComMedia("Pedro", "33333", 7.0);
         
-        when(alunoRepository.buscarTodos()).thenReturn(Arrays.asList(aluno1, aluno2, aluno3));
+        when(alunoRepository.buscarRanking(Integer.MAX_VALUE)).thenReturn(Arrays.asList(aluno1, aluno2, aluno3));
         
         // Act
         List<Aluno> ranking = useCase.executar();
@@ -50,18 +55,18 @@ class ObterRankingAlunosUseCaseTest {
         assertThat(ranking.get(1).getNome()).isEqualTo("João");  
         assertThat(ranking.get(2).getNome()).isEqualTo("Pedro"); 
         
-        verify(alunoRepository, times(1)).buscarTodos();
+        verify(alunoRepository, times(1)).buscarRanking(Integer.MAX_VALUE);
     }
     
     @Test
     @DisplayName("Deve retornar top N alunos")
     void deveRetornarTopN() {
         // Arrange
-        Aluno aluno1 = criarAlunoComMedia("João", "111", 8.5);
-        Aluno aluno2 = criarAlunoComMedia("Maria", "222", 9.5);
-        Aluno aluno3 = criarAlunoComMedia("Pedro", "333", 7.0);
+        Aluno aluno1 = criarAlunoComMedia("João", "11111", 8.5);
+        Aluno aluno2 = criarAlunoComMedia("Maria", "22222", 9.5);
+        Aluno aluno3 = criarAlunoComMedia("Pedro", "33333", 7.0);
         
-        when(alunoRepository.buscarTodos()).thenReturn(Arrays.asList(aluno1, aluno2, aluno3));
+        when(alunoRepository.buscarRanking(2)).thenReturn(Arrays.asList(aluno1, aluno2, aluno3));
         
         // Act
         List<Aluno> top2 = useCase.executarTop(2);
@@ -71,7 +76,7 @@ class ObterRankingAlunosUseCaseTest {
         assertThat(top2.get(0).getNome()).isEqualTo("Maria");
         assertThat(top2.get(1).getNome()).isEqualTo("João");
         
-        verify(alunoRepository, times(1)).buscarTodos();
+        verify(alunoRepository, times(1)).buscarRanking(2);
     }
     
     @Test
@@ -91,9 +96,9 @@ class ObterRankingAlunosUseCaseTest {
     @DisplayName("Deve retornar ranking apenas de aprovados")
     void deveRetornarRankingAprovados() {
         // Arrange
-        Aluno aprovado1 = criarAlunoConcluidoComMedia("João", "111", 8.5);
-        Aluno aprovado2 = criarAlunoConcluidoComMedia("Maria", "222", 9.5);
-        Aluno reprovado = criarAlunoConcluidoComMedia("Pedro", "333", 4.0);
+        Aluno aprovado1 = criarAlunoConcluidoComMedia("João", "11111", 8.5);
+        Aluno aprovado2 = criarAlunoConcluidoComMedia("Maria", "22222", 9.5);
+        Aluno reprovado = criarAlunoConcluidoComMedia("Pedro", "33333", 4.0);
         
         when(alunoRepository.buscarConcluidos()).thenReturn(Arrays.asList(aprovado1, aprovado2, reprovado));
         
@@ -112,13 +117,13 @@ class ObterRankingAlunosUseCaseTest {
     @DisplayName("Deve ordenar por cursos adicionais quando médias são iguais")
     void deveOrdenarPorCursosAdicionaisQuandoMediasIguais() {
         // Arrange
-        Aluno aluno1 = criarAlunoComMedia("João", "111", 8.0);
+        Aluno aluno1 = criarAlunoComMedia("João", "11111", 8.0);
         aluno1.adicionarCursosExtras(3);
         
-        Aluno aluno2 = criarAlunoComMedia("Maria", "222", 8.0);
+        Aluno aluno2 = criarAlunoComMedia("Maria", "22222", 8.0);
         aluno2.adicionarCursosExtras(5);
         
-        when(alunoRepository.buscarTodos()).thenReturn(Arrays.asList(aluno1, aluno2));
+        when(alunoRepository.buscarRanking(Integer.MAX_VALUE)).thenReturn(Arrays.asList(aluno1, aluno2));
         
         // Act
         List<Aluno> ranking = useCase.executar();
@@ -143,7 +148,7 @@ class ObterRankingAlunosUseCaseTest {
                 RegistroAcademico.criar(ra)
         );
         aluno.registrarTentativa(MediaFinal.criar(media));
-        aluno.concluirCurso(MediaFinal.criar(media));
+        aluno.concluirCurso(MediaFinal.criar(media), RegrasBonusCursos.padrao());
         return aluno;
     }
 }
@@ -0,0 +1,92 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.lote.ResultadoOperacaoMassa;
+import com.devops.projeto_ac2.domain.repositories.AlunoManutencaoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para RecalcularBonusCursosUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Use Case Recalcular Bônus de Cursos")
+class RecalcularBonusCursosUseCaseTest {
+    
+    @Mock
+    private AlunoManutencaoRepository manutencaoRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private final RegrasBonusCursos regras = RegrasBonusCursos.padrao();
+    
+    private RecalcularBonusCursosUseCase useCase;
+    
+    @BeforeEach
+    void setUp() {
+        useCase = new RecalcularBonusCursosUseCase(manutencaoRepository, regras, transactionManager, evento -> { }, 100);
+        lenient().when(manutencaoRepository.larguraFaixa(100)).thenReturn(100L);
+    }
+    
+    @Test
+    @DisplayName("Deve recalcular por faixas de IDs, uma transação por faixa")
+    void deveRecalcularPorFaixas() {
+        // Arrange
+        when(manutencaoRepository.menorIdConcluido()).thenReturn(Optional.of(1L));
+        when(manutencaoRepository.maiorIdConcluido()).thenReturn(Optional.of(250L));
+        when(manutencaoRepository.recalcularCursosAdicionais(eq(regras), anyLong(), anyLong())).thenReturn(10);
+        
+        // Act
+        ResultadoOperacaoMassa resultado = useCase.executar();
+        
+        // Assert
+        assertThat(resultado.getFaixas()).isEqualTo(3);
+        assertThat(resultado.getLinhasAfetadas()).isEqualTo(30);
+        verify(manutencaoRepository).recalcularCursosAdicionais(regras, 1L, 100L);
+        verify(manutencaoRepository).recalcularCursosAdicionais(regras, 101L, 200L);
+        verify(manutencaoRepository).recalcularCursosAdicionais(regras, 201L, 250L);
+        verify(transactionManager, times(3)).commit(any());
+    }
+    
+    @Test
+    @DisplayName("Deve usar a largura de faixa informada pelo repositório")
+    void deveUsarLarguraDoRepositorio() {
+        // Arrange - IDs intercalados entre bancos (ex.: profile sharding)
+        when(manutencaoRepository.larguraFaixa(100)).thenReturn(25_600L);
+        when(manutencaoRepository.menorIdConcluido()).thenReturn(Optional.of(256L));
+        when(manutencaoRepository.maiorIdConcluido()).thenReturn(Optional.of(40_000L));
+        
+        // Act
+        ResultadoOperacaoMassa resultado = useCase.executar();
+        
+        // Assert
+        assertThat(resultado.getFaixas()).isEqualTo(2);
+        verify(manutencaoRepository).recalcularCursosAdicionais(regras, 256L, 25_855L);
+        verify(manutencaoRepository).recalcularCursosAdicionais(regras, 25_856L, 40_000L);
+    }
+    
+    @Test
+    @DisplayName("Não deve executar UPDATE quando não há alunos concluídos")
+    void naoDeveExecutarSemConcluidos() {
+        when(manutencaoRepository.menorIdConcluido()).thenReturn(Optional.empty());
+        when(manutencaoRepository.maiorIdConcluido()).thenReturn(Optional.empty());
+        
+        ResultadoOperacaoMassa resultado = useCase.executar();
+        
+        assertThat(resultado.getFaixas()).isZero();
+        verify(manutencaoRepository, never()).recalcularCursosAdicionais(any(), anyLong(), anyLong());
+    }
+}
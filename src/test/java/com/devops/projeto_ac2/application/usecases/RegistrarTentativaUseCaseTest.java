@@ -2,7 +2,13 @@ package com.devops.projeto_ac2.application.usecases;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.exceptions.TentativasEsgotadasException;
+import com.devops.projeto_ac2.domain.entities.TentativaAvaliacao;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.repositories.TentativaAvaliacaoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
 import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
 import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
 import org.junit.jupiter.api.DisplayName;
@@ -11,11 +17,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.Mockito.*;
 
 /**
@@ -28,6 +36,12 @@ class RegistrarTentativaUseCaseTest {
     @Mock
     private AlunoRepository alunoRepository;
     
+    @Mock
+    private TentativaAvaliacaoRepository tentativaRepository;
+    
+    @Mock
+    private ApplicationEventPublisher eventos;
+    
     @InjectMocks
     private RegistrarTentativaUseCase useCase;
     
@@ -52,6 +66,7 @@ class RegistrarTentativaUseCaseTest {
         
         verify(alunoRepository, times(1)).buscarPorId(alunoId);
         verify(alunoRepository, times(1)).salvar(aluno);
+        verify(tentativaRepository, times(1)).registrar(any(TentativaAvaliacao.class));
     }
     
     @Test
@@ -92,6 +107,86 @@ class RegistrarTentativaUseCaseTest {
         verify(alunoRepository, times(3)).salvar(aluno);
     }
     
+    @Test
+    @DisplayName("Deve registrar tentativa com UPDATE atômico sem salvar nem reler a entidade")
+    void deveRegistrarTentativaAtomica() {
+        // Arrange
+        Long alunoId = 1L;
+        Aluno atualizado = criarAlunoTeste(alunoId);
+        atualizado.registrarTentativa(MediaFinal.criar(8.0));
+        
+        when(alunoRepository.registrarTentativaAtomica(alunoId, 8.0)).thenReturn(Optional.of(atualizado));
+        
+        // Act
+        Aluno resultado = useCase.executarAtomico(alunoId, 8.0);
+        
+        // Assert
+        assertThat(resultado.getTentativasAvaliacao()).isEqualTo(1);
+        verify(alunoRepository, times(1)).registrarTentativaAtomica(alunoId, 8.0);
+        verify(alunoRepository, never()).salvar(any());
+        verify(alunoRepository, never()).buscarPorId(any());
+        verify(tentativaRepository, times(1)).registrar(argThat(tentativa ->
+                tentativa.getNumero() == 1 && tentativa.getNota() == 8.0));
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar nota inválida antes de ir ao banco no registro atômico")
+    void deveRejeitarNotaInvalidaNoRegistroAtomico() {
+        assertThatThrownBy(() -> useCase.executarAtomico(1L, 10.5))
+                .isInstanceOf(DomainException.class);
+        
+        verify(alunoRepository, never()).registrarTentativaAtomica(any(), anyDouble());
+    }
+    
+    @Test
+    @DisplayName("Deve lançar AlunoNotFoundException quando UPDATE atômico não encontra o aluno")
+    void deveLancarNotFoundNoRegistroAtomico() {
+        // Arrange
+        when(alunoRepository.registrarTentativaAtomica(999L, 7.0)).thenReturn(Optional.empty());
+        when(alunoRepository.buscarPorId(999L)).thenReturn(Optional.empty());
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executarAtomico(999L, 7.0))
+                .isInstanceOf(AlunoNotFoundException.class);
+    }
+    
+    @Test
+    @DisplayName("Deve lançar TentativasEsgotadasException quando UPDATE atômico não altera linha")
+    void deveLancarTentativasEsgotadasNoRegistroAtomico() {
+        // Arrange
+        Long alunoId = 1L;
+        Aluno esgotado = criarAlunoTeste(alunoId);
+        esgotado.registrarTentativa(MediaFinal.criar(5.0));
+        esgotado.registrarTentativa(MediaFinal.criar(5.0));
+        esgotado.registrarTentativa(MediaFinal.criar(5.0));
+        
+        when(alunoRepository.registrarTentativaAtomica(alunoId, 7.0)).thenReturn(Optional.empty());
+        when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.of(esgotado));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executarAtomico(alunoId, 7.0))
+                .isInstanceOf(TentativasEsgotadasException.class)
+                .hasMessage("Aluno já utilizou todas as 3 tentativas disponíveis");
+    }
+    
+    @Test
+    @DisplayName("Deve lançar DomainException quando aluno já concluiu no registro atômico")
+    void deveLancarExcecaoQuandoConcluidoNoRegistroAtomico() {
+        // Arrange
+        Long alunoId = 1L;
+        Aluno concluido = criarAlunoTeste(alunoId);
+        concluido.registrarTentativa(MediaFinal.criar(8.0));
+        concluido.concluirCurso(MediaFinal.criar(8.0), RegrasBonusCursos.padrao());
+        
+        when(alunoRepository.registrarTentativaAtomica(alunoId, 7.0)).thenReturn(Optional.empty());
+        when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.of(concluido));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executarAtomico(alunoId, 7.0))
+                .isExactlyInstanceOf(DomainException.class)
+                .hasMessage("Aluno já concluiu o curso");
+    }
+    
     private Aluno criarAlunoTeste(Long id) {
         return Aluno.criar(
                 NomeAluno.criar("João Silva"), 
@@ -0,0 +1,141 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.lote.ItemLote;
+import com.devops.projeto_ac2.application.lote.ProcessadorLoteAlunos;
+import com.devops.projeto_ac2.application.lote.ResultadoLote;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.repositories.TentativaAvaliacaoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para RegistrarTentativasEmLoteUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Use Case Registrar Tentativas em Lote")
+class RegistrarTentativasEmLoteUseCaseTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    @Mock
+    private TentativaAvaliacaoRepository tentativaRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private RegistrarTentativasEmLoteUseCase useCase;
+    
+    @BeforeEach
+    void setUp() {
+        // Chunk de 2 itens para exercitar a divisão do lote
+        ProcessadorLoteAlunos processador = new ProcessadorLoteAlunos(alunoRepository, transactionManager, evento -> { }, 2);
+        useCase = new RegistrarTentativasEmLoteUseCase(processador, tentativaRepository);
+    }
+    
+    @Test
+    @DisplayName("Deve registrar tentativas carregando e gravando cada chunk de uma vez")
+    void deveRegistrarTentativasPorChunk() {
+        // Arrange
+        Aluno aluno1 = criarAlunoTeste(1L, "11111");
+        Aluno aluno2 = criarAlunoTeste(2L, "22222");
+        Aluno aluno3 = criarAlunoTeste(3L, "33333");
+        
+        when(alunoRepository.buscarPorIds(anyCollection()))
+                .thenReturn(List.of(aluno1, aluno2))
+                .thenReturn(List.of(aluno3));
+        
+        // Act
+        ResultadoLote resultado = useCase.executar(List.of(
+                new ItemLote<>(1L, 7.5),
+                new ItemLote<>(2L, 8.0),
+                new ItemLote<>(3L, 6.0)));
+        
+        // Assert
+        assertThat(resultado.getTotal()).isEqualTo(3);
+        assertThat(resultado.getSucessos()).isEqualTo(3);
+        assertThat(aluno1.getTentativasAvaliacao()).isEqualTo(1);
+        assertThat(aluno3.getMediaFinal()).isEqualTo(6.0);
+        
+        verify(alunoRepository, times(2)).buscarPorIds(anyCollection());
+        verify(alunoRepository, times(2)).salvarTodos(any());
+        verify(tentativaRepository, times(2)).registrarTodas(anyList());
+        verify(transactionManager, times(2)).commit(any());
+    }
+    
+    @Test
+    @DisplayName("Deve reportar erro por item sem interromper o lote")
+    void deveReportarErroPorItem() {
+        // Arrange
+        Aluno esgotado = criarAlunoTeste(1L, "11111");
+        esgotado.registrarTentativa(MediaFinal.criar(5.0));
+        esgotado.registrarTentativa(MediaFinal.criar(5.0));
+        esgotado.registrarTentativa(MediaFinal.criar(5.0));
+        Aluno aluno2 = criarAlunoTeste(2L, "22222");
+        
+        when(alunoRepository.buscarPorIds(anyCollection()))
+                .thenReturn(List.of(esgotado, aluno2))
+                .thenReturn(List.of());
+        
+        // Act
+        ResultadoLote resultado = useCase.executar(List.of(
+                new ItemLote<>(1L, 7.0),
+                new ItemLote<>(2L, 11.0),
+                new ItemLote<>(999L, 7.0)));
+        
+        // Assert
+        assertThat(resultado.getSucessos()).isZero();
+        assertThat(resultado.getFalhas()).isEqualTo(3);
+        assertThat(resultado.getItens().get(0).getErro()).contains("3 tentativas");
+        assertThat(resultado.getItens().get(1).getErro()).contains("maior que 10.0");
+        assertThat(resultado.getItens().get(2).getErro()).contains("999");
+        
+        verify(alunoRepository, never()).salvarTodos(any());
+    }
+    
+    @Test
+    @DisplayName("Deve aplicar tentativas do mesmo aluno na ordem do lote")
+    void deveAplicarTentativasDoMesmoAlunoEmOrdem() {
+        // Arrange
+        Aluno aluno = criarAlunoTeste(1L, "11111");
+        when(alunoRepository.buscarPorIds(anyCollection())).thenReturn(List.of(aluno));
+        
+        // Act
+        ResultadoLote resultado = useCase.executar(List.of(
+                new ItemLote<>(1L, 4.0),
+                new ItemLote<>(1L, 6.5)));
+        
+        // Assert
+        assertThat(resultado.getItens().get(0).getTentativasAvaliacao()).isEqualTo(1);
+        assertThat(resultado.getItens().get(1).getTentativasAvaliacao()).isEqualTo(2);
+        assertThat(aluno.getMediaFinal()).isEqualTo(6.5);
+        verify(alunoRepository, times(1)).salvarTodos(List.of(aluno));
+    }
+    
+    private Aluno criarAlunoTeste(Long id, String ra) {
+        Aluno aluno = Aluno.criar(
+                NomeAluno.criar("João Silva"),
+                RegistroAcademico.criar(ra)
+        );
+        ReflectionTestUtils.setField(aluno, "id", id);
+        return aluno;
+    }
+}
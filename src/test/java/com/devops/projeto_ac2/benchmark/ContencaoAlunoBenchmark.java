@@ -0,0 +1,116 @@
+package com.devops.projeto_ac2.benchmark;
+
+import com.devops.projeto_ac2.application.concorrencia.ExecutorMutacaoAluno;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.infrastructure.persistence.AlunoJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark de contenção: várias threads alterando poucos alunos ao mesmo tempo
+ * Compara lock otimista (@Version + retry com backoff) com lock pessimista de linha
+ * 
+ * Parâmetros: -Dbenchmark.threads, -Dbenchmark.operacoes, -Dbenchmark.alunos
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Benchmark de contenção em mutações de Aluno")
+class ContencaoAlunoBenchmark {
+    
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+    private static final int OPERACOES = Integer.getInteger("benchmark.operacoes", 200);
+    private static final int ALUNOS = Integer.getInteger("benchmark.alunos", 4);
+    
+    @Autowired
+    private AlunoJpaRepository jpaRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private ExecutorMutacaoAluno executorMutacao;
+    
+    @Test
+    @DisplayName("Lock otimista com retry x lock pessimista")
+    void compararEstrategiasDeLock() throws InterruptedException {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        
+        List<Long> idsOtimista = criarAlunos(transacao);
+        AtomicLongArray sucessosOtimista = new AtomicLongArray(ALUNOS);
+        long conflitosAntes = executorMutacao.getConflitos();
+        MedicaoConcorrente.Resultado otimista = MedicaoConcorrente.medir("otimista + retry", THREADS, OPERACOES,
+                (thread, i) -> {
+                    int indice = (thread + i) % ALUNOS;
+                    Long id = idsOtimista.get(indice);
+                    executorMutacao.executar(id, () -> transacao.execute(status ->
+                            alterar(jpaRepository.findById(id).orElseThrow())));
+                    sucessosOtimista.incrementAndGet(indice);
+                });
+        System.out.printf("[otimista + retry] conflitos: %d%n", executorMutacao.getConflitos() - conflitosAntes);
+        
+        List<Long> idsPessimista = criarAlunos(transacao);
+        AtomicLongArray sucessosPessimista = new AtomicLongArray(ALUNOS);
+        MedicaoConcorrente.Resultado pessimista = MedicaoConcorrente.medir("pessimista (FOR UPDATE)", THREADS, OPERACOES,
+                (thread, i) -> {
+                    int indice = (thread + i) % ALUNOS;
+                    Long id = idsPessimista.get(indice);
+                    transacao.execute(status -> alterar(jpaRepository.findByIdParaAtualizacao(id).orElseThrow()));
+                    sucessosPessimista.incrementAndGet(indice);
+                });
+        
+        // Nenhuma mutação confirmada pode ter se perdido: cada uma incrementa a versão uma vez
+        assertThat(otimista.falhas).isZero();
+        assertThat(pessimista.falhas).isZero();
+        verificarGravacoes(idsOtimista, sucessosOtimista);
+        verificarGravacoes(idsPessimista, sucessosPessimista);
+    }
+    
+    /**
+     * Registra tentativas até o limite e depois só troca a média: toda mutação suja o aluno
+     */
+    private static Aluno alterar(Aluno aluno) {
+        if (aluno.getTentativasAvaliacao() < Aluno.MAX_TENTATIVAS) {
+            aluno.registrarTentativa(MediaFinal.criar(7.0));
+        } else {
+            aluno.atualizarMedia(MediaFinal.criar((aluno.getMediaFinal() + 1) % 10));
+        }
+        return aluno;
+    }
+    
+    private void verificarGravacoes(List<Long> ids, AtomicLongArray sucessos) {
+        for (int indice = 0; indice < ids.size(); indice++) {
+            Aluno gravado = jpaRepository.findById(ids.get(indice)).orElseThrow();
+            long esperado = sucessos.get(indice);
+            assertThat(gravado.getVersao()).as("versão do aluno %d", gravado.getId()).isEqualTo(esperado);
+            assertThat(gravado.getTentativasAvaliacao()).as("tentativas do aluno %d", gravado.getId())
+                    .isEqualTo((int) Math.min(esperado, Aluno.MAX_TENTATIVAS));
+        }
+    }
+    
+    private List<Long> criarAlunos(TransactionTemplate transacao) {
+        List<Long> ids = new ArrayList<>();
+        transacao.executeWithoutResult(status -> {
+            for (int i = 0; i < ALUNOS; i++) {
+                Aluno aluno = Aluno.criar(
+                        NomeAluno.criar("Aluno Contencao"),
+                        RegistroAcademico.criar("CONT" + Math.floorMod(System.nanoTime(), 1_000_000_000L) + i));
+                ids.add(jpaRepository.save(aluno).getId());
+            }
+        });
+        return ids;
+    }
+}
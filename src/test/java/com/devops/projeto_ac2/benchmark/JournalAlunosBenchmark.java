@@ -0,0 +1,121 @@
+package com.devops.projeto_ac2.benchmark;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.infrastructure.memoria.AlunoRepositoryColunar;
+import com.devops.projeto_ac2.infrastructure.memoria.AlunoRepositoryJournal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark do journal do profile memoria
+ * 
+ * 1. Vazão de gravação (salvar) sem journal, com fsync em grupo (janela 0) em
+ *    1 e em várias threads, e com janela de durabilidade de alguns ms
+ * 2. Tempo de recuperação: só journal x snapshot + restante do journal
+ * 
+ * Parâmetros: -Dbenchmark.alunos, -Dbenchmark.threads, -Dbenchmark.operacoes, -Dbenchmark.janela-ms
+ */
+@DisplayName("Benchmark do journal do AlunoRepository em memória")
+class JournalAlunosBenchmark {
+    
+    private static final int ALUNOS = Integer.getInteger("benchmark.alunos", 500_000);
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int OPERACOES = Integer.getInteger("benchmark.operacoes", 2_000);
+    private static final long JANELA_MS = Long.getLong("benchmark.janela-ms", 5);
+    private static final long SEM_SNAPSHOT = 3_600_000;
+    
+    @TempDir
+    Path diretorio;
+    
+    @Test
+    @DisplayName("Vazão de gravação com e sem journal")
+    void medirVazaoDeGravacao() throws InterruptedException {
+        AlunoRepositoryJournal semJournal = abrir("sem-journal", false, 0);
+        MedicaoConcorrente.Resultado base = gravar("sem journal", semJournal, THREADS);
+        
+        AlunoRepositoryJournal umaThread = abrir("fsync-1-thread", true, 0);
+        MedicaoConcorrente.Resultado fsyncIndividual = gravar("fsync por gravação, 1 thread", umaThread, 1);
+        
+        AlunoRepositoryJournal grupo = abrir("fsync-grupo", true, 0);
+        MedicaoConcorrente.Resultado fsyncGrupo = gravar("fsync em grupo, " + THREADS + " threads", grupo, THREADS);
+        
+        AlunoRepositoryJournal janela = abrir("janela", true, JANELA_MS);
+        MedicaoConcorrente.Resultado comJanela = gravar("janela " + JANELA_MS + " ms, " + THREADS + " threads",
+                janela, THREADS);
+        
+        for (AlunoRepositoryJournal repository : new AlunoRepositoryJournal[]{semJournal, umaThread, grupo, janela}) {
+            repository.fechar();
+        }
+        
+        assertThat(base.falhas + fsyncIndividual.falhas + fsyncGrupo.falhas + comJanela.falhas).isZero();
+        // Com várias threads um fsync atende muitas gravações: a vazão tem que superar a de uma thread
+        assertThat(fsyncGrupo.operacoesPorSegundo()).isGreaterThan(fsyncIndividual.operacoesPorSegundo());
+    }
+    
+    @Test
+    @DisplayName("Tempo de recuperação: journal inteiro x snapshot + restante")
+    void medirRecuperacao() throws InterruptedException {
+        // Só journal: carga inteira reaplicada registro a registro
+        AlunoRepositoryJournal soJournal = abrir("so-journal", true, JANELA_MS);
+        carregar(soJournal, ALUNOS, "JRN");
+        AlunoRepositoryJournal recuperadoDoJournal = medirSubida("só journal", "so-journal");
+        
+        // Snapshot + restante: mesma carga, snapshot e 10% de gravações depois dele
+        AlunoRepositoryJournal comSnapshot = abrir("com-snapshot", true, JANELA_MS);
+        carregar(comSnapshot, ALUNOS, "SNP");
+        long inicioSnapshot = System.nanoTime();
+        comSnapshot.gerarSnapshot();
+        System.out.printf("[snapshot] %d alunos em %d ms, %.1f MB em disco%n", ALUNOS,
+                (System.nanoTime() - inicioSnapshot) / 1_000_000, comSnapshot.bytesEmDisco() / 1e6);
+        carregar(comSnapshot, ALUNOS / 10, "TLR");
+        AlunoRepositoryJournal recuperadoDoSnapshot = medirSubida("snapshot + journal", "com-snapshot");
+        
+        assertThat(recuperadoDoJournal.buscarTodos()).hasSize(ALUNOS);
+        assertThat(recuperadoDoSnapshot.buscarTodos()).hasSize(ALUNOS + ALUNOS / 10);
+        recuperadoDoJournal.fechar();
+        recuperadoDoSnapshot.fechar();
+    }
+    
+    private MedicaoConcorrente.Resultado gravar(String nome, AlunoRepositoryJournal repository, int threads)
+            throws InterruptedException {
+        return MedicaoConcorrente.medir(nome, threads, OPERACOES, (thread, i) ->
+                repository.salvar(Aluno.criar(NomeAluno.criar("Aluno Benchmark"),
+                        RegistroAcademico.criar(String.format("J%02d%07d", thread, i)))));
+    }
+    
+    /**
+     * Grava a carga e abandona a instância sem fechar (sem o snapshot final): simula uma queda
+     */
+    private void carregar(AlunoRepositoryJournal repository, int quantidade, String prefixo) {
+        long inicio = System.nanoTime();
+        for (int i = 0; i < quantidade; i++) {
+            repository.salvar(Aluno.criar(NomeAluno.criar("Aluno Benchmark"),
+                    RegistroAcademico.criar(prefixo + (10_000_000 + i))));
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        System.out.printf("[carga %s] %d alunos em %.1f s (%.0f alunos/s)%n",
+                prefixo, quantidade, segundos, quantidade / segundos);
+    }
+    
+    private AlunoRepositoryJournal medirSubida(String nome, String subdiretorio) {
+        long inicio = System.nanoTime();
+        AlunoRepositoryJournal recuperado = abrir(subdiretorio, true, JANELA_MS);
+        long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+        System.out.printf("[recuperação %s] %d alunos em %d ms%n", nome, recuperado.buscarTodos().size(), duracaoMs);
+        return recuperado;
+    }
+    
+    private AlunoRepositoryJournal abrir(String subdiretorio, boolean habilitado, long janelaMs) {
+        AlunoRepositoryJournal repository = new AlunoRepositoryJournal(new AlunoRepositoryColunar(1024), habilitado,
+                diretorio.resolve(subdiretorio).toString(), janelaMs, SEM_SNAPSHOT);
+        repository.iniciar();
+        return repository;
+    }
+}
@@ -0,0 +1,131 @@
+package com.devops.projeto_ac2.benchmark;
+
+import com.devops.projeto_ac2.application.usecases.BuscarAlunoPorIdUseCase;
+import com.devops.projeto_ac2.application.usecases.ObterRankingAlunosUseCase;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.infrastructure.persistence.AlunoJpaRepository;
+import com.devops.projeto_ac2.infrastructure.persistence.ConsultaAlunosJdbc;
+import com.devops.projeto_ac2.shared.mapper.AlunoMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark da leitura por JDBC direto para DTO x Spring Data + Hibernate + AlunoMapper
+ * 
+ * Mede, numa thread só, o CPU e os bytes alocados por requisição (ThreadMXBean) da busca por ID
+ * e do ranking top N, nos dois caminhos. Antes de medir, confere que os DTOs são iguais.
+ * 
+ * Parâmetros: -Dbenchmark.alunos, -Dbenchmark.operacoes, -Dbenchmark.top
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Benchmark da leitura JDBC dos GETs de aluno")
+class LeituraJdbcBenchmark {
+    
+    private static final int ALUNOS = Integer.getInteger("benchmark.alunos", 5_000);
+    private static final int OPERACOES = Integer.getInteger("benchmark.operacoes", 20_000);
+    private static final int TOP = Integer.getInteger("benchmark.top", 10);
+    
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    
+    @Autowired
+    private AlunoJpaRepository jpaRepository;
+    
+    @Autowired
+    private BuscarAlunoPorIdUseCase buscarAlunoPorIdUseCase;
+    
+    @Autowired
+    private ObterRankingAlunosUseCase obterRankingAlunosUseCase;
+    
+    @Autowired
+    private AlunoMapper alunoMapper;
+    
+    @Autowired
+    private ConsultaAlunosJdbc consultaJdbc;
+    
+    @Test
+    @DisplayName("CPU e alocação por requisição: JPA x JDBC")
+    void compararCaminhosDeLeitura() {
+        List<Long> ids = carregar();
+        
+        // Mesmo resultado nos dois caminhos
+        Long amostra = ids.get(ids.size() / 2);
+        assertThat(consultaJdbc.buscarPorId(amostra)).contains(
+                alunoMapper.toResponseDTO(buscarAlunoPorIdUseCase.executar(amostra)));
+        assertThat(consultaJdbc.ranking(TOP)).isEqualTo(
+                alunoMapper.toRankingResponseDTOList(obterRankingAlunosUseCase.executarTop(TOP)));
+        
+        Custo porIdJpa = medir("busca por ID, JPA", i ->
+                alunoMapper.toResponseDTO(buscarAlunoPorIdUseCase.executar(ids.get(i % ids.size()))));
+        Custo porIdJdbc = medir("busca por ID, JDBC", i ->
+                consultaJdbc.buscarPorId(ids.get(i % ids.size())));
+        Custo rankingJpa = medir("ranking top " + TOP + ", JPA", i ->
+                alunoMapper.toRankingResponseDTOList(obterRankingAlunosUseCase.executarTop(TOP)), OPERACOES / 50);
+        Custo rankingJdbc = medir("ranking top " + TOP + ", JDBC", i ->
+                consultaJdbc.ranking(TOP), OPERACOES / 50);
+        
+        System.out.printf("[busca por ID] JDBC usa %.0f%% do CPU e %.0f%% da alocação do JPA%n",
+                100.0 * porIdJdbc.cpuNanos() / porIdJpa.cpuNanos(), 100.0 * porIdJdbc.bytes() / porIdJpa.bytes());
+        System.out.printf("[ranking top %d] JDBC usa %.0f%% do CPU e %.0f%% da alocação do JPA%n", TOP,
+                100.0 * rankingJdbc.cpuNanos() / rankingJpa.cpuNanos(), 100.0 * rankingJdbc.bytes() / rankingJpa.bytes());
+    }
+    
+    private record Custo(double cpuNanos, double bytes) {
+    }
+    
+    private interface Leitura {
+        Object executar(int iteracao);
+    }
+    
+    private Custo medir(String nome, Leitura leitura) {
+        return medir(nome, leitura, OPERACOES);
+    }
+    
+    /**
+     * Aquece com metade das operações e mede CPU e alocação da thread atual nas demais
+     */
+    private Custo medir(String nome, Leitura leitura, int operacoes) {
+        for (int i = 0; i < operacoes / 2; i++) {
+            leitura.executar(i);
+        }
+        
+        long thread = Thread.currentThread().getId();
+        long cpuInicio = threads.getCurrentThreadCpuTime();
+        long bytesInicio = threads.getThreadAllocatedBytes(thread);
+        long inicio = System.nanoTime();
+        for (int i = 0; i < operacoes; i++) {
+            leitura.executar(i);
+        }
+        long duracao = System.nanoTime() - inicio;
+        Custo custo = new Custo((double) (threads.getCurrentThreadCpuTime() - cpuInicio) / operacoes,
+                (double) (threads.getThreadAllocatedBytes(thread) - bytesInicio) / operacoes);
+        
+        System.out.printf("[%s] %d operações, %.1f µs/op, %.1f µs de CPU/op, %.1f KB alocados/op%n",
+                nome, operacoes, duracao / 1e3 / operacoes, custo.cpuNanos() / 1e3, custo.bytes() / 1024);
+        return custo;
+    }
+    
+    private List<Long> carregar() {
+        List<Aluno> alunos = new ArrayList<>(ALUNOS);
+        for (int i = 0; i < ALUNOS; i++) {
+            Aluno aluno = Aluno.criar(NomeAluno.criar("Aluno Benchmark " + i),
+                    RegistroAcademico.criar(String.format("LJ%08d", i)));
+            aluno.atualizarMedia(MediaFinal.criar((i * 37 % 101) / 10.0));
+            alunos.add(aluno);
+        }
+        return jpaRepository.saveAll(alunos).stream().map(Aluno::getId).toList();
+    }
+}
@@ -0,0 +1,107 @@
+package com.devops.projeto_ac2.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utilitário dos benchmarks: executa uma operação em várias threads ao mesmo tempo
+ * e calcula vazão e percentis de latência
+ * 
+ * Os benchmarks ficam fora da suíte padrão (sufixo *Benchmark) e rodam com:
+ * mvn test -Pbenchmark
+ */
+final class MedicaoConcorrente {
+    
+    @FunctionalInterface
+    interface Operacao {
+        void executar(int thread, int iteracao) throws Exception;
+    }
+    
+    private MedicaoConcorrente() {
+    }
+    
+    static Resultado medir(String nome, int threads, int operacoesPorThread, Operacao operacao)
+            throws InterruptedException {
+        long[] latencias = new long[threads * operacoesPorThread];
+        AtomicLong falhas = new AtomicLong();
+        CountDownLatch largada = new CountDownLatch(1);
+        CountDownLatch chegada = new CountDownLatch(threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            pool.submit(() -> {
+                try {
+                    largada.await();
+                    for (int i = 0; i < operacoesPorThread; i++) {
+                        long inicio = System.nanoTime();
+                        try {
+                            operacao.executar(thread, i);
+                        } catch (Exception ex) {
+                            falhas.incrementAndGet();
+                        }
+                        latencias[thread * operacoesPorThread + i] = System.nanoTime() - inicio;
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    chegada.countDown();
+                }
+            });
+        }
+        
+        long inicio = System.nanoTime();
+        largada.countDown();
+        chegada.await();
+        long duracao = System.nanoTime() - inicio;
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        
+        Resultado resultado = new Resultado(nome, latencias, falhas.get(), duracao);
+        System.out.println(resultado);
+        return resultado;
+    }
+    
+    static final class Resultado {
+        
+        final String nome;
+        final long operacoes;
+        final long falhas;
+        final long duracaoNanos;
+        final long p50Nanos;
+        final long p99Nanos;
+        
+        Resultado(String nome, long[] latencias, long falhas, long duracaoNanos) {
+            long[] ordenadas = latencias.clone();
+            Arrays.sort(ordenadas);
+            this.nome = nome;
+            this.operacoes = ordenadas.length;
+            this.falhas = falhas;
+            this.duracaoNanos = duracaoNanos;
+            this.p50Nanos = percentil(ordenadas, 0.50);
+            this.p99Nanos = percentil(ordenadas, 0.99);
+        }
+        
+        double operacoesPorSegundo() {
+            return operacoes * 1_000_000_000.0 / duracaoNanos;
+        }
+        
+        private static long percentil(long[] ordenadas, double p) {
+            if (ordenadas.length == 0) {
+                return 0;
+            }
+            int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+            return ordenadas[Math.max(0, Math.min(indice, ordenadas.length - 1))];
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("[%s] %d ops, %d falhas, %.0f ops/s, p50 %.2f ms, p99 %.2f ms",
+                    nome, operacoes, falhas, operacoesPorSegundo(), p50Nanos / 1e6, p99Nanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.devops.projeto_ac2.benchmark;
+
+import com.devops.projeto_ac2.application.lote.PipelineTentativas;
+import com.devops.projeto_ac2.application.usecases.RegistrarTentativaUseCase;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.infrastructure.persistence.AlunoJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark do registro de tentativas: uma transação por requisição x group commit
+ * Mede vazão e latência p99 com várias threads registrando tentativas ao mesmo tempo
+ * 
+ * Parâmetros: -Dbenchmark.threads, -Dbenchmark.operacoes
+ */
+@SpringBootTest(properties = "alunos.pipeline-tentativas.habilitado=true")
+@ActiveProfiles("test")
+@DisplayName("Benchmark do pipeline de group commit de tentativas")
+class PipelineTentativasBenchmark {
+    
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int OPERACOES = Integer.getInteger("benchmark.operacoes", 200);
+    
+    @Autowired
+    private AlunoJpaRepository jpaRepository;
+    
+    @Autowired
+    private RegistrarTentativaUseCase registrarTentativaUseCase;
+    
+    @Autowired
+    private PipelineTentativas pipelineTentativas;
+    
+    @Test
+    @DisplayName("Transação por requisição x group commit")
+    void compararCaminhos() throws InterruptedException {
+        List<Long> idsAtual = criarAlunos("ATU");
+        List<Long> idsPipeline = criarAlunos("PIP");
+        
+        MedicaoConcorrente.Resultado atual = MedicaoConcorrente.medir("transação por requisição", THREADS, OPERACOES,
+                (thread, i) -> registrarTentativaUseCase.executar(idsAtual.get(thread * OPERACOES + i), 7.0));
+        
+        MedicaoConcorrente.Resultado pipeline = MedicaoConcorrente.medir("group commit", THREADS, OPERACOES,
+                (thread, i) -> pipelineTentativas.registrar(idsPipeline.get(thread * OPERACOES + i), 7.0));
+        
+        assertThat(atual.falhas).isZero();
+        assertThat(pipeline.falhas).isZero();
+    }
+    
+    private List<Long> criarAlunos(String prefixo) {
+        List<Aluno> alunos = new ArrayList<>();
+        for (int i = 0; i < THREADS * OPERACOES; i++) {
+            alunos.add(Aluno.criar(NomeAluno.criar("Aluno Benchmark"), RegistroAcademico.criar(prefixo + (100000 + i))));
+        }
+        return jpaRepository.saveAll(alunos).stream().map(Aluno::getId).toList();
+    }
+}
@@ -0,0 +1,111 @@
+package com.devops.projeto_ac2.benchmark;
+
+import com.devops.projeto_ac2.ProjetoAc2Application;
+import com.devops.projeto_ac2.application.usecases.RegistrarTentativaUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark do profile prod (H2 em arquivo)
+ * 
+ * 1. Sobe a aplicação no profile prod, popula N alunos via JDBC batch e desliga
+ * 2. Mede o tempo de subida da aplicação com os N alunos já gravados
+ * 3. Compara a vazão de registro de tentativas: H2 em arquivo x H2 em memória
+ * 
+ * Parâmetros: -Dbenchmark.alunos (ex.: 5000000), -Dbenchmark.threads, -Dbenchmark.operacoes
+ */
+@DisplayName("Benchmark de restart e vazão do H2 em arquivo")
+class ReinicioH2ArquivoBenchmark {
+    
+    private static final int ALUNOS = Integer.getInteger("benchmark.alunos", 200_000);
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int OPERACOES = Integer.getInteger("benchmark.operacoes", 200);
+    private static final int LOTE_INSERT = 10_000;
+    
+    @TempDir
+    Path diretorio;
+    
+    @Test
+    @DisplayName("Restart com dados persistidos e vazão arquivo x memória")
+    void medirRestartEVazao() throws InterruptedException {
+        // 1. Popular o banco em arquivo
+        try (ConfigurableApplicationContext contexto = subirProd()) {
+            long inicio = System.nanoTime();
+            popular(contexto.getBean(JdbcTemplate.class), ALUNOS, "ARQ");
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+            System.out.printf("[carga] %d alunos em %.1f s (%.0f linhas/s)%n", ALUNOS, segundos, ALUNOS / segundos);
+        }
+        
+        // 2. Restart com os dados já gravados
+        long inicioRestart = System.nanoTime();
+        try (ConfigurableApplicationContext contexto = subirProd()) {
+            long restartMs = (System.nanoTime() - inicioRestart) / 1_000_000;
+            Long total = contexto.getBean(JdbcTemplate.class).queryForObject("SELECT COUNT(*) FROM tb_alunos", Long.class);
+            System.out.printf("[restart] aplicação pronta em %d ms com %d alunos%n", restartMs, total);
+            assertThat(total).isEqualTo(ALUNOS);
+            
+            // 3a. Vazão no H2 em arquivo (usa os primeiros alunos carregados)
+            MedicaoConcorrente.Resultado arquivo = medirTentativas(contexto, "h2 arquivo", menoresIds(contexto));
+            assertThat(arquivo.falhas).isZero();
+        }
+        
+        // 3b. Mesma medição no H2 em memória
+        try (ConfigurableApplicationContext contexto = subir("test",
+                "spring.datasource.url=jdbc:h2:mem:benchmark_memoria")) {
+            popular(contexto.getBean(JdbcTemplate.class), THREADS * OPERACOES, "MEM");
+            MedicaoConcorrente.Resultado memoria = medirTentativas(contexto, "h2 memória", menoresIds(contexto));
+            assertThat(memoria.falhas).isZero();
+        }
+    }
+    
+    private ConfigurableApplicationContext subirProd() {
+        return subir("prod", "alunos.dados.diretorio=" + diretorio.toAbsolutePath());
+    }
+    
+    private ConfigurableApplicationContext subir(String profile, String... propriedades) {
+        List<String> todas = new ArrayList<>(List.of(propriedades));
+        todas.add("server.port=0");
+        return new SpringApplicationBuilder(ProjetoAc2Application.class)
+                .profiles(profile)
+                .properties(todas.toArray(String[]::new))
+                .run();
+    }
+    
+    private void popular(JdbcTemplate jdbcTemplate, int quantidade, String prefixo) {
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> lote = new ArrayList<>(LOTE_INSERT);
+        for (int i = 0; i < quantidade; i++) {
+            lote.add(new Object[]{"Aluno Benchmark", prefixo + (10_000_000 + i), 0.0, false, 0, 0, agora, agora, 0L});
+            if (lote.size() == LOTE_INSERT || i == quantidade - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO tb_alunos (nome, ra, media_final, concluiu, cursos_adicionais, "
+                        + "tentativas_avaliacao, data_criacao, data_atualizacao, versao) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", lote);
+                lote.clear();
+            }
+        }
+    }
+    
+    private List<Long> menoresIds(ConfigurableApplicationContext contexto) {
+        return contexto.getBean(JdbcTemplate.class).queryForList(
+                "SELECT id FROM tb_alunos ORDER BY id LIMIT ?", Long.class, THREADS * OPERACOES);
+    }
+    
+    private MedicaoConcorrente.Resultado medirTentativas(ConfigurableApplicationContext contexto, String nome,
+                                                         List<Long> ids) throws InterruptedException {
+        RegistrarTentativaUseCase useCase = contexto.getBean(RegistrarTentativaUseCase.class);
+        return MedicaoConcorrente.medir(nome, THREADS, OPERACOES,
+                (thread, i) -> useCase.executar(ids.get(thread * OPERACOES + i), 7.0));
+    }
+}
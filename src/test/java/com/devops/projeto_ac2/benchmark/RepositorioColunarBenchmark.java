@@ -0,0 +1,108 @@
+package com.devops.projeto_ac2.benchmark;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.infrastructure.memoria.AlunoRepositoryColunar;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark do adapter colunar em memória x adapter JPA (H2 em memória)
+ * 
+ * Para cada adapter: heap ocupado por N alunos (diferença de heap após GC) e
+ * latência/vazão de buscarPorId com IDs aleatórios em várias threads.
+ * 
+ * Parâmetros: -Dbenchmark.alunos, -Dbenchmark.threads, -Dbenchmark.operacoes
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:benchmark_colunar")
+@ActiveProfiles("test")
+@DisplayName("Benchmark do AlunoRepository colunar x JPA")
+class RepositorioColunarBenchmark {
+    
+    private static final int ALUNOS = Integer.getInteger("benchmark.alunos", 500_000);
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int OPERACOES = Integer.getInteger("benchmark.operacoes", 20_000);
+    private static final int LOTE_INSERT = 10_000;
+    private static final String[] NOMES = {"Ana Lima", "Bruno Reis", "Carla Souza", "Diego Alves", "Elisa Rocha"};
+    
+    @Autowired
+    private AlunoRepository jpaRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    @DisplayName("Memória e latência de buscarPorId")
+    void medirMemoriaELatencia() throws InterruptedException {
+        // 1. Colunar
+        long antes = heapUsado();
+        AlunoRepositoryColunar colunar = new AlunoRepositoryColunar(ALUNOS);
+        for (int i = 0; i < ALUNOS; i++) {
+            colunar.salvar(Aluno.criar(NomeAluno.criar(NOMES[i % NOMES.length]),
+                    RegistroAcademico.criar("COL" + (10_000_000 + i))));
+        }
+        long bytesColunar = heapUsado() - antes;
+        System.out.printf("[colunar] %d alunos: %.1f MB de heap (%.0f bytes/aluno, colunas %.0f bytes/aluno)%n",
+                ALUNOS, bytesColunar / 1e6, (double) bytesColunar / ALUNOS, (double) colunar.bytesColunas() / ALUNOS);
+        MedicaoConcorrente.Resultado resultadoColunar = medir("colunar", colunar, 1);
+        
+        // 2. JPA sobre H2 em memória
+        antes = heapUsado();
+        popular();
+        long bytesJpa = heapUsado() - antes;
+        System.out.printf("[jpa] %d alunos: %.1f MB de heap (%.0f bytes/aluno)%n",
+                ALUNOS, bytesJpa / 1e6, (double) bytesJpa / ALUNOS);
+        Long menorId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM tb_alunos", Long.class);
+        MedicaoConcorrente.Resultado resultadoJpa = medir("jpa", jpaRepository, menorId);
+        
+        assertThat(resultadoColunar.falhas).isZero();
+        assertThat(resultadoJpa.falhas).isZero();
+        assertThat(colunar.quantidade()).isEqualTo(ALUNOS);
+    }
+    
+    private MedicaoConcorrente.Resultado medir(String nome, AlunoRepository repository, long menorId)
+            throws InterruptedException {
+        return MedicaoConcorrente.medir(nome, THREADS, OPERACOES, (thread, i) -> {
+            long id = menorId + ThreadLocalRandom.current().nextInt(ALUNOS);
+            if (repository.buscarPorId(id).isEmpty()) {
+                throw new IllegalStateException("Aluno " + id + " não encontrado");
+            }
+        });
+    }
+    
+    private void popular() {
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> lote = new ArrayList<>(LOTE_INSERT);
+        for (int i = 0; i < ALUNOS; i++) {
+            lote.add(new Object[]{NOMES[i % NOMES.length], "JPA" + (10_000_000 + i), 0.0, false, 0, 0, agora, agora, 0L});
+            if (lote.size() == LOTE_INSERT || i == ALUNOS - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO tb_alunos (nome, ra, media_final, concluiu, cursos_adicionais, "
+                        + "tentativas_avaliacao, data_criacao, data_atualizacao, versao) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", lote);
+                lote.clear();
+            }
+        }
+    }
+    
+    private static long heapUsado() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
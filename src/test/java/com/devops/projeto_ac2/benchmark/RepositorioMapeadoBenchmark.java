@@ -0,0 +1,82 @@
+package com.devops.projeto_ac2.benchmark;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.infrastructure.mapeado.AlunoRepositoryMapeado;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark do adapter em arquivo mapeado
+ * 
+ * 1. Carga de N alunos: vazão e heap ocupado depois do GC (deve ficar perto de zero)
+ * 2. Reabertura do arquivo já populado (restart)
+ * 3. Latência de buscarPorId com IDs aleatórios em várias threads
+ * 
+ * Parâmetros: -Dbenchmark.alunos (ex.: 20000000), -Dbenchmark.threads, -Dbenchmark.operacoes
+ */
+@DisplayName("Benchmark do AlunoRepository em arquivo mapeado")
+class RepositorioMapeadoBenchmark {
+    
+    private static final int ALUNOS = Integer.getInteger("benchmark.alunos", 2_000_000);
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int OPERACOES = Integer.getInteger("benchmark.operacoes", 20_000);
+    private static final int REGISTROS_POR_SEGMENTO = 1 << 20;
+    
+    @TempDir
+    Path diretorio;
+    
+    @Test
+    @DisplayName("Carga, restart e latência de leitura")
+    void medirCargaRestartELatencia() throws InterruptedException {
+        // 1. Carga
+        long heapAntes = heapUsado();
+        long inicio = System.nanoTime();
+        AlunoRepositoryMapeado repository = abrir();
+        for (int i = 0; i < ALUNOS; i++) {
+            repository.salvar(Aluno.criar(NomeAluno.criar("Aluno Benchmark"),
+                    RegistroAcademico.criar("MAP" + (10_000_000 + i))));
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        System.out.printf("[carga] %d alunos em %.1f s (%.0f alunos/s), heap +%.1f MB%n",
+                ALUNOS, segundos, ALUNOS / segundos, (heapUsado() - heapAntes) / 1e6);
+        repository.fechar();
+        
+        // 2. Restart
+        long inicioRestart = System.nanoTime();
+        AlunoRepositoryMapeado reaberto = abrir();
+        System.out.printf("[restart] %d alunos disponíveis em %d ms%n",
+                reaberto.quantidade(), (System.nanoTime() - inicioRestart) / 1_000_000);
+        
+        // 3. Leitura
+        MedicaoConcorrente.Resultado resultado = MedicaoConcorrente.medir("mapeado", THREADS, OPERACOES,
+                (thread, i) -> {
+                    long id = 1 + ThreadLocalRandom.current().nextInt(ALUNOS);
+                    if (reaberto.buscarPorId(id).isEmpty()) {
+                        throw new IllegalStateException("Aluno " + id + " não encontrado");
+                    }
+                });
+        reaberto.fechar();
+        
+        assertThat(resultado.falhas).isZero();
+    }
+    
+    private AlunoRepositoryMapeado abrir() {
+        return new AlunoRepositoryMapeado(diretorio.toString(), REGISTROS_POR_SEGMENTO);
+    }
+    
+    private static long heapUsado() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
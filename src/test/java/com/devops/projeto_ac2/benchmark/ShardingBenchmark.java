@@ -0,0 +1,58 @@
+package com.devops.projeto_ac2.benchmark;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.infrastructure.sharding.AlunoRepositorySharded;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark do AlunoRepository particionado (profile sharding)
+ * 
+ * Para 1, 2, 4 e 8 shards:
+ * 1. Vazão de gravações concorrentes (salvar de alunos novos)
+ * 2. Latência do ranking top 10 mesclado a partir dos shards
+ * 
+ * Parâmetros: -Dbenchmark.threads, -Dbenchmark.operacoes, -Dbenchmark.pool-por-shard
+ */
+@DisplayName("Benchmark do AlunoRepository particionado")
+class ShardingBenchmark {
+    
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int OPERACOES = Integer.getInteger("benchmark.operacoes", 2_000);
+    private static final int POOL_POR_SHARD = Integer.getInteger("benchmark.pool-por-shard", 8);
+    private static final int CONSULTAS_RANKING = 200;
+    
+    @Test
+    @DisplayName("Vazão de gravação e latência do ranking por quantidade de shards")
+    void medirPorQuantidadeDeShards() throws InterruptedException {
+        for (int shards : new int[]{1, 2, 4, 8}) {
+            String url = "jdbc:h2:mem:benchmark-sharding-" + UUID.randomUUID() + "-{shard};DB_CLOSE_DELAY=-1";
+            AlunoRepositorySharded repository = new AlunoRepositorySharded(shards, url, POOL_POR_SHARD);
+            try {
+                MedicaoConcorrente.Resultado gravacao = MedicaoConcorrente.medir(
+                        "salvar, " + shards + " shard(s)", THREADS, OPERACOES, (thread, i) -> {
+                            Aluno aluno = Aluno.criar(NomeAluno.criar("Aluno Benchmark"),
+                                    RegistroAcademico.criar(String.format("S%02d%07d", thread, i)));
+                            aluno.atualizarMedia(MediaFinal.criar((i % 101) / 10.0));
+                            repository.salvar(aluno);
+                        });
+                
+                MedicaoConcorrente.Resultado ranking = MedicaoConcorrente.medir(
+                        "ranking top 10, " + shards + " shard(s)", THREADS, CONSULTAS_RANKING,
+                        (thread, i) -> repository.buscarRanking(10));
+                
+                assertThat(gravacao.falhas + ranking.falhas).isZero();
+                assertThat(repository.buscarRanking(10)).hasSize(10).isSortedAccordingTo(Aluno.ORDEM_RANKING);
+            } finally {
+                repository.fechar();
+            }
+        }
+    }
+}
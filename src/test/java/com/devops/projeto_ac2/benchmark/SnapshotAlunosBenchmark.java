@@ -0,0 +1,87 @@
+package com.devops.projeto_ac2.benchmark;
+
+import com.devops.projeto_ac2.application.lote.ResultadoOperacaoMassa;
+import com.devops.projeto_ac2.infrastructure.snapshot.SnapshotAlunos;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark do snapshot binário
+ * 
+ * Popula N alunos, gera o snapshot e restaura por cima (DELETE + JDBC batch numa transação),
+ * medindo linhas/s de cada etapa e bytes por aluno do arquivo.
+ * 
+ * Parâmetros: -Dbenchmark.alunos (ex.: 1000000)
+ */
+@SpringBootTest(properties = {
+        "alunos.snapshot.diretorio=${java.io.tmpdir}/alunos-snapshot-benchmark",
+        "spring.datasource.url=jdbc:h2:mem:benchmark_snapshot"
+})
+@ActiveProfiles("test")
+@DisplayName("Benchmark do snapshot binário de alunos")
+class SnapshotAlunosBenchmark {
+    
+    private static final int ALUNOS = Integer.getInteger("benchmark.alunos", 200_000);
+    private static final int LOTE_INSERT = 10_000;
+    private static final String ARQUIVO = "benchmark.snap";
+    
+    @Autowired
+    private SnapshotAlunos snapshotAlunos;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    @DisplayName("Gerar e restaurar snapshot")
+    void medirSnapshotERestauracao() throws Exception {
+        popular();
+        Long idsAntes = jdbcTemplate.queryForObject("SELECT SUM(id) FROM tb_alunos", Long.class);
+        
+        ResultadoOperacaoMassa gerado = snapshotAlunos.gerar(ARQUIVO);
+        Path arquivo = Path.of(System.getProperty("java.io.tmpdir"), "alunos-snapshot-benchmark", ARQUIVO);
+        long bytes = Files.size(arquivo);
+        System.out.printf("[snapshot] %d alunos em %d ms (%.0f linhas/s, %.1f bytes/aluno)%n",
+                gerado.getLinhasAfetadas(), gerado.getDuracaoNanos() / 1_000_000,
+                gerado.getLinhasPorSegundo(), (double) bytes / gerado.getLinhasAfetadas());
+        
+        ResultadoOperacaoMassa restaurado = snapshotAlunos.restaurar(ARQUIVO, true);
+        System.out.printf("[restauracao] %d alunos em %d lotes, %d ms (%.0f linhas/s)%n",
+                restaurado.getLinhasAfetadas(), restaurado.getFaixas(), restaurado.getDuracaoNanos() / 1_000_000,
+                restaurado.getLinhasPorSegundo());
+        
+        assertThat(gerado.getLinhasAfetadas()).isEqualTo(ALUNOS);
+        assertThat(restaurado.getLinhasAfetadas()).isEqualTo(ALUNOS);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(id) FROM tb_alunos", Long.class)).isEqualTo(idsAntes);
+        Files.deleteIfExists(arquivo);
+    }
+    
+    private void popular() {
+        jdbcTemplate.execute("TRUNCATE TABLE tb_alunos");
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> lote = new ArrayList<>(LOTE_INSERT);
+        for (int i = 0; i < ALUNOS; i++) {
+            boolean concluiu = i % 3 == 0;
+            lote.add(new Object[]{"Aluno Benchmark " + i, "SNP" + (10_000_000 + i), concluiu ? 8.0 : 0.0,
+                    concluiu, concluiu ? 3 : 0, i % 4, agora, agora, concluiu ? agora : null, 0L});
+            if (lote.size() == LOTE_INSERT || i == ALUNOS - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO tb_alunos (nome, ra, media_final, concluiu, cursos_adicionais, "
+                        + "tentativas_avaliacao, data_criacao, data_atualizacao, data_conclusao, versao) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", lote);
+                lote.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.devops.projeto_ac2.domain.valueobjects;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import com.devops.projeto_ac2.shared.mapper.AlunoMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para RegrasBonusCursos (Value Object)
+ */
+@DisplayName("Testes do Value Object RegrasBonusCursos")
+class RegrasBonusCursosTest {
+    
+    @Test
+    @DisplayName("Regras padrão devem manter 9.0 → 5 e 7.0 → 3 cursos")
+    void regrasPadraoDevemManterFaixasOriginais() {
+        RegrasBonusCursos regras = RegrasBonusCursos.padrao();
+        
+        assertThat(regras.cursosPara(9.5)).isEqualTo(5);
+        assertThat(regras.cursosPara(9.0)).isEqualTo(5);
+        assertThat(regras.cursosPara(8.9)).isEqualTo(3);
+        assertThat(regras.cursosPara(7.0)).isEqualTo(3);
+        assertThat(regras.cursosPara(6.9)).isZero();
+    }
+    
+    @Test
+    @DisplayName("Entidade deve aplicar as regras informadas na conclusão")
+    void entidadeDeveAplicarRegrasInformadas() {
+        // Arrange
+        RegrasBonusCursos regras = RegrasBonusCursos.criar(8.0, 4, 6.0, 2);
+        Aluno aluno = Aluno.criar(NomeAluno.criar("Maria Santos"), RegistroAcademico.criar("12345"));
+        aluno.registrarTentativa(MediaFinal.criar(6.5));
+        
+        // Act
+        aluno.concluirCurso(MediaFinal.criar(6.5), regras);
+        
+        // Assert
+        assertThat(aluno.getCursosAdicionais()).isEqualTo(2);
+        assertThat(aluno.aprovado(regras)).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Situação deve seguir a média de aprovação configurada")
+    void situacaoDeveSeguirMediaDeAprovacaoConfigurada() {
+        RegrasBonusCursos regras = RegrasBonusCursos.criar(8.0, 4, 6.0, 2);
+        
+        assertThat(regras.aprovado(6.0)).isTrue();
+        assertThat(regras.emRecuperacao(5.9)).isTrue();
+        assertThat(regras.reprovado(4.9)).isTrue();
+        assertThat(AlunoMapper.determinarSituacao(true, 6.5, regras)).isEqualTo("APROVADO");
+        assertThat(AlunoMapper.determinarSituacao(true, 6.5, RegrasBonusCursos.padrao())).isEqualTo("EM_RECUPERACAO");
+    }
+    
+    @Test
+    @DisplayName("Deve lançar exceção quando faixas forem inconsistentes")
+    void deveLancarExcecaoQuandoFaixasInconsistentes() {
+        assertThatThrownBy(() -> RegrasBonusCursos.criar(7.0, 5, 9.0, 3))
+                .isInstanceOf(InvalidValueObjectException.class);
+        assertThatThrownBy(() -> RegrasBonusCursos.criar(9.0, -1, 7.0, 3))
+                .isInstanceOf(InvalidValueObjectException.class);
+    }
+}
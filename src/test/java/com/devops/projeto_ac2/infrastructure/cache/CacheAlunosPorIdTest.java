@@ -0,0 +1,141 @@
+package com.devops.projeto_ac2.infrastructure.cache;
+
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
+import com.devops.projeto_ac2.shared.dto.AlunoResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para CacheAlunosPorId
+ */
+@DisplayName("Testes do Cache de Alunos por ID")
+class CacheAlunosPorIdTest {
+    
+    private final CacheAlunosPorId cache = new CacheAlunosPorId(new MockEnvironment(), true, 100, 300);
+    
+    private final AtomicInteger leituras = new AtomicInteger();
+    
+    private AlunoResponseDTO ler(Long id, String nome) {
+        leituras.incrementAndGet();
+        return AlunoResponseDTO.builder().id(id).nome(nome).tentativasRestantes(3).build();
+    }
+    
+    @Test
+    @DisplayName("Acerto deve devolver cópia sem ler de novo")
+    void acertoDeveDevolverCopiaSemLer() {
+        // Arrange
+        AlunoResponseDTO primeiro = cache.buscar(1L, () -> ler(1L, "Ana"));
+        primeiro.setTentativasRestantes(0);
+        
+        // Act
+        AlunoResponseDTO segundo = cache.buscar(1L, () -> ler(1L, "Ana"));
+        segundo.setNome("Alterado");
+        AlunoResponseDTO terceiro = cache.buscar(1L, () -> ler(1L, "Ana"));
+        
+        // Assert - alterações de quem chamou não chegam ao cache
+        assertThat(leituras.get()).isEqualTo(1);
+        assertThat(terceiro.getNome()).isEqualTo("Ana");
+        assertThat(terceiro.getTentativasRestantes()).isEqualTo(3);
+        assertThat(cache.getEstatisticas().hitCount()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("Evento de alteração deve descartar só os IDs informados")
+    void eventoDeveDescartarIdsInformados() {
+        // Arrange
+        cache.buscar(1L, () -> ler(1L, "Ana"));
+        cache.buscar(2L, () -> ler(2L, "Bruno"));
+        
+        // Act
+        cache.aoAlterarAlunos(AlunosAlterados.de(List.of(1L)));
+        AlunoResponseDTO relido = cache.buscar(1L, () -> ler(1L, "Ana Nova"));
+        cache.buscar(2L, () -> ler(2L, "Bruno Novo"));
+        
+        // Assert
+        assertThat(relido.getNome()).isEqualTo("Ana Nova");
+        assertThat(leituras.get()).isEqualTo(3);
+        assertThat(cache.getInvalidacoes()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Evento de alteração em massa deve esvaziar o cache")
+    void eventoEmMassaDeveEsvaziarCache() {
+        // Arrange
+        cache.buscar(1L, () -> ler(1L, "Ana"));
+        cache.buscar(2L, () -> ler(2L, "Bruno"));
+        
+        // Act
+        cache.aoAlterarAlunos(AlunosAlterados.geral());
+        cache.buscar(1L, () -> ler(1L, "Ana"));
+        cache.buscar(2L, () -> ler(2L, "Bruno"));
+        
+        // Assert
+        assertThat(leituras.get()).isEqualTo(4);
+    }
+    
+    @Test
+    @DisplayName("Leitura com invalidação no meio não deve guardar o valor antigo")
+    void leituraConcorrenteComInvalidacaoNaoDeveGuardar() {
+        // Act - a gravação invalida enquanto a leitura ainda tem o valor anterior
+        AlunoResponseDTO antigo = cache.buscar(1L, () -> {
+            AlunoResponseDTO lido = ler(1L, "Ana Antiga");
+            cache.invalidar(1L);
+            return lido;
+        });
+        AlunoResponseDTO atual = cache.buscar(1L, () -> ler(1L, "Ana Nova"));
+        
+        // Assert
+        assertThat(antigo.getNome()).isEqualTo("Ana Antiga");
+        assertThat(atual.getNome()).isEqualTo("Ana Nova");
+        assertThat(leituras.get()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("Falha na leitura não deve guardar nada")
+    void falhaNaLeituraNaoDeveGuardar() {
+        // Act & Assert
+        assertThatThrownBy(() -> cache.buscar(1L, () -> {
+            throw new IllegalStateException("banco fora");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.buscar(1L, () -> ler(1L, "Ana")).getNome()).isEqualTo("Ana");
+        assertThat(cache.getTamanho()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Profile replica deve desligar o cache")
+    void profileReplicaDeveDesligarCache() {
+        // Arrange
+        MockEnvironment replica = new MockEnvironment();
+        replica.setActiveProfiles("test", "replica");
+        CacheAlunosPorId cacheReplica = new CacheAlunosPorId(replica, true, 100, 300);
+        
+        // Act
+        cacheReplica.buscar(1L, () -> ler(1L, "Ana"));
+        cacheReplica.buscar(1L, () -> ler(1L, "Ana"));
+        
+        // Assert
+        assertThat(cacheReplica.isHabilitado()).isFalse();
+        assertThat(leituras.get()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("Cache desligado deve ler sempre")
+    void cacheDesligadoDeveLerSempre() {
+        // Arrange
+        CacheAlunosPorId desligado = new CacheAlunosPorId(new MockEnvironment(), false, 100, 300);
+        
+        // Act
+        desligado.buscar(1L, () -> ler(1L, "Ana"));
+        desligado.buscar(1L, () -> ler(1L, "Ana"));
+        
+        // Assert
+        assertThat(leituras.get()).isEqualTo(2);
+        assertThat(desligado.getTamanho()).isZero();
+    }
+}
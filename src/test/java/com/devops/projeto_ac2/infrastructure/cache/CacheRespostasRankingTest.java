@@ -0,0 +1,135 @@
+package com.devops.projeto_ac2.infrastructure.cache;
+
+import com.devops.projeto_ac2.application.eventos.AlunosAlterados;
+import com.devops.projeto_ac2.infrastructure.cache.CacheRespostasRanking.RespostaSerializada;
+import com.devops.projeto_ac2.shared.dto.RankingResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para CacheRespostasRanking
+ */
+@DisplayName("Testes do Cache de Respostas do Ranking")
+class CacheRespostasRankingTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private final CacheRespostasRanking cache = new CacheRespostasRanking(objectMapper, new MockEnvironment(), true, 16, true, 1024);
+    
+    private final AtomicInteger leituras = new AtomicInteger();
+    
+    private List<RankingResponseDTO> ranking(int tamanho) {
+        leituras.incrementAndGet();
+        return IntStream.rangeClosed(1, tamanho)
+                .mapToObj(i -> RankingResponseDTO.builder()
+                        .posicao(i).alunoId((long) i).nome("Aluno " + i).ra("RA" + i)
+                        .mediaFinal(10.0 - i / 10.0).cursosAdicionais(0).concluiu(false).situacao("NAO_CONCLUIDO")
+                        .build())
+                .toList();
+    }
+    
+    @Test
+    @DisplayName("Acerto deve devolver os mesmos bytes sem ler nem serializar de novo")
+    void acertoDeveDevolverMesmosBytes() throws IOException {
+        // Act
+        RespostaSerializada primeira = cache.buscar("top=3", () -> ranking(3));
+        RespostaSerializada segunda = cache.buscar("top=3", () -> ranking(3));
+        
+        // Assert
+        assertThat(leituras.get()).isEqualTo(1);
+        assertThat(segunda).isSameAs(primeira);
+        assertThat(objectMapper.readValue(primeira.json(), RankingResponseDTO[].class))
+                .containsExactlyElementsOf(ranking(3));
+        assertThat(primeira.gzip()).as("JSON pequeno não é comprimido").isNull();
+    }
+    
+    @Test
+    @DisplayName("Resposta grande deve vir também em gzip com o mesmo conteúdo")
+    void respostaGrandeDeveTerGzip() throws IOException {
+        // Act
+        RespostaSerializada resposta = cache.buscar("completo", () -> ranking(100));
+        
+        // Assert
+        assertThat(resposta.gzip()).isNotNull();
+        assertThat(resposta.gzip().length).isLessThan(resposta.json().length);
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(resposta.gzip()))) {
+            assertThat(entrada.readAllBytes()).isEqualTo(resposta.json());
+        }
+    }
+    
+    @Test
+    @DisplayName("Alteração de aluno deve trocar a versão e descartar as respostas")
+    void alteracaoDeveTrocarVersao() {
+        // Arrange
+        cache.buscar("completo", () -> ranking(3));
+        long versaoAntes = cache.getVersao();
+        
+        // Act
+        cache.aoAlterarAlunos(AlunosAlterados.de(1L));
+        RespostaSerializada nova = cache.buscar("completo", () -> ranking(4));
+        
+        // Assert
+        assertThat(cache.getVersao()).isGreaterThan(versaoAntes);
+        assertThat(leituras.get()).isEqualTo(2);
+        assertThat(new String(nova.json())).contains("\"posicao\":4");
+    }
+    
+    @Test
+    @DisplayName("Leitura atravessada por uma alteração não deve ser guardada")
+    void leituraComAlteracaoNoMeioNaoDeveSerGuardada() {
+        // Act - a gravação acontece enquanto o ranking ainda está sendo calculado
+        cache.buscar("completo", () -> {
+            List<RankingResponseDTO> antigo = ranking(3);
+            cache.aoAlterarAlunos(AlunosAlterados.geral());
+            return antigo;
+        });
+        cache.buscar("completo", () -> ranking(4));
+        
+        // Assert
+        assertThat(leituras.get()).isEqualTo(2);
+        assertThat(cache.getTamanho()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Profile replica deve serializar sem guardar")
+    void profileReplicaNaoDeveGuardar() {
+        // Arrange
+        MockEnvironment replica = new MockEnvironment();
+        replica.setActiveProfiles("replica");
+        CacheRespostasRanking cacheReplica = new CacheRespostasRanking(objectMapper, replica, true, 16, true, 1024);
+        
+        // Act
+        cacheReplica.buscar("completo", () -> ranking(3));
+        cacheReplica.buscar("completo", () -> ranking(3));
+        
+        // Assert
+        assertThat(cacheReplica.isHabilitado()).isFalse();
+        assertThat(leituras.get()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("Cache desligado deve serializar a cada chamada")
+    void cacheDesligadoDeveSerializarSempre() {
+        // Arrange
+        CacheRespostasRanking desligado = new CacheRespostasRanking(objectMapper, new MockEnvironment(), false, 16, true, 1024);
+        
+        // Act
+        desligado.buscar("completo", () -> ranking(3));
+        desligado.buscar("completo", () -> ranking(3));
+        
+        // Assert
+        assertThat(leituras.get()).isEqualTo(2);
+        assertThat(desligado.getTamanho()).isZero();
+    }
+}
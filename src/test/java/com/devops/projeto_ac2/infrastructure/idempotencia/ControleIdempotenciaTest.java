@@ -0,0 +1,110 @@
+package com.devops.projeto_ac2.infrastructure.idempotencia;
+
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para ControleIdempotencia (armazenamento em memória)
+ */
+@DisplayName("Testes do Controle de Idempotência")
+class ControleIdempotenciaTest {
+    
+    private final ControleIdempotencia controle = new ControleIdempotencia(2, 60, false, null, new ObjectMapper());
+    
+    @Test
+    @DisplayName("Deve executar uma vez e reenviar a resposta para a mesma chave")
+    void deveReenviarRespostaParaMesmaChave() {
+        // Arrange
+        AtomicInteger execucoes = new AtomicInteger();
+        
+        // Act
+        ResponseEntity<String> primeira = controle.executar("k1", "POST /x", "7.5", String.class,
+                () -> ResponseEntity.ok("resposta-" + execucoes.incrementAndGet()));
+        ResponseEntity<String> repetida = controle.executar("k1", "POST /x", "7.5", String.class,
+                () -> ResponseEntity.ok("resposta-" + execucoes.incrementAndGet()));
+        
+        // Assert
+        assertThat(execucoes.get()).isEqualTo(1);
+        assertThat(repetida.getBody()).isEqualTo(primeira.getBody());
+        assertThat(repetida.getHeaders().getFirst(ControleIdempotencia.HEADER_REPETIDA)).isEqualTo("true");
+    }
+    
+    @Test
+    @DisplayName("Deve sempre executar quando não há chave")
+    void deveExecutarSemChave() {
+        AtomicInteger execucoes = new AtomicInteger();
+        
+        controle.executar(null, "POST /x", "7.5", String.class, () -> ResponseEntity.ok("a" + execucoes.incrementAndGet()));
+        controle.executar(null, "POST /x", "7.5", String.class, () -> ResponseEntity.ok("a" + execucoes.incrementAndGet()));
+        
+        assertThat(execucoes.get()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar chave longa demais sem executar a operação")
+    void deveRejeitarChaveLongaDemais() {
+        // Arrange - "POST /x|" + chave passa de 200 caracteres
+        AtomicInteger execucoes = new AtomicInteger();
+        String chave = "k".repeat(RegistroIdempotencia.TAMANHO_CHAVE - "POST /x|".length() + 1);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> controle.executar(chave, "POST /x", "7.5", String.class,
+                () -> ResponseEntity.ok("ok" + execucoes.incrementAndGet())))
+                .isInstanceOf(IdempotenciaChaveInvalidaException.class);
+        assertThat(execucoes.get()).isZero();
+        
+        // No limite exato a chave é aceita
+        controle.executar(chave.substring(1), "POST /x", "7.5", String.class,
+                () -> ResponseEntity.ok("ok" + execucoes.incrementAndGet()));
+        assertThat(execucoes.get()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar a mesma chave com outra requisição")
+    void deveRejeitarChaveComOutraRequisicao() {
+        controle.executar("k1", "POST /x", "7.5", String.class, () -> ResponseEntity.ok("ok"));
+        
+        assertThatThrownBy(() -> controle.executar("k1", "POST /x", "9.0", String.class, () -> ResponseEntity.ok("ok")))
+                .isInstanceOf(IdempotenciaConflitoException.class);
+    }
+    
+    @Test
+    @DisplayName("Não deve guardar erros, permitindo nova tentativa com a mesma chave")
+    void naoDeveGuardarErros() {
+        // Arrange
+        AtomicInteger execucoes = new AtomicInteger();
+        
+        // Act
+        assertThatThrownBy(() -> controle.executar("k1", "POST /x", "7.5", String.class, () -> {
+            execucoes.incrementAndGet();
+            throw new DomainException("falhou");
+        })).isInstanceOf(DomainException.class);
+        
+        ResponseEntity<String> segunda = controle.executar("k1", "POST /x", "7.5", String.class, () -> {
+            execucoes.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.OK).body("ok");
+        });
+        
+        // Assert
+        assertThat(execucoes.get()).isEqualTo(2);
+        assertThat(segunda.getBody()).isEqualTo("ok");
+    }
+    
+    @Test
+    @DisplayName("Deve descartar as chaves menos usadas quando a capacidade é excedida")
+    void deveLimitarCapacidade() {
+        controle.executar("k1", "POST /x", "1", String.class, () -> ResponseEntity.ok("1"));
+        controle.executar("k2", "POST /x", "2", String.class, () -> ResponseEntity.ok("2"));
+        controle.executar("k3", "POST /x", "3", String.class, () -> ResponseEntity.ok("3"));
+        
+        assertThat(controle.tamanho()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,132 @@
+package com.devops.projeto_ac2.infrastructure.mapeado;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários do adapter em arquivo mapeado
+ * Segmentos pequenos para exercitar o crescimento do arquivo e dos índices
+ */
+@DisplayName("Testes do AlunoRepository Mapeado")
+class AlunoRepositoryMapeadoTest {
+    
+    private static final int REGISTROS_POR_SEGMENTO = 64;
+    
+    @TempDir
+    Path diretorio;
+    
+    private AlunoRepositoryMapeado repository;
+    
+    @BeforeEach
+    void setUp() {
+        repository = abrir();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        repository.fechar();
+    }
+    
+    private AlunoRepositoryMapeado abrir() {
+        return new AlunoRepositoryMapeado(diretorio.toString(), REGISTROS_POR_SEGMENTO);
+    }
+    
+    private Aluno novo(String nome, String ra) {
+        return Aluno.criar(NomeAluno.criar(nome), RegistroAcademico.criar(ra));
+    }
+    
+    @Test
+    @DisplayName("Deve gravar fora do heap e montar o aluno por ID e RA")
+    void deveSalvarEBuscar() {
+        // Act
+        Aluno salvo = repository.salvar(novo("José Conceição", "2024001"));
+        
+        // Assert
+        Aluno lido = repository.buscarPorId(salvo.getId()).orElseThrow();
+        assertThat(lido.getNome()).isEqualTo("José Conceição");
+        assertThat(lido.getDataCriacao()).isNotNull();
+        assertThat(lido.getVersao()).isZero();
+        assertThat(repository.buscarPorRA("2024001")).get().extracting(Aluno::getId).isEqualTo(salvo.getId());
+        assertThat(repository.existePorRA("2024002")).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Deve aplicar lock otimista e rejeitar RA duplicado")
+    void deveAplicarLockOtimistaERaUnico() {
+        Long id = repository.salvar(novo("João Silva", "2024001")).getId();
+        Aluno primeiro = repository.buscarPorId(id).orElseThrow();
+        Aluno segundo = repository.buscarPorId(id).orElseThrow();
+        
+        primeiro.registrarTentativa(MediaFinal.criar(8.0));
+        repository.salvar(primeiro);
+        segundo.registrarTentativa(MediaFinal.criar(5.0));
+        
+        assertThatThrownBy(() -> repository.salvar(segundo))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> repository.salvar(novo("Maria Souza", "2024001")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+    
+    @Test
+    @DisplayName("Deve manter os dados e os índices depois de fechar e reabrir")
+    void deveSobreviverAoRestart() {
+        // Arrange - vários segmentos e redimensionamentos do índice
+        for (int i = 0; i < 3000; i++) {
+            repository.salvar(novo("Aluno Teste", String.format("RA%05d", i)));
+        }
+        repository.deletar(10L);
+        
+        // Act
+        repository.fechar();
+        repository = abrir();
+        
+        // Assert
+        assertThat(repository.quantidade()).isEqualTo(2999);
+        assertThat(repository.buscarPorId(10L)).isEmpty();
+        assertThat(repository.buscarPorRA("RA02999")).get().extracting(Aluno::getId).isEqualTo(3000L);
+        assertThat(repository.salvar(novo("Outro Aluno", "RA09999")).getId()).isEqualTo(3001L);
+    }
+    
+    @Test
+    @DisplayName("Deve reconstruir os índices quando o arquivo não foi fechado")
+    void deveReconstruirIndicesAposQueda() {
+        // Arrange
+        Long id = repository.salvar(novo("João Silva", "2024001")).getId();
+        repository.salvar(novo("Maria Souza", "2024002"));
+        
+        // Act - abre de novo sem fechar (o cabeçalho continua marcado como sujo)
+        AlunoRepositoryMapeado recuperado = abrir();
+        
+        // Assert
+        assertThat(recuperado.buscarPorId(id)).isPresent();
+        assertThat(recuperado.buscarPorRA("2024002")).isPresent();
+        assertThat(recuperado.quantidade()).isEqualTo(2);
+        recuperado.fechar();
+    }
+    
+    @Test
+    @DisplayName("Deve reaproveitar o slot de um aluno excluído")
+    void deveReaproveitarSlotLivre() {
+        Long id = repository.salvar(novo("João Silva", "2024001")).getId();
+        repository.deletar(id);
+        
+        Aluno reinserido = repository.salvar(novo("João Silva", "2024001"));
+        
+        assertThat(reinserido.getId()).isNotEqualTo(id);
+        assertThat(repository.buscarPorId(id)).isEmpty();
+        assertThat(repository.buscarTodos()).extracting(Aluno::getId).containsExactly(reinserido.getId());
+    }
+}
@@ -0,0 +1,204 @@
+package com.devops.projeto_ac2.infrastructure.memoria;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários do adapter colunar em memória
+ */
+@DisplayName("Testes do AlunoRepository Colunar")
+class AlunoRepositoryColunarTest {
+    
+    private final AlunoRepositoryColunar repository = new AlunoRepositoryColunar(4);
+    
+    private Aluno novo(String nome, String ra) {
+        return Aluno.criar(NomeAluno.criar(nome), RegistroAcademico.criar(ra));
+    }
+    
+    @Test
+    @DisplayName("Deve gerar ID, versão e devolver o aluno por ID e RA")
+    void deveSalvarEBuscar() {
+        // Act
+        Aluno salvo = repository.salvar(novo("João Silva", "2024001"));
+        
+        // Assert
+        assertThat(salvo.getId()).isEqualTo(1L);
+        assertThat(salvo.getVersao()).isZero();
+        assertThat(repository.buscarPorId(1L)).get()
+                .extracting(Aluno::getNome, a -> a.getRegistroAcademico().getValor())
+                .containsExactly("João Silva", "2024001");
+        assertThat(repository.buscarPorRA("2024001")).isPresent();
+        assertThat(repository.existePorRA("2024001")).isTrue();
+        assertThat(repository.existePorRA("2024999")).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Deve gravar a alteração e rejeitar versão desatualizada")
+    void deveAplicarLockOtimista() {
+        // Arrange
+        Long id = repository.salvar(novo("João Silva", "2024001")).getId();
+        Aluno primeiro = repository.buscarPorId(id).orElseThrow();
+        Aluno segundo = repository.buscarPorId(id).orElseThrow();
+        
+        // Act
+        primeiro.registrarTentativa(MediaFinal.criar(7.5));
+        Aluno salvo = repository.salvar(primeiro);
+        segundo.registrarTentativa(MediaFinal.criar(4.0));
+        
+        // Assert
+        assertThat(salvo.getVersao()).isEqualTo(1L);
+        assertThat(salvo.getTentativasAvaliacao()).isEqualTo(1);
+        assertThat(salvo.getMediaFinal()).isEqualTo(7.5);
+        assertThatThrownBy(() -> repository.salvar(segundo))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar RA duplicado")
+    void deveRejeitarRaDuplicado() {
+        repository.salvar(novo("João Silva", "2024001"));
+        
+        assertThatThrownBy(() -> repository.salvar(novo("Maria Souza", "2024001")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+    
+    @Test
+    @DisplayName("Deve registrar tentativa atômica respeitando o limite")
+    void deveRegistrarTentativaAtomica() {
+        Long id = repository.salvar(novo("João Silva", "2024001")).getId();
+        
+        for (int i = 0; i < Aluno.MAX_TENTATIVAS; i++) {
+            assertThat(repository.registrarTentativaAtomica(id, 6.0)).get()
+                    .extracting(Aluno::getTentativasAvaliacao).isEqualTo(i + 1);
+        }
+        
+        assertThat(repository.registrarTentativaAtomica(id, 6.0)).isEmpty();
+        assertThat(repository.registrarTentativaAtomica(99L, 6.0)).isEmpty();
+        assertThat(repository.buscarPorId(id).orElseThrow().getVersao()).isEqualTo((long) Aluno.MAX_TENTATIVAS);
+    }
+    
+    @Test
+    @DisplayName("Deve separar concluídos, não concluídos e arquivados")
+    void deveFiltrarPorSituacao() {
+        // Arrange
+        Aluno concluido = repository.salvar(novo("Ana Lima", "2024001"));
+        concluido.registrarTentativa(MediaFinal.criar(9.5));
+        concluido.concluirCurso(MediaFinal.criar(9.5), RegrasBonusCursos.padrao());
+        repository.salvar(concluido);
+        repository.salvar(novo("Bruno Reis", "2024002"));
+        
+        // Act
+        int arquivados = repository.arquivarConcluidosAntesDe(LocalDateTime.now().plusDays(1), 1, 10);
+        
+        // Assert
+        assertThat(arquivados).isEqualTo(1);
+        assertThat(repository.buscarConcluidos()).isEmpty();
+        assertThat(repository.buscarNaoConcluidos()).extracting(Aluno::getNome).containsExactly("Bruno Reis");
+        assertThat(repository.buscarArquivados()).extracting(Aluno::getNome).containsExactly("Ana Lima");
+        
+        Aluno arquivado = repository.buscarPorId(concluido.getId()).orElseThrow();
+        assertThat(arquivado.isArquivado()).isTrue();
+        assertThatThrownBy(() -> repository.salvar(arquivado)).isInstanceOf(DomainException.class);
+    }
+    
+    @Test
+    @DisplayName("Deve recalcular bônus só dos concluídos que mudam")
+    void deveRecalcularCursos() {
+        Aluno aluno = repository.salvar(novo("Ana Lima", "2024001"));
+        aluno.registrarTentativa(MediaFinal.criar(9.5));
+        aluno.concluirCurso(MediaFinal.criar(9.5), RegrasBonusCursos.padrao());
+        repository.salvar(aluno);
+        
+        int alterados = repository.recalcularCursosAdicionais(RegrasBonusCursos.criar(9.0, 8, 7.0, 3), 1, 10);
+        int repetidos = repository.recalcularCursosAdicionais(RegrasBonusCursos.criar(9.0, 8, 7.0, 3), 1, 10);
+        
+        assertThat(alterados).isEqualTo(1);
+        assertThat(repetidos).isZero();
+        assertThat(repository.buscarPorId(aluno.getId()).orElseThrow().getCursosAdicionais()).isEqualTo(8);
+    }
+    
+    @Test
+    @DisplayName("Deve excluir, liberar o RA e compactar mantendo os índices")
+    void deveExcluirECompactar() {
+        // Arrange - acima do mínimo para compactar
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            ids.add(repository.salvar(novo("Aluno Teste", String.format("RA%05d", i))).getId());
+        }
+        
+        // Act - remove 2 de cada 3
+        List<Long> excluir = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (i % 3 != 0) {
+                excluir.add(ids.get(i));
+            }
+        }
+        int excluidos = repository.excluirPorIds(excluir);
+        
+        // Assert
+        assertThat(excluidos).isEqualTo(2000);
+        assertThat(repository.quantidade()).isEqualTo(1000);
+        assertThat(repository.buscarPorId(ids.get(1))).isEmpty();
+        assertThat(repository.buscarPorId(ids.get(2997)).orElseThrow().getRegistroAcademico().getValor())
+                .isEqualTo("RA02997");
+        assertThat(repository.buscarPorRA("RA02998")).isEmpty();
+        assertThat(repository.salvar(novo("Outro Aluno", "RA00001")).getId()).isEqualTo(3001L);
+    }
+    
+    @Test
+    @DisplayName("Não deve achar nem excluir aluno com ID 0")
+    void naoDeveResolverIdZero() {
+        // Arrange
+        repository.salvar(novo("João Silva", "2024001"));
+        repository.salvar(novo("Maria Souza", "2024002"));
+        
+        // Act
+        repository.deletar(0L);
+        int excluidos = repository.excluirPorIds(List.of(0L));
+        
+        // Assert
+        assertThat(repository.buscarPorId(0L)).isEmpty();
+        assertThat(excluidos).isZero();
+        assertThat(repository.quantidade()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("Cópia das colunas não deve enxergar gravações posteriores")
+    void copiaNaoDeveMudarComGravacoes() {
+        // Arrange
+        Aluno concluido = repository.salvar(novo("Ana Lima", "2024001"));
+        concluido.registrarTentativa(MediaFinal.criar(9.5));
+        concluido.concluirCurso(MediaFinal.criar(9.5), RegrasBonusCursos.padrao());
+        repository.salvar(concluido);
+        repository.arquivarConcluidosAntesDe(LocalDateTime.now().plusDays(1), 1, 10);
+        Long id = repository.salvar(novo("Bruno Reis", "2024002")).getId();
+        
+        // Act
+        AlunoRepositoryColunar.CopiaColunar copia = repository.copiar();
+        Aluno alterado = repository.buscarPorId(id).orElseThrow();
+        alterado.registrarTentativa(MediaFinal.criar(6.0));
+        repository.salvar(alterado);
+        repository.salvar(novo("Carla Dias", "2024003"));
+        
+        // Assert
+        assertThat(copia.proximoId()).isEqualTo(3L);
+        assertThat(copia.ativos()).extracting(Aluno::getNome, Aluno::getVersao)
+                .containsExactly(tuple("Bruno Reis", 0L));
+        assertThat(copia.arquivados()).extracting(Aluno::getNome).containsExactly("Ana Lima");
+        assertThat(copia.arquivados().get(0).isArquivado()).isTrue();
+    }
+}
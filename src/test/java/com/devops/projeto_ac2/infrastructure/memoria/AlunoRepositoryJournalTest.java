@@ -0,0 +1,152 @@
+package com.devops.projeto_ac2.infrastructure.memoria;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários do journal do profile memoria
+ * "Queda" = abrir outra instância no mesmo diretório sem fechar a anterior (sem snapshot final)
+ */
+@DisplayName("Testes do AlunoRepository com Journal")
+class AlunoRepositoryJournalTest {
+    
+    @TempDir
+    Path diretorio;
+    
+    private AlunoRepositoryJournal repository;
+    
+    @BeforeEach
+    void setUp() {
+        repository = abrir();
+    }
+    
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        // Só a última instância é fechada: as anteriores ficam como se o processo tivesse caído
+        repository.fechar();
+    }
+    
+    private AlunoRepositoryJournal abrir() {
+        AlunoRepositoryJournal novo = new AlunoRepositoryJournal(
+                new AlunoRepositoryColunar(16), true, diretorio.toString(), 0, 3_600_000);
+        novo.iniciar();
+        return novo;
+    }
+    
+    private Aluno novo(String nome, String ra) {
+        return Aluno.criar(NomeAluno.criar(nome), RegistroAcademico.criar(ra));
+    }
+    
+    @Test
+    @DisplayName("Deve recuperar gravações, tentativas e exclusões reaplicando o journal")
+    void deveRecuperarDoJournal() {
+        // Arrange
+        Aluno joao = repository.salvar(novo("João Silva", "2024001"));
+        Aluno maria = repository.salvar(novo("Maria Souza", "2024002"));
+        Aluno pedro = repository.salvar(novo("Pedro Lima", "2024003"));
+        repository.registrarTentativaAtomica(joao.getId(), 8.5);
+        Aluno lida = repository.buscarPorId(maria.getId()).orElseThrow();
+        lida.registrarTentativa(MediaFinal.criar(9.5));
+        lida.concluirCurso(MediaFinal.criar(9.5), RegrasBonusCursos.padrao());
+        repository.salvar(lida);
+        repository.deletar(pedro.getId());
+        
+        // Act
+        repository = abrir();
+        
+        // Assert
+        Aluno joaoRecuperado = repository.buscarPorId(joao.getId()).orElseThrow();
+        assertThat(joaoRecuperado.getTentativasAvaliacao()).isEqualTo(1);
+        assertThat(joaoRecuperado.getMediaFinal()).isEqualTo(8.5);
+        assertThat(joaoRecuperado.getVersao()).isEqualTo(1L);
+        Aluno mariaRecuperada = repository.buscarPorRA("2024002").orElseThrow();
+        assertThat(mariaRecuperada.isConcluiu()).isTrue();
+        assertThat(mariaRecuperada.getCursosAdicionais()).isEqualTo(lida.getCursosAdicionais());
+        assertThat(repository.buscarPorId(pedro.getId())).isEmpty();
+        
+        // O ID do aluno excluído não volta a ser usado
+        assertThat(repository.salvar(novo("Ana Costa", "2024004")).getId()).isGreaterThan(pedro.getId());
+    }
+    
+    @Test
+    @DisplayName("Deve compactar o journal com snapshot e recuperar snapshot + restante")
+    void deveRecuperarSnapshotMaisJournal() throws Exception {
+        // Arrange
+        for (int i = 0; i < 500; i++) {
+            repository.salvar(novo("Aluno Teste", String.format("RA%05d", i)));
+        }
+        Aluno concluido = repository.buscarPorRA("RA00001").orElseThrow();
+        concluido.registrarTentativa(MediaFinal.criar(8.0));
+        concluido.concluirCurso(MediaFinal.criar(8.0), RegrasBonusCursos.padrao());
+        repository.salvar(concluido);
+        assertThat(repository.gerarSnapshot()).isEqualTo(500);
+        
+        repository.salvar(novo("Depois do Snapshot", "RA99999"));
+        repository.arquivarConcluidosAntesDe(LocalDateTime.now().plusDays(1), 1, Long.MAX_VALUE);
+        
+        // Act
+        repository = abrir();
+        
+        // Assert
+        assertThat(repository.buscarTodos()).hasSize(500);
+        assertThat(repository.buscarArquivados()).extracting(Aluno::getId).containsExactly(concluido.getId());
+        assertThat(repository.existePorRA("RA99999")).isTrue();
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            // Segmentos anteriores ao snapshot foram apagados
+            assertThat(arquivos.map(p -> p.getFileName().toString()))
+                    .noneMatch(nome -> nome.equals("journal-000000000001.log"));
+        }
+    }
+    
+    @Test
+    @DisplayName("Deve ignorar o registro truncado no fim do journal")
+    void deveIgnorarFimTruncado() throws Exception {
+        // Arrange
+        repository.salvar(novo("João Silva", "2024001"));
+        repository.salvar(novo("Maria Souza", "2024002"));
+        Path segmento = diretorio.resolve("journal-000000000001.log");
+        long tamanho = Files.size(segmento);
+        try (var canal = Files.newByteChannel(segmento, StandardOpenOption.WRITE)) {
+            canal.truncate(tamanho - 3);
+        }
+        
+        // Act
+        repository = abrir();
+        
+        // Assert
+        assertThat(repository.existePorRA("2024001")).isTrue();
+        assertThat(repository.existePorRA("2024002")).isFalse();
+        assertThat(repository.salvar(novo("Maria Souza", "2024002")).getId()).isNotNull();
+    }
+    
+    @Test
+    @DisplayName("Sem journal habilitado deve só repassar ao repositório em memória")
+    void deveRepassarQuandoDesabilitado() throws InterruptedException {
+        AlunoRepositoryJournal semJournal = new AlunoRepositoryJournal(
+                new AlunoRepositoryColunar(16), false, diretorio.resolve("nao-usado").toString(), 0, 1000);
+        semJournal.iniciar();
+        
+        semJournal.salvar(novo("João Silva", "2024001"));
+        
+        assertThat(semJournal.existePorRA("2024001")).isTrue();
+        assertThat(semJournal.gerarSnapshot()).isZero();
+        assertThat(Files.exists(diretorio.resolve("nao-usado"))).isFalse();
+        semJournal.fechar();
+    }
+}
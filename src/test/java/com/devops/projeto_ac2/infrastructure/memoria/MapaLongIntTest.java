@@ -0,0 +1,87 @@
+package com.devops.projeto_ac2.infrastructure.memoria;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários do mapa long → int primitivo
+ */
+@DisplayName("Testes do MapaLongInt")
+class MapaLongIntTest {
+    
+    @Test
+    @DisplayName("Deve guardar, substituir e remover chaves")
+    void deveGuardarERemover() {
+        MapaLongInt mapa = new MapaLongInt(4);
+        
+        mapa.put(10L, 1);
+        mapa.put(20L, 2);
+        mapa.put(10L, 3);
+        mapa.remove(20L);
+        
+        assertThat(mapa.get(10L)).isEqualTo(3);
+        assertThat(mapa.get(20L)).isEqualTo(MapaLongInt.AUSENTE);
+        assertThat(mapa.tamanho()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve se comportar como um HashMap em operações aleatórias")
+    void deveEquivalerAoHashMap() {
+        // Arrange - poucas chaves distintas para forçar colisões e remoções no meio dos grupos
+        MapaLongInt mapa = new MapaLongInt(8);
+        Map<Long, Integer> esperado = new HashMap<>();
+        Random random = new Random(42);
+        
+        // Act
+        for (int i = 0; i < 200_000; i++) {
+            long chave = 1 + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                mapa.remove(chave);
+                esperado.remove(chave);
+            } else {
+                mapa.put(chave, i);
+                esperado.put(chave, i);
+            }
+        }
+        
+        // Assert
+        assertThat(mapa.tamanho()).isEqualTo(esperado.size());
+        for (long chave = 1; chave <= 5_000; chave++) {
+            assertThat(mapa.get(chave)).isEqualTo(esperado.getOrDefault(chave, MapaLongInt.AUSENTE));
+        }
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar a chave reservada")
+    void deveRejeitarChaveZero() {
+        assertThatThrownBy(() -> new MapaLongInt(4).put(0L, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    @DisplayName("Não deve achar nem remover a chave 0 quando há posições vazias ou ocupadas")
+    void naoDeveResolverChaveZero() {
+        // Arrange - preenche até perto do limite para a chave 0 cair em posição ocupada
+        MapaLongInt mapa = new MapaLongInt(16);
+        for (long chave = 1; chave <= 15; chave++) {
+            mapa.put(chave, (int) chave);
+        }
+        
+        // Act
+        mapa.remove(0L);
+        
+        // Assert
+        assertThat(mapa.get(0L)).isEqualTo(MapaLongInt.AUSENTE);
+        assertThat(mapa.tamanho()).isEqualTo(15);
+        for (long chave = 1; chave <= 15; chave++) {
+            assertThat(mapa.get(chave)).isEqualTo((int) chave);
+        }
+        assertThat(new MapaLongInt(4).get(0L)).isEqualTo(MapaLongInt.AUSENTE);
+    }
+}
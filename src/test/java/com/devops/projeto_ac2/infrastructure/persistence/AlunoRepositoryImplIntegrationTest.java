@@ -0,0 +1,97 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.application.usecases.CriarAlunoUseCase;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração do registro atômico de tentativa no AlunoRepositoryImpl:
+ * o UPDATE não pode desanexar as demais entidades da transação de quem chama
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do Registro Atômico de Tentativa")
+class AlunoRepositoryImplIntegrationTest {
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private CriarAlunoUseCase criarAlunoUseCase;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @AfterEach
+    void tearDown() {
+        usarFinalTable(true);
+    }
+    
+    private void usarFinalTable(boolean h2) {
+        AlunoRepository alvo = AopTestUtils.getTargetObject(alunoRepository);
+        ReflectionTestUtils.setField(alvo, "h2", h2);
+    }
+    
+    private String ra(String prefixo) {
+        return String.format("%s%07d", prefixo, System.nanoTime() % 10_000_000);
+    }
+    
+    @Test
+    @DisplayName("Deve manter gerenciados os outros alunos da transação (FINAL TABLE no H2)")
+    void deveManterOutrosAlunosGerenciados() {
+        verificarRegistroSemDesanexarOutros();
+    }
+    
+    @Test
+    @DisplayName("Deve registrar pelo UPDATE JPQL e reler o aluno fora do H2")
+    void deveRegistrarPeloUpdateJpqlForaDoH2() {
+        usarFinalTable(false);
+        
+        verificarRegistroSemDesanexarOutros();
+    }
+    
+    private void verificarRegistroSemDesanexarOutros() {
+        // Arrange
+        Long alterarId = criarAlunoUseCase.executar("Ana Atomica", ra("ATA")).getId();
+        Long outroId = criarAlunoUseCase.executar("Bruno Anexado", ra("ATB")).getId();
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        
+        transacao.executeWithoutResult(status -> {
+            Aluno outro = entityManager.find(Aluno.class, outroId);
+            outro.atualizarNome(NomeAluno.criar("Bruno Pendente"));
+            
+            // Act
+            Aluno alterado = alunoRepository.registrarTentativaAtomica(alterarId, 7.5).orElseThrow();
+            
+            // Assert
+            assertThat(alterado.getTentativasAvaliacao()).isEqualTo(1);
+            assertThat(alterado.getMediaFinal()).isEqualTo(7.5);
+            assertThat(alterado.getVersao()).isEqualTo(1L);
+            assertThat(entityManager.contains(outro)).isTrue();
+        });
+        
+        // A alteração pendente do outro aluno foi gravada no commit
+        assertThat(alunoRepository.buscarPorId(outroId)).get()
+                .extracting(Aluno::getNome).isEqualTo("Bruno Pendente");
+        assertThat(alunoRepository.buscarPorId(alterarId)).get()
+                .extracting(Aluno::getTentativasAvaliacao).isEqualTo(1);
+    }
+}
@@ -0,0 +1,119 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.application.usecases.BuscarAlunoPorIdUseCase;
+import com.devops.projeto_ac2.application.usecases.CriarAlunoUseCase;
+import com.devops.projeto_ac2.application.usecases.RegistrarTentativaUseCase;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração do cache de segundo nível do Hibernate: acertos nas leituras
+ * repetidas e invalidação em cada caminho de gravação
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do Cache de Segundo Nível")
+class CacheSegundoNivelIntegrationTest {
+    
+    @Autowired
+    private CacheSegundoNivel cacheSegundoNivel;
+    
+    @Autowired
+    private CriarAlunoUseCase criarAlunoUseCase;
+    
+    @Autowired
+    private BuscarAlunoPorIdUseCase buscarAlunoPorIdUseCase;
+    
+    @Autowired
+    private RegistrarTentativaUseCase registrarTentativaUseCase;
+    
+    @Autowired
+    private AlunoJpaRepository jpaRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private String ra(String prefixo) {
+        return String.format("%s%07d", prefixo, System.nanoTime() % 10_000_000);
+    }
+    
+    @Test
+    @DisplayName("Buscas repetidas pelo mesmo ID não devem ir ao banco")
+    void buscaRepetidaDeveSerAtendidaPeloCache() {
+        // Arrange
+        assertThat(cacheSegundoNivel.isHabilitado()).isTrue();
+        Long id = criarAlunoUseCase.executar("Carla Cache", ra("CSA")).getId();
+        buscarAlunoPorIdUseCase.executar(id);
+        Statistics estatisticas = cacheSegundoNivel.getEstatisticas();
+        long comandosAntes = estatisticas.getPrepareStatementCount();
+        long acertosAntes = estatisticas.getEntityStatistics(Aluno.class.getName()).getCacheHitCount();
+        
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThat(buscarAlunoPorIdUseCase.executar(id).getNome()).isEqualTo("Carla Cache");
+        }
+        
+        // Assert
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(comandosAntes);
+        assertThat(estatisticas.getEntityStatistics(Aluno.class.getName()).getCacheHitCount())
+                .isEqualTo(acertosAntes + 3);
+    }
+    
+    @Test
+    @DisplayName("UPDATE JPQL em massa deve invalidar o aluno em cache")
+    void updateEmMassaDeveInvalidarCache() {
+        // Arrange
+        Long id = criarAlunoUseCase.executar("Diego Cache", ra("CSB")).getId();
+        assertThat(buscarAlunoPorIdUseCase.executar(id).getTentativasAvaliacao()).isZero();
+        
+        // Act - registro atômico: UPDATE condicional em JPQL, sem passar pela entidade
+        registrarTentativaUseCase.executarAtomico(id, 8.0);
+        
+        // Assert
+        Aluno aluno = buscarAlunoPorIdUseCase.executar(id);
+        assertThat(aluno.getTentativasAvaliacao()).isEqualTo(1);
+        assertThat(aluno.getMediaFinal()).isEqualTo(8.0);
+    }
+    
+    @Test
+    @DisplayName("Consultas fixas devem usar o cache de consultas e ver alunos novos")
+    void consultaEmCacheDeveSerInvalidadaPorInsercao() {
+        // Arrange
+        jpaRepository.findNaoConcluidos();
+        long acertosAntes = cacheSegundoNivel.getEstatisticas().getQueryCacheHitCount();
+        
+        // Act
+        jpaRepository.findNaoConcluidos();
+        Long id = criarAlunoUseCase.executar("Elisa Cache", ra("CSC")).getId();
+        
+        // Assert
+        assertThat(cacheSegundoNivel.getEstatisticas().getQueryCacheHitCount()).isGreaterThan(acertosAntes);
+        assertThat(jpaRepository.findNaoConcluidos()).extracting(Aluno::getId).contains(id);
+    }
+    
+    @Test
+    @DisplayName("Gravação por JDBC direto só aparece depois de invalidarAlunos")
+    void gravacaoJdbcExigeInvalidacao() {
+        // Arrange
+        Long id = criarAlunoUseCase.executar("Fabio Cache", ra("CSD")).getId();
+        buscarAlunoPorIdUseCase.executar(id);
+        
+        // Act - o Hibernate não vê gravações feitas fora dele
+        jdbcTemplate.update("UPDATE tb_alunos SET nome = ? WHERE id = ?", "Fabio Jdbc", id);
+        String antes = buscarAlunoPorIdUseCase.executar(id).getNome();
+        cacheSegundoNivel.invalidarAlunos();
+        String depois = buscarAlunoPorIdUseCase.executar(id).getNome();
+        
+        // Assert
+        assertThat(antes).isEqualTo("Fabio Cache");
+        assertThat(depois).isEqualTo("Fabio Jdbc");
+    }
+}
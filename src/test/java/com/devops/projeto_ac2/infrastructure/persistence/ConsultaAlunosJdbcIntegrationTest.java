@@ -0,0 +1,98 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.application.usecases.ArquivarAlunosConcluidosUseCase;
+import com.devops.projeto_ac2.application.usecases.BuscarAlunoPorIdUseCase;
+import com.devops.projeto_ac2.application.usecases.ConcluirCursoUseCase;
+import com.devops.projeto_ac2.application.usecases.CriarAlunoUseCase;
+import com.devops.projeto_ac2.application.usecases.ObterRankingAlunosUseCase;
+import com.devops.projeto_ac2.application.usecases.RegistrarTentativaUseCase;
+import com.devops.projeto_ac2.shared.dto.AlunoResponseDTO;
+import com.devops.projeto_ac2.shared.mapper.AlunoMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração da leitura JDBC: os DTOs têm que ser os mesmos do caminho
+ * use case + AlunoMapper
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração da ConsultaAlunosJdbc")
+class ConsultaAlunosJdbcIntegrationTest {
+    
+    @Autowired
+    private ConsultaAlunosJdbc consultaJdbc;
+    
+    @Autowired
+    private CriarAlunoUseCase criarAlunoUseCase;
+    
+    @Autowired
+    private RegistrarTentativaUseCase registrarTentativaUseCase;
+    
+    @Autowired
+    private ConcluirCursoUseCase concluirCursoUseCase;
+    
+    @Autowired
+    private ArquivarAlunosConcluidosUseCase arquivarAlunosConcluidosUseCase;
+    
+    @Autowired
+    private BuscarAlunoPorIdUseCase buscarAlunoPorIdUseCase;
+    
+    @Autowired
+    private ObterRankingAlunosUseCase obterRankingAlunosUseCase;
+    
+    @Autowired
+    private AlunoMapper alunoMapper;
+    
+    private String ra(String prefixo, int i) {
+        return String.format("%s%03d%04d", prefixo, System.nanoTime() % 1000, i);
+    }
+    
+    @Test
+    @DisplayName("Busca por ID deve devolver o mesmo DTO do mapper, inclusive para concluído e arquivado")
+    void buscaPorIdDeveIgualarMapper() {
+        // Arrange
+        Long ativoId = criarAlunoUseCase.executar("Ana Ativa", ra("JDA", 1)).getId();
+        registrarTentativaUseCase.executar(ativoId, 6.0);
+        Long concluidoId = criarAlunoUseCase.executar("Bruno Concluido", ra("JDC", 2)).getId();
+        registrarTentativaUseCase.executar(concluidoId, 9.5);
+        concluirCursoUseCase.executar(concluidoId, 9.5);
+        
+        // Assert
+        for (Long id : new Long[]{ativoId, concluidoId}) {
+            assertThat(consultaJdbc.buscarPorId(id))
+                    .contains(alunoMapper.toResponseDTO(buscarAlunoPorIdUseCase.executar(id)));
+        }
+        assertThat(consultaJdbc.buscarPorId(ativoId)).get()
+                .extracting(AlunoResponseDTO::getSituacao).isEqualTo("EM_RECUPERACAO");
+        assertThat(consultaJdbc.buscarPorId(-1L)).isEmpty();
+        
+        // Act - concluído vai para o arquivo
+        arquivarAlunosConcluidosUseCase.executar(0);
+        
+        // Assert
+        assertThat(consultaJdbc.buscarPorId(concluidoId))
+                .contains(alunoMapper.toResponseDTO(buscarAlunoPorIdUseCase.executar(concluidoId)));
+    }
+    
+    @Test
+    @DisplayName("Ranking deve ter a mesma ordem e posições do caso de uso")
+    void rankingDeveIgualarCasoDeUso() {
+        // Arrange - médias repetidas para exercitar os critérios de desempate
+        for (int i = 0; i < 12; i++) {
+            Long id = criarAlunoUseCase.executar("Aluno Ranking", ra("JDR", i)).getId();
+            registrarTentativaUseCase.executar(id, (i % 4) * 2.5);
+        }
+        
+        // Assert
+        assertThat(consultaJdbc.ranking(5))
+                .isEqualTo(alunoMapper.toRankingResponseDTOList(obterRankingAlunosUseCase.executarTop(5)));
+        assertThat(consultaJdbc.ranking(Integer.MAX_VALUE))
+                .isEqualTo(alunoMapper.toRankingResponseDTOList(obterRankingAlunosUseCase.executar()));
+    }
+}
@@ -0,0 +1,88 @@
+package com.devops.projeto_ac2.infrastructure.replica;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários da decisão réplica x primário
+ */
+@DisplayName("Testes do ControleReplica")
+class ControleReplicaTest {
+    
+    private final AtomicLong relogio = new AtomicLong();
+    private ControleReplica controle;
+    
+    @BeforeEach
+    void setUp() {
+        controle = new ControleReplica(100, relogio::get);
+    }
+    
+    @Test
+    @DisplayName("Não deve usar a réplica antes da cópia inicial")
+    void naoDeveUsarReplicaAntesDaCopiaInicial() {
+        assertThat(controle.podeLerDaReplica(0)).isFalse();
+        
+        controle.confirmar(controle.capturar());
+        
+        assertThat(controle.podeLerDaReplica(0)).isTrue();
+        assertThat(controle.isSincronizada()).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Deve exigir o LSN do cliente na réplica (read-your-writes)")
+    void deveExigirLsnDoCliente() {
+        // Arrange
+        controle.confirmar(controle.capturar());
+        long lsn = controle.registrarCommit();
+        
+        // Assert - réplica dentro do atraso, mas sem o commit do cliente
+        assertThat(controle.podeLerDaReplica(0)).isTrue();
+        assertThat(controle.podeLerDaReplica(lsn)).isFalse();
+        
+        // Act - réplica aplica o commit
+        controle.confirmar(controle.capturar());
+        
+        // Assert
+        assertThat(controle.getLsnAplicado()).isEqualTo(lsn);
+        assertThat(controle.podeLerDaReplica(lsn)).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Deve voltar ao primário quando o atraso passa do limite")
+    void deveRespeitarAtrasoMaximo() {
+        // Arrange
+        controle.confirmar(controle.capturar());
+        controle.registrarCommit();
+        
+        // Act & Assert
+        relogio.set(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(controle.podeLerDaReplica(0)).isTrue();
+        
+        relogio.set(TimeUnit.MILLISECONDS.toNanos(101));
+        assertThat(controle.podeLerDaReplica(0)).isFalse();
+        assertThat(controle.isSincronizada()).isFalse();
+        
+        // Em dia de novo: o tempo desde a última rodada não importa mais
+        controle.confirmar(controle.capturar());
+        relogio.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(controle.podeLerDaReplica(0)).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Deve ignorar confirmação de rodada mais antiga que a atual")
+    void deveIgnorarConfirmacaoAntiga() {
+        ControleReplica.Sincronia antiga = controle.capturar();
+        controle.registrarCommit();
+        controle.confirmar(controle.capturar());
+        
+        controle.confirmar(antiga);
+        
+        assertThat(controle.getLsnAplicado()).isEqualTo(1);
+    }
+}
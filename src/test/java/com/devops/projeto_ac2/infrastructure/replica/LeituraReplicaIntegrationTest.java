@@ -0,0 +1,159 @@
+package com.devops.projeto_ac2.infrastructure.replica;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static com.devops.projeto_ac2.infrastructure.web.filter.ConsistenciaLeituraFilter.HEADER_LSN;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração do profile "replica": roteamento das leituras, read-your-writes e
+ * aplicação das alterações do primário na réplica
+ * 
+ * Sem @Transactional: cada requisição precisa confirmar a própria transação.
+ * Cada "outro cliente" roda numa thread nova.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "replica"})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primario-leitura-replica;DB_CLOSE_DELAY=-1",
+        "alunos.replica.url=jdbc:h2:mem:replica-leitura-replica;DB_CLOSE_DELAY=-1",
+        "alunos.replica.atraso-maximo-ms=60000"
+})
+@DisplayName("Testes de Integração da Réplica de Leitura")
+class LeituraReplicaIntegrationTest {
+    
+    private static final Duration LIMITE = Duration.ofSeconds(10);
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private ReplicadorAlunos replicador;
+    
+    @Autowired
+    @Qualifier("dataSourceReplica")
+    private DataSource dataSourceReplica;
+    
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+        assertThat(replicador.aguardarSincronizacao(LIMITE)).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Deve ler as próprias gravações pelo header Alunos-Lsn mesmo com a réplica atrasada")
+    void deveLerAsPropriasGravacoes() throws Exception {
+        // Arrange - réplica parada: fica atrasada, mas dentro do atraso máximo
+        replicador.pausar();
+        long id;
+        try {
+            // Act
+            MvcResult criado = mockMvc.perform(post("/api/alunos")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of("nome", "Ana Lima", "ra", "REP00001"))))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().exists(HEADER_LSN))
+                    .andReturn();
+            String lsn = criado.getResponse().getHeader(HEADER_LSN);
+            id = objectMapper.readTree(criado.getResponse().getContentAsString()).get("id").asLong();
+            
+            // Assert - com o LSN a leitura vai para o primário; sem ele, para a réplica, que ainda não tem o aluno
+            assertThat(statusEmOutroCliente(get("/api/alunos/{id}", id).header(HEADER_LSN, lsn))).isEqualTo(200);
+            assertThat(statusEmOutroCliente(get("/api/alunos/{id}", id))).isEqualTo(404);
+        } finally {
+            replicador.retomar();
+        }
+        
+        // Assert - réplica em dia atende qualquer cliente
+        assertThat(replicador.aguardarSincronizacao(LIMITE)).isTrue();
+        assertThat(statusEmOutroCliente(get("/api/alunos/{id}", id))).isEqualTo(200);
+    }
+    
+    @Test
+    @DisplayName("Requisição seguinte na mesma thread e sem o header deve poder ler da réplica")
+    void requisicaoSeguinteSemHeaderDeveLerDaReplica() throws Exception {
+        // Arrange - réplica parada: fica atrasada, mas dentro do atraso máximo
+        replicador.pausar();
+        try {
+            MvcResult criado = mockMvc.perform(post("/api/alunos")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of("nome", "Caio Reis", "ra", "REP00003"))))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            long id = objectMapper.readTree(criado.getResponse().getContentAsString()).get("id").asLong();
+            
+            // Act & Assert - o LSN da gravação não fica preso à thread: sem o header a leitura vai
+            // para a réplica (que ainda não tem o aluno); com o header, para o primário
+            mockMvc.perform(get("/api/alunos/{id}", id)).andExpect(status().isNotFound());
+            mockMvc.perform(get("/api/alunos/{id}", id).header(HEADER_LSN, criado.getResponse().getHeader(HEADER_LSN)))
+                    .andExpect(status().isOk());
+        } finally {
+            replicador.retomar();
+        }
+    }
+    
+    @Test
+    @DisplayName("Deve aplicar inclusão, alteração e exclusão do primário na réplica")
+    void deveAplicarAlteracoesNaReplica() throws Exception {
+        JdbcTemplate replica = new JdbcTemplate(dataSourceReplica);
+        
+        // Inclusão
+        Aluno aluno = alunoRepository.salvar(Aluno.criar(NomeAluno.criar("Bruno Souza"), RegistroAcademico.criar("REP00002")));
+        assertThat(replicador.aguardarSincronizacao(LIMITE)).isTrue();
+        assertThat(replica.queryForObject("SELECT nome FROM tb_alunos WHERE id = ?", String.class, aluno.getId()))
+                .isEqualTo("Bruno Souza");
+        
+        // Alteração
+        aluno.atualizarMedia(MediaFinal.criar(8.5));
+        alunoRepository.salvar(aluno);
+        assertThat(replicador.aguardarSincronizacao(LIMITE)).isTrue();
+        assertThat(replica.queryForObject("SELECT media_final FROM tb_alunos WHERE id = ?", Double.class, aluno.getId()))
+                .isEqualTo(8.5);
+        
+        // Exclusão
+        alunoRepository.deletar(aluno.getId());
+        assertThat(replicador.aguardarSincronizacao(LIMITE)).isTrue();
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM tb_alunos WHERE id = ?", Integer.class, aluno.getId()))
+                .isZero();
+    }
+    
+    private int statusEmOutroCliente(MockHttpServletRequestBuilder requisicao) throws Exception {
+        FutureTask<Integer> tarefa = new FutureTask<>(() -> mockMvc.perform(requisicao).andReturn().getResponse().getStatus());
+        new Thread(tarefa, "outro-cliente").start();
+        return tarefa.get(10, TimeUnit.SECONDS);
+    }
+}
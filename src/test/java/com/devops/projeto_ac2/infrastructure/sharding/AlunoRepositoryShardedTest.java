@@ -0,0 +1,216 @@
+package com.devops.projeto_ac2.infrastructure.sharding;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários do adapter particionado, com 3 shards H2 em memória exclusivos do teste
+ */
+@DisplayName("Testes do AlunoRepository Particionado")
+class AlunoRepositoryShardedTest {
+    
+    private static final int SHARDS = 3;
+    
+    private AlunoRepositorySharded repository;
+    
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:h2:mem:teste-sharding-" + UUID.randomUUID() + "-{shard};DB_CLOSE_DELAY=-1";
+        repository = new AlunoRepositorySharded(SHARDS, url, 2);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        repository.fechar();
+    }
+    
+    private Aluno novo(String ra) {
+        return Aluno.criar(NomeAluno.criar("Aluno Teste"), RegistroAcademico.criar(ra));
+    }
+    
+    @Test
+    @DisplayName("Deve rotear pelo hash do RA e achar o shard pelo ID")
+    void deveRotearPorRaEPorId() {
+        // Arrange
+        List<Aluno> salvos = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            salvos.add(repository.salvar(novo(String.format("RA%05d", i))));
+        }
+        
+        // Assert
+        for (Aluno salvo : salvos) {
+            String ra = salvo.getRegistroAcademico().getValor();
+            assertThat(ShardAlunos.shardDoId(salvo.getId()))
+                    .isEqualTo(AlunoRepositorySharded.indiceDoRa(ra, SHARDS));
+            assertThat(repository.buscarPorId(salvo.getId())).get().extracting(Aluno::getId).isEqualTo(salvo.getId());
+            assertThat(repository.buscarPorRA(ra)).isPresent();
+        }
+        assertThat(repository.quantidadePorShard()).hasSize(SHARDS).allMatch(quantidade -> quantidade > 0);
+        assertThat(repository.buscarTodos()).extracting(Aluno::getId).isSorted().hasSize(60);
+        assertThat(repository.buscarPorId(999L)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Deve montar o ranking global mesclando o top N de cada shard")
+    void deveMesclarRanking() {
+        // Arrange
+        for (int i = 0; i < 30; i++) {
+            Aluno aluno = repository.salvar(novo(String.format("RK%05d", i)));
+            aluno.atualizarMedia(MediaFinal.criar((i * 7 % 30) / 3.0));
+            repository.salvar(aluno);
+        }
+        
+        // Act
+        List<Aluno> top = repository.buscarRanking(5);
+        
+        // Assert
+        List<Aluno> esperado = repository.buscarTodos().stream().sorted(Aluno.ORDEM_RANKING).limit(5).toList();
+        assertThat(top).extracting(Aluno::getMediaFinal)
+                .containsExactlyElementsOf(esperado.stream().map(Aluno::getMediaFinal).toList());
+        assertThat(top).isSortedAccordingTo(Aluno.ORDEM_RANKING);
+    }
+    
+    @Test
+    @DisplayName("Deve aplicar lock otimista e manter o RA único entre shards")
+    void deveAplicarLockOtimistaERaUnico() {
+        Long id = repository.salvar(novo("2024001")).getId();
+        Aluno primeiro = repository.buscarPorId(id).orElseThrow();
+        Aluno segundo = repository.buscarPorId(id).orElseThrow();
+        
+        primeiro.registrarTentativa(MediaFinal.criar(8.0));
+        repository.salvar(primeiro);
+        segundo.registrarTentativa(MediaFinal.criar(5.0));
+        
+        assertThatThrownBy(() -> repository.salvar(segundo))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> repository.salvar(novo("2024001")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(repository.existePorRA("2024001")).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Deve executar os comandos em massa em todos os shards")
+    void deveExecutarComandosEmMassa() {
+        // Arrange - metade concluída
+        List<Aluno> alunos = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            alunos.add(novo(String.format("MS%05d", i)));
+        }
+        List<Aluno> salvos = repository.salvarTodos(alunos);
+        for (int i = 0; i < salvos.size(); i += 2) {
+            Aluno aluno = salvos.get(i);
+            aluno.registrarTentativa(MediaFinal.criar(8.0));
+            aluno.concluirCurso(MediaFinal.criar(8.0), RegrasBonusCursos.padrao());
+            repository.salvar(aluno);
+        }
+        
+        // Act
+        int arquivados = repository.arquivarConcluidosAntesDe(LocalDateTime.now().plusDays(1), 1, Long.MAX_VALUE);
+        
+        // Assert
+        assertThat(salvos).extracting(aluno -> aluno.getRegistroAcademico().getValor())
+                .containsExactlyElementsOf(alunos.stream().map(aluno -> aluno.getRegistroAcademico().getValor()).toList());
+        assertThat(arquivados).isEqualTo(10);
+        assertThat(repository.buscarArquivados()).hasSize(10).allMatch(Aluno::isArquivado);
+        assertThat(repository.buscarTodos()).hasSize(10);
+        assertThat(repository.excluirPorIds(salvos.stream().map(Aluno::getId).toList())).isEqualTo(10);
+        assertThat(repository.buscarNaoConcluidos()).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Faixa de manutenção deve alcançar o tamanho pedido em cada shard")
+    void deveAlargarFaixaPelosShards() {
+        // Arrange - todos concluídos
+        List<Aluno> alunos = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            alunos.add(novo(String.format("FX%05d", i)));
+        }
+        for (Aluno aluno : repository.salvarTodos(alunos)) {
+            aluno.registrarTentativa(MediaFinal.criar(8.0));
+            aluno.concluirCurso(MediaFinal.criar(8.0), RegrasBonusCursos.padrao());
+            repository.salvar(aluno);
+        }
+        List<Long> porShard = repository.quantidadePorShard();
+        long idInicial = repository.menorIdConcluido().orElseThrow();
+        
+        // Act - primeira faixa de 4 posições por shard
+        long largura = repository.larguraFaixa(4);
+        int arquivados = repository.arquivarConcluidosAntesDe(LocalDateTime.now().plusDays(1),
+                idInicial, idInicial + largura - 1);
+        
+        // Assert
+        assertThat(largura).isEqualTo(4L << ShardAlunos.BITS_SHARD);
+        assertThat(arquivados).isEqualTo(porShard.stream().mapToLong(quantidade -> Math.min(quantidade, 4)).sum());
+    }
+    
+    @Test
+    @DisplayName("Gravações na transação principal devem ser desfeitas no rollback dela")
+    void deveDesfazerGravacoesNoRollbackDaTransacaoPrincipal() {
+        // Arrange - transação de outro banco fazendo o papel da transação JPA dos use cases
+        TransactionTemplate principal = transacaoPrincipal();
+        Aluno existente = repository.salvar(novo("TX00000"));
+        
+        // Act
+        principal.executeWithoutResult(status -> {
+            repository.salvar(novo("TX00001"));
+            repository.salvarTodos(List.of(novo("TX00002"), novo("TX00003"), novo("TX00004")));
+            existente.registrarTentativa(MediaFinal.criar(9.0));
+            Aluno alterado = repository.salvar(existente);
+            
+            // Leitura na mesma transação enxerga o que ainda não foi confirmado
+            assertThat(repository.buscarPorId(alterado.getId())).get()
+                    .extracting(Aluno::getTentativasAvaliacao).isEqualTo(1);
+            assertThat(repository.buscarTodos()).hasSize(5);
+            status.setRollbackOnly();
+        });
+        
+        // Assert
+        assertThat(repository.buscarTodos()).extracting(Aluno::getId).containsExactly(existente.getId());
+        assertThat(repository.buscarPorId(existente.getId())).get()
+                .extracting(Aluno::getTentativasAvaliacao).isEqualTo(0);
+    }
+    
+    @Test
+    @DisplayName("Gravações na transação principal devem ser confirmadas no commit dela")
+    void deveConfirmarGravacoesNoCommitDaTransacaoPrincipal() {
+        // Arrange
+        TransactionTemplate principal = transacaoPrincipal();
+        List<Aluno> alunos = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            alunos.add(novo(String.format("TC%05d", i)));
+        }
+        
+        // Act
+        List<Aluno> salvos = principal.execute(status -> repository.salvarTodos(alunos));
+        principal.executeWithoutResult(status -> repository.deletar(salvos.get(0).getId()));
+        
+        // Assert
+        assertThat(repository.buscarTodos()).hasSize(8);
+        assertThat(repository.quantidadePorShard()).allMatch(quantidade -> quantidade > 0);
+    }
+    
+    private static TransactionTemplate transacaoPrincipal() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:teste-principal-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+}
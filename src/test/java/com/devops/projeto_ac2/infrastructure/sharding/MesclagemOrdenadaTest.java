@@ -0,0 +1,55 @@
+package com.devops.projeto_ac2.infrastructure.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários da mesclagem k-way
+ */
+@DisplayName("Testes da MesclagemOrdenada")
+class MesclagemOrdenadaTest {
+    
+    @Test
+    @DisplayName("Deve mesclar listas ordenadas mantendo a ordem global")
+    void deveMesclarListasOrdenadas() {
+        // Arrange - listas de tamanhos diferentes, uma vazia
+        Random random = new Random(7);
+        List<List<Integer>> listas = new ArrayList<>();
+        List<Integer> todos = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            List<Integer> lista = new ArrayList<>();
+            for (int j = 0; j < i * 40; j++) {
+                lista.add(random.nextInt(1000));
+            }
+            lista.sort(Comparator.naturalOrder());
+            listas.add(lista);
+            todos.addAll(lista);
+        }
+        todos.sort(Comparator.naturalOrder());
+        
+        // Act
+        List<Integer> mesclada = MesclagemOrdenada.mesclar(listas, Comparator.naturalOrder());
+        
+        // Assert
+        assertThat(mesclada).isEqualTo(todos);
+    }
+    
+    @Test
+    @DisplayName("Deve parar no limite com a ordem decrescente")
+    void deveRespeitarLimite() {
+        List<List<Integer>> listas = List.of(List.of(9, 5, 1), List.of(8, 7, 2), List.of(6));
+        
+        List<Integer> top = MesclagemOrdenada.mesclar(listas, Comparator.<Integer>reverseOrder(), 4);
+        
+        assertThat(top).containsExactly(9, 8, 7, 6);
+        assertThat(MesclagemOrdenada.mesclar(List.of(List.of(3, 2, 1)), Comparator.<Integer>reverseOrder(), 2))
+                .containsExactly(3, 2);
+    }
+}
@@ -0,0 +1,75 @@
+package com.devops.projeto_ac2.infrastructure.snapshot;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários do formato binário dos snapshots
+ */
+@DisplayName("Testes do Formato Binário de Aluno")
+class FormatoBinarioAlunoTest {
+    
+    @Test
+    @DisplayName("Deve gravar e ler o aluno com todos os campos")
+    void deveFazerIdaEVolta() {
+        // Arrange
+        LocalDateTime criacao = LocalDateTime.of(2024, 3, 10, 8, 30, 15, 123_456_000);
+        LocalDateTime conclusao = LocalDateTime.of(2024, 12, 1, 17, 0);
+        Aluno original = Aluno.reconstituir(42L, "João Ñúñez", "2024001", 8.75, true, 3, 2,
+                criacao, conclusao, conclusao, 7L);
+        ByteBuffer buffer = ByteBuffer.allocate(FormatoBinarioAluno.TAMANHO_MAXIMO_REGISTRO);
+        
+        // Act
+        FormatoBinarioAluno.escrever(buffer, original);
+        buffer.flip();
+        Aluno lido = FormatoBinarioAluno.ler(buffer);
+        
+        // Assert
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(lido.getId()).isEqualTo(42L);
+        assertThat(lido.getNome()).isEqualTo("João Ñúñez");
+        assertThat(lido.getRegistroAcademico().getValor()).isEqualTo("2024001");
+        assertThat(lido.getMediaFinal()).isEqualTo(8.75);
+        assertThat(lido.isConcluiu()).isTrue();
+        assertThat(lido.getCursosAdicionais()).isEqualTo(3);
+        assertThat(lido.getTentativasAvaliacao()).isEqualTo(2);
+        assertThat(lido.getDataCriacao()).isEqualTo(criacao);
+        assertThat(lido.getDataConclusao()).isEqualTo(conclusao);
+        assertThat(lido.getVersao()).isEqualTo(7L);
+    }
+    
+    @Test
+    @DisplayName("Deve preservar datas nulas")
+    void devePreservarDatasNulas() {
+        Aluno original = Aluno.reconstituir(1L, "Maria Silva", "2024002", 0.0, false, 0, 0,
+                LocalDateTime.of(2024, 1, 1, 0, 0), null, null, 0L);
+        ByteBuffer buffer = ByteBuffer.allocate(FormatoBinarioAluno.TAMANHO_MAXIMO_REGISTRO);
+        
+        FormatoBinarioAluno.escrever(buffer, original);
+        buffer.flip();
+        Aluno lido = FormatoBinarioAluno.ler(buffer);
+        
+        assertThat(lido.getDataAtualizacao()).isNull();
+        assertThat(lido.getDataConclusao()).isNull();
+    }
+    
+    @Test
+    @DisplayName("Deve ler a quantidade do cabeçalho e rejeitar arquivo de outro formato")
+    void deveValidarCabecalho() {
+        ByteBuffer valido = ByteBuffer.allocate(FormatoBinarioAluno.TAMANHO_CABECALHO);
+        FormatoBinarioAluno.escreverCabecalho(valido, 1_000_000L);
+        valido.flip();
+        ByteBuffer invalido = ByteBuffer.allocate(FormatoBinarioAluno.TAMANHO_CABECALHO);
+        invalido.putInt(0xCAFEBABE).putShort((short) 1).putLong(0L).flip();
+        
+        assertThat(FormatoBinarioAluno.lerCabecalho(valido)).isEqualTo(1_000_000L);
+        assertThatThrownBy(() -> FormatoBinarioAluno.lerCabecalho(invalido))
+                .isInstanceOf(SnapshotException.class);
+    }
+}
@@ -0,0 +1,128 @@
+package com.devops.projeto_ac2.infrastructure.snapshot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração da restauração de snapshot
+ */
+@SpringBootTest(properties = {
+        "alunos.snapshot.diretorio=${java.io.tmpdir}/alunos-snapshot-teste",
+        "spring.datasource.url=jdbc:h2:mem:snapshot_restauracao"
+})
+@ActiveProfiles("test")
+@DisplayName("Testes de integração do Snapshot de Alunos")
+class SnapshotAlunosIntegrationTest {
+    
+    private static final String ARQUIVO = "restauracao-teste.snap";
+    
+    @Autowired
+    private SnapshotAlunos snapshotAlunos;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeEach
+    void setUp() {
+        limpar();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO tb_alunos (id, nome, ra, media_final, concluiu, cursos_adicionais, "
+                    + "tentativas_avaliacao, data_criacao, data_atualizacao, data_conclusao, versao) "
+                    + "VALUES (?, ?, ?, 7.0, FALSE, 0, 1, ?, ?, NULL, 1)", id, "Aluno Snapshot " + id, "SNAP" + id, agora, agora);
+        }
+        snapshotAlunos.gerar(ARQUIVO);
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        limpar();
+        Files.deleteIfExists(arquivo());
+    }
+    
+    @Test
+    @DisplayName("Substituir deve esvaziar tentativas e arquivados e continuar a identidade")
+    void substituirDeveLimparDependentes() {
+        // Arrange - histórico e arquivo que não fazem parte do snapshot
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO tb_tentativas_avaliacao (id, aluno_id, numero, nota, data_registro) "
+                + "VALUES (1, 2, 1, 7.0, ?)", agora);
+        jdbcTemplate.update("INSERT INTO tb_alunos_arquivados (id, nome, ra, media_final, cursos_adicionais, "
+                + "tentativas_avaliacao, data_criacao, data_atualizacao, data_conclusao, data_arquivamento) "
+                + "VALUES (9, 'Aluno Arquivado', 'ARQ9', 9.0, 3, 1, ?, ?, ?, ?)", agora, agora, agora, agora);
+        
+        // Act
+        snapshotAlunos.restaurar(ARQUIVO, true);
+        jdbcTemplate.update("INSERT INTO tb_alunos (nome, ra, media_final, concluiu, cursos_adicionais, "
+                + "tentativas_avaliacao, data_criacao, versao) VALUES ('Aluno Novo', 'NOVO1', 0, FALSE, 0, 0, ?, 0)", agora);
+        
+        // Assert
+        assertThat(contar("tb_tentativas_avaliacao")).isZero();
+        assertThat(contar("tb_alunos_arquivados")).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT id FROM tb_alunos WHERE ra = 'NOVO1'", Long.class)).isEqualTo(4L);
+    }
+    
+    @Test
+    @DisplayName("Sem substituir deve exigir o arquivo de concluídos vazio")
+    void semSubstituirDeveExigirArquivadosVazio() {
+        jdbcTemplate.update("DELETE FROM tb_alunos");
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO tb_alunos_arquivados (id, nome, ra, media_final, cursos_adicionais, "
+                + "tentativas_avaliacao, data_criacao, data_atualizacao, data_conclusao, data_arquivamento) "
+                + "VALUES (2, 'Aluno Arquivado', 'ARQ2', 9.0, 3, 1, ?, ?, ?, ?)", agora, agora, agora, agora);
+        
+        assertThatThrownBy(() -> snapshotAlunos.restaurar(ARQUIVO, false))
+                .isInstanceOf(SnapshotException.class)
+                .hasMessageContaining("tb_alunos_arquivados");
+        assertThat(contar("tb_alunos")).isZero();
+    }
+    
+    @Test
+    @DisplayName("Snapshot corrompido não deve deixar a tabela pela metade")
+    void falhaDeveManterDadosAnteriores() throws IOException {
+        // Arrange - corta o último registro do arquivo e altera os dados atuais
+        try (FileChannel canal = FileChannel.open(arquivo(), StandardOpenOption.WRITE)) {
+            canal.truncate(canal.size() - 5);
+        }
+        jdbcTemplate.update("UPDATE tb_alunos SET nome = 'Nome Atual' WHERE id = 1");
+        
+        // Act
+        assertThatThrownBy(() -> snapshotAlunos.restaurar(ARQUIVO, true))
+                .isInstanceOf(SnapshotException.class);
+        
+        // Assert
+        assertThat(contar("tb_alunos")).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT nome FROM tb_alunos WHERE id = 1", String.class))
+                .isEqualTo("Nome Atual");
+    }
+    
+    private void limpar() {
+        jdbcTemplate.update("DELETE FROM tb_tentativas_avaliacao");
+        jdbcTemplate.update("DELETE FROM tb_alunos_arquivados");
+        jdbcTemplate.update("DELETE FROM tb_alunos");
+    }
+    
+    private long contar(String tabela) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tabela, Long.class);
+    }
+    
+    private static Path arquivo() {
+        return Path.of(System.getProperty("java.io.tmpdir"), "alunos-snapshot-teste", ARQUIVO);
+    }
+}
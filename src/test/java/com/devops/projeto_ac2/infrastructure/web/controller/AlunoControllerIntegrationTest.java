@@ -2,6 +2,8 @@ package com.devops.projeto_ac2.infrastructure.web.controller;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.RegrasBonusCursos;
 import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
 import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,14 +13,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -162,6 +168,7 @@ class AlunoControllerIntegrationTest {
                 NomeAluno.criar("João Silva"), 
                 RegistroAcademico.criar("12345ABC")
         );
+        aluno.registrarTentativa(MediaFinal.criar(8.5));
         Aluno salvo = alunoRepository.salvar(aluno);
         
         Map<String, Double> request = new HashMap<>();
@@ -208,7 +215,8 @@ class AlunoControllerIntegrationTest {
         aluno2 = alunoRepository.salvar(aluno2);
         
         // Concluir apenas o primeiro
-        aluno1.concluirCurso(com.devops.projeto_ac2.domain.valueobjects.MediaFinal.criar(8.0));
+        aluno1.registrarTentativa(MediaFinal.criar(8.0));
+        aluno1.concluirCurso(MediaFinal.criar(8.0), RegrasBonusCursos.padrao());
         alunoRepository.salvar(aluno1);
         
         // Act & Assert
@@ -218,4 +226,92 @@ class AlunoControllerIntegrationTest {
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].concluiu").value(true));
     }
+    
+    @Test
+    @DisplayName("POST /api/alunos/{id}/tentativas - Deve reenviar a resposta para a mesma Idempotency-Key")
+    void deveReenviarTentativaComMesmaIdempotencyKey() throws Exception {
+        // Arrange
+        Aluno aluno = Aluno.criar(
+                NomeAluno.criar("João Silva"), 
+                RegistroAcademico.criar("12345ABC")
+        );
+        Aluno salvo = alunoRepository.salvar(aluno);
+        
+        Map<String, Double> request = new HashMap<>();
+        request.put("nota", 7.5);
+        
+        // Act & Assert - a repetição não consome outra tentativa
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/alunos/" + salvo.getId() + "/tentativas")
+                    .header("Idempotency-Key", "tentativa-" + salvo.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.tentativasAvaliacao").value(1));
+        }
+    }
+    
+    @Test
+    @DisplayName("POST /api/alunos/{id}/tentativas - Deve recusar Idempotency-Key longa demais sem registrar")
+    void deveRecusarIdempotencyKeyLongaDemais() throws Exception {
+        // Arrange
+        Aluno salvo = alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("12345ABC")));
+        
+        Map<String, Double> request = new HashMap<>();
+        request.put("nota", 7.5);
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/alunos/" + salvo.getId() + "/tentativas")
+                .header("Idempotency-Key", "k".repeat(200))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Idempotency-Key inválida"));
+        
+        assertThat(alunoRepository.buscarPorId(salvo.getId()).orElseThrow().getTentativasAvaliacao()).isZero();
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking - Deve servir JSON e gzip prontos e ver alunos novos")
+    void deveServirRankingSerializado() throws Exception {
+        // Arrange - o bastante para passar de alunos.ranking-serializado.gzip-minimo-bytes
+        for (int i = 0; i < 12; i++) {
+            criarPelaApi("Aluno Ranking " + (char) ('A' + i), String.format("RNK%05d", i));
+        }
+        
+        // Act & Assert - mesmo ranking em JSON puro e comprimido
+        byte[] json = mockMvc.perform(get("/api/alunos/ranking"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.length()").value(12))
+                .andExpect(jsonPath("$[0].posicao").value(1))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] comprimido = mockMvc.perform(get("/api/alunos/ranking").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(comprimido))) {
+            assertThat(entrada.readAllBytes()).isEqualTo(json);
+        }
+        
+        // Act & Assert - um aluno novo troca a versão dos dados
+        criarPelaApi("Aluno Novo", "RNK99999");
+        mockMvc.perform(get("/api/alunos/ranking").param("top", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(13));
+        mockMvc.perform(get("/api/alunos/ranking"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(13));
+    }
+    
+    private void criarPelaApi(String nome, String ra) throws Exception {
+        Map<String, String> request = new HashMap<>();
+        request.put("nome", nome);
+        request.put("ra", ra);
+        mockMvc.perform(post("/api/alunos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
 }
@@ -0,0 +1,16 @@
+package com.devops.projeto_ac2.infrastructure.web.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Mesmos testes de integração do AlunoController com a busca por ID e o ranking
+ * lidos por JDBC direto para DTO (ConsultaAlunosJdbc)
+ */
+@TestPropertySource(properties = {
+        "alunos.leitura-jdbc.busca-por-id=true",
+        "alunos.leitura-jdbc.ranking=true"
+})
+@DisplayName("Testes de Integração do Controller de Alunos (leitura JDBC)")
+class AlunoControllerLeituraJdbcIntegrationTest extends AlunoControllerIntegrationTest {
+}
@@ -0,0 +1,13 @@
+package com.devops.projeto_ac2.infrastructure.web.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Mesmos testes de integração do AlunoController com o profile "memoria"
+ * (AlunoRepository colunar em memória no lugar do adapter JPA)
+ */
+@ActiveProfiles("memoria")
+@DisplayName("Testes de Integração do Controller de Alunos (profile memoria)")
+class AlunoControllerMemoriaIntegrationTest extends AlunoControllerIntegrationTest {
+}
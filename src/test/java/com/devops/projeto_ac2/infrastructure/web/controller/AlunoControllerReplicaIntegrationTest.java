@@ -0,0 +1,13 @@
+package com.devops.projeto_ac2.infrastructure.web.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Mesmos testes de integração do AlunoController com o profile "replica"
+ * (DataSource roteado entre primário e réplica de leitura)
+ */
+@ActiveProfiles("replica")
+@DisplayName("Testes de Integração do Controller de Alunos (profile replica)")
+class AlunoControllerReplicaIntegrationTest extends AlunoControllerIntegrationTest {
+}
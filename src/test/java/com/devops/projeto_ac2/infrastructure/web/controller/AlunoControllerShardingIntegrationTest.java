@@ -0,0 +1,13 @@
+package com.devops.projeto_ac2.infrastructure.web.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Mesmos testes de integração do AlunoController com o profile "sharding"
+ * (AlunoRepository particionado em vários bancos H2 no lugar do adapter JPA)
+ */
+@ActiveProfiles("sharding")
+@DisplayName("Testes de Integração do Controller de Alunos (profile sharding)")
+class AlunoControllerShardingIntegrationTest extends AlunoControllerIntegrationTest {
+}